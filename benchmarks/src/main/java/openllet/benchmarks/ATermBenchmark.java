@@ -0,0 +1,59 @@
+package openllet.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.utils.ATermUtils;
+
+/**
+ * Normalization of the class expressions of an ontology.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ATermBenchmark
+{
+	@Param({ "pizza.owl", "food.owl" })
+	public String _ontology;
+
+	private List<ATermAppl> _expressions;
+
+	@Setup
+	public void setUp()
+	{
+		_expressions = Ontologies.classExpressions(Ontologies.load(_ontology, false));
+	}
+
+	@Benchmark
+	public void normalize(final Blackhole blackhole)
+	{
+		for (final ATermAppl c : _expressions)
+			blackhole.consume(ATermUtils.normalize(c));
+	}
+
+	@Benchmark
+	public void nnf(final Blackhole blackhole)
+	{
+		for (final ATermAppl c : _expressions)
+			blackhole.consume(ATermUtils.nnf(ATermUtils.negate(c)));
+	}
+}
@@ -0,0 +1,53 @@
+package openllet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.core.KnowledgeBase;
+import openllet.core.tableau.completion.CompletionStrategy;
+
+/**
+ * Completion of the ABox of an ontology, that is the work of the initial consistency check. The knowledge base is loaded and prepared before each invocation.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompletionBenchmark
+{
+	@Param({ "pizza.owl", "family.owl" })
+	public String _ontology;
+
+	private KnowledgeBase _kb;
+
+	@Setup(Level.Invocation)
+	public void setUp()
+	{
+		_kb = Ontologies.load(_ontology, false);
+		_kb.prepare();
+	}
+
+	@Benchmark
+	public boolean complete()
+	{
+		final CompletionStrategy strategy = _kb.chooseStrategy(_kb.getABox());
+		strategy.complete(_kb.getExpressivity());
+		return _kb.getABox().isClosed();
+	}
+}
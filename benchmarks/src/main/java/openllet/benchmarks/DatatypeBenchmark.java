@@ -0,0 +1,110 @@
+package openllet.benchmarks;
+
+import static openllet.core.utils.TermFactory.literal;
+import static openllet.core.utils.TermFactory.maxExclusive;
+import static openllet.core.utils.TermFactory.maxInclusive;
+import static openllet.core.utils.TermFactory.minExclusive;
+import static openllet.core.utils.TermFactory.minInclusive;
+import static openllet.core.utils.TermFactory.not;
+import static openllet.core.utils.TermFactory.restrict;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.OpenlletOptions;
+import openllet.core.datatypes.DatatypeReasonerImpl;
+import openllet.core.datatypes.Datatypes;
+import openllet.core.datatypes.exceptions.DatatypeReasonerException;
+
+/**
+ * Satisfiability of conjunctions of numeric facet restrictions, as for the readings of sensors restricted by ranges of values. The same restrictions appear in
+ * many conjunctions, so their parsing and intersection are reused when the datatype reasoner caches them.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatatypeBenchmark
+{
+	@Param({ "0", "4096" })
+	public int _cacheSize;
+
+	@Param({ "64" })
+	public int _restrictions;
+
+	private int _previousCacheSize;
+
+	private DatatypeReasonerImpl _reasoner;
+
+	private final List<List<ATermAppl>> _conjunctions = new ArrayList<>();
+
+	private static ATermAppl range(final ATermAppl datatype, final Random random)
+	{
+		final int min = random.nextInt(1000);
+		final int max = min + random.nextInt(200);
+		if (Datatypes.DECIMAL.equals(datatype))
+			return restrict(datatype, minExclusive(literal(BigDecimal.valueOf(min, 1).toPlainString(), datatype)), maxExclusive(literal(BigDecimal.valueOf(max, 1).toPlainString(), datatype)));
+		return restrict(datatype, minInclusive(literal(min)), maxInclusive(literal(max)));
+	}
+
+	@Setup
+	public void setUp()
+	{
+		_previousCacheSize = OpenlletOptions.DATATYPE_CACHE_SIZE;
+		OpenlletOptions.DATATYPE_CACHE_SIZE = _cacheSize;
+		_reasoner = new DatatypeReasonerImpl();
+
+		final Random random = new Random(42);
+		final List<ATermAppl> ranges = new ArrayList<>();
+		for (int i = 0; i < _restrictions; i++)
+			ranges.add(range(i % 2 == 0 ? Datatypes.INTEGER : Datatypes.DECIMAL, random));
+
+		for (final ATermAppl a : ranges)
+			for (final ATermAppl b : ranges)
+				if (a != b)
+					_conjunctions.add(random.nextBoolean() ? Arrays.asList(a, b) : Arrays.asList(a, not(b)));
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		OpenlletOptions.DATATYPE_CACHE_SIZE = _previousCacheSize;
+	}
+
+	@Benchmark
+	public void satisfiability(final Blackhole blackhole) throws DatatypeReasonerException
+	{
+		for (final List<ATermAppl> conjunction : _conjunctions)
+			blackhole.consume(_reasoner.isSatisfiable(conjunction));
+	}
+
+	@Benchmark
+	public void atLeastTwoValues(final Blackhole blackhole) throws DatatypeReasonerException
+	{
+		for (final List<ATermAppl> conjunction : _conjunctions)
+			blackhole.consume(_reasoner.containsAtLeast(2, conjunction));
+	}
+}
@@ -0,0 +1,107 @@
+package openllet.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.vocabulary.OWL;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.core.KnowledgeBase;
+import openllet.core.OpenlletOptions;
+import openllet.jena.PelletInfGraph;
+import openllet.jena.PelletReasonerFactory;
+
+/**
+ * Loading of a generated ABox heavy graph by the Jena loader, sequentially when {@link OpenlletOptions#LOADER_THREADS} is 1 and with concurrent translation of
+ * the individual assertions otherwise. Only the loading is measured, not the consistency check.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoaderBenchmark
+{
+	@Param({ "1", "2", "4" })
+	public int _threads;
+
+	@Param({ "50" })
+	public int _classes;
+
+	@Param({ "20000" })
+	public int _individuals;
+
+	private int _oldThreads;
+	private Model _graph;
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		_oldThreads = OpenlletOptions.LOADER_THREADS;
+		OpenlletOptions.LOADER_THREADS = _threads;
+
+		final String ns = "urn:benchmark:";
+		final Random random = new Random(42);
+
+		_graph = ModelFactory.createDefaultModel();
+		final Property p = _graph.createProperty(ns + "p");
+		final Property d = _graph.createProperty(ns + "d");
+		_graph.add(p, RDF.type, OWL.ObjectProperty);
+		_graph.add(d, RDF.type, OWL.DatatypeProperty);
+
+		final Resource[] classes = new Resource[_classes];
+		for (int i = 0; i < _classes; i++)
+		{
+			classes[i] = _graph.createResource(ns + "C" + i);
+			_graph.add(classes[i], RDF.type, OWL.Class);
+			if (i > 0)
+				_graph.add(classes[i], RDFS.subClassOf, classes[random.nextInt(i)]);
+		}
+
+		for (int i = 0; i < _individuals; i++)
+		{
+			final Resource a = _graph.createResource(ns + "a" + i);
+			_graph.add(a, RDF.type, classes[random.nextInt(_classes)]);
+			_graph.add(a, p, _graph.createResource(ns + "a" + random.nextInt(_individuals)));
+			_graph.add(a, d, _graph.createTypedLiteral(random.nextInt()));
+			_graph.add(a, RDFS.label, "individual " + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		OpenlletOptions.LOADER_THREADS = _oldThreads;
+	}
+
+	@Benchmark
+	public KnowledgeBase load()
+	{
+		final OntModel model = ModelFactory.createOntologyModel(PelletReasonerFactory.THE_SPEC, _graph);
+		final PelletInfGraph graph = (PelletInfGraph) model.getGraph();
+		graph.prepare(false);
+		return graph.getKB();
+	}
+}
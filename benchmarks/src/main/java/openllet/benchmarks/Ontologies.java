@@ -0,0 +1,70 @@
+package openllet.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.jena.ontology.OntModel;
+import org.apache.jena.rdf.model.ModelFactory;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.utils.ATermUtils;
+import openllet.jena.PelletInfGraph;
+import openllet.jena.PelletReasonerFactory;
+
+/**
+ * Access to the ontologies of the test suite that are packaged with the benchmarks.
+ *
+ * @since 2.6.6
+ */
+public class Ontologies
+{
+	private Ontologies()
+	{
+		// Utility class
+	}
+
+	/**
+	 * @param name of an ontology of the 'data' directory, as 'pizza.owl'.
+	 * @param consistencyCheck run the initial consistency check, else the knowledge base is only loaded.
+	 * @return a new knowledge base loaded from the ontology.
+	 */
+	public static KnowledgeBase load(final String name, final boolean consistencyCheck)
+	{
+		final OntModel model = ModelFactory.createOntologyModel(PelletReasonerFactory.THE_SPEC);
+		try (final InputStream in = Ontologies.class.getResourceAsStream("/data/" + name))
+		{
+			if (in == null)
+				throw new IllegalArgumentException("Unknown ontology " + name);
+			model.read(in, null);
+		}
+		catch (final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+
+		final PelletInfGraph graph = (PelletInfGraph) model.getGraph();
+		graph.prepare(consistencyCheck);
+
+		return graph.getKB();
+	}
+
+	/**
+	 * @param kb a loaded knowledge base.
+	 * @return the class expressions used by the subclass and equivalent class axioms of the TBox.
+	 */
+	public static List<ATermAppl> classExpressions(final KnowledgeBase kb)
+	{
+		final List<ATermAppl> expressions = new ArrayList<>();
+		for (final ATermAppl axiom : kb.getTBox().getAxioms())
+			if (axiom.getAFun().equals(ATermUtils.SUBFUN) || axiom.getAFun().equals(ATermUtils.EQCLASSFUN))
+			{
+				expressions.add((ATermAppl) axiom.getArgument(0));
+				expressions.add((ATermAppl) axiom.getArgument(1));
+			}
+		return expressions;
+	}
+}
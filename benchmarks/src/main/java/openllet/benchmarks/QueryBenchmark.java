@@ -0,0 +1,62 @@
+package openllet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.core.KnowledgeBase;
+import openllet.query.sparqldl.engine.QueryEngine;
+import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.parser.QueryEngineBuilder;
+
+/**
+ * Execution of SPARQL-DL queries on the family ontology, the knowledge base is realized and the queries parsed beforehand.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryBenchmark
+{
+	private static final String PREFIXES = "PREFIX rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#> " //
+			+ "PREFIX rdfs: <http://www.w3.org/2000/01/rdf-schema#> " //
+			+ "PREFIX family: <http://www.example.org/family#> ";
+
+	@Param({ //
+			"SELECT ?x WHERE { ?x rdf:type family:Male }", //
+			"SELECT ?x ?y WHERE { ?x family:hasAncestor ?y }", //
+			"SELECT ?x ?y WHERE { ?x rdf:type family:Person . ?x family:hasChild ?y . ?y rdf:type family:Female }", //
+			"SELECT ?x ?c WHERE { ?x rdf:type ?c . ?c rdfs:subClassOf family:Person }" //
+	})
+	public String _query;
+
+	private Query _parsed;
+
+	@Setup
+	public void setUp()
+	{
+		final KnowledgeBase kb = Ontologies.load("family.owl", true);
+		kb.realize();
+		_parsed = QueryEngineBuilder.getParser().parse(PREFIXES + _query, kb);
+	}
+
+	@Benchmark
+	public int exec()
+	{
+		return QueryEngine.exec(_parsed).size();
+	}
+}
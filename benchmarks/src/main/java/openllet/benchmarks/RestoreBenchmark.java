@@ -0,0 +1,148 @@
+package openllet.benchmarks;
+
+import static openllet.core.utils.TermFactory.TOP;
+import static openllet.core.utils.TermFactory.all;
+import static openllet.core.utils.TermFactory.and;
+import static openllet.core.utils.TermFactory.max;
+import static openllet.core.utils.TermFactory.not;
+import static openllet.core.utils.TermFactory.or;
+import static openllet.core.utils.TermFactory.some;
+import static openllet.core.utils.TermFactory.term;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.KnowledgeBaseImpl;
+import openllet.core.OpenlletOptions;
+import openllet.core.utils.ATermUtils;
+
+/**
+ * Backtracking on a generated disjunction-heavy knowledge base, with and without {@link OpenlletOptions#TRACK_BRANCH_EFFECTS}. Each invocation runs a fixed
+ * sequence of satisfiability and instance checks with an empty concept cache, so most of the time is spent in the branch restores.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RestoreBenchmark
+{
+	@Param({ "true", "false" })
+	public boolean _trackBranchEffects;
+
+	@Param({ "60" })
+	public int _classes;
+
+	@Param({ "300" })
+	public int _individuals;
+
+	private boolean _oldTrackBranchEffects;
+	private KnowledgeBase _kb;
+	private ATermAppl[] _concepts;
+	private ATermAppl[] _types;
+	private ATermAppl[] _instances;
+
+	private static ATermAppl c(final int i)
+	{
+		return term("C" + i);
+	}
+
+	@Setup(Level.Trial)
+	public void setUp()
+	{
+		_oldTrackBranchEffects = OpenlletOptions.TRACK_BRANCH_EFFECTS;
+		OpenlletOptions.TRACK_BRANCH_EFFECTS = _trackBranchEffects;
+
+		final Random random = new Random(42);
+		final ATermAppl p = term("p"), q = term("q");
+
+		_kb = new KnowledgeBaseImpl();
+		_kb.addObjectProperty(p);
+		_kb.addObjectProperty(q);
+		_kb.addFunctionalProperty(q);
+		for (int i = 0; i < _classes; i++)
+			_kb.addClass(c(i));
+		for (int i = 1; i < _classes; i++)
+		{
+			_kb.addSubClass(c(i), or(c(random.nextInt(_classes)), c(random.nextInt(_classes)), not(c(random.nextInt(_classes)))));
+			if (random.nextInt(3) == 0)
+				_kb.addSubClass(c(i), some(p, or(c(random.nextInt(_classes)), c(random.nextInt(_classes)))));
+			if (random.nextInt(4) == 0)
+				_kb.addSubClass(c(i), all(p, or(c(random.nextInt(_classes)), not(c(random.nextInt(_classes))))));
+			if (random.nextInt(6) == 0)
+				_kb.addDisjointClass(c(i), c(random.nextInt(_classes)));
+			if (random.nextInt(8) == 0)
+				_kb.addSubClass(c(i), some(q, c(random.nextInt(_classes))));
+			if (random.nextInt(8) == 0)
+				_kb.addSubClass(c(i), max(p, 1, TOP));
+		}
+		for (int i = 0; i < _individuals; i++)
+		{
+			final ATermAppl a = term("a" + i);
+			_kb.addIndividual(a);
+			_kb.addType(a, or(c(random.nextInt(_classes)), c(random.nextInt(_classes))));
+			if (i > 0)
+				_kb.addPropertyValue(p, a, term("a" + random.nextInt(i)));
+		}
+
+		if (!_kb.isConsistent())
+			throw new IllegalStateException("The generated knowledge base is inconsistent, change the seed.");
+
+		_concepts = new ATermAppl[50];
+		_types = new ATermAppl[50];
+		_instances = new ATermAppl[50];
+		for (int i = 0; i < _concepts.length; i++)
+		{
+			_concepts[i] = and(c(random.nextInt(_classes)), c(random.nextInt(_classes)), c(random.nextInt(_classes)));
+			_types[i] = c(random.nextInt(_classes));
+			_instances[i] = term("a" + random.nextInt(_individuals));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		OpenlletOptions.TRACK_BRANCH_EFFECTS = _oldTrackBranchEffects;
+	}
+
+	@Setup(Level.Invocation)
+	public void clearCache()
+	{
+		_kb.getABox().getCache().clear();
+		_kb.getABox().getCache().putSat(ATermUtils.BOTTOM, false); // As after the consistency check.
+	}
+
+	@Benchmark
+	public void satisfiability(final Blackhole blackhole)
+	{
+		for (final ATermAppl c : _concepts)
+			blackhole.consume(_kb.isSatisfiable(c));
+	}
+
+	@Benchmark
+	public void instances(final Blackhole blackhole)
+	{
+		for (int i = 0; i < _types.length; i++)
+			blackhole.consume(_kb.isType(_instances[i], _types[i]));
+	}
+}
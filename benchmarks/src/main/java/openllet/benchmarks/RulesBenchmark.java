@@ -0,0 +1,51 @@
+package openllet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.core.KnowledgeBase;
+
+/**
+ * Realization of the SWRL ontologies of the rules test suite. Every instance check completes the ABox with the continuous rules strategy, so the time is spent
+ * in the RETE network and in its restores on backtracking.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RulesBenchmark
+{
+	@Param({ "swrl/daycare.swrl.owl", "swrl/family.swrl.owl" })
+	public String _ontology;
+
+	private KnowledgeBase _kb;
+
+	@Setup(Level.Invocation)
+	public void setUp()
+	{
+		_kb = Ontologies.load(_ontology, true);
+	}
+
+	@Benchmark
+	public KnowledgeBase realize()
+	{
+		_kb.realize();
+		return _kb;
+	}
+}
@@ -0,0 +1,77 @@
+package openllet.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.boxes.abox.ABox;
+import openllet.core.utils.ATermUtils;
+
+/**
+ * Satisfiability of all the classes of an ontology, answered by the concept cache or computed by a completion.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SatisfiabilityBenchmark
+{
+	@Param({ "pizza.owl", "food.owl" })
+	public String _ontology;
+
+	private ABox _abox;
+	private List<ATermAppl> _classes;
+
+	@Setup
+	public void setUp()
+	{
+		final KnowledgeBase kb = Ontologies.load(_ontology, true);
+		_abox = kb.getABox();
+		_classes = new ArrayList<>(kb.getClasses());
+	}
+
+	@State(Scope.Thread)
+	public static class EmptyCache
+	{
+		@Setup(Level.Invocation)
+		public void clear(final SatisfiabilityBenchmark benchmark)
+		{
+			benchmark._abox.getCache().clear();
+			benchmark._abox.getCache().putSat(ATermUtils.BOTTOM, false); // As after the consistency check.
+		}
+	}
+
+	@Benchmark
+	public void cached(final Blackhole blackhole)
+	{
+		for (final ATermAppl c : _classes)
+			blackhole.consume(_abox.isSatisfiable(c, true));
+	}
+
+	@Benchmark
+	public void uncached(final EmptyCache emptyCache, final Blackhole blackhole)
+	{
+		for (final ATermAppl c : _classes)
+			blackhole.consume(_abox.isSatisfiable(c, true));
+	}
+}
@@ -0,0 +1,94 @@
+package openllet.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.aterm.AFun;
+import openllet.aterm.ATermAppl;
+import openllet.aterm.pure.PureFactory;
+import openllet.shared.hash.ConcurrentSharedObjectFactory;
+import openllet.shared.hash.SharedObjectFactory;
+
+/**
+ * Throughput of the term factory when terms are built from several threads, with the segmented factory and with the concurrent one. Most of the builds find an
+ * existing term, the others add a term whose arguments are shared.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedObjectFactoryBenchmark
+{
+	@Param({ "segmented", "concurrent" })
+	public String _table;
+
+	@Param({ "65536" })
+	public int _terms;
+
+	private PureFactory _factory;
+	private AFun _fun;
+	private AFun[] _names;
+
+	@Setup
+	public void setUp()
+	{
+		_factory = new PureFactory("concurrent".equals(_table) ? new ConcurrentSharedObjectFactory() : new SharedObjectFactory());
+		_fun = _factory.makeAFun("f", 2, false);
+		_names = new AFun[_terms];
+		for (int i = 0; i < _terms; i++)
+			_names[i] = _factory.makeAFun("a" + i, 0, false);
+	}
+
+	private ATermAppl build()
+	{
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		final ATermAppl a = _factory.makeAppl(_names[random.nextInt(_terms)]);
+		final ATermAppl b = _factory.makeAppl(_names[random.nextInt(_terms)]);
+		return _factory.makeAppl(_fun, a, b);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public ATermAppl build1()
+	{
+		return build();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public ATermAppl build4()
+	{
+		return build();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public ATermAppl build16()
+	{
+		return build();
+	}
+
+	@Benchmark
+	@Threads(32)
+	public ATermAppl build32()
+	{
+		return build();
+	}
+}
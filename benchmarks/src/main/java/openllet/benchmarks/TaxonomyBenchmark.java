@@ -0,0 +1,81 @@
+package openllet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import openllet.core.KnowledgeBase;
+import openllet.core.OpenlletOptions;
+import openllet.core.taxonomy.CDOptimizedTaxonomyBuilder;
+import openllet.core.utils.progress.SilentProgressMonitor;
+
+/**
+ * Classification and realization of an ontology by the {@link CDOptimizedTaxonomyBuilder}. A consistent knowledge base is loaded before each invocation, and
+ * classified before each realization.
+ *
+ * @since 2.6.6
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaxonomyBenchmark
+{
+	@Param({ "pizza.owl", "food.owl", "family.owl" })
+	public String _ontology;
+
+	@Param({ "1" })
+	public int _threads;
+
+	private CDOptimizedTaxonomyBuilder _builder;
+
+	@Setup(Level.Trial)
+	public void setOptions()
+	{
+		OpenlletOptions.CLASSIFICATION_THREADS = _threads;
+		OpenlletOptions.REALIZATION_THREADS = _threads;
+	}
+
+	@State(Scope.Thread)
+	public static class Classified
+	{
+		@Setup(Level.Invocation)
+		public void classify(final TaxonomyBenchmark benchmark)
+		{
+			benchmark._builder.classify();
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void setUp()
+	{
+		final KnowledgeBase kb = Ontologies.load(_ontology, true);
+		_builder = new CDOptimizedTaxonomyBuilder(kb);
+		_builder.setProgressMonitor(new SilentProgressMonitor());
+	}
+
+	@Benchmark
+	public boolean classify()
+	{
+		return _builder.classify();
+	}
+
+	@Benchmark
+	public boolean realize(final Classified classified)
+	{
+		return _builder.realize();
+	}
+}
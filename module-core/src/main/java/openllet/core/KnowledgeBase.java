@@ -3,6 +3,7 @@ package openllet.core;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import openllet.aterm.ATerm;
@@ -69,6 +70,16 @@ public interface KnowledgeBase extends InstancesBase, PropertiesBase, ClassesBas
 	 */
 	Taxonomy<ATermAppl> getTaxonomy();
 
+	/**
+	 * @param read a read of the classification results
+	 * @return the result of the read, the taxonomy is not changed while it runs
+	 * @since 2.6.6
+	 */
+	default <T> T readTaxonomy(final Function<Taxonomy<ATermAppl>, T> read)
+	{
+		return read.apply(getTaxonomy());
+	}
+
 	ExpressivityChecker getExpressivityChecker();
 
 	/**
@@ -247,6 +258,8 @@ public interface KnowledgeBase extends InstancesBase, PropertiesBase, ClassesBas
 
 	boolean addAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o);
 
+	boolean removeAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o);
+
 	boolean addAnnotationProperty(final ATerm p);
 
 	void addDatatype(final ATermAppl p);
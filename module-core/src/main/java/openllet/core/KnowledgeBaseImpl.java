@@ -91,11 +91,13 @@ import openllet.core.rules.model.Rule;
 import openllet.core.rules.model.RuleAtom;
 import openllet.core.rules.model.SameIndividualAtom;
 import openllet.core.tableau.branch.Branch;
+import openllet.core.tableau.cache.ConceptCache;
 import openllet.core.tableau.completion.CompletionStrategy;
 import openllet.core.tableau.completion.EmptySRIQStrategy;
 import openllet.core.tableau.completion.SROIQStrategy;
 import openllet.core.tableau.completion.incremental.DependencyIndex;
 import openllet.core.tableau.completion.incremental.IncrementalRestore;
+import openllet.core.taxonomy.CDOptimizedTaxonomyBuilder;
 import openllet.core.taxonomy.Taxonomy;
 import openllet.core.taxonomy.TaxonomyBuilder;
 import openllet.core.taxonomy.TaxonomyNode;
@@ -140,12 +142,23 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 	private final Set<ATermAppl> _individuals = SetUtils.create();
 	private final Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> _annotations;
 
+	/**
+	 * Reverse index of _annotations, property -> object -> subjects. It is updated under the lock of _annotations, the subject sets can be read without it.
+	 */
+	private final Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> _annotationSubjects;
+
 	@Override
 	public Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> getAnnotations()
 	{
 		return _annotations;
 	}
 
+	@Override
+	public Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> getAnnotationSubjectsIndex()
+	{
+		return _annotationSubjects;
+	}
+
 	private final Map<ATermAppl, Set<ATermAppl>> _instances = new ConcurrentHashMap<>();
 
 	@Override
@@ -326,6 +339,7 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 			_dependencyIndex = new DependencyIndex(this);
 
 		_annotations = new ConcurrentHashMap<>();
+		_annotationSubjects = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -342,6 +356,7 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 		_rules.putAll(kb._rules);
 
 		_annotations = kb._annotations;
+		_annotationSubjects = kb._annotationSubjects;
 
 		_expChecker = new ExpressivityChecker(this, kb.getExpressivity());
 
@@ -492,7 +507,11 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 	{
 		_aboxAssertions.clear();
 
-		_annotations.clear();
+		synchronized (_annotations)
+		{
+			_annotations.clear();
+			_annotationSubjects.clear();
+		}
 
 		if (OpenlletOptions.USE_INCREMENTAL_DELETION)
 		{
@@ -1190,6 +1209,8 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 			oidx.add(o);
 			pidx.put(p, oidx);
 			_annotations.put(s, pidx);
+
+			_annotationSubjects.computeIfAbsent(p, k -> new ConcurrentHashMap<>()).computeIfAbsent(o, k -> ConcurrentHashMap.newKeySet()).add(s);
 		}
 
 		_logger.finer(() -> "annotation " + s + " " + p + " " + o);
@@ -1197,6 +1218,45 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 		return true;
 	}
 
+	@Override
+	public boolean removeAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
+	{
+		if (null == p || null == s || null == o)
+			return false;
+
+		synchronized (_annotations)
+		{
+			final Map<ATermAppl, Set<ATermAppl>> pidx = _annotations.get(s);
+			if (pidx == null)
+				return false;
+
+			final Set<ATermAppl> oidx = pidx.get(p);
+			if (oidx == null || !oidx.remove(o))
+				return false;
+
+			if (oidx.isEmpty())
+			{
+				pidx.remove(p);
+				if (pidx.isEmpty())
+					_annotations.remove(s);
+			}
+
+			final Map<ATermAppl, Set<ATermAppl>> oSubjects = _annotationSubjects.get(p);
+			final Set<ATermAppl> subjects = oSubjects.get(o);
+			subjects.remove(s);
+			if (subjects.isEmpty())
+			{
+				oSubjects.remove(o);
+				if (oSubjects.isEmpty())
+					_annotationSubjects.remove(p);
+			}
+		}
+
+		_logger.finer(() -> "remove annotation " + s + " " + p + " " + o);
+
+		return true;
+	}
+
 	@Override
 	public boolean isAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
@@ -1518,7 +1578,8 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 	}
 
 	/**
-	 * Removes (if possible) the given TBox axiom from the KB and return <code>true</code> if removal was successful.
+	 * Removes (if possible) the given TBox axiom from the KB and return <code>true</code> if removal was successful. The domain and range axioms are removed
+	 * from the RBox with {@link #removeDomain(ATerm, ATermAppl)} and {@link #removeRange(ATerm, ATermAppl)}.
 	 *
 	 * @param axiom TBox axiom to remove
 	 * @return <code>true</code> if axiom is removed, <code>false</code> if removal failed
@@ -1529,6 +1590,12 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 		if (null == axiom)
 			return false;
 
+		if (axiom.getAFun().equals(ATermUtils.DOMAINFUN))
+			return removeDomain(axiom.getArgument(0), (ATermAppl) axiom.getArgument(1));
+		else
+			if (axiom.getAFun().equals(ATermUtils.RANGEFUN))
+				return removeRange(axiom.getArgument(0), (ATermAppl) axiom.getArgument(1));
+
 		boolean removed = false;
 
 		try
@@ -1632,6 +1699,7 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 			info.append("Individuals: " + _individuals.size());
 			// info.append( " Strategy: " + chooseStrategy( _abox ) );
 			_logger.fine(info.toString());
+			_logger.fine("Term memo: " + ATermUtils.getMemoStatistics());
 		}
 	}
 
@@ -1873,6 +1941,11 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 	{
 		consistency();
 
+		// MAX_ANONYMOUS_CACHE may be tuned between two queries.
+		final ConceptCache cache = _abox.getCache();
+		if (cache != null && cache.getMaxSize() != OpenlletOptions.MAX_ANONYMOUS_CACHE)
+			cache.setMaxSize(OpenlletOptions.MAX_ANONYMOUS_CACHE);
+
 		return _consistent;
 	}
 
@@ -1923,6 +1996,8 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 
 		_state.add(ReasoningState.CLASSIFY);
 
+		_logger.fine(() -> "Term memo after classification: " + ATermUtils.getMemoStatistics());
+
 		_estimate.computKBCosts();
 	}
 
@@ -1957,6 +2032,52 @@ public class KnowledgeBaseImpl implements KnowledgeBase
 		_estimate.computKBCosts();
 	}
 
+	/**
+	 * Mark the KB restored from a snapshot as prepared. The TBox, the RBox and the completion of the ABox are restored as they were so they are not prepared
+	 * nor checked again, only the expressivity and the size estimate are computed.
+	 *
+	 * @param consistent true if the completion of the ABox is restored, false to check the consistency before the first query
+	 * @param taxonomy of the classes of the KB, or null if it wasn't classified
+	 * @param realized if the nodes of the taxonomy have their instances
+	 * @return false if the taxonomy builder of this KB can't use the taxonomy
+	 * @see KnowledgeBaseSnapshot
+	 * @since 2.6.6
+	 */
+	boolean restore(final boolean consistent, final Taxonomy<ATermAppl> taxonomy, final boolean realized)
+	{
+		_changes.clear();
+		_instances.clear();
+
+		_expChecker.prepare();
+		_canUseIncConsistency = canUseIncConsistency();
+		_estimate = new SizeEstimate(this);
+
+		_abox.clearCaches(true);
+		_abox.getCache().setMaxSize(OpenlletOptions.MAX_ANONYMOUS_CACHE);
+
+		if (consistent)
+		{
+			_consistent = true;
+			_state.add(ReasoningState.CONSISTENCY);
+		}
+
+		if (taxonomy == null)
+			return true;
+
+		final TaxonomyBuilder builder = getTaxonomyBuilder();
+		if (!(builder instanceof CDOptimizedTaxonomyBuilder))
+			return false;
+
+		((CDOptimizedTaxonomyBuilder) builder).setTaxonomy(taxonomy);
+
+		_state.add(ReasoningState.CLASSIFY);
+		if (realized)
+			_state.add(ReasoningState.REALIZE);
+
+		_estimate.computKBCosts();
+		return true;
+	}
+
 	/**
 	 * @return the actual set individuals.
 	 */
@@ -38,6 +38,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import openllet.aterm.ATerm;
@@ -55,12 +59,20 @@ import openllet.core.tableau.completion.incremental.DependencyIndex;
 import openllet.core.taxonomy.Taxonomy;
 import openllet.core.taxonomy.TaxonomyBuilder;
 import openllet.core.utils.Bool;
+import openllet.core.utils.CandidateSet;
 import openllet.core.utils.SizeEstimate;
 import openllet.core.utils.Timers;
 import openllet.core.utils.progress.ProgressMonitor;
 
+/**
+ * A knowledge base that can be shared between threads. Every operation runs exclusively, except the satisfiability, subsumption and instance checks when
+ * {@link OpenlletOptions#USE_THREADED_KERNEL} is set : once the knowledge base is consistent they run together, each of them completing its own copy of the
+ * ABox.
+ */
 public class KnowledgeBaseImplFullSync extends KnowledgeBaseImpl
 {
+	private final ReentrantReadWriteLock _lock = new ReentrantReadWriteLock();
+
 	public KnowledgeBaseImplFullSync()
 	{
 		super();
@@ -77,259 +89,343 @@ public class KnowledgeBaseImplFullSync extends KnowledgeBaseImpl
 		return new KnowledgeBaseImplFullSync(this, emptyABox);
 	}
 
+	/**
+	 * @return true if the lock must not be taken : either the current thread is running a concurrent query, the knowledge base is then already prepared and
+	 *         must not be modified, or the lock doesn't exist yet because the constructor of the super class calls the overridden methods.
+	 */
+	private boolean isConcurrentQuery()
+	{
+		return null == _lock || _lock.getReadHoldCount() > 0 && !_lock.isWriteLockedByCurrentThread();
+	}
+
+	private void exclusive(final Runnable operation)
+	{
+		if (isConcurrentQuery())
+		{
+			operation.run();
+			return;
+		}
+
+		_lock.writeLock().lock();
+		try
+		{
+			operation.run();
+		}
+		finally
+		{
+			_lock.writeLock().unlock();
+		}
+	}
+
+	private <T> T exclusive(final Supplier<T> operation)
+	{
+		if (isConcurrentQuery())
+			return operation.get();
+
+		_lock.writeLock().lock();
+		try
+		{
+			return operation.get();
+		}
+		finally
+		{
+			_lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Run a query that only reads the knowledge base. The consistency is ensured exclusively, then the write lock is downgraded so other queries can run at
+	 * the same time.
+	 */
+	private boolean concurrently(final BooleanSupplier query)
+	{
+		if (!OpenlletOptions.USE_THREADED_KERNEL || isConcurrentQuery())
+			return exclusive(query::getAsBoolean);
+
+		_lock.writeLock().lock();
+		try
+		{
+			super.ensureConsistency();
+
+			if (super.doExplanation()) // The explanation is read back from the last clash of the shared ABox.
+				return query.getAsBoolean();
+
+			_lock.readLock().lock();
+		}
+		finally
+		{
+			_lock.writeLock().unlock();
+		}
+
+		try
+		{
+			return query.getAsBoolean();
+		}
+		finally
+		{
+			_lock.readLock().unlock();
+		}
+	}
+
 	@Override
-	public synchronized TaxonomyBuilder getBuilder()
+	public TaxonomyBuilder getBuilder()
 	{
-		return super.getBuilder();
+		return exclusive(() -> super.getBuilder());
 	}
 
 	@Override
-	public synchronized Expressivity getExpressivity()
+	public Expressivity getExpressivity()
 	{
-		return super.getExpressivity();
+		return exclusive(() -> super.getExpressivity());
 	}
 
 	@Override
-	public synchronized ExpressivityChecker getExpressivityChecker()
+	public ExpressivityChecker getExpressivityChecker()
 	{
-		return super.getExpressivityChecker();
+		return exclusive(() -> super.getExpressivityChecker());
 	}
 
 	@Override
-	public synchronized void clear()
+	public void clear()
 	{
-		super.clear();
+		exclusive(() -> super.clear());
 	}
 
 	@Override
-	public synchronized void clearABox()
+	public void clearABox()
 	{
-		super.clearABox();
+		exclusive(() -> super.clearABox());
 	}
 
 	@Override
-	public synchronized void addClass(final ATermAppl c)
+	public void addClass(final ATermAppl c)
 	{
-		super.addClass(c);
+		exclusive(() -> super.addClass(c));
 	}
 
 	@Override
-	public synchronized void addSubClass(final ATermAppl sub, final ATermAppl sup)
+	public void addSubClass(final ATermAppl sub, final ATermAppl sup)
 	{
-		super.addSubClass(sub, sup);
+		exclusive(() -> super.addSubClass(sub, sup));
 	}
 
 	@Override
-	public synchronized void addEquivalentClass(final ATermAppl c1, final ATermAppl c2)
+	public void addEquivalentClass(final ATermAppl c1, final ATermAppl c2)
 	{
-		super.addEquivalentClass(c1, c2);
+		exclusive(() -> super.addEquivalentClass(c1, c2));
 	}
 
 	@Override
-	public synchronized void addKey(final ATermAppl c, final Set<ATermAppl> properties)
+	public void addKey(final ATermAppl c, final Set<ATermAppl> properties)
 	{
-		super.addKey(c, properties);
+		exclusive(() -> super.addKey(c, properties));
 	}
 
 	@Override
-	public synchronized void addDisjointClasses(final ATermList classes)
+	public void addDisjointClasses(final ATermList classes)
 	{
-		super.addDisjointClasses(classes);
+		exclusive(() -> super.addDisjointClasses(classes));
 	}
 
 	@Override
-	public synchronized void addDisjointClasses(final List<ATermAppl> classes)
+	public void addDisjointClasses(final List<ATermAppl> classes)
 	{
-		super.addDisjointClasses(classes);
+		exclusive(() -> super.addDisjointClasses(classes));
 	}
 
 	@Override
-	public synchronized void addDisjointClass(final ATermAppl c1, final ATermAppl c2)
+	public void addDisjointClass(final ATermAppl c1, final ATermAppl c2)
 	{
-		super.addDisjointClass(c1, c2);
+		exclusive(() -> super.addDisjointClass(c1, c2));
 	}
 
 	@Override
-	public synchronized void addComplementClass(final ATermAppl c1, final ATermAppl c2)
+	public void addComplementClass(final ATermAppl c1, final ATermAppl c2)
 	{
-		super.addComplementClass(c1, c2);
+		exclusive(() -> super.addComplementClass(c1, c2));
 	}
 
 	@Override
-	public synchronized Individual addIndividual(final ATermAppl i)
+	public Individual addIndividual(final ATermAppl i)
 	{
-		return super.addIndividual(i);
+		return exclusive(() -> super.addIndividual(i));
 	}
 
 	@Override
-	public synchronized void addType(final ATermAppl i, final ATermAppl c)
+	public void addType(final ATermAppl i, final ATermAppl c)
 	{
-		super.addType(i, c);
+		exclusive(() -> super.addType(i, c));
 	}
 
 	@Override
-	public synchronized void addType(final ATermAppl i, final ATermAppl c, final DependencySet ds)
+	public void addType(final ATermAppl i, final ATermAppl c, final DependencySet ds)
 	{
-		super.addType(i, c, ds);
+		exclusive(() -> super.addType(i, c, ds));
 	}
 
 	@Override
-	public synchronized void addSame(final ATermAppl i1, final ATermAppl i2)
+	public void addSame(final ATermAppl i1, final ATermAppl i2)
 	{
-		super.addSame(i1, i2);
+		exclusive(() -> super.addSame(i1, i2));
 	}
 
 	@Override
-	public synchronized void addAllDifferent(final ATermList list)
+	public void addAllDifferent(final ATermList list)
 	{
-		super.addAllDifferent(list);
+		exclusive(() -> super.addAllDifferent(list));
 	}
 
 	@Override
-	public synchronized void addDifferent(final ATermAppl i1, final ATermAppl i2)
+	public void addDifferent(final ATermAppl i1, final ATermAppl i2)
 	{
-		super.addDifferent(i1, i2);
+		exclusive(() -> super.addDifferent(i1, i2));
 	}
 
 	@Override
 	@Deprecated
-	public synchronized void addObjectPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
+	public void addObjectPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
 	{
-		super.addObjectPropertyValue(p, s, o);
+		exclusive(() -> super.addObjectPropertyValue(p, s, o));
 	}
 
 	@Override
-	public synchronized boolean addPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
+	public boolean addPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
 	{
-		return super.addPropertyValue(p, s, o);
+		return exclusive(() -> super.addPropertyValue(p, s, o));
 	}
 
 	@Override
-	public synchronized boolean addNegatedPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
+	public boolean addNegatedPropertyValue(final ATermAppl p, final ATermAppl s, final ATermAppl o)
 	{
-		return super.addNegatedPropertyValue(p, s, o);
+		return exclusive(() -> super.addNegatedPropertyValue(p, s, o));
 	}
 
 	@Override
-	public synchronized void addProperty(final ATermAppl p)
+	public void addProperty(final ATermAppl p)
 	{
-		super.addProperty(p);
+		exclusive(() -> super.addProperty(p));
 	}
 
 	@Override
-	public synchronized boolean addObjectProperty(final ATerm p)
+	public boolean addObjectProperty(final ATerm p)
 	{
-		return super.addObjectProperty(p);
+		return exclusive(() -> super.addObjectProperty(p));
 	}
 
 	@Override
-	public synchronized boolean addDatatypeProperty(final ATerm p)
+	public boolean addDatatypeProperty(final ATerm p)
 	{
-		return super.addDatatypeProperty(p);
+		return exclusive(() -> super.addDatatypeProperty(p));
 	}
 
 	@Override
 	@Deprecated
-	public synchronized void addOntologyProperty(final ATermAppl p)
+	public void addOntologyProperty(final ATermAppl p)
+	{
+		exclusive(() -> super.addOntologyProperty(p));
+	}
+
+	@Override
+	public boolean addAnnotationProperty(final ATerm p)
 	{
-		super.addOntologyProperty(p);
+		return exclusive(() -> super.addAnnotationProperty(p));
 	}
 
 	@Override
-	public synchronized boolean addAnnotationProperty(final ATerm p)
+	public boolean addAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
-		return super.addAnnotationProperty(p);
+		return exclusive(() -> super.addAnnotation(s, p, o));
 	}
 
 	@Override
-	public synchronized boolean addAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
+	public boolean removeAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
-		return super.addAnnotation(s, p, o);
+		return exclusive(() -> super.removeAnnotation(s, p, o));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAnnotations(final ATermAppl s, final ATermAppl p)
+	public Set<ATermAppl> getAnnotations(final ATermAppl s, final ATermAppl p)
 	{
-		return super.getAnnotations(s, p);
+		return exclusive(() -> super.getAnnotations(s, p));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getIndividualsWithAnnotation(final ATermAppl p, final ATermAppl o)
+	public Set<ATermAppl> getIndividualsWithAnnotation(final ATermAppl p, final ATermAppl o)
 	{
-		return super.getIndividualsWithAnnotation(p, o);
+		return exclusive(() -> super.getIndividualsWithAnnotation(p, o));
 	}
 
 	@Override
-	public synchronized boolean isAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
+	public boolean isAnnotation(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
-		return super.isAnnotation(s, p, o);
+		return exclusive(() -> super.isAnnotation(s, p, o));
 	}
 
 	@Override
-	public synchronized void addSubProperty(final ATerm sub, final ATermAppl sup)
+	public void addSubProperty(final ATerm sub, final ATermAppl sup)
 	{
-		super.addSubProperty(sub, sup);
+		exclusive(() -> super.addSubProperty(sub, sup));
 	}
 
 	@Override
-	public synchronized void addEquivalentProperty(final ATermAppl p1, final ATermAppl p2)
+	public void addEquivalentProperty(final ATermAppl p1, final ATermAppl p2)
 	{
-		super.addEquivalentProperty(p1, p2);
+		exclusive(() -> super.addEquivalentProperty(p1, p2));
 	}
 
 	@Override
-	public synchronized void addDisjointProperties(final ATermList properties)
+	public void addDisjointProperties(final ATermList properties)
 	{
-		super.addDisjointProperties(properties);
+		exclusive(() -> super.addDisjointProperties(properties));
 	}
 
 	@Override
-	public synchronized void addDisjointProperty(final ATermAppl p1, final ATermAppl p2)
+	public void addDisjointProperty(final ATermAppl p1, final ATermAppl p2)
 	{
-		super.addDisjointProperty(p1, p2);
+		exclusive(() -> super.addDisjointProperty(p1, p2));
 	}
 
 	@Override
-	public synchronized void addDisjointProperty(final ATermAppl p1, final ATermAppl p2, final DependencySet ds)
+	public void addDisjointProperty(final ATermAppl p1, final ATermAppl p2, final DependencySet ds)
 	{
-		super.addDisjointProperty(p1, p2, ds);
+		exclusive(() -> super.addDisjointProperty(p1, p2, ds));
 	}
 
 	@Override
-	public synchronized void addInverseProperty(final ATermAppl p1, final ATermAppl p2)
+	public void addInverseProperty(final ATermAppl p1, final ATermAppl p2)
 	{
-		super.addInverseProperty(p1, p2);
+		exclusive(() -> super.addInverseProperty(p1, p2));
 	}
 
 	@Override
-	public synchronized void addTransitiveProperty(final ATermAppl p)
+	public void addTransitiveProperty(final ATermAppl p)
 	{
-		super.addTransitiveProperty(p);
+		exclusive(() -> super.addTransitiveProperty(p));
 	}
 
 	@Override
-	public synchronized void addSymmetricProperty(final ATermAppl p)
+	public void addSymmetricProperty(final ATermAppl p)
 	{
-		super.addSymmetricProperty(p);
+		exclusive(() -> super.addSymmetricProperty(p));
 	}
 
 	@Override
 	@Deprecated
-	public synchronized void addAntisymmetricProperty(final ATermAppl p)
+	public void addAntisymmetricProperty(final ATermAppl p)
 	{
-		super.addAntisymmetricProperty(p);
+		exclusive(() -> super.addAntisymmetricProperty(p));
 	}
 
 	@Override
-	public synchronized void addAsymmetricProperty(final ATermAppl p)
+	public void addAsymmetricProperty(final ATermAppl p)
 	{
-		super.addAsymmetricProperty(p);
+		exclusive(() -> super.addAsymmetricProperty(p));
 	}
 
 	@Override
-	public synchronized void prepare()
+	public void prepare()
 	{
-		super.prepare();
+		exclusive(() -> super.prepare());
 	}
 
 	@Override
@@ -339,9 +435,9 @@ public class KnowledgeBaseImplFullSync extends KnowledgeBaseImpl
 	}
 
 	@Override
-	public synchronized SizeEstimate getSizeEstimate()
+	public SizeEstimate getSizeEstimate()
 	{
-		return super.getSizeEstimate();
+		return exclusive(() -> super.getSizeEstimate());
 	}
 
 	@Override
@@ -363,315 +459,321 @@ public class KnowledgeBaseImplFullSync extends KnowledgeBaseImpl
 	}
 
 	@Override
-	public synchronized int getIndividualsCount()
+	public int getIndividualsCount()
+	{
+		return exclusive(() -> super.getIndividualsCount());
+	}
+
+	@Override
+	public Set<ATermAppl> getIndividuals()
 	{
-		return super.getIndividualsCount();
+		return exclusive(() -> super.getIndividuals());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getIndividuals()
+	public Stream<ATermAppl> individuals()
 	{
-		return super.getIndividuals();
+		return exclusive(() -> super.individuals());
 	}
 
 	@Override
-	public synchronized Stream<ATermAppl> individuals()
+	public void classify()
 	{
-		return super.individuals();
+		exclusive(() -> super.classify());
 	}
 
 	@Override
-	public synchronized void classify()
+	public void realize()
 	{
-		super.classify();
+		exclusive(() -> super.realize());
 	}
 
 	@Override
-	public synchronized void realize()
+	public boolean isClassified()
 	{
-		super.realize();
+		return exclusive(() -> super.isClassified());
 	}
 
 	@Override
-	public synchronized boolean isClassified()
+	public boolean isConsistent()
 	{
-		return super.isClassified();
+		return exclusive(() -> super.isConsistent());
 	}
 
 	@Override
-	public synchronized boolean isConsistent()
+	public void ensureConsistency()
 	{
-		return super.isConsistent();
+		exclusive(() -> super.ensureConsistency());
 	}
 
 	@Override
-	public synchronized void ensureConsistency()
+	public boolean isConsistencyDone()
 	{
-		super.ensureConsistency();
+		return exclusive(() -> super.isConsistencyDone());
 	}
 
 	@Override
-	public synchronized boolean isConsistencyDone()
+	public Taxonomy<ATermAppl> getTaxonomy()
 	{
-		return super.isConsistencyDone();
+		return exclusive(() -> super.getTaxonomy());
 	}
 
 	@Override
-	public synchronized Taxonomy<ATermAppl> getTaxonomy()
+	public <T> T readTaxonomy(final Function<Taxonomy<ATermAppl>, T> read)
 	{
-		return super.getTaxonomy();
+		return exclusive(() -> super.readTaxonomy(read));
 	}
 
 	@Override
-	public synchronized boolean isDatatypeProperty(final ATerm p)
+	public boolean isDatatypeProperty(final ATerm p)
 	{
-		return super.isDatatypeProperty(p);
+		return exclusive(() -> super.isDatatypeProperty(p));
 	}
 
 	@Override
-	public synchronized DependencyIndex getDependencyIndex()
+	public DependencyIndex getDependencyIndex()
 	{
-		return super.getDependencyIndex();
+		return exclusive(() -> super.getDependencyIndex());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getSyntacticAssertions()
+	public Set<ATermAppl> getSyntacticAssertions()
 	{
-		return super.getSyntacticAssertions();
+		return exclusive(() -> super.getSyntacticAssertions());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getDeletedAssertions()
+	public Set<ATermAppl> getDeletedAssertions()
 	{
-		return super.getDeletedAssertions();
+		return exclusive(() -> super.getDeletedAssertions());
 	}
 
 	@Override
-	public synchronized CompletionStrategy chooseStrategy(final ABox abox, final Expressivity expressivity)
+	public CompletionStrategy chooseStrategy(final ABox abox, final Expressivity expressivity)
 	{
-		return super.chooseStrategy(abox, expressivity);
+		return exclusive(() -> super.chooseStrategy(abox, expressivity));
 	}
 
 	@Override
-	public synchronized boolean isRealized()
+	public boolean isRealized()
 	{
-		return super.isRealized();
+		return exclusive(() -> super.isRealized());
 	}
 
 	@Override
-	public synchronized boolean isSatisfiable(final ATermAppl c)
+	public boolean isSatisfiable(final ATermAppl c)
 	{
-		return super.isSatisfiable(c);
+		return concurrently(() -> super.isSatisfiable(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getUnsatisfiableClasses()
+	public Set<ATermAppl> getUnsatisfiableClasses()
 	{
-		return super.getUnsatisfiableClasses();
+		return exclusive(() -> super.getUnsatisfiableClasses());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAllUnsatisfiableClasses()
+	public Set<ATermAppl> getAllUnsatisfiableClasses()
 	{
-		return super.getAllUnsatisfiableClasses();
+		return exclusive(() -> super.getAllUnsatisfiableClasses());
 	}
 
 	@Override
-	public synchronized boolean isDisjointClass(final ATermAppl c1, final ATermAppl c2)
+	public boolean isDisjointClass(final ATermAppl c1, final ATermAppl c2)
 	{
-		return super.isDisjointClass(c1, c2);
+		return exclusive(() -> super.isDisjointClass(c1, c2));
 	}
 
 	@Override
-	public synchronized Map<Rule, Rule> getNormalizedRules()
+	public Map<Rule, Rule> getNormalizedRules()
 	{
-		return super.getNormalizedRules();
+		return exclusive(() -> super.getNormalizedRules());
 	}
 
 	@Override
-	public synchronized Set<Rule> getRules()
+	public Set<Rule> getRules()
 	{
-		return super.getRules();
+		return exclusive(() -> super.getRules());
 	}
 
 	@Override
-	public synchronized boolean isComplement(final ATermAppl c1, final ATermAppl c2)
+	public boolean isComplement(final ATermAppl c1, final ATermAppl c2)
 	{
-		return super.isComplement(c1, c2);
+		return exclusive(() -> super.isComplement(c1, c2));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getProperties()
+	public Set<ATermAppl> getProperties()
 	{
-		return super.getProperties();
+		return exclusive(() -> super.getProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getObjectProperties()
+	public Set<ATermAppl> getObjectProperties()
 	{
-		return super.getObjectProperties();
+		return exclusive(() -> super.getObjectProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getDataProperties()
+	public Set<ATermAppl> getDataProperties()
 	{
-		return super.getDataProperties();
+		return exclusive(() -> super.getDataProperties());
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getAllSuperProperties(final ATermAppl prop)
+	public Set<Set<ATermAppl>> getAllSuperProperties(final ATermAppl prop)
 	{
-		return super.getAllSuperProperties(prop);
+		return exclusive(() -> super.getAllSuperProperties(prop));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getSubProperties(final ATermAppl prop, final boolean direct)
+	public Set<Set<ATermAppl>> getSubProperties(final ATermAppl prop, final boolean direct)
 	{
-		return super.getSubProperties(prop, direct);
+		return exclusive(() -> super.getSubProperties(prop, direct));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getSuperProperties(final ATermAppl prop, final boolean direct)
+	public Set<Set<ATermAppl>> getSuperProperties(final ATermAppl prop, final boolean direct)
 	{
-		return super.getSuperProperties(prop, direct);
+		return exclusive(() -> super.getSuperProperties(prop, direct));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getAllSubProperties(final ATermAppl prop)
+	public Set<Set<ATermAppl>> getAllSubProperties(final ATermAppl prop)
 	{
-		return super.getAllSubProperties(prop);
+		return exclusive(() -> super.getAllSubProperties(prop));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getEquivalentProperties(final ATermAppl prop)
+	public Set<ATermAppl> getEquivalentProperties(final ATermAppl prop)
 	{
-		return super.getEquivalentProperties(prop);
+		return exclusive(() -> super.getEquivalentProperties(prop));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getFunctionalProperties()
+	public Set<ATermAppl> getFunctionalProperties()
 	{
-		return super.getFunctionalProperties();
+		return exclusive(() -> super.getFunctionalProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getInverseFunctionalProperties()
+	public Set<ATermAppl> getInverseFunctionalProperties()
 	{
-		return super.getInverseFunctionalProperties();
+		return exclusive(() -> super.getInverseFunctionalProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getTransitiveProperties()
+	public Set<ATermAppl> getTransitiveProperties()
 	{
-		return super.getTransitiveProperties();
+		return exclusive(() -> super.getTransitiveProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getSymmetricProperties()
+	public Set<ATermAppl> getSymmetricProperties()
 	{
-		return super.getSymmetricProperties();
+		return exclusive(() -> super.getSymmetricProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAsymmetricProperties()
+	public Set<ATermAppl> getAsymmetricProperties()
 	{
 		return null;
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getInverses(final ATerm name)
+	public Set<ATermAppl> getInverses(final ATerm name)
 	{
-		return super.getInverses(name);
+		return exclusive(() -> super.getInverses(name));
 	}
 
 	@Override
-	public synchronized boolean isObjectProperty(final ATerm p)
+	public boolean isObjectProperty(final ATerm p)
 	{
-		return super.isObjectProperty(p);
+		return exclusive(() -> super.isObjectProperty(p));
 	}
 
 	@Override
-	public synchronized Map<ATermAppl, List<ATermAppl>> getPropertyValues(final ATermAppl pred)
+	public Map<ATermAppl, List<ATermAppl>> getPropertyValues(final ATermAppl pred)
 	{
-		return super.getPropertyValues(pred);
+		return exclusive(() -> super.getPropertyValues(pred));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> getProperties(final ATermAppl s, final ATermAppl o)
+	public List<ATermAppl> getProperties(final ATermAppl s, final ATermAppl o)
 	{
-		return super.getProperties(s, o);
+		return exclusive(() -> super.getProperties(s, o));
 	}
 
 	@Override
-	public synchronized PropertyType getPropertyType(final ATerm r)
+	public PropertyType getPropertyType(final ATerm r)
 	{
-		return super.getPropertyType(r);
+		return exclusive(() -> super.getPropertyType(r));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getReflexiveProperties()
+	public Set<ATermAppl> getReflexiveProperties()
 	{
-		return super.getReflexiveProperties();
+		return exclusive(() -> super.getReflexiveProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getIrreflexiveProperties()
+	public Set<ATermAppl> getIrreflexiveProperties()
 	{
-		return super.getIrreflexiveProperties();
+		return exclusive(() -> super.getIrreflexiveProperties());
 	}
 
 	@Override
-	public synchronized Bool hasKnownPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o)
+	public Bool hasKnownPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
-		return super.hasKnownPropertyValue(s, p, o);
+		return exclusive(() -> super.hasKnownPropertyValue(s, p, o));
 	}
 
 	@Override
-	public synchronized boolean hasPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o)
+	public boolean hasPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
-		return super.hasPropertyValue(s, p, o);
+		return exclusive(() -> super.hasPropertyValue(s, p, o));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> getPropertyValues(final ATermAppl r, final ATermAppl x)
+	public List<ATermAppl> getPropertyValues(final ATermAppl r, final ATermAppl x)
 	{
-		return super.getPropertyValues(r, x);
+		return exclusive(() -> super.getPropertyValues(r, x));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAnnotationProperties()
+	public Set<ATermAppl> getAnnotationProperties()
 	{
-		return super.getAnnotationProperties();
+		return exclusive(() -> super.getAnnotationProperties());
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getDomains(final ATermAppl name)
+	public Set<ATermAppl> getDomains(final ATermAppl name)
 	{
-		return super.getDomains(name);
+		return exclusive(() -> super.getDomains(name));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getRanges(final ATerm name)
+	public Set<ATermAppl> getRanges(final ATerm name)
 	{
-		return super.getRanges(name);
+		return exclusive(() -> super.getRanges(name));
 	}
 
 	@Override
-	public synchronized boolean isAnnotationProperty(final ATerm p)
+	public boolean isAnnotationProperty(final ATerm p)
 	{
-		return super.isAnnotationProperty(p);
+		return exclusive(() -> super.isAnnotationProperty(p));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAnnotationSubjects()
+	public Set<ATermAppl> getAnnotationSubjects()
 	{
-		return super.getAnnotationSubjects();
+		return exclusive(() -> super.getAnnotationSubjects());
 	}
 
 	@Override
-	public synchronized Taxonomy<ATermAppl> getRoleTaxonomy(final boolean objectTaxonomy)
+	public Taxonomy<ATermAppl> getRoleTaxonomy(final boolean objectTaxonomy)
 	{
-		return super.getRoleTaxonomy(objectTaxonomy);
+		return exclusive(() -> super.getRoleTaxonomy(objectTaxonomy));
 	}
 
 	@Override
@@ -681,380 +783,392 @@ public class KnowledgeBaseImplFullSync extends KnowledgeBaseImpl
 	}
 
 	@Override
-	public synchronized TaxonomyBuilder getTaxonomyBuilder()
+	public TaxonomyBuilder getTaxonomyBuilder()
+	{
+		return exclusive(() -> super.getTaxonomyBuilder());
+	}
+
+	@Override
+	public Map<ATermAppl, Set<ATermAppl>> getToldDisjoints()
+	{
+		return exclusive(() -> super.getToldDisjoints());
+	}
+
+	@Override
+	public Set<Set<ATermAppl>> getTypes(final ATermAppl ind, final boolean direct)
 	{
-		return super.getTaxonomyBuilder();
+		return exclusive(() -> super.getTypes(ind, direct));
 	}
 
 	@Override
-	public synchronized Map<ATermAppl, Set<ATermAppl>> getToldDisjoints()
+	public boolean isType(final ATermAppl x, final ATermAppl c)
 	{
-		return super.getToldDisjoints();
+		return concurrently(() -> super.isType(x, c));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getTypes(final ATermAppl ind, final boolean direct)
+	public Bool isKnownType(final ATermAppl x, final ATermAppl c)
 	{
-		return super.getTypes(ind, direct);
+		return exclusive(() -> super.isKnownType(x, c));
 	}
 
 	@Override
-	public synchronized boolean isType(final ATermAppl x, final ATermAppl c)
+	public Set<Set<ATermAppl>> getSubClasses(final ATermAppl c, final boolean direct)
 	{
-		return super.isType(x, c);
+		return exclusive(() -> super.getSubClasses(c, direct));
 	}
 
 	@Override
-	public synchronized Bool isKnownType(final ATermAppl x, final ATermAppl c)
+	public boolean isClass(final ATerm c)
 	{
-		return super.isKnownType(x, c);
+		return exclusive(() -> super.isClass(c));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getSubClasses(final ATermAppl c, final boolean direct)
+	public boolean isSubClassOf(final ATermAppl c1, final ATermAppl c2)
 	{
-		return super.getSubClasses(c, direct);
+		return concurrently(() -> super.isSubClassOf(c1, c2));
 	}
 
 	@Override
-	public synchronized boolean isClass(final ATerm c)
+	public Set<ATermAppl> retrieve(final ATermAppl d, final Collection<ATermAppl> individuals)
 	{
-		return super.isClass(c);
+		return exclusive(() -> super.retrieve(d, individuals));
 	}
 
 	@Override
-	public synchronized boolean isSubClassOf(final ATermAppl c1, final ATermAppl c2)
+	public List<ATermAppl> retrieveIndividualsWithProperty(final ATermAppl r)
 	{
-		return super.isSubClassOf(c1, c2);
+		return exclusive(() -> super.retrieveIndividualsWithProperty(r));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> retrieve(final ATermAppl d, final Collection<ATermAppl> individuals)
+	public Set<ATermAppl> getInstances(final ATermAppl c)
 	{
-		return super.retrieve(d, individuals);
+		return exclusive(() -> super.getInstances(c));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> retrieveIndividualsWithProperty(final ATermAppl r)
+	public boolean hasInstance(final ATerm c)
 	{
-		return super.retrieveIndividualsWithProperty(r);
+		return exclusive(() -> super.hasInstance(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getInstances(final ATermAppl c)
+	public Set<ATermAppl> getInstances(final ATermAppl c, final boolean direct)
 	{
-		return super.getInstances(c);
+		return exclusive(() -> super.getInstances(c, direct));
 	}
 
 	@Override
-	public synchronized boolean hasInstance(final ATerm c)
+	public CandidateSet<ATermAppl> getObviousInstances(final ATermAppl c)
 	{
-		return super.hasInstance(c);
+		return exclusive(() -> super.getObviousInstances(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getInstances(final ATermAppl c, final boolean direct)
+	public boolean entailsInstance(final ATermAppl c)
 	{
-		return super.getInstances(c, direct);
+		return exclusive(() -> super.entailsInstance(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAllSames(final ATermAppl name)
+	public Set<ATermAppl> getAllSames(final ATermAppl name)
 	{
-		return super.getAllSames(name);
+		return exclusive(() -> super.getAllSames(name));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> getIndividualsWithProperty(final ATermAppl r, final ATermAppl x)
+	public List<ATermAppl> getIndividualsWithProperty(final ATermAppl r, final ATermAppl x)
 	{
-		return super.getIndividualsWithDataProperty(r, x);
+		return exclusive(() -> super.getIndividualsWithDataProperty(r, x));
 	}
 
 	@Override
-	public synchronized void addDomain(final ATerm p, final ATermAppl c)
+	public void addDomain(final ATerm p, final ATermAppl c)
 	{
-		super.addDomain(p, c);
+		exclusive(() -> super.addDomain(p, c));
 	}
 
 	@Override
-	public synchronized void addDomain(final ATerm p, final ATermAppl c, final Set<ATermAppl> explain)
+	public void addDomain(final ATerm p, final ATermAppl c, final Set<ATermAppl> explain)
 	{
-		super.addDomain(p, c, explain);
+		exclusive(() -> super.addDomain(p, c, explain));
 	}
 
 	@Override
-	public synchronized void addRange(final ATerm p, final ATermAppl c)
+	public void addRange(final ATerm p, final ATermAppl c)
 	{
-		super.addRange(p, c);
+		exclusive(() -> super.addRange(p, c));
 	}
 
 	@Override
-	public synchronized void addRange(final ATerm p, final ATermAppl c, final Set<ATermAppl> explain)
+	public void addRange(final ATerm p, final ATermAppl c, final Set<ATermAppl> explain)
 	{
-		super.addRange(p, c, explain);
+		exclusive(() -> super.addRange(p, c, explain));
 	}
 
 	@Override
-	public synchronized void addFunctionalProperty(final ATermAppl p)
+	public void addFunctionalProperty(final ATermAppl p)
 	{
-		super.addFunctionalProperty(p);
+		exclusive(() -> super.addFunctionalProperty(p));
 	}
 
 	@Override
-	public synchronized void addInverseFunctionalProperty(final ATerm p)
+	public void addInverseFunctionalProperty(final ATerm p)
 	{
-		super.addInverseFunctionalProperty(p);
+		exclusive(() -> super.addInverseFunctionalProperty(p));
 	}
 
 	@Override
-	public synchronized void addReflexiveProperty(final ATermAppl p)
+	public void addReflexiveProperty(final ATermAppl p)
 	{
-		super.addReflexiveProperty(p);
+		exclusive(() -> super.addReflexiveProperty(p));
 	}
 
 	@Override
-	public synchronized void addIrreflexiveProperty(final ATermAppl p)
+	public void addIrreflexiveProperty(final ATermAppl p)
 	{
-		super.addIrreflexiveProperty(p);
+		exclusive(() -> super.addIrreflexiveProperty(p));
 	}
 
 	@Override
-	public synchronized void addDatatype(final ATermAppl p)
+	public void addDatatype(final ATermAppl p)
 	{
-		super.addDatatype(p);
+		exclusive(() -> super.addDatatype(p));
 	}
 
 	@Override
-	public synchronized boolean addDatatypeDefinition(final ATermAppl name, final ATermAppl datarange)
+	public boolean addDatatypeDefinition(final ATermAppl name, final ATermAppl datarange)
 	{
-		return super.addDatatypeDefinition(name, datarange);
+		return exclusive(() -> super.addDatatypeDefinition(name, datarange));
 	}
 
 	@Override
-	public synchronized boolean addRule(final Rule rule)
+	public boolean addRule(final Rule rule)
 	{
-		return super.addRule(rule);
+		return exclusive(() -> super.addRule(rule));
 	}
 
 	@Override
-	public synchronized boolean removeType(final ATermAppl ind, final ATermAppl c)
+	public boolean removeType(final ATermAppl ind, final ATermAppl c)
 	{
-		return super.removeType(ind, c);
+		return exclusive(() -> super.removeType(ind, c));
 	}
 
 	@Override
-	public synchronized boolean removeDomain(final ATerm p, final ATermAppl c)
+	public boolean removeDomain(final ATerm p, final ATermAppl c)
 	{
-		return super.removeDomain(p, c);
+		return exclusive(() -> super.removeDomain(p, c));
 	}
 
 	@Override
-	public synchronized boolean removeRange(final ATerm p, final ATermAppl c)
+	public boolean removeRange(final ATerm p, final ATermAppl c)
 	{
-		return super.removeRange(p, c);
+		return exclusive(() -> super.removeRange(p, c));
 	}
 
 	@Override
-	public synchronized boolean removePropertyValue(final ATermAppl p, final ATermAppl i1, final ATermAppl i2)
+	public boolean removePropertyValue(final ATermAppl p, final ATermAppl i1, final ATermAppl i2)
 	{
-		return super.removePropertyValue(p, i1, i2);
+		return exclusive(() -> super.removePropertyValue(p, i1, i2));
 	}
 
 	@Override
-	public synchronized boolean removeAxiom(final ATermAppl axiom)
+	public boolean removeAxiom(final ATermAppl axiom)
 	{
-		return super.removeAxiom(axiom);
+		return exclusive(() -> super.removeAxiom(axiom));
 	}
 
 	@Override
-	public synchronized void setTaxonomyBuilderProgressMonitor(final ProgressMonitor progressMonitor)
+	public void setTaxonomyBuilderProgressMonitor(final ProgressMonitor progressMonitor)
 	{
-		super.setTaxonomyBuilderProgressMonitor(progressMonitor);
+		exclusive(() -> super.setTaxonomyBuilderProgressMonitor(progressMonitor));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getEquivalentClasses(final ATermAppl c)
+	public Set<ATermAppl> getEquivalentClasses(final ATermAppl c)
 	{
-		return super.getEquivalentClasses(c);
+		return exclusive(() -> super.getEquivalentClasses(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAllEquivalentClasses(final ATermAppl c)
+	public Set<ATermAppl> getAllEquivalentClasses(final ATermAppl c)
 	{
-		return super.getAllEquivalentClasses(c);
+		return exclusive(() -> super.getAllEquivalentClasses(c));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getSuperClasses(final ATermAppl cParam, final boolean direct)
+	public Set<Set<ATermAppl>> getSuperClasses(final ATermAppl cParam, final boolean direct)
 	{
-		return super.getSuperClasses(cParam, direct);
+		return exclusive(() -> super.getSuperClasses(cParam, direct));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getDisjointClasses(final ATermAppl c, final boolean direct)
+	public Set<Set<ATermAppl>> getDisjointClasses(final ATermAppl c, final boolean direct)
 	{
-		return super.getDisjointClasses(c, direct);
+		return exclusive(() -> super.getDisjointClasses(c, direct));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getComplements(final ATermAppl c)
+	public Set<ATermAppl> getComplements(final ATermAppl c)
 	{
-		return super.getComplements(c);
+		return exclusive(() -> super.getComplements(c));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getSames(final ATermAppl name)
+	public Set<ATermAppl> getSames(final ATermAppl name)
 	{
-		return super.getSames(name);
+		return exclusive(() -> super.getSames(name));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getDifferents(final ATermAppl name)
+	public Set<ATermAppl> getDifferents(final ATermAppl name)
 	{
-		return super.getDifferents(name);
+		return exclusive(() -> super.getDifferents(name));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> getDataPropertyValues(final ATermAppl r, final ATermAppl lang, final ATermAppl datatype)
+	public List<ATermAppl> getDataPropertyValues(final ATermAppl r, final ATermAppl lang, final ATermAppl datatype)
 	{
-		return super.getDataPropertyValues(r, lang, datatype);
+		return exclusive(() -> super.getDataPropertyValues(r, lang, datatype));
 	}
 
 	@Override
-	public synchronized List<ATermAppl> getObjectPropertyValues(final ATermAppl r, final ATermAppl x)
+	public List<ATermAppl> getObjectPropertyValues(final ATermAppl r, final ATermAppl x)
 	{
-		return super.getObjectPropertyValues(r, x);
+		return exclusive(() -> super.getObjectPropertyValues(r, x));
 	}
 
 	@Override
-	public synchronized Stream<ATermAppl> objectPropertyValues(final ATermAppl r, final ATermAppl x)
+	public Stream<ATermAppl> objectPropertyValues(final ATermAppl r, final ATermAppl x)
 	{
-		return super.objectPropertyValues(r, x);
+		return exclusive(() -> super.objectPropertyValues(r, x));
 	}
 
 	@Override
-	public synchronized Set<ATermAppl> getAllEquivalentProperties(final ATermAppl prop)
+	public Set<ATermAppl> getAllEquivalentProperties(final ATermAppl prop)
 	{
-		return super.getAllEquivalentProperties(prop);
+		return exclusive(() -> super.getAllEquivalentProperties(prop));
 	}
 
 	@Override
-	public synchronized Set<Set<ATermAppl>> getDisjointProperties(final ATermAppl p)
+	public Set<Set<ATermAppl>> getDisjointProperties(final ATermAppl p)
 	{
-		return super.getDisjointProperties(p);
+		return exclusive(() -> super.getDisjointProperties(p));
 	}
 
 	@Override
-	public synchronized boolean isDatatype(final ATermAppl c)
+	public boolean isDatatype(final ATermAppl c)
 	{
-		return super.isDatatype(c);
+		return exclusive(() -> super.isDatatype(c));
 	}
 
 	@Override
-	public synchronized boolean isAsymmetricProperty(final ATermAppl p)
+	public boolean isAsymmetricProperty(final ATermAppl p)
 	{
-		return super.isAsymmetricProperty(p);
+		return exclusive(() -> super.isAsymmetricProperty(p));
 	}
 
 	@Override
-	public synchronized boolean isReflexiveProperty(final ATermAppl p)
+	public boolean isReflexiveProperty(final ATermAppl p)
 	{
-		return super.isReflexiveProperty(p);
+		return exclusive(() -> super.isReflexiveProperty(p));
 	}
 
 	@Override
-	public synchronized boolean isDisjoint(final ATermAppl c1, final ATermAppl c2)
+	public boolean isDisjoint(final ATermAppl c1, final ATermAppl c2)
 	{
-		return super.isDisjoint(c1, c2);
+		return exclusive(() -> super.isDisjoint(c1, c2));
 	}
 
 	@Override
-	public synchronized boolean hasDomain(final ATermAppl p, final ATermAppl c)
+	public boolean hasDomain(final ATermAppl p, final ATermAppl c)
 	{
-		return super.hasDomain(p, c);
+		return exclusive(() -> super.hasDomain(p, c));
 	}
 
 	@Override
-	public synchronized boolean isEquivalentProperty(final ATermAppl p1, final ATermAppl p2)
+	public boolean isEquivalentProperty(final ATermAppl p1, final ATermAppl p2)
 	{
-		return super.isEquivalentProperty(p1, p2);
+		return exclusive(() -> super.isEquivalentProperty(p1, p2));
 	}
 
 	@Override
-	public synchronized boolean isDifferentFrom(final ATermAppl t1, final ATermAppl t2)
+	public boolean isDifferentFrom(final ATermAppl t1, final ATermAppl t2)
 	{
-		return super.isDifferentFrom(t1, t2);
+		return exclusive(() -> super.isDifferentFrom(t1, t2));
 	}
 
 	@Override
-	public synchronized boolean isDisjointProperty(final ATermAppl r1, final ATermAppl r2)
+	public boolean isDisjointProperty(final ATermAppl r1, final ATermAppl r2)
 	{
-		return super.isDisjointProperty(r1, r2);
+		return exclusive(() -> super.isDisjointProperty(r1, r2));
 	}
 
 	@Override
-	public synchronized boolean hasRange(final ATermAppl p, final ATermAppl c)
+	public boolean hasRange(final ATermAppl p, final ATermAppl c)
 	{
-		return super.hasRange(p, c);
+		return exclusive(() -> super.hasRange(p, c));
 	}
 
 	@Override
-	public synchronized boolean isFunctionalProperty(final ATermAppl p)
+	public boolean isFunctionalProperty(final ATermAppl p)
 	{
-		return super.isFunctionalProperty(p);
+		return exclusive(() -> super.isFunctionalProperty(p));
 	}
 
 	@Override
-	public synchronized boolean isSubPropertyOf(final ATermAppl sub, final ATermAppl sup)
+	public boolean isSubPropertyOf(final ATermAppl sub, final ATermAppl sup)
 	{
-		return super.isSubPropertyOf(sub, sup);
+		return exclusive(() -> super.isSubPropertyOf(sub, sup));
 	}
 
 	@Override
-	public synchronized boolean isInverse(final ATermAppl r1, final ATermAppl r2)
+	public boolean isInverse(final ATermAppl r1, final ATermAppl r2)
 	{
-		return super.isInverse(r1, r2);
+		return exclusive(() -> super.isInverse(r1, r2));
 	}
 
 	@Override
-	public synchronized boolean isEquivalentClass(final ATermAppl c1, final ATermAppl c2)
+	public boolean isEquivalentClass(final ATermAppl c1, final ATermAppl c2)
 	{
-		return super.isEquivalentClass(c1, c2);
+		return exclusive(() -> super.isEquivalentClass(c1, c2));
 	}
 
 	@Override
-	public synchronized boolean isTransitiveProperty(final ATermAppl r)
+	public boolean isTransitiveProperty(final ATermAppl r)
 	{
-		return super.isTransitiveProperty(r);
+		return exclusive(() -> super.isTransitiveProperty(r));
 	}
 
 	@Override
-	public synchronized boolean isIrreflexiveProperty(final ATermAppl p)
+	public boolean isIrreflexiveProperty(final ATermAppl p)
 	{
-		return super.isIrreflexiveProperty(p);
+		return exclusive(() -> super.isIrreflexiveProperty(p));
 	}
 
 	@Override
-	public synchronized boolean isInverseFunctionalProperty(final ATermAppl p)
+	public boolean isInverseFunctionalProperty(final ATermAppl p)
 	{
-		return super.isInverseFunctionalProperty(p);
+		return exclusive(() -> super.isInverseFunctionalProperty(p));
 	}
 
 	@Override
-	public synchronized boolean isSameAs(final ATermAppl t1, final ATermAppl t2)
+	public boolean isSameAs(final ATermAppl t1, final ATermAppl t2)
 	{
-		return super.isSameAs(t1, t2);
+		return exclusive(() -> super.isSameAs(t1, t2));
 	}
 
 	@Override
-	public synchronized void printClassTree()
+	public void printClassTree()
 	{
-		super.printClassTree();
+		exclusive(() -> super.printClassTree());
 	}
 
 	@Override
-	public synchronized boolean isChanged(final ChangeType change)
+	public boolean isChanged(final ChangeType change)
 	{
-		return super.isChanged(change);
+		return exclusive(() -> super.isChanged(change));
 	}
 }
@@ -0,0 +1,1097 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import openllet.aterm.AFun;
+import openllet.aterm.ATerm;
+import openllet.aterm.ATermAppl;
+import openllet.aterm.ATermInt;
+import openllet.aterm.ATermList;
+import openllet.aterm.pure.PureFactory;
+import openllet.aterm.pure.binary.BinaryReader;
+import openllet.aterm.pure.binary.BinaryWriter;
+import openllet.core.boxes.abox.ABox;
+import openllet.core.boxes.abox.Edge;
+import openllet.core.boxes.abox.Individual;
+import openllet.core.boxes.abox.Literal;
+import openllet.core.boxes.abox.Node;
+import openllet.core.boxes.abox.NodeMerge;
+import openllet.core.boxes.rbox.RBox;
+import openllet.core.boxes.rbox.Role;
+import openllet.core.boxes.rbox.RoleImpl;
+import openllet.core.boxes.tbox.TBox;
+import openllet.core.boxes.tbox.impl.BinaryTBox;
+import openllet.core.boxes.tbox.impl.PrimitiveTBox;
+import openllet.core.boxes.tbox.impl.TBoxExpImpl;
+import openllet.core.boxes.tbox.impl.TBoxImpl;
+import openllet.core.boxes.tbox.impl.UnaryTBox;
+import openllet.core.boxes.tbox.impl.Unfolding;
+import openllet.core.datatypes.DatatypeReasoner;
+import openllet.core.exceptions.InternalReasonerException;
+import openllet.core.exceptions.UnsupportedFeatureException;
+import openllet.core.taxonomy.Taxonomy;
+import openllet.core.taxonomy.TaxonomyImpl;
+import openllet.core.taxonomy.TaxonomyNode;
+import openllet.core.taxonomy.TaxonomyUtils.TaxonomyKey;
+import openllet.core.utils.ATermUtils;
+import openllet.core.utils.BinarySet;
+import openllet.core.utils.SetUtils;
+import openllet.shared.tools.Log;
+
+/**
+ * Binary snapshot of a knowledge base, to restart a reasoner without preparing, checking, classifying or realizing it again. The axioms told to the KB are
+ * kept apart from the state the reasoner derived from them : the absorbed TBox with its unfoldings, the prepared roles of the RBox, the completion of the ABox
+ * and the taxonomy with the instances of its nodes. On load the told axioms are recorded and the derived state is restored as it was, nothing is absorbed,
+ * prepared nor checked again. It is a single ATerm written with the shared binary encoding of {@link BinaryWriter}, so each distinct term is written once,
+ * and it is read from a memory mapped file.
+ * <p>
+ * The completion of the ABox is saved only when it is deterministic and the incremental options are off, otherwise the consistency is checked again before
+ * the first query. A snapshot whose TBox is not of the kind the loading KB uses is loaded from its told axioms and prepared again. Rules (and keys) are not
+ * supported.
+ *
+ * @since 2.6.6
+ */
+public class KnowledgeBaseSnapshot
+{
+	public static final Logger _logger = Log.getLogger(KnowledgeBaseSnapshot.class);
+
+	/**
+	 * Version of the format, a snapshot of another version is rejected.
+	 */
+	public static final int VERSION = 3;
+
+	private static final int MAGIC = 0x4F4B4253; // "OKBS"
+
+	private static final int HEADER_SIZE = 8;
+
+	private static final int BLOCK_SIZE = 65536;
+
+	private static final long WINDOW_SIZE = 1 << 30;
+
+	private static final PureFactory _factory = (PureFactory) ATermUtils.getFactory();
+
+	/**
+	 * Marks a part of the snapshot that was not saved.
+	 */
+	private static final ATermList NONE = ATermUtils.EMPTY_LIST;
+
+	private static final AFun SNAPSHOT = _factory.makeAFun("snapshot", 10, false);
+	private static final AFun CLASS = _factory.makeAFun("class", 1, false);
+	private static final AFun OBJECT_PROPERTY = _factory.makeAFun("objectProperty", 1, false);
+	private static final AFun DATA_PROPERTY = _factory.makeAFun("dataProperty", 1, false);
+	private static final AFun ANNOTATION_PROPERTY = _factory.makeAFun("annotationProperty", 1, false);
+	private static final AFun INDIVIDUAL = _factory.makeAFun("individual", 1, false);
+	private static final AFun ANNOTATION = _factory.makeAFun("annotation", 3, false);
+	private static final AFun EXPLAINED = _factory.makeAFun("explained", 2, false);
+	private static final AFun EXPLANATIONS = _factory.makeAFun("explanations", 2, false);
+	private static final AFun TBOX = _factory.makeAFun("tbox", 6, false);
+	private static final AFun LEGACY_TBOX = _factory.makeAFun("legacyTBox", 6, false);
+	private static final AFun DEFINITION = _factory.makeAFun("definition", 5, false);
+	private static final AFun UNFOLDINGS = _factory.makeAFun("unfoldings", 2, false);
+	private static final AFun UNFOLDING = _factory.makeAFun("unfolding", 2, false);
+	private static final AFun BINARY = _factory.makeAFun("binary", 4, false);
+	private static final AFun ROLE = _factory.makeAFun("role", 16, false);
+	private static final AFun COMPLETION = _factory.makeAFun("completion", 3, false);
+	private static final AFun INDIVIDUAL_NODE = _factory.makeAFun("individualNode", 6, false);
+	private static final AFun LITERAL_NODE = _factory.makeAFun("literalNode", 4, false);
+	private static final AFun FACT = _factory.makeAFun("fact", 3, false);
+	private static final AFun EDGE = _factory.makeAFun("edge", 4, false);
+	private static final AFun NODE = _factory.makeAFun("node", 4, false);
+
+	/**
+	 * How each kind of told axiom is added to a KB, by the function symbol of the axiom.
+	 */
+	private static final Map<AFun, BiConsumer<KnowledgeBase, ATermAppl>> AXIOMS = new HashMap<>();
+
+	/**
+	 * How each kind of entity is declared to a KB.
+	 */
+	private static final Map<AFun, BiConsumer<KnowledgeBase, ATermAppl>> ENTITIES = new HashMap<>();
+
+	static
+	{
+		ENTITIES.put(CLASS, (kb, name) -> kb.addClass(name));
+		ENTITIES.put(OBJECT_PROPERTY, (kb, name) -> kb.addObjectProperty(name));
+		ENTITIES.put(DATA_PROPERTY, (kb, name) -> kb.addDatatypeProperty(name));
+		ENTITIES.put(ANNOTATION_PROPERTY, (kb, name) -> kb.addAnnotationProperty(name));
+		ENTITIES.put(INDIVIDUAL, (kb, name) -> kb.addIndividual(name));
+
+		AXIOMS.put(ATermUtils.SUBFUN, (kb, axiom) -> kb.addSubClass(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.EQCLASSFUN, (kb, axiom) -> kb.addEquivalentClass(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DISJOINTFUN, (kb, axiom) -> kb.addDisjointClass(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DISJOINTSFUN, (kb, axiom) -> kb.addDisjointClasses((ATermList) axiom.getArgument(0)));
+
+		AXIOMS.put(ATermUtils.SUBPROPFUN, (kb, axiom) -> kb.addSubProperty(axiom.getArgument(0), arg(axiom, 1))); // The sub property may be a chain.
+		AXIOMS.put(ATermUtils.EQPROPFUN, (kb, axiom) -> kb.addEquivalentProperty(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DISJOINTPROPFUN, (kb, axiom) -> kb.addDisjointProperty(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DISJOINTPROPSFUN, (kb, axiom) -> kb.addDisjointProperties((ATermList) axiom.getArgument(0)));
+		AXIOMS.put(ATermUtils.INVPROPFUN, (kb, axiom) -> kb.addInverseProperty(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DOMAINFUN, (kb, axiom) -> kb.addDomain(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.RANGEFUN, (kb, axiom) -> kb.addRange(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.FUNCTIONALFUN, (kb, axiom) -> kb.addFunctionalProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.INVFUNCTIONALFUN, (kb, axiom) -> kb.addInverseFunctionalProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.TRANSITIVEFUN, (kb, axiom) -> kb.addTransitiveProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.SYMMETRICFUN, (kb, axiom) -> kb.addSymmetricProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.ASYMMETRICFUN, (kb, axiom) -> kb.addAsymmetricProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.REFLEXIVEFUN, (kb, axiom) -> kb.addReflexiveProperty(arg(axiom, 0)));
+		AXIOMS.put(ATermUtils.IRREFLEXIVEFUN, (kb, axiom) -> kb.addIrreflexiveProperty(arg(axiom, 0)));
+
+		AXIOMS.put(ATermUtils.TYPEFUN, (kb, axiom) -> kb.addType(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.PROPFUN, (kb, axiom) -> kb.addPropertyValue(arg(axiom, 0), arg(axiom, 1), arg(axiom, 2)));
+		AXIOMS.put(ATermUtils.SAMEASFUN, (kb, axiom) -> kb.addSame(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ATermUtils.DIFFERENTFUN, (kb, axiom) -> kb.addDifferent(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(EXPLAINED, (kb, explained) -> // A type asserted by the absorption of a TBox axiom.
+		{
+			final ATermAppl axiom = arg(explained, 0);
+			kb.addType(arg(axiom, 0), arg(axiom, 1), dependencySet((ATermList) explained.getArgument(1)));
+		});
+
+		AXIOMS.put(ATermUtils.DATATYPEDEFFUN, (kb, axiom) -> kb.addDatatypeDefinition(arg(axiom, 0), arg(axiom, 1)));
+		AXIOMS.put(ANNOTATION, (kb, axiom) -> kb.addAnnotation(arg(axiom, 0), arg(axiom, 1), arg(axiom, 2)));
+	}
+
+	private KnowledgeBaseSnapshot()
+	{
+		// Only static methods
+	}
+
+	/**
+	 * @param kb to save, it is prepared first
+	 * @param file to write
+	 * @throws IOException
+	 * @throws UnsupportedFeatureException if the KB has rules
+	 */
+	public static void save(final KnowledgeBase kb, final File file) throws IOException
+	{
+		if (!kb.getRules().isEmpty())
+			throw new UnsupportedFeatureException("Rules can't be saved in a snapshot");
+
+		kb.prepare();
+
+		final ATermAppl snapshot = _factory.makeAppl(SNAPSHOT, new ATerm[] { //
+				entities(kb), //
+				ATermUtils.makeList(kb.getRBox().getAssertedAxioms()), //
+				ATermUtils.makeList(kb.getTBox().getAssertedAxioms()), //
+				individualAxioms(kb), //
+				otherAxioms(kb), //
+				tbox(kb.getTBox()), //
+				roles(kb.getRBox()), //
+				completion(kb), //
+				taxonomy(kb), //
+				_factory.makeInt(kb.isRealized() ? 1 : 0) });
+
+		final BinaryWriter writer = new BinaryWriter(snapshot);
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(BLOCK_SIZE);
+		final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			header.putInt(MAGIC).putInt(VERSION).flip();
+			channel.write(header);
+
+			final ByteBuffer size = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+			do
+			{
+				buffer.clear();
+				writer.serialize(buffer);
+
+				size.clear();
+				size.putInt(buffer.limit()).flip();
+				channel.write(size);
+				while (buffer.hasRemaining())
+					channel.write(buffer);
+			} while (!writer.isFinished());
+		}
+	}
+
+	/**
+	 * @param file written by {@link #save(KnowledgeBase, File)}
+	 * @return a new KB with the content of the snapshot
+	 * @throws IOException
+	 */
+	public static KnowledgeBaseImpl load(final File file) throws IOException
+	{
+		final KnowledgeBaseImpl kb = new KnowledgeBaseImpl();
+		load(file, kb);
+		return kb;
+	}
+
+	/**
+	 * @param file written by {@link #save(KnowledgeBase, File)}
+	 * @param kb an empty KB that receives the content of the snapshot
+	 * @throws IOException
+	 */
+	public static void load(final File file, final KnowledgeBaseImpl kb) throws IOException
+	{
+		final ATerm term = read(file);
+		if (!(term instanceof ATermAppl) || !((ATermAppl) term).getAFun().equals(SNAPSHOT))
+			throw new IOException("Invalid snapshot content in " + file);
+
+		final ATermAppl snapshot = (ATermAppl) term;
+		for (final ATermAppl entity : terms((ATermList) snapshot.getArgument(0)))
+			dispatch(ENTITIES, kb, entity, (ATermAppl) entity.getArgument(0));
+		addAll(kb, (ATermList) snapshot.getArgument(4));
+
+		final ATermList rboxAxioms = (ATermList) snapshot.getArgument(1);
+		final ATermList tboxAxioms = (ATermList) snapshot.getArgument(2);
+		final ATermList aboxAxioms = (ATermList) snapshot.getArgument(3);
+		final ATermList nodes = (ATermList) snapshot.getArgument(8);
+		final boolean realized = ((ATermInt) snapshot.getArgument(9)).getInt() != 0;
+
+		final boolean consistent;
+		if (restoreTBox(kb.getTBox(), tboxAxioms, snapshot.getArgument(5)))
+		{
+			kb.getRBox().getAssertedAxioms().addAll(terms(rboxAxioms));
+			restoreRoles(kb.getRBox(), (ATermList) snapshot.getArgument(6));
+			addAll(kb, aboxAxioms);
+			consistent = restoreCompletion(kb.getABox(), snapshot.getArgument(7));
+		}
+		else
+		{
+			_logger.fine("The TBox of the snapshot is not of the kind of the KB, it is prepared again from its axioms");
+			addAll(kb, rboxAxioms);
+			addAll(kb, tboxAxioms);
+			addAll(kb, aboxAxioms);
+			kb.prepare();
+			consistent = false;
+		}
+
+		if (!kb.restore(consistent, nodes.isEmpty() ? null : taxonomy(nodes, realized), realized))
+			_logger.warning("The taxonomy of the snapshot is not used by the taxonomy builder, the KB will be classified again");
+	}
+
+	private static ATerm read(final File file) throws IOException
+	{
+		final BinaryReader reader = new BinaryReader(_factory);
+
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ))
+		{
+			final long size = channel.size();
+			if (size < HEADER_SIZE)
+				throw new IOException("Not a snapshot " + file);
+
+			final ByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if (header.getInt() != MAGIC)
+				throw new IOException("Not a snapshot " + file);
+			final int version = header.getInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported snapshot version " + version + " in " + file + ", expected " + VERSION);
+
+			// The blocks are read in windows of the file, a window ends on the last block it fully contains.
+			long position = HEADER_SIZE;
+			while (position < size)
+			{
+				final MappedByteBuffer window = channel.map(MapMode.READ_ONLY, position, Math.min(size - position, WINDOW_SIZE));
+				window.order(ByteOrder.LITTLE_ENDIAN);
+
+				while (window.remaining() >= 4)
+				{
+					final int start = window.position();
+					final int blockSize = window.getInt();
+					if (blockSize < 0 || blockSize > BLOCK_SIZE)
+						throw new IOException("Invalid block size " + blockSize + " in " + file);
+
+					if (window.remaining() < blockSize)
+					{
+						window.position(start);
+						break;
+					}
+
+					reader.deserialize(window.slice(window.position(), blockSize));
+					window.position(window.position() + blockSize);
+				}
+
+				if (window.position() == 0)
+					throw new IOException("Truncated snapshot " + file);
+				position += window.position();
+			}
+		}
+
+		if (!reader.isDone())
+			throw new IOException("Truncated snapshot " + file);
+
+		return reader.getRoot();
+	}
+
+	private static ATermList entities(final KnowledgeBase kb)
+	{
+		final List<ATermAppl> entities = new ArrayList<>();
+
+		for (final ATermAppl c : kb.getClasses())
+			if (!c.equals(ATermUtils.TOP) && !c.equals(ATermUtils.BOTTOM))
+				entities.add(_factory.makeAppl(CLASS, c));
+		for (final ATermAppl p : kb.getObjectProperties())
+			if (!ATermUtils.isBuiltinProperty(p))
+				entities.add(_factory.makeAppl(OBJECT_PROPERTY, p));
+		for (final ATermAppl p : kb.getDataProperties())
+			if (!ATermUtils.isBuiltinProperty(p))
+				entities.add(_factory.makeAppl(DATA_PROPERTY, p));
+		for (final ATermAppl p : kb.getAnnotationProperties())
+			entities.add(_factory.makeAppl(ANNOTATION_PROPERTY, p));
+		for (final ATermAppl i : kb.getIndividuals())
+			entities.add(_factory.makeAppl(INDIVIDUAL, i));
+
+		return list(entities);
+	}
+
+	/**
+	 * The datatype definitions and the annotations, they are not part of the derived state.
+	 */
+	private static ATermList otherAxioms(final KnowledgeBase kb)
+	{
+		final List<ATermAppl> axioms = new ArrayList<>();
+
+		final DatatypeReasoner datatypes = kb.getDatatypeReasoner();
+		for (final ATermAppl name : datatypes.listDataRanges())
+		{
+			final ATermAppl definition = datatypes.getDefinition(name); // null for the builtin datatypes
+			if (definition != null)
+				axioms.add(ATermUtils.makeDatatypeDefinition(name, definition));
+		}
+
+		for (final Map.Entry<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> subject : kb.getAnnotations().entrySet())
+			for (final Map.Entry<ATermAppl, Set<ATermAppl>> property : subject.getValue().entrySet())
+				for (final ATermAppl value : property.getValue())
+					axioms.add(_factory.makeAppl(ANNOTATION, subject.getKey(), property.getKey(), value));
+
+		return list(axioms);
+	}
+
+	/**
+	 * The facts told to the ABox, with the types asserted by the absorption of the TBox. They don't depend on any branch, even once the ABox is complete.
+	 */
+	private static ATermList individualAxioms(final KnowledgeBase kb)
+	{
+		final List<ATermAppl> axioms = new ArrayList<>();
+		final ABox abox = kb.getABox();
+
+		for (final ATermAppl name : kb.getIndividuals())
+		{
+			final Individual ind = abox.getIndividual(name);
+
+			for (final ATermAppl type : ind.getTypes())
+			{
+				final DependencySet ds = ind.getDepends(type);
+				if (!type.equals(ATermUtils.TOP) && isTold(ds))
+					axioms.add(ds.getExplain().isEmpty() ? ATermUtils.makeTypeAtom(name, type) : explained(ATermUtils.makeTypeAtom(name, type), ds));
+			}
+
+			for (final Edge edge : ind.getOutEdges())
+				if (isTold(edge))
+				{
+					final Node to = edge.getTo();
+					axioms.add(ATermUtils.makePropAtom(edge.getRole().getName(), name, to instanceof Literal ? ((Literal) to).getTerm() : to.getName()));
+				}
+
+			for (final Node other : ind.getDifferents())
+				if (isTold(other, ind.getDifferenceDependency(other)))
+					axioms.add(ATermUtils.makeDifferent(name, other.getName()));
+		}
+
+		for (final NodeMerge merge : abox.getToBeMerged())
+			axioms.add(ATermUtils.makeSameAs(merge.getSource(), merge.getTarget()));
+
+		return list(axioms);
+	}
+
+	private static boolean isTold(final DependencySet ds)
+	{
+		return ds.getBranch() == DependencySet.NO_BRANCH;
+	}
+
+	private static boolean isTold(final Edge edge)
+	{
+		final Node to = edge.getTo();
+		return isTold(edge.getDepends()) && !edge.getRole().isAnon() && (to instanceof Literal || to.isNamedIndividual());
+	}
+
+	private static boolean isTold(final Node other, final DependencySet ds)
+	{
+		return isTold(ds) && other.isNamedIndividual();
+	}
+
+	private static ATerm tbox(final TBox tbox)
+	{
+		if (tbox instanceof TBoxImpl)
+			return tbox((TBoxImpl) tbox);
+		if (tbox instanceof TBoxExpImpl)
+			return tbox((TBoxExpImpl) tbox);
+		return NONE;
+	}
+
+	/**
+	 * The axioms of the absorbed TBox with their explanations and the unfoldings they were absorbed into.
+	 */
+	private static ATermAppl tbox(final TBoxImpl tbox)
+	{
+		final List<ATermAppl> definitions = new ArrayList<>();
+		final PrimitiveTBox primitive = tbox.getPrimitiveTBox();
+		for (final ATermAppl c : primitive.getDefinedConcepts())
+		{
+			final Unfolding definition = primitive.getDefinition(c);
+			definitions.add(_factory.makeAppl(DEFINITION, //
+					c, //
+					definition.getResult(), //
+					primitive.getDefinition(ATermUtils.negate(c)).getResult(), //
+					ATermUtils.makeList(definition.getExplanation()), //
+					ATermUtils.makeList(primitive.getDependencies(c))));
+		}
+
+		final List<ATermAppl> binary = new ArrayList<>();
+		for (final Map.Entry<BinarySet<ATermAppl>, Unfolding> entry : tbox.getBinaryTBox().getUnfoldings().entrySet())
+			binary.add(_factory.makeAppl(BINARY, //
+					entry.getKey().first(), //
+					entry.getKey().second(), //
+					entry.getValue().getResult(), //
+					ATermUtils.makeList(entry.getValue().getExplanation())));
+
+		return _factory.makeAppl(TBOX, //
+				axioms(tbox), //
+				ATermUtils.makeList(tbox.getAbsorbedAxioms()), //
+				_factory.makeInt(tbox.getFreshConceptCount()), //
+				list(definitions), //
+				unfoldings(tbox.getUnaryTBox().getUnfoldings()), //
+				list(binary));
+	}
+
+	/**
+	 * The axioms of the legacy TBox with their explanations, the definitions left in its unfoldable and general parts and their normalized unfoldings.
+	 */
+	private static ATerm tbox(final TBoxExpImpl tbox)
+	{
+		if (tbox._Tu.getUnfoldings() == null || tbox._Tg.getUC() == null) // Never prepared
+			return NONE;
+
+		return _factory.makeAppl(LEGACY_TBOX, //
+				axioms(tbox), //
+				ATermUtils.makeList(tbox.getAbsorbedAxioms()), //
+				ATermUtils.makeList(tbox._Tu.getDefs()), //
+				ATermUtils.makeList(tbox._Tg.getDefs()), //
+				unfoldings(tbox._Tu.getUnfoldings()), //
+				unfoldings(tbox._Tg.getUC()));
+	}
+
+	private static ATermList axioms(final TBox tbox)
+	{
+		final List<ATermAppl> axioms = new ArrayList<>();
+		for (final ATermAppl axiom : tbox.getAxioms())
+		{
+			final List<ATermList> explanations = new ArrayList<>();
+			for (final Set<ATermAppl> explanation : tbox.getAxiomExplanations(axiom))
+				explanations.add(ATermUtils.makeList(explanation));
+			axioms.add(_factory.makeAppl(EXPLANATIONS, axiom, list(explanations)));
+		}
+		return list(axioms);
+	}
+
+	private static ATermList unfoldings(final Map<ATermAppl, List<Unfolding>> unfoldings)
+	{
+		final List<ATermAppl> list = new ArrayList<>();
+		for (final Map.Entry<ATermAppl, List<Unfolding>> entry : unfoldings.entrySet())
+			list.add(_factory.makeAppl(UNFOLDINGS, entry.getKey(), unfoldings(entry.getValue())));
+		return list(list);
+	}
+
+	private static ATermList unfoldings(final List<Unfolding> unfoldings)
+	{
+		final List<ATermAppl> list = new ArrayList<>();
+		for (final Unfolding unfolding : unfoldings)
+			list.add(_factory.makeAppl(UNFOLDING, unfolding.getResult(), ATermUtils.makeList(unfolding.getExplanation())));
+		return list(list);
+	}
+
+	/**
+	 * The roles as {@link RBox#prepare()} and {@link RBox#propagateDomainRange()} left them.
+	 */
+	private static ATermList roles(final RBox rbox)
+	{
+		final List<ATermAppl> roles = new ArrayList<>();
+		for (final Role role : rbox.getRoles().values())
+		{
+			final List<ATermAppl> subRoles = new ArrayList<>();
+			for (final Role sub : role.getSubRoles())
+				subRoles.add(explained(sub.getName(), role.getExplainSub(sub.getName())));
+			final List<ATermAppl> subRoleChains = new ArrayList<>();
+			for (final ATermList chain : role.getSubRoleChains())
+				subRoleChains.add(explained(chain, role.getExplainSub(chain)));
+			final List<ATermAppl> superRoles = new ArrayList<>();
+			for (final Role sup : role.getSuperRoles())
+				superRoles.add(explained(sup.getName(), role.getExplainSuper(sup.getName())));
+			final List<ATermAppl> disjointRoles = new ArrayList<>();
+			for (final Role disjoint : role.getDisjointRoles())
+				disjointRoles.add(explained(disjoint.getName(), role.getExplainDisjointRole(disjoint)));
+			final List<ATermAppl> domains = new ArrayList<>();
+			for (final ATermAppl domain : role.getDomains())
+				domains.add(explained(domain, role.getExplainDomain(domain)));
+			final List<ATermAppl> ranges = new ArrayList<>();
+			for (final ATermAppl range : role.getRanges())
+				ranges.add(explained(range, role.getExplainRange(range)));
+
+			roles.add(_factory.makeAppl(ROLE, new ATerm[] { //
+					role.getName(), //
+					_factory.makeInt(role.getType().ordinal()), //
+					_factory.makeInt(flags(role)), //
+					role.getInverse() == null ? NONE : role.getInverse().getName(), //
+					list(subRoles), //
+					list(subRoleChains), //
+					list(superRoles), //
+					list(disjointRoles), //
+					names(role.getFunctionalSupers()), //
+					names(role.getTransitiveSubRoles()), //
+					list(explanations(role)), //
+					list(domains), //
+					list(ranges), //
+					assertions(rbox.getDomainAssertions().get(role)), //
+					assertions(rbox.getRangeAssertions().get(role)), //
+					_factory.makeInt(rbox.getReflexiveRoles().contains(role) ? 1 : 0) }));
+		}
+		return list(roles);
+	}
+
+	private static int flags(final Role role)
+	{
+		int flags = 0;
+		if (role.isTransitive())
+			flags |= RoleImpl.TRANSITIVE;
+		if (role.isFunctional())
+			flags |= RoleImpl.FUNCTIONAL;
+		if (role.isInverseFunctional())
+			flags |= RoleImpl.INV_FUNCTIONAL;
+		if (role.isReflexive())
+			flags |= RoleImpl.REFLEXIVE;
+		if (role.isIrreflexive())
+			flags |= RoleImpl.IRREFLEXIVE;
+		if (role.isAsymmetric())
+			flags |= RoleImpl.ASYM;
+		if (role.isSimple())
+			flags |= RoleImpl.SIMPLE;
+		if (role.hasComplexSubRole())
+			flags |= RoleImpl.COMPLEX_SUB;
+		if (role.isForceSimple())
+			flags |= RoleImpl.FORCE_SIMPLE;
+		return flags;
+	}
+
+	/**
+	 * The explanations of the characteristics of a role, in the order {@link #restoreRole(RBox, ATermAppl)} reads them.
+	 */
+	private static List<ATermList> explanations(final Role role)
+	{
+		final List<ATermList> explanations = new ArrayList<>();
+		explanations.add(ATermUtils.makeList(role.getExplainTransitive().getExplain()));
+		explanations.add(ATermUtils.makeList(role.getExplainFunctional().getExplain()));
+		explanations.add(ATermUtils.makeList(role.getExplainInverseFunctional().getExplain()));
+		explanations.add(ATermUtils.makeList(role.getExplainReflexive().getExplain()));
+		explanations.add(ATermUtils.makeList(role.getExplainIrreflexive().getExplain()));
+		explanations.add(ATermUtils.makeList(role.getExplainAsymmetric().getExplain()));
+		return explanations;
+	}
+
+	private static ATermList assertions(final Map<ATermAppl, Set<Set<ATermAppl>>> assertions)
+	{
+		if (assertions == null)
+			return NONE;
+
+		final List<ATermAppl> list = new ArrayList<>();
+		for (final Map.Entry<ATermAppl, Set<Set<ATermAppl>>> entry : assertions.entrySet())
+		{
+			final List<ATermList> explanations = new ArrayList<>();
+			for (final Set<ATermAppl> explanation : entry.getValue())
+				explanations.add(ATermUtils.makeList(explanation));
+			list.add(_factory.makeAppl(EXPLANATIONS, entry.getKey(), list(explanations)));
+		}
+		return list(list);
+	}
+
+	/**
+	 * The nodes of a complete ABox that has no branch left, in the order they were created. Each fact keeps the branch it was added on and its explanation,
+	 * the told facts are left to {@link #individualAxioms(KnowledgeBase)}.
+	 */
+	private static ATerm completion(final KnowledgeBase kb)
+	{
+		final ABox abox = kb.getABox();
+		if (!kb.isConsistencyDone() || !kb.isConsistent() || !abox.isComplete() || !abox.getBranches().isEmpty() //
+				|| OpenlletOptions.USE_COMPLETION_QUEUE || OpenlletOptions.USE_INCREMENTAL_CONSISTENCY || OpenlletOptions.USE_INCREMENTAL_DELETION)
+			return NONE;
+
+		final List<ATermAppl> nodes = new ArrayList<>();
+		for (final ATermAppl name : abox.getNodeNames())
+		{
+			final Node node = abox.getNode(name);
+			if (node.isPruned() || node.isMerged())
+				return NONE;
+
+			final boolean named = node.isNamedIndividual();
+
+			final List<ATermAppl> types = new ArrayList<>();
+			for (final ATermAppl type : node.getTypes())
+			{
+				final DependencySet ds = node.getDepends(type);
+				if (!named || !isTold(ds))
+					types.add(fact(type, ds));
+			}
+
+			final List<ATermAppl> differents = new ArrayList<>();
+			for (final Node other : node.getDifferents())
+			{
+				final DependencySet ds = node.getDifferenceDependency(other);
+				if (!named || !isTold(other, ds))
+					differents.add(fact(other.getName(), ds));
+			}
+
+			if (node instanceof Literal)
+			{
+				nodes.add(_factory.makeAppl(LITERAL_NODE, name, ((Literal) node).getTerm(), list(types), list(differents)));
+				continue;
+			}
+
+			final Individual ind = (Individual) node;
+			final List<ATermAppl> edges = new ArrayList<>();
+			for (final Edge edge : ind.getOutEdges())
+				if (!named || !isTold(edge))
+				{
+					final DependencySet ds = edge.getDepends();
+					edges.add(_factory.makeAppl(EDGE, //
+							edge.getRole().getName(), //
+							edge.getTo().getName(), //
+							_factory.makeInt(ds.getBranch()), //
+							ATermUtils.makeList(ds.getExplain())));
+				}
+
+			nodes.add(_factory.makeAppl(INDIVIDUAL_NODE, //
+					name, //
+					ind.getParent() == null ? NONE : ind.getParent().getName(), //
+					_factory.makeInt(ind.getNominalLevel()), //
+					list(types), //
+					list(edges), //
+					list(differents)));
+		}
+
+		return _factory.makeAppl(COMPLETION, _factory.makeInt(abox.getBranchIndex()), _factory.makeInt(abox.getAnonCount()), list(nodes));
+	}
+
+	private static ATermAppl fact(final ATermAppl term, final DependencySet ds)
+	{
+		return _factory.makeAppl(FACT, term, _factory.makeInt(ds.getBranch()), ATermUtils.makeList(ds.getExplain()));
+	}
+
+	private static ATermAppl explained(final ATerm term, final DependencySet ds)
+	{
+		return _factory.makeAppl(EXPLAINED, term, ATermUtils.makeList(ds.getExplain()));
+	}
+
+	private static ATermList names(final Collection<Role> roles)
+	{
+		final List<ATermAppl> names = new ArrayList<>();
+		for (final Role role : roles)
+			names.add(role.getName());
+		return list(names);
+	}
+
+	private static ATermList taxonomy(final KnowledgeBase kb)
+	{
+		if (!kb.isClassified())
+			return ATermUtils.EMPTY_LIST;
+
+		final Taxonomy<ATermAppl> taxonomy = kb.getTaxonomy();
+		final List<ATermAppl> nodes = new ArrayList<>();
+		for (final TaxonomyNode<ATermAppl> node : new HashSet<>(taxonomy.getNodes().values()))
+		{
+			final List<ATermAppl> supers = new ArrayList<>();
+			for (final TaxonomyNode<ATermAppl> sup : node.getSupers())
+				supers.add(sup.getName());
+
+			@SuppressWarnings("unchecked")
+			final Collection<ATermAppl> instances = (Collection<ATermAppl>) node.getDatum(TaxonomyKey.INSTANCES_KEY);
+
+			nodes.add(_factory.makeAppl(NODE, //
+					ATermUtils.makeList(node.getEquivalents()), //
+					ATermUtils.makeList(supers), //
+					instances == null ? ATermUtils.EMPTY_LIST : ATermUtils.makeList(instances), //
+					_factory.makeInt(node.isHidden() ? 1 : 0)));
+		}
+
+		return ATermUtils.makeList(nodes);
+	}
+
+	private static Taxonomy<ATermAppl> taxonomy(final ATermList nodes, final boolean realized)
+	{
+		final Taxonomy<ATermAppl> taxonomy = new TaxonomyImpl<>(null, ATermUtils.TOP, ATermUtils.BOTTOM);
+
+		// The nodes first, then their supers.
+		for (ATermList list = nodes; !list.isEmpty(); list = list.getNext())
+		{
+			final ATermAppl node = (ATermAppl) list.getFirst();
+			final List<ATermAppl> equivalents = terms((ATermList) node.getArgument(0));
+			final boolean hidden = ((ATermInt) node.getArgument(3)).getInt() != 0;
+
+			final ATermAppl name;
+			if (equivalents.remove(ATermUtils.TOP))
+				name = ATermUtils.TOP;
+			else
+				if (equivalents.remove(ATermUtils.BOTTOM))
+					name = ATermUtils.BOTTOM;
+				else
+				{
+					name = equivalents.remove(0);
+					taxonomy.addNode(name, hidden);
+				}
+			taxonomy.addEquivalents(name, equivalents);
+		}
+
+		for (ATermList list = nodes; !list.isEmpty(); list = list.getNext())
+		{
+			final ATermAppl node = (ATermAppl) list.getFirst();
+			final ATermAppl name = (ATermAppl) ((ATermList) node.getArgument(0)).getFirst();
+			final TaxonomyNode<ATermAppl> taxonomyNode = taxonomy.getNode(name);
+
+			if (!taxonomyNode.isTop() && !taxonomyNode.isBottom())
+				taxonomy.addSupers(name, terms((ATermList) node.getArgument(1)));
+
+			final ATermList instances = (ATermList) node.getArgument(2);
+			if (realized && !instances.isEmpty())
+				taxonomyNode.putDatum(TaxonomyKey.INSTANCES_KEY, new HashSet<>(terms(instances)));
+		}
+
+		final TaxonomyNode<ATermAppl> bottom = taxonomy.getBottomNode();
+		if (bottom.getSupers().size() > 1)
+			taxonomy.getTopNode().removeSub(bottom);
+
+		return taxonomy;
+	}
+
+	/**
+	 * @return false if the saved TBox is not of the kind of the given one, nothing is restored then
+	 */
+	private static boolean restoreTBox(final TBox tbox, final ATermList told, final ATerm saved)
+	{
+		if (!(saved instanceof ATermAppl))
+			return false;
+
+		final ATermAppl state = (ATermAppl) saved;
+		if (state.getAFun().equals(TBOX) && tbox instanceof TBoxImpl)
+		{
+			final TBoxImpl impl = (TBoxImpl) tbox;
+			impl.restore(terms(told), explanations((ATermList) state.getArgument(0)), terms((ATermList) state.getArgument(1)), integer(state, 2));
+
+			final PrimitiveTBox primitive = impl.getPrimitiveTBox();
+			for (final ATermAppl definition : terms((ATermList) state.getArgument(3)))
+			{
+				final Set<ATermAppl> explanation = set((ATermList) definition.getArgument(3));
+				primitive.restore(arg(definition, 0), //
+						Unfolding.create(arg(definition, 1), explanation), //
+						Unfolding.create(arg(definition, 2), explanation), //
+						set((ATermList) definition.getArgument(4)));
+			}
+
+			final UnaryTBox unary = impl.getUnaryTBox();
+			for (final Map.Entry<ATermAppl, List<Unfolding>> entry : unfoldings((ATermList) state.getArgument(4)).entrySet())
+				unary.restore(entry.getKey(), entry.getValue());
+
+			final BinaryTBox binary = impl.getBinaryTBox();
+			for (final ATermAppl unfolding : terms((ATermList) state.getArgument(5)))
+				binary.restore(BinarySet.create(arg(unfolding, 0), arg(unfolding, 1)), Unfolding.create(arg(unfolding, 2), set((ATermList) unfolding.getArgument(3))));
+
+			return true;
+		}
+
+		if (state.getAFun().equals(LEGACY_TBOX) && tbox instanceof TBoxExpImpl)
+		{
+			final TBoxExpImpl impl = (TBoxExpImpl) tbox;
+			impl.restore(terms(told), explanations((ATermList) state.getArgument(0)), terms((ATermList) state.getArgument(1)));
+			impl._Tu.restore(terms((ATermList) state.getArgument(2)), unfoldings((ATermList) state.getArgument(4)));
+			impl._Tg.restore(terms((ATermList) state.getArgument(3)), unfoldingList((ATermList) state.getArgument(5)));
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static Map<ATermAppl, Set<Set<ATermAppl>>> explanations(final ATermList axioms)
+	{
+		final Map<ATermAppl, Set<Set<ATermAppl>>> explanations = new HashMap<>();
+		for (final ATermAppl axiom : terms(axioms))
+			explanations.put(arg(axiom, 0), sets((ATermList) axiom.getArgument(1)));
+		return explanations;
+	}
+
+	private static Map<ATermAppl, List<Unfolding>> unfoldings(final ATermList list)
+	{
+		final Map<ATermAppl, List<Unfolding>> unfoldings = new HashMap<>();
+		for (final ATermAppl entry : terms(list))
+			unfoldings.put(arg(entry, 0), unfoldingList((ATermList) entry.getArgument(1)));
+		return unfoldings;
+	}
+
+	private static List<Unfolding> unfoldingList(final ATermList list)
+	{
+		final List<Unfolding> unfoldings = new ArrayList<>();
+		for (final ATermAppl unfolding : terms(list))
+			unfoldings.add(Unfolding.create(arg(unfolding, 0), set((ATermList) unfolding.getArgument(1))));
+		return unfoldings;
+	}
+
+	/**
+	 * The roles are all declared before any of them is restored since they refer to each other. The automata of the complex roles are built again from their
+	 * restored sub role chains, they are not saved.
+	 */
+	private static void restoreRoles(final RBox rbox, final ATermList roles)
+	{
+		for (final ATermAppl role : terms(roles))
+			rbox.addRole(arg(role, 0)).setType(PropertyType.values()[integer(role, 1)]);
+
+		for (final ATermAppl role : terms(roles))
+			restoreRole(rbox, role);
+
+		for (final Role role : rbox.getRoles().values())
+			if (role.hasComplexSubRole())
+				rbox.getFsmBuilder().build(role);
+
+		rbox.setObjectTaxonomy(null);
+		rbox.setDataTaxonomy(null);
+		rbox.setAnnotationTaxonomy(null);
+	}
+
+	private static void restoreRole(final RBox rbox, final ATermAppl state)
+	{
+		final Role role = rbox.getRole(state.getArgument(0));
+		final int flags = integer(state, 2);
+		final List<ATermList> explanations = new ArrayList<>();
+		for (ATermList list = (ATermList) state.getArgument(10); !list.isEmpty(); list = list.getNext())
+			explanations.add((ATermList) list.getFirst());
+
+		if (state.getArgument(3) instanceof ATermAppl)
+			role.setInverse(rbox.getRole(state.getArgument(3)));
+
+		// Setting the transitivity adds a sub role chain, so the characteristics are restored before the sub roles.
+		role.setTransitive((flags & RoleImpl.TRANSITIVE) != 0, dependencySet(explanations.get(0)));
+		role.setFunctional((flags & RoleImpl.FUNCTIONAL) != 0, dependencySet(explanations.get(1)));
+		role.setInverseFunctional((flags & RoleImpl.INV_FUNCTIONAL) != 0, dependencySet(explanations.get(2)));
+		role.setReflexive((flags & RoleImpl.REFLEXIVE) != 0, dependencySet(explanations.get(3)));
+		role.setIrreflexive((flags & RoleImpl.IRREFLEXIVE) != 0, dependencySet(explanations.get(4)));
+		role.setAsymmetric((flags & RoleImpl.ASYM) != 0, dependencySet(explanations.get(5)));
+
+		final Set<Role> subRoles = SetUtils.create();
+		final Set<ATermList> subRoleChains = SetUtils.create();
+		final Map<ATerm, DependencySet> explainSub = new ConcurrentHashMap<>();
+		for (final ATermAppl sub : terms((ATermList) state.getArgument(4)))
+		{
+			subRoles.add(rbox.getRole(sub.getArgument(0)));
+			explainSub.put(sub.getArgument(0), dependencySet(sub));
+		}
+		for (final ATermAppl chain : terms((ATermList) state.getArgument(5)))
+		{
+			subRoleChains.add((ATermList) chain.getArgument(0));
+			explainSub.put(chain.getArgument(0), dependencySet(chain));
+		}
+		role.setSubRolesAndChains(subRoles, subRoleChains, explainSub);
+
+		for (final ATermAppl sup : terms((ATermList) state.getArgument(6)))
+			role.addSuperRole(rbox.getRole(sup.getArgument(0)), dependencySet(sup));
+		for (final ATermAppl disjoint : terms((ATermList) state.getArgument(7)))
+			role.addDisjointRole(rbox.getRole(disjoint.getArgument(0)), dependencySet(disjoint));
+		for (final ATermAppl sup : terms((ATermList) state.getArgument(8)))
+			role.addFunctionalSuper(rbox.getRole(sup));
+		for (final ATermAppl sub : terms((ATermList) state.getArgument(9)))
+			role.addTransitiveSubRole(rbox.getRole(sub));
+
+		for (final ATermAppl domain : terms((ATermList) state.getArgument(11)))
+			role.addDomain(arg(domain, 0), dependencySet(domain));
+		for (final ATermAppl range : terms((ATermList) state.getArgument(12)))
+			role.addRange(arg(range, 0), dependencySet(range));
+		for (final ATermAppl domain : terms((ATermList) state.getArgument(13)))
+			for (final Set<ATermAppl> explanation : sets((ATermList) domain.getArgument(1)))
+				rbox.addDomain(role.getName(), arg(domain, 0), explanation);
+		for (final ATermAppl range : terms((ATermList) state.getArgument(14)))
+			for (final Set<ATermAppl> explanation : sets((ATermList) range.getArgument(1)))
+				rbox.addRange(role.getName(), arg(range, 0), explanation);
+
+		// The flags that follow the sub roles are restored last, over the ones the sub roles changed.
+		role.setHasComplexSubRole((flags & RoleImpl.COMPLEX_SUB) != 0);
+		role.setForceSimple((flags & RoleImpl.FORCE_SIMPLE) != 0);
+		role.setSimple((flags & RoleImpl.SIMPLE) != 0);
+
+		if (integer(state, 15) != 0)
+			rbox.getReflexiveRoles().add(role);
+	}
+
+	/**
+	 * Restores the nodes first, with their types, then the edges and the differences between them. Each fact is added on the branch it was saved with.
+	 *
+	 * @return false if there is no completion to restore
+	 */
+	private static boolean restoreCompletion(final ABox abox, final ATerm saved)
+	{
+		if (!(saved instanceof ATermAppl))
+			return false;
+
+		final ATermAppl completion = (ATermAppl) saved;
+		final List<ATermAppl> nodes = terms((ATermList) completion.getArgument(2));
+		final int branchIndex = integer(completion, 0);
+
+		for (final ATermAppl state : nodes)
+		{
+			abox.setBranchIndex(branchIndex);
+
+			final ATermAppl name = arg(state, 0);
+			Node node = abox.getNode(name);
+			if (node == null)
+				if (state.getAFun().equals(LITERAL_NODE))
+					node = abox.addLiteral(arg(state, 1), DependencySet.INDEPENDENT);
+				else
+				{
+					final ATerm parent = state.getArgument(1);
+					node = abox.restoreIndividual(name, parent instanceof ATermAppl ? abox.getIndividual(parent) : null, integer(state, 2), DependencySet.INDEPENDENT);
+				}
+
+			// The conjunctions add their conjuncts, so these are restored first to keep their own dependencies.
+			final List<ATermAppl> types = terms((ATermList) state.getArgument(state.getAFun().equals(LITERAL_NODE) ? 2 : 3));
+			for (final ATermAppl type : types)
+				if (!ATermUtils.isAnd(arg(type, 0)))
+					restoreType(abox, node, type);
+			for (final ATermAppl type : types)
+				if (ATermUtils.isAnd(arg(type, 0)))
+					restoreType(abox, node, type);
+		}
+
+		for (final ATermAppl state : nodes)
+		{
+			final Node node = abox.getNode(arg(state, 0));
+
+			if (node instanceof Individual)
+				for (final ATermAppl edge : terms((ATermList) state.getArgument(4)))
+				{
+					abox.setBranchIndex(integer(edge, 2));
+					((Individual) node).addEdge(abox.getRole(edge.getArgument(0)), abox.getNode(edge.getArgument(1)), dependencySet((ATermList) edge.getArgument(3)));
+				}
+
+			for (final ATermAppl different : terms((ATermList) state.getArgument(state.getAFun().equals(LITERAL_NODE) ? 3 : 5)))
+			{
+				abox.setBranchIndex(integer(different, 1));
+				node.setDifferent(abox.getNode(different.getArgument(0)), dependencySet((ATermList) different.getArgument(2)));
+			}
+		}
+
+		// Every rule was applied on the restored types.
+		for (final ATermAppl state : nodes)
+		{
+			final Node node = abox.getNode(arg(state, 0));
+			if (node instanceof Individual)
+			{
+				final Individual ind = (Individual) node;
+				for (int i = 0; i < Node.TYPES; i++)
+					ind._applyNext[i] = ind.getTypes(i).size();
+			}
+		}
+
+		abox.setAnonCount(integer(completion, 1));
+		abox.setBranchIndex(branchIndex);
+		abox.setInitialized(true);
+		abox.setComplete(true);
+		abox.setChanged(false);
+
+		return true;
+	}
+
+	private static void restoreType(final ABox abox, final Node node, final ATermAppl type)
+	{
+		abox.setBranchIndex(integer(type, 1));
+		node.addType(arg(type, 0), dependencySet((ATermList) type.getArgument(2)));
+	}
+
+	private static void addAll(final KnowledgeBase kb, final ATermList axioms)
+	{
+		for (final ATermAppl axiom : terms(axioms))
+			dispatch(AXIOMS, kb, axiom, axiom);
+	}
+
+	private static void dispatch(final Map<AFun, BiConsumer<KnowledgeBase, ATermAppl>> functions, final KnowledgeBase kb, final ATermAppl term, final ATermAppl argument)
+	{
+		final BiConsumer<KnowledgeBase, ATermAppl> function = functions.get(term.getAFun());
+		if (function == null)
+			throw new InternalReasonerException("Unknown term in snapshot " + term);
+		function.accept(kb, argument);
+	}
+
+	/**
+	 * @return the dependency set of a term saved with {@link #explained(ATerm, DependencySet)}
+	 */
+	private static DependencySet dependencySet(final ATermAppl explained)
+	{
+		return dependencySet((ATermList) explained.getArgument(1));
+	}
+
+	private static DependencySet dependencySet(final ATermList explanation)
+	{
+		return explanation.isEmpty() ? DependencySet.INDEPENDENT : new DependencySet(set(explanation));
+	}
+
+	private static ATermAppl arg(final ATermAppl term, final int index)
+	{
+		return (ATermAppl) term.getArgument(index);
+	}
+
+	private static int integer(final ATermAppl term, final int index)
+	{
+		return ((ATermInt) term.getArgument(index)).getInt();
+	}
+
+	/**
+	 * @return a list of the terms in the same order, {@link ATermUtils#makeList(Collection)} reverses it
+	 */
+	private static ATermList list(final List<? extends ATerm> terms)
+	{
+		ATermList list = ATermUtils.EMPTY_LIST;
+		for (int i = terms.size() - 1; i >= 0; i--)
+			list = list.insert(terms.get(i));
+		return list;
+	}
+
+	private static List<ATermAppl> terms(final ATermList list)
+	{
+		final List<ATermAppl> terms = new ArrayList<>(list.getLength());
+		for (ATermList l = list; !l.isEmpty(); l = l.getNext())
+			terms.add((ATermAppl) l.getFirst());
+		return terms;
+	}
+
+	private static Set<ATermAppl> set(final ATermList list)
+	{
+		final Set<ATermAppl> set = SetUtils.create();
+		for (ATermList l = list; !l.isEmpty(); l = l.getNext())
+			set.add((ATermAppl) l.getFirst());
+		return set;
+	}
+
+	private static Set<Set<ATermAppl>> sets(final ATermList lists)
+	{
+		final Set<Set<ATermAppl>> sets = new HashSet<>();
+		for (ATermList l = lists; !l.isEmpty(); l = l.getNext())
+			sets.add(set((ATermList) l.getFirst()));
+		return sets;
+	}
+}
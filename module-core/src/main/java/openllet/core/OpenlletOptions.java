@@ -77,7 +77,8 @@ public class OpenlletOptions
 
 	/**
 	 * Track the association betweens _nodes changed and _branch. Reduces the work done during restoration (and during some incremental reasoning changes), at
-	 * the cost of memory overhead necessary for tracking.
+	 * the cost of memory overhead necessary for tracking. The changes are kept in an undo trail, so a backtrack only visits the _nodes changed or created since
+	 * the _branch instead of the whole ABox. Off by default, as the restore benchmark shows no consistent gain over visiting the whole ABox.
 	 */
 	public static boolean TRACK_BRANCH_EFFECTS = false;
 
@@ -138,11 +139,22 @@ public class OpenlletOptions
 	 */
 	public static boolean USE_FULL_DATATYPE_REASONING = true;
 
+	/**
+	 * The maximum number of entries in each cache of the datatype reasoner : the data ranges parsed from their terms, the intersections of the conjunctions of
+	 * data ranges and the satisfiability of the conjunctions. A value of 0 disables the caches.
+	 */
+	public static int DATATYPE_CACHE_SIZE = 4096;
+
 	/**
 	 * Cache the pseudo models for named classes and individuals.
 	 */
 	public static boolean USE_CACHING = true;
 
+	/**
+	 * Record the results of the normalization, negation normal form and simplification of the complex terms, see {@link openllet.core.utils.ATermMemo}.
+	 */
+	public static boolean USE_TERM_MEMO = true;
+
 	/**
 	 * Cache the pseudo models for anonymous classes. Used inside EmptySHNStrategy to prevent the expansion of completion graph _nodes whose satisfiability
 	 * status is already cached.
@@ -160,7 +172,8 @@ public class OpenlletOptions
 	 * The maximum number of cached pseudo models for anonymous classes. The named concepts (and their negations) are always cached regardless of this limit.
 	 * This setting is mostly relevant for SHN ontologies as {@link #USE_ADVANCED_CACHING} option. If the _cache reaches the maximum number of entries for
 	 * anonymous classes the subsequent additions will be handled specially (default behavior is to remove the Least Recently Used (LRU) element from _cache).
-	 * Setting this value too high will increase the memory requirements and setting it too low will slow down the reasoning process.
+	 * Setting this value too high will increase the memory requirements and setting it too low will slow down the reasoning process. A new value applies to
+	 * a KB at its next query.
 	 */
 	public static int MAX_ANONYMOUS_CACHE = 20000;
 
@@ -208,6 +221,13 @@ public class OpenlletOptions
 	 */
 	public static boolean COPY_ON_WRITE = true;
 
+	/**
+	 * When checking the type of an _individual (or when a copy on write is done), copy the _nodes of the complete ABox only when the check reaches them. A
+	 * _node is copied with all the _nodes connected to it, so a check costs the size of the components it touches instead of the size of the ABox. Not used
+	 * with rules or with the completion queue, and requires {@link #TRACK_BRANCH_EFFECTS}.
+	 */
+	public static boolean LAZY_ABOX_COPY = false;
+
 	/**
 	 * Control the behavior if a function such as kb.getInstances(), kb.getTypes(), kb.getPropertyValues() is called with a parameter that is an undefined
 	 * class, property or _individual. If this option is set to false then an exception is thrown each time this occurs, if true set the corresponding function
@@ -223,6 +243,13 @@ public class OpenlletOptions
 	 */
 	public static boolean REALIZE_INDIVIDUAL_AT_A_TIME = false;
 
+	/**
+	 * Number of worker threads used to realize the KB. When greater than one, the individuals are partitioned by connected component of the ABox and the
+	 * partitions are realized concurrently, one _individual at a time whatever the value of {@link #REALIZE_INDIVIDUAL_AT_A_TIME}, each worker using its own
+	 * copy of the ABox.
+	 */
+	public static int REALIZATION_THREADS = 1;
+
 	/**
 	 * When this options is set, all the individuals in the KB are realized automatically when the types for one _individual is retrieved. This might be quite
 	 * costly when there are a large number of individuals and might be wasted computation if the KB is changed frequently.
@@ -248,8 +275,24 @@ public class OpenlletOptions
 
 	public static boolean SEARCH_TYPE = DEPTH_FIRST;
 
+	/**
+	 * How the candidate instances of a class or the candidate subjects of a property value are checked. {@link InstanceRetrievalMethod#BATCHED} covers many
+	 * candidates with a single consistency check and bisects only the batches that contain an instance.
+	 */
 	public static InstanceRetrievalMethod INSTANCE_RETRIEVAL = InstanceRetrievalMethod.BINARY;
 
+	/**
+	 * Number of candidates covered by a single consistency check in the {@link InstanceRetrievalMethod#BATCHED} instance retrieval. Only the batches that
+	 * contain an instance are bisected.
+	 */
+	public static int INSTANCE_RETRIEVAL_BATCH_SIZE = 64;
+
+	/**
+	 * Number of worker threads used by the {@link InstanceRetrievalMethod#BATCHED} instance retrieval. When greater than one, the batches are checked
+	 * concurrently, each worker using its own copy of the ABox.
+	 */
+	public static int INSTANCE_RETRIEVAL_THREADS = 1;
+
 	/**
 	 * If <code>true</code> invalid literals cause inconsistencies. If <code>false</code> they cause exceptions to be generated.
 	 */
@@ -269,6 +312,19 @@ public class OpenlletOptions
 	 */
 	public static boolean SIMPLIFY_QUERY = true;
 
+	/**
+	 * When this option is set the SPARQL-DL query execution returns its bindings as they are found instead of computing all of them first. The query engine runs
+	 * only when the consumer asks for more bindings, so the first row is returned as soon as it is found and a consumer that stops reading (e.g. because of a
+	 * <code>LIMIT</code>) stops the search. The knowledge base should not be modified while such a result is being read.
+	 */
+	public static boolean STREAM_QUERY_RESULTS = false;
+
+	/**
+	 * The maximum number of bindings a streamed query result computes ahead of the consumer. The first request computes a single binding and each following one
+	 * doubles the number until this limit.
+	 */
+	public static int STREAM_QUERY_CHUNK_SIZE = 1024;
+
 	/**
 	 * The ratio of individuals that will be inspected while generating the size estimate. The query reordering optimization uses size estimates for classes and
 	 * properties to estimate the cost of a certain query ordering. The size estimates are computed by random sampling. Increasing the sampling ratio yields
@@ -281,6 +337,20 @@ public class OpenlletOptions
 	 */
 	public static int STATIC_REORDERING_LIMIT = 8;
 
+	/**
+	 * The maximum number of query shapes whose split components and atom ordering are kept by the query engine. Two queries have the same shape when they only
+	 * differ by their individuals and literals, e.g. the executions of a parameterized query. The cache of a knowledge base is discarded when it changes or
+	 * when its size estimates are recomputed. A value of 0 disables the cache.
+	 */
+	public static int QUERY_PLAN_CACHE_SIZE = 1024;
+
+	/**
+	 * Number of threads running the independent components of a query at the same time, the components being joined as their results are read. The
+	 * components only run concurrently on a {@link KnowledgeBaseImplFullSync}, with {@link #USE_THREADED_KERNEL} for their checks to run concurrently too.
+	 * Can be set for a single query with <code>QueryParameters.setParallelism</code>.
+	 */
+	public static int QUERY_COMPONENT_THREADS = 1;
+
 	/**
 	 * This option controls if the size estimates for all the classes and properties in a KB will be computed fully when the PelletQueryExecution object is
 	 * created.
@@ -291,6 +361,12 @@ public class OpenlletOptions
 
 	public static boolean USE_TRACING = false;
 
+	/**
+	 * Number of worker threads used to compute all the explanations of an entailment with the hitting set tree. When greater than one, the branches of the
+	 * tree are expanded concurrently, each worker explaining on its own copy of the ontology.
+	 */
+	public static int EXPLANATION_THREADS = 1;
+
 	public static String DEFAULT_CONFIGURATION_FILE = "openllet.properties";
 
 	/**
@@ -298,6 +374,18 @@ public class OpenlletOptions
 	 */
 	public static boolean FREEZE_BUILTIN_NAMESPACES = true;
 
+	/**
+	 * Number of threads translating the assertions about named individuals when an RDF graph or an OWLAPI ontology is loaded into a KB. The assertions are
+	 * translated concurrently, an RDF graph being partitioned by subject, and are added to the KB in batches. The class and property axioms are still loaded
+	 * in order by a single thread.
+	 */
+	public static int LOADER_THREADS = 1;
+
+	/**
+	 * Number of triples, or OWLAPI axioms, translated at once when {@link #LOADER_THREADS} is greater than 1.
+	 */
+	public static int LOADER_BATCH_SIZE = 10000;
+
 	/**
 	 * This option causes all classes and properties defined as deprecated (using <code>owl:DeprecetedClass</code> or <code>owl:DeprecetedProperty</code>) to be
 	 * ignored. If turned off, these will be treated as ordinary classes and properties. Note that, even if this option is turned on deprecated entities used in
@@ -384,6 +472,13 @@ public class OpenlletOptions
 	 */
 	public static boolean USE_CD_CLASSIFICATION = true;
 
+	/**
+	 * Number of worker threads used by the classifier. When greater than one, the subsumption tests needed to insert a window of concepts (taken in definition
+	 * _order) are computed concurrently, each worker using its own copy of the ABox, then the concepts are inserted one by one in the taxonomy. The resulting
+	 * taxonomy is the same as the one built by the sequential classifier.
+	 */
+	public static int CLASSIFICATION_THREADS = 1;
+
 	@Deprecated
 	public static boolean USE_NAIVE_QUERY_ENGINE = false;
 
@@ -426,6 +521,10 @@ public class OpenlletOptions
 	 */
 	public static boolean IGNORE_ANNOTATION_CLASSES = true;
 
+	/**
+	 * When true, the satisfiability, subsumption and instance checks asked to a {@link KnowledgeBaseImplFullSync} run concurrently once the knowledge base is
+	 * consistent. Each check completes its own copy of the ABox, so the concept cache, the timers and the size estimate are shared between threads.
+	 */
 	public static boolean USE_THREADED_KERNEL = false;
 
 	static
@@ -505,7 +604,7 @@ public class OpenlletOptions
 
 	public enum InstanceRetrievalMethod
 	{
-		BINARY, TRACING_BASED
+		BINARY, TRACING_BASED, BATCHED
 	}
 
 	/**
@@ -539,6 +638,9 @@ public class OpenlletOptions
 
 		FREEZE_BUILTIN_NAMESPACES = getBooleanProperty(newOptions, "FREEZE_BUILTIN_NAMESPACES", FREEZE_BUILTIN_NAMESPACES, oldOptions);
 
+		LOADER_THREADS = getIntProperty(newOptions, "LOADER_THREADS", LOADER_THREADS, oldOptions);
+		LOADER_BATCH_SIZE = getIntProperty(newOptions, "LOADER_BATCH_SIZE", LOADER_BATCH_SIZE, oldOptions);
+
 		FULL_SIZE_ESTIMATE = getBooleanProperty(newOptions, "FULL_SIZE_ESTIMATE", FULL_SIZE_ESTIMATE, oldOptions);
 
 		IGNORE_DEPRECATED_TERMS = getBooleanProperty(newOptions, "IGNORE_DEPRECATED_TERMS", IGNORE_DEPRECATED_TERMS, oldOptions);
@@ -555,6 +657,16 @@ public class OpenlletOptions
 
 		REALIZE_INDIVIDUAL_AT_A_TIME = getBooleanProperty(newOptions, "REALIZE_INDIVIDUAL_AT_A_TIME", REALIZE_INDIVIDUAL_AT_A_TIME, oldOptions);
 
+		REALIZATION_THREADS = getIntProperty(newOptions, "REALIZATION_THREADS", REALIZATION_THREADS, oldOptions);
+
+		INSTANCE_RETRIEVAL = getEnumProperty(newOptions, "INSTANCE_RETRIEVAL", INSTANCE_RETRIEVAL, oldOptions);
+
+		INSTANCE_RETRIEVAL_BATCH_SIZE = getIntProperty(newOptions, "INSTANCE_RETRIEVAL_BATCH_SIZE", INSTANCE_RETRIEVAL_BATCH_SIZE, oldOptions);
+
+		INSTANCE_RETRIEVAL_THREADS = getIntProperty(newOptions, "INSTANCE_RETRIEVAL_THREADS", INSTANCE_RETRIEVAL_THREADS, oldOptions);
+
+		EXPLANATION_THREADS = getIntProperty(newOptions, "EXPLANATION_THREADS", EXPLANATION_THREADS, oldOptions);
+
 		AUTO_REALIZE = getBooleanProperty(newOptions, "AUTO_REALIZE", AUTO_REALIZE, oldOptions);
 
 		RETURN_DEDUCTIONS_GRAPH = getBooleanProperty(newOptions, "RETURN_DEDUCTIONS_GRAPH", RETURN_DEDUCTIONS_GRAPH, oldOptions);
@@ -565,10 +677,19 @@ public class OpenlletOptions
 
 		SIMPLIFY_QUERY = getBooleanProperty(newOptions, "SIMPLIFY_QUERY", SIMPLIFY_QUERY, oldOptions);
 
+		STREAM_QUERY_RESULTS = getBooleanProperty(newOptions, "STREAM_QUERY_RESULTS", STREAM_QUERY_RESULTS, oldOptions);
+
+		STREAM_QUERY_CHUNK_SIZE = getIntProperty(newOptions, "STREAM_QUERY_CHUNK_SIZE", STREAM_QUERY_CHUNK_SIZE, oldOptions);
+
 		STATIC_REORDERING_LIMIT = getIntProperty(newOptions, "STATIC_REORDERING_LIMIT", STATIC_REORDERING_LIMIT, oldOptions);
 
+		QUERY_PLAN_CACHE_SIZE = getIntProperty(newOptions, "QUERY_PLAN_CACHE_SIZE", QUERY_PLAN_CACHE_SIZE, oldOptions);
+		QUERY_COMPONENT_THREADS = getIntProperty(newOptions, "QUERY_COMPONENT_THREADS", QUERY_COMPONENT_THREADS, oldOptions);
+
 		TRACK_BRANCH_EFFECTS = getBooleanProperty(newOptions, "TRACK_BRANCH_EFFECTS", TRACK_BRANCH_EFFECTS, oldOptions);
 
+		LAZY_ABOX_COPY = getBooleanProperty(newOptions, "LAZY_ABOX_COPY", LAZY_ABOX_COPY, oldOptions);
+
 		TREAT_ALL_VARS_DISTINGUISHED = getBooleanProperty(newOptions, "TREAT_ALL_VARS_DISTINGUISHED", TREAT_ALL_VARS_DISTINGUISHED, oldOptions);
 
 		USE_ABSORPTION = getBooleanProperty(newOptions, "USE_ABSORPTION", USE_ABSORPTION, oldOptions);
@@ -588,9 +709,12 @@ public class OpenlletOptions
 		USE_BACKJUMPING = getBooleanProperty(newOptions, "USE_BACKJUMPING", USE_BACKJUMPING, oldOptions);
 
 		USE_CACHING = getBooleanProperty(newOptions, "USE_CACHING", USE_CACHING, oldOptions);
+		USE_TERM_MEMO = getBooleanProperty(newOptions, "USE_TERM_MEMO", USE_TERM_MEMO, oldOptions);
 
 		USE_CD_CLASSIFICATION = getBooleanProperty(newOptions, "USE_CD_CLASSIFICATION", USE_CD_CLASSIFICATION, oldOptions);
 
+		CLASSIFICATION_THREADS = getIntProperty(newOptions, "CLASSIFICATION_THREADS", CLASSIFICATION_THREADS, oldOptions);
+
 		USE_CLASSIFICATION_MONITOR = getEnumProperty(newOptions, "USE_CLASSIFICATION_MONITOR", USE_CLASSIFICATION_MONITOR, oldOptions);
 
 		RETURN_NON_PRIMITIVE_EQUIVALENT_PROPERTIES = getBooleanProperty(newOptions, "RETURN_NON_PRIMITIVE_EQUIVALENT_PROPERTIES", RETURN_NON_PRIMITIVE_EQUIVALENT_PROPERTIES, oldOptions);
@@ -600,6 +724,7 @@ public class OpenlletOptions
 		USE_CONTINUOUS_RULES = getBooleanProperty(newOptions, "USE_CONTINUOUS_RULES", USE_CONTINUOUS_RULES, oldOptions);
 
 		USE_FULL_DATATYPE_REASONING = getBooleanProperty(newOptions, "USE_FULL_DATATYPE_REASONING", USE_FULL_DATATYPE_REASONING, oldOptions);
+		DATATYPE_CACHE_SIZE = getIntProperty(newOptions, "DATATYPE_CACHE_SIZE", DATATYPE_CACHE_SIZE, oldOptions);
 
 		USE_INCREMENTAL_CONSISTENCY = getBooleanProperty(newOptions, "USE_INCREMENTAL_CONSISTENCY", USE_INCREMENTAL_CONSISTENCY, oldOptions);
 
@@ -627,6 +752,8 @@ public class OpenlletOptions
 
 		IGNORE_ANNOTATION_CLASSES = getBooleanProperty(newOptions, "IGNORE_ANNOTATION_CLASSES", IGNORE_ANNOTATION_CLASSES, oldOptions);
 
+		USE_THREADED_KERNEL = getBooleanProperty(newOptions, "USE_THREADED_KERNEL", USE_THREADED_KERNEL, oldOptions);
+
 		return oldOptions;
 	}
 
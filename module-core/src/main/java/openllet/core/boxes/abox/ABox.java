@@ -121,6 +121,18 @@ public interface ABox extends Logging
 	 */
 	boolean existType(final List<ATermAppl> inds, ATermAppl c);
 
+	/**
+	 * Same as {@link #existType(List, ATermAppl)} but when no individual belongs to type c, the model built by the check is also used to find candidates that
+	 * are not instances of c.
+	 *
+	 * @param inds
+	 * @param c
+	 * @param candidates individuals whose type is read off the model
+	 * @param nonInstances receives the candidates that are not instances of c
+	 * @return true if any of the individuals in the given list belongs to type c.
+	 */
+	boolean existType(final List<ATermAppl> inds, ATermAppl c, Collection<ATermAppl> candidates, Collection<ATermAppl> nonInstances);
+
 	Bool hasObviousPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o);
 
 	Bool hasObviousDataPropertyValue(final ATermAppl s, final ATermAppl p, final Object value);
@@ -166,6 +178,14 @@ public interface ABox extends Logging
 
 	Node getNode(final ATerm x);
 
+	/**
+	 * @param x
+	 * @return the node with the given name if it is in this ABox, null if it is not or if it is still shared with the source of a lazy copy, in which case it
+	 *         has not been changed since the copy.
+	 * @see openllet.core.OpenlletOptions#LAZY_ABOX_COPY
+	 */
+	Node getCopiedNode(final ATerm x);
+
 	void addType(final ATermAppl x, final ATermAppl c);
 
 	void addType(final ATermAppl x, ATermAppl c, DependencySet ds);
@@ -205,6 +225,18 @@ public interface ABox extends Logging
 
 	Individual addFreshIndividual(final Individual parent, final DependencySet ds);
 
+	/**
+	 * Adds an individual of a completed ABox saved in a {@link openllet.core.KnowledgeBaseSnapshot}, an anonymous individual keeps its name.
+	 *
+	 * @param x name of the individual
+	 * @param parent of an anonymous individual, null for a named individual
+	 * @param nominalLevel of the individual
+	 * @param ds dependency of the individual
+	 * @return the new individual
+	 * @since 2.6.6
+	 */
+	Individual restoreIndividual(final ATermAppl x, final Individual parent, final int nominalLevel, final DependencySet ds);
+
 	void addSame(final ATermAppl x, final ATermAppl y);
 
 	void addDifferent(final ATermAppl x, final ATermAppl y);
@@ -44,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,8 +79,8 @@ import openllet.core.tableau.completion.queue.OptimizedBasicCompletionQueue;
 import openllet.core.tableau.completion.queue.QueueElement;
 import openllet.core.tracker.BranchEffectTracker;
 import openllet.core.tracker.IncrementalChangeTracker;
-import openllet.core.tracker.SimpleBranchEffectTracker;
 import openllet.core.tracker.SimpleIncrementalChangeTracker;
+import openllet.core.tracker.TrailBranchEffectTracker;
 import openllet.core.utils.ATermUtils;
 import openllet.core.utils.Bool;
 import openllet.core.utils.CandidateSet;
@@ -150,6 +151,18 @@ public class ABoxImpl implements ABox
 	/** if we are using copy on write, this is where to copy from */
 	private volatile ABox _sourceABox; // FIXME : sourceBox actively use null.
 
+	/** copy on write is done with a lazy copy, see OpenlletOptions.LAZY_ABOX_COPY */
+	private final boolean _lazyCopyOnWrite;
+
+	/** if this ABox is a lazy copy, the _nodes that are not in _nodes yet are copied from this ABox when they are first accessed */
+	private volatile ABoxImpl _lazySource;
+
+	/** number of _nodes of the _lazySource not copied yet */
+	private int _lazyCount;
+
+	/** _nodes of the _lazySource that have been copied and then removed from this ABox, they must not be copied again */
+	private Set<ATermAppl> _lazyRemoved = Collections.emptySet();
+
 	/**
 	 * cache of the last completion. it may be different from the pseudo model, e.g. type checking for individual adds one extra assertion last completion is
 	 * stored for caching the root nodes that was the result of
@@ -244,6 +257,7 @@ public class ABoxImpl implements ABox
 		_doExplanation = false;
 		_dtReasoner = new DatatypeReasonerImpl();
 		_keepLastCompletion = false;
+		_lazyCopyOnWrite = false;
 
 		setBranchIndex(DependencySet.NO_BRANCH);
 		_branches = new ArrayList<>();
@@ -253,7 +267,7 @@ public class ABoxImpl implements ABox
 		_rulesNotApplied = true;
 
 		if (OpenlletOptions.TRACK_BRANCH_EFFECTS)
-			_branchEffects = new SimpleBranchEffectTracker();
+			_branchEffects = new TrailBranchEffectTracker();
 		else
 			_branchEffects = null;
 
@@ -281,6 +295,14 @@ public class ABoxImpl implements ABox
 	}
 
 	public ABoxImpl(final KnowledgeBase kb, final ABoxImpl abox, final ATermAppl extraIndividual, final boolean copyIndividuals)
+	{
+		this(kb, abox, extraIndividual, copyIndividuals, false);
+	}
+
+	/**
+	 * @param lazy if true the _nodes of the given ABox are copied only when they are accessed, it must be complete and must not be a lazy copy itself.
+	 */
+	private ABoxImpl(final KnowledgeBase kb, final ABoxImpl abox, final ATermAppl extraIndividual, final boolean copyIndividuals, final boolean lazy)
 	{
 		_kb = kb;
 		final Optional<Timer> timer = kb.getTimers().startTimer("cloneABox");
@@ -296,9 +318,9 @@ public class ABoxImpl implements ABox
 		_disjBranchStats = abox.getDisjBranchStats();
 
 		final int extra = extraIndividual == null ? 0 : 1;
-		final int nodeCount = extra + (copyIndividuals ? abox._nodes.size() : 0);
+		final int nodeCount = extra + (copyIndividuals ? abox.size() : 0);
 
-		_nodes = Collections.synchronizedMap(new IdentityHashMap<>(nodeCount));
+		_nodes = Collections.synchronizedMap(new IdentityHashMap<>(lazy ? extra : nodeCount));
 		_nodeList = new ArrayList<>(nodeCount);
 
 		if (OpenlletOptions.TRACK_BRANCH_EFFECTS)
@@ -306,7 +328,7 @@ public class ABoxImpl implements ABox
 			if (copyIndividuals)
 				_branchEffects = abox._branchEffects.copy();
 			else
-				_branchEffects = new SimpleBranchEffectTracker();
+				_branchEffects = new TrailBranchEffectTracker();
 		}
 		else
 			_branchEffects = null;
@@ -341,25 +363,33 @@ public class ABoxImpl implements ABox
 			if (OpenlletOptions.COPY_ON_WRITE)
 				_sourceABox = abox;
 		}
+		_lazyCopyOnWrite = lazy && _sourceABox != null;
 
 		if (copyIndividuals)
 		{
 			_toBeMerged = abox.getToBeMerged();
 			if (_sourceABox == null)
-			{
-				for (int i = 0; i < nodeCount - extra; i++)
+				if (lazy)
 				{
-					final ATermAppl x = abox._nodeList.get(i);
-					final Node node = abox.getNode(x);
-					final Node copy = node.copyTo(this);
-
-					_nodes.put(x, copy);
-					_nodeList.add(x);
+					_lazySource = abox;
+					_lazyCount = abox.size();
+					_nodeList.addAll(abox._nodeList);
 				}
+				else
+				{
+					for (int i = 0; i < nodeCount - extra; i++)
+					{
+						final ATermAppl x = abox._nodeList.get(i);
+						final Node node = abox.getNode(x);
+						final Node copy = node.copyTo(this);
 
-				for (final Node node : _nodes.values())
-					node.updateNodeReferences();
-			}
+						_nodes.put(x, copy);
+						_nodeList.add(x);
+					}
+
+					for (final Node node : _nodes.values())
+						node.updateNodeReferences();
+				}
 		}
 		else
 		{
@@ -430,6 +460,80 @@ public class ABoxImpl implements ABox
 		return new ABoxImpl(_kb, this, extraIndividual, copyIndividuals);
 	}
 
+	/**
+	 * The _nodes of a complete ABox that a check does not reach need no rule application, so they can be left in this ABox until they are accessed. This
+	 * does not hold with rules, since the rete network matches the facts of any _node, nor with the completion queue. Without the branch effects, a
+	 * backtrack visits every _node and so would copy all of them.
+	 */
+	private boolean canCopyLazily()
+	{
+		return OpenlletOptions.LAZY_ABOX_COPY && OpenlletOptions.TRACK_BRANCH_EFFECTS && isComplete() && _lazySource == null && _sourceABox == null && !OpenlletOptions.USE_COMPLETION_QUEUE && _kb.getRules().isEmpty();
+	}
+
+	/**
+	 * Copies from the _lazySource the _node with the given name together with all the _nodes it refers to, directly or not, through edges, merges,
+	 * differences and parents. So the copied _nodes only refer to copied _nodes, and the _nodes left in the source are not connected to a copied one.
+	 */
+	private Node copyComponent(final ATerm x)
+	{
+		final ABoxImpl source = _lazySource;
+		final Node start = source.getNode(x);
+		if (start == null || _lazyRemoved.contains(x))
+			return null;
+
+		final List<Node> copies = new ArrayList<>();
+		final List<Node> pending = new ArrayList<>();
+		_nodes.put(start.getName(), start.copyTo(this));
+		pending.add(start);
+		while (!pending.isEmpty())
+		{
+			final Node node = pending.remove(pending.size() - 1);
+			copies.add(_nodes.get(node.getName()));
+
+			final List<Node> neighbours = new ArrayList<>(node.getDifferents());
+			neighbours.add(node.getMergedTo());
+			neighbours.addAll(node.getMerged());
+			for (final Edge edge : node.getInEdges())
+				neighbours.add(edge.getFrom());
+			if (node instanceof Individual)
+			{
+				final Individual ind = (Individual) node;
+				if (ind.getParent() != null)
+					neighbours.add(ind.getParent());
+				for (final Edge edge : ind.getOutEdges())
+					neighbours.add(edge.getTo());
+			}
+
+			for (final Node neighbour : neighbours)
+				if (!_nodes.containsKey(neighbour.getName()) && !_lazyRemoved.contains(neighbour.getName()))
+				{
+					_nodes.put(neighbour.getName(), neighbour.copyTo(this));
+					pending.add(neighbour);
+				}
+		}
+
+		_lazyCount -= copies.size();
+		if (_lazyCount == 0)
+			_lazySource = null;
+
+		for (final Node copy : copies)
+			copy.updateNodeReferences();
+
+		return _nodes.get(x);
+	}
+
+	/**
+	 * Copies all the _nodes not copied yet of a lazy copy.
+	 */
+	private void copyAllNodes()
+	{
+		final ABoxImpl source = _lazySource;
+		if (source != null)
+			for (final ATermAppl x : source._nodeList)
+				if (_lazySource != null && !_nodes.containsKey(x))
+					copyComponent(x);
+	}
+
 	@Override
 	public void copyOnWrite()
 	{
@@ -440,26 +544,34 @@ public class ABoxImpl implements ABox
 
 		final List<ATermAppl> currentNodeList = new ArrayList<>(_nodeList);
 		final int currentSize = currentNodeList.size();
-		final int nodeCount = getSourceABox().getNodes().size();
+		final int nodeCount = getSourceABox().size();
 
 		_nodeList.clear();// reset cost less than reallocate a new array.
 		_nodeList.add(currentNodeList.get(0));
 
-		for (int i = 0; i < nodeCount; i++)
+		if (_lazyCopyOnWrite)
 		{
-			final ATermAppl x = getSourceABox().getNodeList().get(i);
-			final Node node = _sourceABox.getNode(x);
-			final Node copyNode = node.copyTo(this);
-			_nodes.put(x, copyNode);
-			_nodeList.add(x);
+			_lazySource = (ABoxImpl) _sourceABox;
+			_lazyCount = nodeCount;
+			_nodeList.addAll(_lazySource._nodeList);
 		}
+		else
+			for (int i = 0; i < nodeCount; i++)
+			{
+				final ATermAppl x = getSourceABox().getNodeList().get(i);
+				final Node node = _sourceABox.getNode(x);
+				final Node copyNode = node.copyTo(this);
+				_nodes.put(x, copyNode);
+				_nodeList.add(x);
+			}
 
 		if (currentSize > 1)
 			_nodeList.addAll(currentNodeList.subList(1, currentSize));
 
-		for (final Node node : _nodes.values())
-			if (getSourceABox().getNodes().containsKey(node.getName()))
-				node.updateNodeReferences();
+		if (!_lazyCopyOnWrite)
+			for (final Node node : _nodes.values())
+				if (getSourceABox().getNodes().containsKey(node.getName()))
+					node.updateNodeReferences();
 
 		for (int i = 0, n = _branches.size(); i < n; i++)
 		{
@@ -489,7 +601,7 @@ public class ABoxImpl implements ABox
 		_lastCompletion = null;
 
 		if (clearSatCache)
-			_cache = new ConceptCacheLRU(_kb);
+			_cache = new ConceptCacheLRU(_kb, OpenlletOptions.MAX_ANONYMOUS_CACHE, _stats);
 	}
 
 	@Override
@@ -907,6 +1019,35 @@ public class ABoxImpl implements ABox
 		return isType;
 	}
 
+	@Override
+	public boolean existType(final List<ATermAppl> inds, final ATermAppl cParam, final Collection<ATermAppl> candidates, final Collection<ATermAppl> nonInstances)
+	{
+		final ATermAppl c = ATermUtils.normalize(cParam);
+
+		_logger.fine(() -> "Checking type " + ATermUtils.toString(c) + " for individuals " + inds.size() + " with " + candidates.size() + " candidates");
+
+		final ATermAppl notC = ATermUtils.negate(c);
+
+		// The completion is a model of the KB, the candidates that are not of type c in this model are not instances of c.
+		final boolean isType = !isConsistent(inds, notC, false, abox ->
+		{
+			for (final ATermAppl x : candidates)
+			{
+				final Node node = abox.getCopiedNode(x);
+				if (node == null || !node.isIndividual())
+					continue;
+
+				final Individual ind = ((Individual) node).getSame();
+				if (!ind.isPruned() && (ind.hasObviousType(c).isFalse() || isType(ind, c).isFalse()))
+					nonInstances.add(x);
+			}
+		});
+
+		_logger.fine(() -> "Type " + isType + " " + ATermUtils.toString(c) + " for individuals " + inds.size());
+
+		return isType;
+	}
+
 	@Override
 	public Bool hasObviousPropertyValue(final ATermAppl s, final ATermAppl p, final ATermAppl o)
 	{
@@ -1335,6 +1476,18 @@ public class ABoxImpl implements ABox
 	 * @return true if consistent.
 	 */
 	private boolean isConsistent(final Collection<ATermAppl> individualsParam, final ATermAppl c_, final boolean cacheModel)
+	{
+		return isConsistent(individualsParam, c_, cacheModel, null);
+	}
+
+	/**
+	 * @param individualsParam
+	 * @param c_
+	 * @param cacheModel
+	 * @param modelVisitor if not null, is given the complete ABox when it is consistent.
+	 * @return true if consistent.
+	 */
+	private boolean isConsistent(final Collection<ATermAppl> individualsParam, final ATermAppl c_, final boolean cacheModel, final Consumer<ABox> modelVisitor)
 	{
 		Collection<ATermAppl> individuals = individualsParam;
 		ATermAppl c = c_;
@@ -1391,7 +1544,7 @@ public class ABoxImpl implements ABox
 		if (emptyConsistencyCheck)
 			c = ATermUtils.TOP;
 
-		final ABox abox = canUseEmptyABox ? this.copy(x, false) : initialConsistencyCheck ? this : this.copy(x, true);
+		final ABox abox = canUseEmptyABox ? this.copy(x, false) : initialConsistencyCheck ? this : new ABoxImpl(_kb, this, x, true, canCopyLazily());
 
 		for (final ATermAppl ind : individuals)
 		{
@@ -1400,7 +1553,7 @@ public class ABoxImpl implements ABox
 			abox.setSyntacticUpdate(false);
 		}
 
-		// synchronized (this) // We should not try to completion in the same time. -> only if parallel core is enable.
+		// When this ABox is not the one checked, the completion runs on a private copy and may run at the same time than others (USE_THREADED_KERNEL).
 		{
 			_logger.fine(() -> "Consistency check starts");
 
@@ -1421,7 +1574,7 @@ public class ABoxImpl implements ABox
 					+ " Time: " + timer.map(Timer::getElapsed).orElse(0L)//
 					+ " Branches " + abox.getBranches().size()//
 					+ " Tree depth: " + abox.getStats()._treeDepth//
-					+ " Tree size: " + abox.getNodes().size()//
+					+ " Tree size: " + abox.size()//
 					+ " Restores " + abox.getStats()._globalRestores//
 					+ " global " + abox.getStats()._localRestores//
 					+ " local"// FIXME something missing here ?
@@ -1432,6 +1585,9 @@ public class ABoxImpl implements ABox
 		{
 			if (initialConsistencyCheck && isEmpty())
 				setComplete(true);
+
+			if (modelVisitor != null)
+				modelVisitor.accept(abox);
 		}
 		else
 		{
@@ -1543,7 +1699,7 @@ public class ABoxImpl implements ABox
 	@Override
 	public Individual getIndividual(final ATerm x)
 	{
-		final Node o = _nodes.get(x);
+		final Node o = getNode(x);
 		if (o instanceof Individual)
 			return (Individual) o;
 		return null;
@@ -1552,7 +1708,7 @@ public class ABoxImpl implements ABox
 	@Override
 	public Literal getLiteral(final ATerm x)
 	{
-		final Node o = _nodes.get(x);
+		final Node o = getNode(x);
 		if (o instanceof Literal)
 			return (Literal) o;
 		return null;
@@ -1560,6 +1716,13 @@ public class ABoxImpl implements ABox
 
 	@Override
 	public Node getNode(final ATerm x)
+	{
+		final Node node = _nodes.get(x);
+		return node != null || _lazySource == null ? node : copyComponent(x);
+	}
+
+	@Override
+	public Node getCopiedNode(final ATerm x)
 	{
 		return _nodes.get(x);
 	}
@@ -1668,6 +1831,13 @@ public class ABoxImpl implements ABox
 	@Override
 	public boolean removeNode(final ATermAppl x)
 	{
+		if (_lazySource != null && _lazySource.getNode(x) != null)
+		{
+			if (_lazyRemoved.isEmpty())
+				_lazyRemoved = new HashSet<>();
+			_lazyRemoved.add(x);
+		}
+
 		return _nodes.remove(x) != null;
 	}
 
@@ -1828,9 +1998,19 @@ public class ABoxImpl implements ABox
 		return ind;
 	}
 
+	@Override
+	public Individual restoreIndividual(final ATermAppl x, final Individual parent, final int nominalLevel, final DependencySet ds)
+	{
+		final Individual ind = addIndividual(x, parent, ds);
+		if (ind.getNominalLevel() != nominalLevel)
+			ind.setNominalLevel(nominalLevel);
+
+		return ind;
+	}
+
 	private Individual addIndividual(final ATermAppl x, final Individual parent, final DependencySet ds)
 	{
-		if (_nodes.containsKey(x))
+		if (isNode(x))
 			throw new InternalReasonerException("adding a _node twice " + x);
 
 		setChanged(true);
@@ -1957,6 +2137,7 @@ public class ABoxImpl implements ABox
 	@Override
 	final public Map<ATermAppl, Node> getNodes()
 	{
+		copyAllNodes();
 		return _nodes;
 	}
 
@@ -2404,13 +2585,13 @@ public class ABoxImpl implements ABox
 	@Override
 	public int size()
 	{
-		return _nodes.size();
+		return _nodes.size() + _lazyCount;
 	}
 
 	@Override
 	public boolean isEmpty()
 	{
-		return _nodes.isEmpty();
+		return _nodes.isEmpty() && _lazyCount == 0;
 	}
 
 	@Override
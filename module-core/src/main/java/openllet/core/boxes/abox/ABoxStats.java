@@ -8,6 +8,8 @@
 
 package openllet.core.boxes.abox;
 
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * <p>
  * Copyright: Copyright (c) 2009
@@ -30,6 +32,26 @@ public class ABoxStats
 	 */
 	public volatile long _satisfiabilityCount = 0;
 
+	/**
+	 * Total number of instance checks the batched instance retrieval did not have to perform
+	 */
+	public volatile long _instanceChecksSaved = 0;
+
+	/**
+	 * Lookups in the concept cache that found an entry
+	 */
+	public final LongAdder _cacheHits = new LongAdder();
+
+	/**
+	 * Lookups in the concept cache that found nothing
+	 */
+	public final LongAdder _cacheMisses = new LongAdder();
+
+	/**
+	 * Complex concepts removed from the concept cache because it was full
+	 */
+	public final LongAdder _cacheEvictions = new LongAdder();
+
 	public volatile short _treeDepth = 0;
 
 	public volatile int _backjumps = 0;
@@ -47,6 +69,8 @@ public class ABoxStats
 		sb.append(" Restores " + _globalRestores + " global " + _localRestores + " local");
 		sb.append(" Backtracks " + _backtracks);
 		sb.append(" Avg backjump " + _backjumps / (double) _backtracks);
+		sb.append(" Instance checks saved " + _instanceChecksSaved);
+		sb.append(" Cache hits " + _cacheHits + " misses " + _cacheMisses + " evictions " + _cacheEvictions);
 		return sb.toString();
 	}
 }
@@ -60,8 +60,8 @@ public class IndividualIterator implements Iterator<Individual>
 	{
 		for (; _index < _stop; _index++)
 		{
-			final Node node = _abox.getNode(_nodeList.get(_index));
-			if (!node.isPruned() && node.isIndividual())
+			final Node node = _abox.getCopiedNode(_nodeList.get(_index)); // The nodes left in the source of a lazy copy need no rule application.
+			if (node != null && !node.isPruned() && node.isIndividual())
 				break;
 		}
 	}
@@ -99,8 +99,8 @@ public class IndividualIterator implements Iterator<Individual>
 				.parallelStream()//
 				.filter(term ->
 				{
-					final Node node = _abox.getNode(term);
-					return !node.isPruned() && node.isIndividual();
+					final Node node = _abox.getCopiedNode(term);
+					return node != null && !node.isPruned() && node.isIndividual();
 				})//
 				.map(_abox::getIndividual);
 	}
@@ -50,6 +50,12 @@ public interface RBox extends Logging
 
 	FSMBuilder getFsmBuilder();
 
+	/**
+	 * @return the property axioms told to this RBox, the hierarchy and characteristics computed by {@link #prepare()} are not included
+	 * @since 2.6.6
+	 */
+	Set<ATermAppl> getAssertedAxioms();
+
 	//	/**
 	//	 * @return Returns the getRoles().
 	//	 */
@@ -152,9 +158,10 @@ public interface RBox extends Logging
 	 */
 	default boolean addRange(final ATerm p, final ATermAppl range)
 	{
-		final Set<ATermAppl> ds = Collections.singleton(ATermUtils.makeRange(p, range));
+		final ATermAppl axiom = ATermUtils.makeRange(p, range);
+		getAssertedAxioms().add(axiom);
 
-		return addRange(p, range, ds);
+		return addRange(p, range, Collections.singleton(axiom));
 	}
 
 	default Role addObjectRole(final ATermAppl r)
@@ -367,9 +374,10 @@ public interface RBox extends Logging
 	 */
 	default boolean addDomain(final ATerm p, final ATermAppl a)
 	{
-		final Set<ATermAppl> explain = Collections.singleton(ATermUtils.makeDomain(p, a));
+		final ATermAppl axiom = ATermUtils.makeDomain(p, a);
+		getAssertedAxioms().add(axiom);
 
-		return addDomain(p, a, explain);
+		return addDomain(p, a, Collections.singleton(axiom));
 	}
 
 	default boolean addInverseRole(final ATerm s, final ATerm r, final DependencySet ds)
@@ -627,13 +635,14 @@ public interface RBox extends Logging
 		if (allExplanations == null)
 			return false;
 
-		final Set<ATermAppl> explanation = Collections.singleton(ATermUtils.makeDomain(p, domain));
+		final ATermAppl axiom = ATermUtils.makeDomain(p, domain);
 
-		if (!allExplanations.remove(explanation))
+		if (!allExplanations.remove(Collections.singleton(axiom)))
 			return false;
 
 		if (allExplanations.isEmpty())
 			domains.remove(domain);
+		getAssertedAxioms().remove(axiom);
 
 		return true;
 	}
@@ -655,13 +664,14 @@ public interface RBox extends Logging
 		if (allExplanations == null)
 			return false;
 
-		final Set<ATermAppl> explanation = Collections.singleton(ATermUtils.makeRange(p, range));
+		final ATermAppl axiom = ATermUtils.makeRange(p, range);
 
-		if (!allExplanations.remove(explanation))
+		if (!allExplanations.remove(Collections.singleton(axiom)))
 			return false;
 
 		if (allExplanations.isEmpty())
 			ranges.remove(range);
+		getAssertedAxioms().remove(axiom);
 
 		return true;
 	}
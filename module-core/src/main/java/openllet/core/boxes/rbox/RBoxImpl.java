@@ -78,6 +78,7 @@ public class RBoxImpl implements RBox
 	private final Set<Role> _reflexiveRoles = SetUtils.create();
 	private final Map<Role, Map<ATermAppl, Set<Set<ATermAppl>>>> _domainAssertions = new ConcurrentHashMap<>();
 	private final Map<Role, Map<ATermAppl, Set<Set<ATermAppl>>>> _rangeAssertions = new ConcurrentHashMap<>();
+	private final Set<ATermAppl> _assertedAxioms = SetUtils.create();
 	private final FSMBuilder _fsmBuilder;
 
 	private volatile Taxonomy<ATermAppl> _objectTaxonomy;
@@ -184,6 +185,12 @@ public class RBoxImpl implements RBox
 		return _fsmBuilder;
 	}
 
+	@Override
+	public Set<ATermAppl> getAssertedAxioms()
+	{
+		return _assertedAxioms;
+	}
+
 	private static class ValueIterator extends MapIterator<Map.Entry<ATermAppl, Set<Set<ATermAppl>>>, ATermAppl>
 	{
 		public ValueIterator(final Iterator<Entry<ATermAppl, Set<Set<ATermAppl>>>> iterator)
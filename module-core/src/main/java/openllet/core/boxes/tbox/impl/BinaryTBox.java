@@ -7,6 +7,7 @@
 package openllet.core.boxes.tbox.impl;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,28 @@ public class BinaryTBox
 		addUnfolding(set.second(), set.first(), normalizedResult, explanation);
 	}
 
+	/**
+	 * @return the unfolding of each pair of concepts
+	 * @since 2.6.6
+	 */
+	public Map<BinarySet<ATermAppl>, Unfolding> getUnfoldings()
+	{
+		return Collections.unmodifiableMap(_unfoldings);
+	}
+
+	/**
+	 * Restores the unfolding of a pair of concepts saved from another TBox, its result is already normalized.
+	 *
+	 * @since 2.6.6
+	 */
+	public void restore(final BinarySet<ATermAppl> set, final Unfolding unfolding)
+	{
+		_unfoldings.put(set, unfolding);
+
+		addUnfolding(set.first(), set.second(), unfolding.getResult(), unfolding.getExplanation());
+		addUnfolding(set.second(), set.first(), unfolding.getResult(), unfolding.getExplanation());
+	}
+
 	private void addUnfolding(final ATermAppl c, final ATermAppl condition, final ATermAppl result, final Set<ATermAppl> explanation)
 	{
 		List<Unfolding> list = _conditionalUnfoldings.get(c);
@@ -10,6 +10,7 @@ import static openllet.core.utils.TermFactory.not;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -51,6 +52,41 @@ public class PrimitiveTBox
 		return _definitions.get(concept);
 	}
 
+	/**
+	 * @return the concepts that have a definition, their negations are not included
+	 * @since 2.6.6
+	 */
+	public Set<ATermAppl> getDefinedConcepts()
+	{
+		return Collections.unmodifiableSet(_dependencies.keySet());
+	}
+
+	/**
+	 * @param concept a defined concept
+	 * @return the primitive concepts its definition uses
+	 * @since 2.6.6
+	 */
+	public Set<ATermAppl> getDependencies(final ATermAppl concept)
+	{
+		return _dependencies.get(concept);
+	}
+
+	/**
+	 * Restores a definition saved from another TBox, as returned by {@link #getDefinition(ATermAppl)} for the concept and its negation.
+	 *
+	 * @param concept the defined concept
+	 * @param definition the unfolding of the concept
+	 * @param negation the unfolding of the negation of the concept
+	 * @param dependencies the primitive concepts the definition uses
+	 * @since 2.6.6
+	 */
+	public void restore(final ATermAppl concept, final Unfolding definition, final Unfolding negation, final Set<ATermAppl> dependencies)
+	{
+		_definitions.put(concept, definition);
+		_definitions.put(not(concept), negation);
+		_dependencies.put(concept, dependencies);
+	}
+
 	public boolean add(final ATermAppl concept, final ATermAppl definition, final Set<ATermAppl> explanation)
 	{
 		if (!ATermUtils.isPrimitive(concept) || contains(concept))
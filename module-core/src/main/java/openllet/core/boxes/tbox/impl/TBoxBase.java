@@ -30,6 +30,8 @@
 
 package openllet.core.boxes.tbox.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
@@ -99,6 +101,21 @@ public class TBoxBase implements Logging
 
 	}
 
+	/**
+	 * @return the axioms of all the term definitions of this TBox
+	 * @since 2.6.6
+	 */
+	public List<ATermAppl> getDefs()
+	{
+		final List<ATermAppl> defs = new ArrayList<>();
+		for (final TermDefinition td : _termhash.values())
+		{
+			defs.addAll(td.getSubClassAxioms());
+			defs.addAll(td.getEqClassAxioms());
+		}
+		return defs;
+	}
+
 	public boolean isEmpty()
 	{
 		return _termhash.size() == 0;
@@ -439,6 +439,24 @@ public class TBoxExpImpl implements TBox
 		return _absorbedAxioms;
 	}
 
+	/**
+	 * Restores the axioms of a TBox saved in a {@link openllet.core.KnowledgeBaseSnapshot} without absorbing them again, the definitions they were absorbed
+	 * into are restored through {@link TuBox#restore(Collection, Map)} and {@link TgBox#restore(Collection, List)}.
+	 *
+	 * @param assertedAxioms as returned by {@link #getAssertedAxioms()}
+	 * @param axioms the explanations of each axiom as returned by {@link #getAxiomExplanations(ATermAppl)}
+	 * @param absorbedAxioms as returned by {@link #getAbsorbedAxioms()}
+	 * @since 2.6.6
+	 */
+	public void restore(final Collection<ATermAppl> assertedAxioms, final Map<ATermAppl, Set<Set<ATermAppl>>> axioms, final Collection<ATermAppl> absorbedAxioms)
+	{
+		_tboxAssertedAxioms.addAll(assertedAxioms);
+		for (final Map.Entry<ATermAppl, Set<Set<ATermAppl>>> entry : axioms.entrySet())
+			for (final Set<ATermAppl> explain : entry.getValue())
+				addAxiomExplanation(entry.getKey(), explain);
+		_absorbedAxioms.addAll(absorbedAxioms);
+	}
+
 	//	public boolean containsAxiom(final ATermAppl axiom)
 	//	{
 	//		return _tboxAxioms.containsKey(axiom);
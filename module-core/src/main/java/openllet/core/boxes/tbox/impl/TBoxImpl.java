@@ -981,6 +981,59 @@ public class TBoxImpl implements TBox
 		return _tboxAssertedAxioms;
 	}
 
+	/**
+	 * @return the axioms whose absorption changed the ABox or the RBox, they can't be removed
+	 * @since 2.6.6
+	 */
+	public Set<ATermAppl> getAbsorbedAxioms()
+	{
+		return Collections.unmodifiableSet(_absorbedAxioms);
+	}
+
+	/**
+	 * @return the number of fresh concepts created by the absorption
+	 * @since 2.6.6
+	 */
+	public int getFreshConceptCount()
+	{
+		return freshConceptCount;
+	}
+
+	public PrimitiveTBox getPrimitiveTBox()
+	{
+		return _primitiveTbox;
+	}
+
+	public UnaryTBox getUnaryTBox()
+	{
+		return _unaryTbox;
+	}
+
+	public BinaryTBox getBinaryTBox()
+	{
+		return _binaryTbox;
+	}
+
+	/**
+	 * Restores the axioms of a TBox saved in a {@link openllet.core.KnowledgeBaseSnapshot} without absorbing them again, the unfoldings they were absorbed
+	 * into are restored through {@link #getPrimitiveTBox()}, {@link #getUnaryTBox()} and {@link #getBinaryTBox()}.
+	 *
+	 * @param assertedAxioms as returned by {@link #getAssertedAxioms()}
+	 * @param axioms the explanations of each axiom as returned by {@link #getAxiomExplanations(ATermAppl)}
+	 * @param absorbedAxioms as returned by {@link #getAbsorbedAxioms()}
+	 * @param freshConcepts as returned by {@link #getFreshConceptCount()}
+	 * @since 2.6.6
+	 */
+	public void restore(final Collection<ATermAppl> assertedAxioms, final Map<ATermAppl, Set<Set<ATermAppl>>> axioms, final Collection<ATermAppl> absorbedAxioms, final int freshConcepts)
+	{
+		_tboxAssertedAxioms.addAll(assertedAxioms);
+		for (final Map.Entry<ATermAppl, Set<Set<ATermAppl>>> entry : axioms.entrySet())
+			for (final Set<ATermAppl> explain : entry.getValue())
+				addAxiomExplanation(entry.getKey(), explain);
+		_absorbedAxioms.addAll(absorbedAxioms);
+		freshConceptCount = freshConcepts;
+	}
+
 	//	public boolean containsAxiom(final ATermAppl axiom)
 	//	{
 	//		return _tboxAxioms.containsKey(axiom);
@@ -508,6 +508,21 @@ public class TgBox extends TBoxBase
 		return UC;
 	}
 
+	/**
+	 * Restores the definitions left after the absorption and the universal concept saved from another TBox, as if they were absorbed and internalized here.
+	 *
+	 * @param defs as returned by {@link #getDefs()}
+	 * @param universal as returned by {@link #getUC()}
+	 * @since 2.6.6
+	 */
+	public void restore(final Collection<ATermAppl> defs, final List<Unfolding> universal)
+	{
+		for (final ATermAppl def : defs)
+			addDef(def);
+
+		UC = new ArrayList<>(universal);
+	}
+
 	@Override
 	public int size()
 	{
@@ -110,6 +110,32 @@ public class TuBox extends TBoxBase
 		return list != null ? list : Collections.emptyList();
 	}
 
+	/**
+	 * @return the normalized unfoldings of each concept, null until the definitions are normalized
+	 * @since 2.6.6
+	 */
+	public Map<ATermAppl, List<Unfolding>> getUnfoldings()
+	{
+		return _unfoldingMap == null ? null : Collections.unmodifiableMap(_unfoldingMap);
+	}
+
+	/**
+	 * Restores the definitions and their normalized unfoldings saved from another TBox, as if they were normalized here.
+	 *
+	 * @param defs as returned by {@link #getDefs()}
+	 * @param unfoldings as returned by {@link #getUnfoldings()}
+	 * @since 2.6.6
+	 */
+	public void restore(final Collection<ATermAppl> defs, final Map<ATermAppl, List<Unfolding>> unfoldings)
+	{
+		for (final ATermAppl def : defs)
+			addDef(def);
+
+		_unfoldingMap = CollectionUtils.makeIdentityMap();
+		_unfoldingMap.putAll(unfoldings);
+		_termsToNormalize = new HashSet<>();
+	}
+
 	/**
 	 * Normalize all the definitions in the Tu
 	 */
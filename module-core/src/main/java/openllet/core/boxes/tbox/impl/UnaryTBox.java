@@ -8,6 +8,7 @@ package openllet.core.boxes.tbox.impl;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +51,25 @@ public class UnaryTBox
 		list.add(Unfolding.create(ATermUtils.normalize(sup), explanation));
 	}
 
+	/**
+	 * @return the unfoldings of each concept
+	 * @since 2.6.6
+	 */
+	public Map<ATermAppl, List<Unfolding>> getUnfoldings()
+	{
+		return Collections.unmodifiableMap(_unfoldings);
+	}
+
+	/**
+	 * Restores the unfoldings of a concept saved from another TBox, they are already normalized.
+	 *
+	 * @since 2.6.6
+	 */
+	public void restore(final ATermAppl concept, final List<Unfolding> unfoldings)
+	{
+		_unfoldings.put(concept, new ArrayList<>(unfoldings));
+	}
+
 	public Iterator<Unfolding> unfold(final ATermAppl concept)
 	{
 		final List<Unfolding> unfoldingList = _unfoldings.get(concept);
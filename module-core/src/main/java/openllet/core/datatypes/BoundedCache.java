@@ -0,0 +1,88 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.core.datatypes;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import openllet.core.OpenlletOptions;
+
+/**
+ * Concurrent cache of at most {@link OpenlletOptions#DATATYPE_CACHE_SIZE} entries, the oldest entries being removed first. Reads take no lock, writes
+ * are synchronized so the map and the queue of its keys change together.
+ *
+ * @since 2.6.6
+ */
+class BoundedCache<K, V>
+{
+	private final Map<K, V> _map = new ConcurrentHashMap<>();
+
+	/**
+	 * The keys of the map in insertion order.
+	 */
+	private final Queue<K> _keys = new ConcurrentLinkedQueue<>();
+
+	private final LongAdder _hits = new LongAdder();
+
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * @param key
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(final K key)
+	{
+		final V value = _map.get(key);
+		if (value == null)
+			_misses.increment();
+		else
+			_hits.increment();
+		return value;
+	}
+
+	public synchronized void put(final K key, final V value)
+	{
+		final int maxSize = OpenlletOptions.DATATYPE_CACHE_SIZE;
+		if (maxSize <= 0)
+			return;
+
+		if (_map.put(key, value) == null)
+			_keys.add(key);
+
+		while (_map.size() > maxSize)
+		{
+			final K eldest = _keys.poll();
+			if (eldest == null)
+				break;
+			_map.remove(eldest);
+		}
+	}
+
+	public synchronized void clear()
+	{
+		_map.clear();
+		_keys.clear();
+	}
+
+	public int size()
+	{
+		return _map.size();
+	}
+
+	public long getHits()
+	{
+		return _hits.sum();
+	}
+
+	public long getMisses()
+	{
+		return _misses.sum();
+	}
+}
@@ -19,6 +19,7 @@ import openllet.aterm.ATermAppl;
 import openllet.aterm.ATermList;
 import openllet.atom.OpenError;
 import openllet.core.OpenlletOptions;
+import openllet.core.OpenlletOptions.UndefinedDatatypeHandling;
 import openllet.core.boxes.abox.Literal;
 import openllet.core.datatypes.exceptions.InvalidConstrainingFacetException;
 import openllet.core.datatypes.exceptions.InvalidLiteralException;
@@ -293,6 +294,16 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 	private final NamedDataRangeExpander expander;
 	private final Map<ATermAppl, ATermAppl> namedDataRanges;
 
+	/*
+	 * The data ranges and the d-conjunctions are immutable, so they are shared by all the checks. The caches are cleared when a data range is defined or
+	 * when the handling of undefined datatypes changes.
+	 */
+	private final BoundedCache<ATermAppl, DataRange<?>> _dataRanges = new BoundedCache<>();
+	private final BoundedCache<ATermAppl, DataRange<?>> _dconjunctions = new BoundedCache<>();
+	private final BoundedCache<ATermAppl, ATermAppl> _dnfs = new BoundedCache<>();
+	private final BoundedCache<ATermAppl, Boolean> _satisfiable = new BoundedCache<>();
+	private volatile UndefinedDatatypeHandling _undefinedDatatypeHandling = OpenlletOptions.UNDEFINED_DATATYPE_HANDLING;
+
 	public DatatypeReasonerImpl()
 	{
 		declaredUndefined = new HashSet<>();
@@ -300,6 +311,52 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 		namedDataRanges = new HashMap<>();
 	}
 
+	private void clearCaches()
+	{
+		_dataRanges.clear();
+		_dconjunctions.clear();
+		_dnfs.clear();
+		_satisfiable.clear();
+	}
+
+	private void validateCaches()
+	{
+		if (_undefinedDatatypeHandling != OpenlletOptions.UNDEFINED_DATATYPE_HANDLING)
+		{
+			clearCaches();
+			_undefinedDatatypeHandling = OpenlletOptions.UNDEFINED_DATATYPE_HANDLING;
+		}
+	}
+
+	/**
+	 * @return the number of lookups in the caches of data ranges, d-conjunctions, DNFs and satisfiability that found an entry
+	 * @since 2.6.6
+	 */
+	public long getCacheHits()
+	{
+		return _dataRanges.getHits() + _dconjunctions.getHits() + _dnfs.getHits() + _satisfiable.getHits();
+	}
+
+	/**
+	 * @return the number of lookups in the caches of data ranges, d-conjunctions, DNFs and satisfiability that found no entry
+	 * @since 2.6.6
+	 */
+	public long getCacheMisses()
+	{
+		return _dataRanges.getMisses() + _dconjunctions.getMisses() + _dnfs.getMisses() + _satisfiable.getMisses();
+	}
+
+	private ATermAppl getDNF(final ATermAppl and)
+	{
+		ATermAppl dnf = _dnfs.get(and);
+		if (dnf == null)
+		{
+			dnf = DNF.dnf(expander.expand(and, namedDataRanges));
+			_dnfs.put(and, dnf);
+		}
+		return dnf;
+	}
+
 	private boolean containedIn(final Object value, final ATermAppl dconjunction) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
 	{
 		if (ATermUtils.isAnd(dconjunction))
@@ -317,8 +374,10 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 	public boolean containsAtLeast(final int n, final Collection<ATermAppl> ranges) throws UnrecognizedDatatypeException, InvalidConstrainingFacetException, InvalidLiteralException
 	{
 
+		validateCaches();
+
 		final ATermAppl and = ATermUtils.makeAnd(ATermUtils.makeList(ranges));
-		final ATermAppl dnf = DNF.dnf(expander.expand(and, namedDataRanges));
+		final ATermAppl dnf = getDNF(and);
 		if (ATermUtils.isOr(dnf))
 		{
 			final List<DataRange<?>> disjuncts = new ArrayList<>();
@@ -371,8 +430,17 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 
 	private DataRange<?> getDataRange(final ATermAppl a) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
 	{
-		// TODO: Investigate the impact of keeping a results _cache here
+		DataRange<?> dr = _dataRanges.get(a);
+		if (dr == null)
+		{
+			dr = computeDataRange(a);
+			_dataRanges.put(a, dr);
+		}
+		return dr;
+	}
 
+	private DataRange<?> computeDataRange(final ATermAppl a) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
 		/*
 		 * rdfs:Literal
 		 */
@@ -482,6 +550,8 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 	@Override
 	public Datatype<?> getDatatype(final ATermAppl uri)
 	{
+		validateCaches();
+
 		try
 		{
 			Datatype<?> dt = _coreDatatypes.get(uri);
@@ -654,8 +724,17 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 			vars = Collections.emptySet();
 		}
 
+		validateCaches();
+
 		final ATermAppl and = ATermUtils.makeAnd(ATermUtils.makeList(dataranges));
-		final ATermAppl dnf = DNF.dnf(expander.expand(and, namedDataRanges));
+		if (value == null)
+		{
+			final Boolean satisfiable = _satisfiable.get(and);
+			if (satisfiable != null)
+				return satisfiable;
+		}
+
+		final ATermAppl dnf = getDNF(and);
 		Collection<ATermAppl> dnfDisjuncts;
 		if (ATermUtils.isOr(dnf))
 		{
@@ -673,7 +752,11 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 		@SuppressWarnings("unchecked")
 		final Set<Integer>[] ne = new Set[] { Collections.<Integer> emptySet() };
 
-		return isSatisfiable(consts, vars, dnfTypes, new Object[] { value }, ne);
+		final boolean satisfiable = isSatisfiable(consts, vars, dnfTypes, new Object[] { value }, ne);
+		if (value == null)
+			_satisfiable.put(and, satisfiable);
+
+		return satisfiable;
 	}
 
 	private boolean isSatisfiable(final Set<Integer> consts, final Set<Integer> vars, final Collection<ATermAppl>[] dnfTypes, final Object[] constValues, final Set<Integer>[] ne) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
@@ -981,6 +1064,8 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 	public boolean isSatisfiable(final Set<Literal> nodes, final Map<Literal, Set<Literal>> neqs) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
 	{
 
+		validateCaches();
+
 		final Literal[] literals = nodes.toArray(new Literal[0]);
 
 		// TODO: Evaluate replacing with intset or just int arrays.
@@ -1025,7 +1110,7 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 		for (int i = 0; i < literals.length; i++)
 		{
 			final ATermAppl and = ATermUtils.makeAnd(ATermUtils.makeList(literals[i].getTypes()));
-			final ATermAppl dnf = DNF.dnf(expander.expand(and, namedDataRanges));
+			final ATermAppl dnf = getDNF(and);
 			if (ATermUtils.isOr(dnf))
 			{
 				final List<ATermAppl> disjuncts = new ArrayList<>();
@@ -1051,11 +1136,23 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 
 		namedDataRanges.put(name, datarange);
 		declaredUndefined.remove(name);
+		clearCaches();
 
 		return true;
 	}
 
 	private DataRange<?> normalizeVarRanges(final ATermAppl dconjunction) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
+		DataRange<?> dr = _dconjunctions.get(dconjunction);
+		if (dr == null)
+		{
+			dr = computeVarRanges(dconjunction);
+			_dconjunctions.put(dconjunction, dr);
+		}
+		return dr;
+	}
+
+	private DataRange<?> computeVarRanges(final ATermAppl dconjunction) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
 	{
 
 		DataRange<?> ret;
@@ -1210,8 +1307,10 @@ public class DatatypeReasonerImpl implements DatatypeReasoner
 	@Override
 	public Iterator<?> valueIterator(final Collection<ATermAppl> dataranges) throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
 	{
+		validateCaches();
+
 		final ATermAppl and = ATermUtils.makeAnd(ATermUtils.makeList(dataranges));
-		final ATermAppl dnf = DNF.dnf(expander.expand(and, namedDataRanges));
+		final ATermAppl dnf = getDNF(and);
 		if (ATermUtils.isOr(dnf))
 		{
 			final List<DataRange<?>> disjuncts = new ArrayList<>();
@@ -37,10 +37,6 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 {
 	private static Set<ATermAppl> TOP_SET = SetUtils.singleton(ATermUtils.TOP);
 
-	private final Visitor _visitor = new Visitor();
-
-	private Expressivity _expressivity;
-
 	public DLExpressivityChecker(final KnowledgeBase kb)
 	{
 		super(kb);
@@ -49,11 +45,11 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 	@Override
 	public boolean compute(final Expressivity expressivity)
 	{
-		_expressivity = expressivity;
+		final Visitor visitor = new Visitor(expressivity);
 
-		processIndividuals();
-		processClasses();
-		processRoles();
+		processIndividuals(expressivity, visitor);
+		processClasses(visitor);
+		processRoles(expressivity, visitor);
 
 		return true;
 	}
@@ -61,15 +57,15 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 	@Override
 	public boolean updateWith(final Expressivity expressivity, final ATermAppl term)
 	{
-		_expressivity = expressivity;
-		_visitor.visit(term);
+		// The checker is shared by the concurrent satisfiability checks, the state of the visit is not
+		new Visitor(expressivity).visit(term);
 		return true;
 	}
 
-	private void processIndividuals()
+	private void processIndividuals(final Expressivity expressivity, final Visitor visitor)
 	{
 		if (!_KB.getABox().isEmpty())
-			_expressivity.setHasIndividual(true);
+			expressivity.setHasIndividual(true);
 
 		final Iterator<Individual> i = _KB.getABox().getIndIterator();
 		while (i.hasNext())
@@ -83,12 +79,12 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 
 				if (term.equals(nominal))
 					continue;
-				_visitor.visit(term);
+				visitor.visit(term);
 			}
 		}
 	}
 
-	private void processClasses()
+	private void processClasses(final Visitor visitor)
 	{
 		final TBox tbox = _KB.getTBox();
 
@@ -98,12 +94,12 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 			while (unfoldC.hasNext())
 			{
 				final Unfolding unf = unfoldC.next();
-				_visitor.visit(unf.getResult());
+				visitor.visit(unf.getResult());
 			}
 		}
 	}
 
-	private void processRoles()
+	private void processRoles(final Expressivity expressivity, final Visitor visitor)
 	{
 		for (final Role r : _KB.getRBox().getRoles().values())
 		{
@@ -112,66 +108,73 @@ public class DLExpressivityChecker extends ProfileBasedExpressivityChecker
 
 			if (r.isDatatypeRole())
 			{
-				_expressivity.setHasDatatype(true);
+				expressivity.setHasDatatype(true);
 				if (r.isInverseFunctional())
-					_expressivity.setHasKeys(true);
+					expressivity.setHasKeys(true);
 			}
 
 			if (r.isAnon())
 				for (final Role subRole : r.getSubRoles())
 					if (!subRole.isAnon() && !subRole.isBottom())
-						_expressivity.setHasInverse(true);
+						expressivity.setHasInverse(true);
 
 			// InverseFunctionalProperty declaration may mean that a named
 			// property has an anonymous inverse property which is functional
 			// The following _condition checks this case
 			if (r.isAnon() && r.isFunctional())
-				_expressivity.setHasInverse(true);
+				expressivity.setHasInverse(true);
 			if (r.isFunctional())
 				if (r.isDatatypeRole())
-					_expressivity.setHasFunctionalityD(true);
+					expressivity.setHasFunctionalityD(true);
 				else
 					if (r.isObjectRole())
-						_expressivity.setHasFunctionality(true);
+						expressivity.setHasFunctionality(true);
 			if (r.isTransitive())
-				_expressivity.setHasTransitivity(true);
+				expressivity.setHasTransitivity(true);
 			if (r.isReflexive())
-				_expressivity.setHasReflexivity(true);
+				expressivity.setHasReflexivity(true);
 			if (r.isIrreflexive())
-				_expressivity.setHasIrreflexivity(true);
+				expressivity.setHasIrreflexivity(true);
 			if (r.isAsymmetric())
-				_expressivity.setHasAsymmetry(true);
+				expressivity.setHasAsymmetry(true);
 			if (!r.getDisjointRoles().isEmpty())
-				_expressivity.setHasDisjointRoles(true);
+				expressivity.setHasDisjointRoles(true);
 			if (r.hasComplexSubRole())
-				_expressivity.setHasComplexSubRoles(true);
+				expressivity.setHasComplexSubRoles(true);
 
 			// Each property has itself included in the subroles set. We need
 			// at least two properties in the set to conclude there is a role
 			// hierarchy defined in the ontology
 			if (r.getSubRoles().size() > 1)
-				_expressivity.setHasRoleHierarchy(true);
+				expressivity.setHasRoleHierarchy(true);
 
 			final Set<ATermAppl> domains = r.getDomains();
 			if (!domains.isEmpty() && !domains.equals(TOP_SET))
 			{
-				_expressivity.setHasDomain(true);
+				expressivity.setHasDomain(true);
 				for (final ATermAppl domain : domains)
-					_visitor.visit(domain);
+					visitor.visit(domain);
 			}
 
 			final Set<ATermAppl> ranges = r.getRanges();
 			if (!ranges.isEmpty() && !ranges.equals(TOP_SET))
 			{
-				_expressivity.setHasRange(true);
+				expressivity.setHasRange(true);
 				for (final ATermAppl range : ranges)
-					_visitor.visit(range);
+					visitor.visit(range);
 			}
 		}
 	}
 
 	class Visitor extends ATermBaseVisitor
 	{
+		private final Expressivity _expressivity;
+
+		Visitor(final Expressivity expressivity)
+		{
+			_expressivity = expressivity;
+		}
+
 		@Override
 		public void visitTerm(final ATermAppl term)
 		{
@@ -50,6 +50,11 @@ public interface Base extends Boxes
 
 	Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> getAnnotations();
 
+	/**
+	 * @return the reverse index of the annotations : property -> object -> subjects
+	 */
+	Map<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> getAnnotationSubjectsIndex();
+
 	static void handleUndefinedEntity(final String s)
 	{
 		if (!OpenlletOptions.SILENT_UNDEFINED_ENTITY_HANDLING)
@@ -277,4 +282,6 @@ public interface Base extends Boxes
 	}
 
 	void binaryInstanceRetrieval(final ATermAppl c, final List<ATermAppl> candidates, final Collection<ATermAppl> results);
+
+	void batchedInstanceRetrieval(final ATermAppl c, final List<ATermAppl> candidates, final Collection<ATermAppl> results);
 }
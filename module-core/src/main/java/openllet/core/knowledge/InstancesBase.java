@@ -8,20 +8,26 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import openllet.aterm.ATerm;
 import openllet.aterm.ATermAppl;
 import openllet.aterm.ATermList;
 import openllet.atom.OpenError;
+import openllet.core.DependencySet;
 import openllet.core.OpenlletOptions;
 import openllet.core.OpenlletOptions.InstanceRetrievalMethod;
+import openllet.core.boxes.abox.ABox;
 import openllet.core.boxes.abox.Individual;
 import openllet.core.boxes.rbox.Role;
 import openllet.core.taxonomy.Taxonomy;
 import openllet.core.taxonomy.TaxonomyUtils;
 import openllet.core.utils.ATermUtils;
 import openllet.core.utils.Bool;
+import openllet.core.utils.CandidateSet;
 import openllet.core.utils.Timer;
+import openllet.core.utils.WorkerPool;
 import openllet.shared.tools.Logging;
 
 /**
@@ -77,6 +83,112 @@ public interface InstancesBase extends MessageBase, Logging, Base
 				}
 	}
 
+	/**
+	 * The candidates are checked by batches of {@link OpenlletOptions#INSTANCE_RETRIEVAL_BATCH_SIZE}, one consistency check covering a whole batch, and only
+	 * the batches that contain an instance are bisected. When a check is clash free, the model it built also discards the pending candidates that are not
+	 * instances in that model.
+	 */
+	@Override
+	default void batchedInstanceRetrieval(final ATermAppl c, final List<ATermAppl> candidates, final Collection<ATermAppl> results)
+	{
+		if (null == c || null == candidates || null == results)
+			return;
+
+		if (candidates.isEmpty())
+			return;
+
+		final Set<ATermAppl> pending = ConcurrentHashMap.newKeySet(candidates.size());
+		pending.addAll(candidates);
+		final Set<ATermAppl> instances = ConcurrentHashMap.newKeySet();
+		final AtomicLong saved = new AtomicLong();
+
+		final int batchSize = Math.max(1, OpenlletOptions.INSTANCE_RETRIEVAL_BATCH_SIZE);
+		final List<List<ATermAppl>> batches = new ArrayList<>();
+		for (int from = 0; from < candidates.size(); from += batchSize)
+			batches.add(candidates.subList(from, Math.min(from + batchSize, candidates.size())));
+
+		final int threads = OpenlletOptions.INSTANCE_RETRIEVAL_THREADS;
+		if (threads <= 1 || batches.size() == 1)
+			for (final List<ATermAppl> batch : batches)
+				batchInstanceRetrieval(getABox(), c, batch, false, pending, instances, saved);
+		else
+		{
+			getLogger().fine(() -> "Concurrent instance retrieval of " + batches.size() + " batches with " + threads + " threads");
+
+			final ABox abox = getABox();
+			final ThreadLocal<ABox> workerABox = ThreadLocal.withInitial(abox::copy);
+			try (final WorkerPool pool = new WorkerPool(threads))
+			{
+				pool.invoke(() -> batches.parallelStream().forEach(batch -> batchInstanceRetrieval(workerABox.get(), c, batch, false, pending, instances, saved)));
+			}
+		}
+
+		for (final ATermAppl ind : candidates)
+			if (instances.contains(ind))
+				results.add(ind);
+
+		getABox().getStats()._instanceChecksSaved += saved.get();
+	}
+
+	/**
+	 * @param abox
+	 * @param c
+	 * @param part candidates, those that are not pending anymore are ignored
+	 * @param checked true if the caller just checked the part, all of its candidates still pending, and found that they cannot all be non instances of c. That
+	 *            does not make any of them an instance, only a single candidate is.
+	 * @param pending candidates that are neither known instances nor known non instances
+	 * @param instances receives the instances of c
+	 * @param saved counts the checks that were not performed
+	 */
+	static void batchInstanceRetrieval(final ABox abox, final ATermAppl c, final List<ATermAppl> part, final boolean checked, final Set<ATermAppl> pending, final Set<ATermAppl> instances, final AtomicLong saved)
+	{
+		final List<ATermAppl> candidates = new ArrayList<>(part.size());
+		for (final ATermAppl ind : part)
+			if (pending.contains(ind))
+				candidates.add(ind);
+
+		if (candidates.isEmpty())
+			return;
+
+		if (!(checked && candidates.size() == part.size()) && !existType(abox, c, candidates, pending, saved))
+			return;
+
+		if (candidates.size() == 1)
+		{
+			final ATermAppl ind = candidates.get(0);
+			pending.remove(ind);
+			instances.add(ind);
+			return;
+		}
+
+		final List<ATermAppl>[] partitions = partition(candidates);
+		if (existType(abox, c, partitions[0], pending, saved))
+		{
+			batchInstanceRetrieval(abox, c, partitions[0], true, pending, instances, saved);
+			batchInstanceRetrieval(abox, c, partitions[1], false, pending, instances, saved);
+		}
+		else
+			batchInstanceRetrieval(abox, c, partitions[1], false, pending, instances, saved);
+	}
+
+	/**
+	 * @return true if the candidates cannot all be non instances of c, otherwise the candidates and the pending individuals found not to be instances of c are
+	 *         removed from the pending ones.
+	 */
+	private static boolean existType(final ABox abox, final ATermAppl c, final List<ATermAppl> candidates, final Set<ATermAppl> pending, final AtomicLong saved)
+	{
+		final Set<ATermAppl> nonInstances = new HashSet<>();
+		if (abox.existType(candidates, c, pending, nonInstances))
+			return true;
+
+		pending.removeAll(candidates);
+		for (final ATermAppl ind : nonInstances)
+			if (pending.remove(ind))
+				saved.incrementAndGet();
+
+		return false;
+	}
+
 	@SuppressWarnings("unchecked")
 	static List<ATermAppl>[] partition(final List<ATermAppl> candidates)
 	{
@@ -96,6 +208,39 @@ public interface InstancesBase extends MessageBase, Logging, Base
 		return partitions;
 	}
 
+	/**
+	 * @param c class whose instances are looked for
+	 * @return the individuals of the completed ABox that are known to be instances of the class, and the ones that may be, without any consistency check
+	 * @since 2.6.6
+	 */
+	default CandidateSet<ATermAppl> getObviousInstances(final ATermAppl c)
+	{
+		return getABox().getObviousInstances(c);
+	}
+
+	/**
+	 * @param c a class
+	 * @return true if the class has an instance, named or anonymous, in every model of the knowledge base
+	 * @since 2.6.6
+	 */
+	default boolean entailsInstance(final ATermAppl c)
+	{
+		final ATermAppl notC = ATermUtils.normalize(ATermUtils.makeNot(c));
+
+		// Every individual is a neighbour of every other one by the top object property, so its domain applies to all of them
+		final Role topObjectRole = getRole(ATermUtils.TOP_OBJECT_PROPERTY);
+		final boolean added = topObjectRole.addDomain(notC, DependencySet.INDEPENDENT);
+
+		final ABox copy = getABox().copy();
+		copy.setInitialized(false);
+		final boolean entailed = !copy.isConsistent();
+
+		if (added)
+			topObjectRole.removeDomain(notC, DependencySet.INDEPENDENT);
+
+		return entailed;
+	}
+
 	/**
 	 * Returns all the instances of concept c. If TOP concept is used every individual in the knowledge base will be returned
 	 *
@@ -266,11 +411,14 @@ public interface InstancesBase extends MessageBase, Logging, Base
 						if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.TRACING_BASED && OpenlletOptions.USE_TRACING)
 							tracingBasedInstanceRetrieval(c, unknowns, knowns);
 						else
-							if (getABox().existType(unknowns, c))
-								if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.BINARY)
-									binaryInstanceRetrieval(c, unknowns, knowns);
-								else
-									linearInstanceRetrieval(c, unknowns, knowns);
+							if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.BATCHED)
+								batchedInstanceRetrieval(c, unknowns, knowns);
+							else
+								if (getABox().existType(unknowns, c))
+									if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.BINARY)
+										binaryInstanceRetrieval(c, unknowns, knowns);
+									else
+										linearInstanceRetrieval(c, unknowns, knowns);
 
 				}
 
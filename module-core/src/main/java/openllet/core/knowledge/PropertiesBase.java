@@ -19,6 +19,7 @@ import openllet.aterm.ATermList;
 import openllet.core.DependencySet;
 import openllet.core.KnowledgeBase.ChangeType;
 import openllet.core.OpenlletOptions;
+import openllet.core.OpenlletOptions.InstanceRetrievalMethod;
 import openllet.core.boxes.abox.Edge;
 import openllet.core.boxes.abox.EdgeList;
 import openllet.core.boxes.abox.Individual;
@@ -44,6 +45,7 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 	{
 		getChanges().add(ChangeType.RBOX_ADD);
 		getRBox().addSubRole(sub, sup);
+		getRBox().getAssertedAxioms().add(ATermUtils.makeSubProp(sub, sup));
 
 		getLogger().finer(() -> "sub-prop " + sub + " " + sup);
 	}
@@ -52,6 +54,7 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 	{
 		getChanges().add(ChangeType.RBOX_ADD);
 		getRBox().addEquivalentRole(p1, p2);
+		getRBox().getAssertedAxioms().add(ATermUtils.makeEqProp(p1, p2));
 
 		getLogger().finer(() -> "same-prop " + p1 + " " + p2);
 	}
@@ -61,7 +64,8 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		if (null == properties)
 			return;
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeDisjointProperties(properties)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeDisjointProperties(properties);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		for (ATermList l1 = properties; !l1.isEmpty(); l1 = l1.getNext())
 		{
@@ -72,14 +76,17 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 				addDisjointProperty(p1, p2, ds);
 			}
 		}
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "disjoints " + properties);
 	}
 
 	default void addDisjointProperty(final ATermAppl p1, final ATermAppl p2)
 	{
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeDisjointProperty(p1, p2)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeDisjointProperty(p1, p2);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		addDisjointProperty(p1, p2, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 	}
 
 	default void addDisjointProperty(final ATermAppl p1, final ATermAppl p2, final DependencySet ds)
@@ -103,9 +110,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 
 		getChanges().add(ChangeType.RBOX_ADD);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeInvProp(p1, p2)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeInvProp(p1, p2);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		getRBox().addInverseRole(p1, p2, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 
 		getLogger().finer(() -> "inv-prop " + p1 + " " + p2);
 	}
@@ -119,10 +128,12 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 
 		final Role r = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeTransitive(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeTransitive(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		// r.setTransitive(true);
 		r.addSubRoleChain(ATermUtils.makeList(new ATerm[] { p, p }), ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "trans-prop " + p);
 	}
 
@@ -136,9 +147,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 
 		getChanges().add(ChangeType.RBOX_ADD);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeSymmetric(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeSymmetric(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		getRBox().addInverseRole(p, p, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "sym-prop " + p);
 	}
 
@@ -160,9 +173,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		getChanges().add(ChangeType.RBOX_ADD);
 		final Role r = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeAsymmetric(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeAsymmetric(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		r.setAsymmetric(true, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "anti-sym-prop " + p);
 	}
 
@@ -174,9 +189,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		getChanges().add(ChangeType.RBOX_ADD);
 		final Role r = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeReflexive(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeReflexive(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		r.setReflexive(true, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "reflexive-prop " + p);
 	}
 
@@ -185,9 +202,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		getChanges().add(ChangeType.RBOX_ADD);
 		final Role r = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeIrreflexive(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeIrreflexive(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		r.setIrreflexive(true, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "irreflexive-prop " + p);
 	}
 
@@ -196,9 +215,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		getChanges().add(ChangeType.RBOX_ADD);
 		final Role r = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeFunctional(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeFunctional(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		r.setFunctional(true, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "func-prop " + p);
 	}
 
@@ -216,9 +237,11 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		getChanges().add(ChangeType.RBOX_ADD);
 		final Role role = getRBox().getDefinedRole(p);
 
-		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(ATermUtils.makeInverseFunctional(p)) : DependencySet.INDEPENDENT;
+		final ATermAppl axiom = ATermUtils.makeInverseFunctional(p);
+		final DependencySet ds = OpenlletOptions.USE_TRACING ? new DependencySet(axiom) : DependencySet.INDEPENDENT;
 
 		role.setInverseFunctional(true, ds);
+		getRBox().getAssertedAxioms().add(axiom);
 		getLogger().finer(() -> "inv-func-prop " + p);
 	}
 
@@ -1077,7 +1100,10 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 			final ATermAppl valueX = ATermUtils.makeHasValue(role.getInverse().getName(), x);
 			final ATermAppl c = ATermUtils.normalize(valueX);
 
-			binaryInstanceRetrieval(c, new ArrayList<>(unknowns), knowns);
+			if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.BATCHED)
+				batchedInstanceRetrieval(c, new ArrayList<>(unknowns), knowns);
+			else
+				binaryInstanceRetrieval(c, new ArrayList<>(unknowns), knowns);
 		}
 
 		return knowns;
@@ -1222,7 +1248,10 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 			{
 				final ATermAppl c = ATermUtils.normalize(ATermUtils.makeHasValue(r, litValue));
 
-				binaryInstanceRetrieval(c, unknowns, knowns);
+				if (OpenlletOptions.INSTANCE_RETRIEVAL == InstanceRetrievalMethod.BATCHED)
+					batchedInstanceRetrieval(c, unknowns, knowns);
+				else
+					binaryInstanceRetrieval(c, unknowns, knowns);
 			}
 		}
 
@@ -1234,24 +1263,28 @@ public interface PropertiesBase extends MessageBase, Logging, Base
 		if (null == p || null == o)
 			return Collections.emptySet();
 
-		final Set<ATermAppl> ret = new HashSet<>();
+		return individualsWithAnnotation(p, o).collect(Collectors.toSet());
+	}
 
-		for (final Map.Entry<ATermAppl, Map<ATermAppl, Set<ATermAppl>>> e1 : getAnnotations().entrySet())
-		{
-			final ATermAppl st = e1.getKey();
-			final Map<ATermAppl, Set<ATermAppl>> pidx = e1.getValue();
+	/**
+	 * @param p an annotation property
+	 * @param o an annotation value
+	 * @return the subjects annotated with the given property and value, read from the reverse annotation index without copy.
+	 */
+	default Stream<ATermAppl> individualsWithAnnotation(final ATermAppl p, final ATermAppl o)
+	{
+		if (null == p || null == o)
+			return Stream.empty();
 
-			for (final Map.Entry<ATermAppl, Set<ATermAppl>> e2 : pidx.entrySet())
-			{
-				final ATermAppl pt = e2.getKey();
-				final Set<ATermAppl> oidx = e2.getValue();
+		final Map<ATermAppl, Set<ATermAppl>> oidx = getAnnotationSubjectsIndex().get(p);
+		if (oidx == null)
+			return Stream.empty();
 
-				if (pt.equals(p) && oidx.contains(o))
-					ret.add(st);
-			}
-		}
+		final Set<ATermAppl> subjects = oidx.get(o);
+		if (subjects == null)
+			return Stream.empty();
 
-		return ret;
+		return subjects.stream();
 	}
 
 	/**
@@ -14,12 +14,22 @@ public class PartialBinding
 	private final Rule _rule;
 	private final VariableBinding _binding;
 	private final DependencySet _ds;
+	private final int _branch;
 
 	public PartialBinding(final Rule rule, final VariableBinding binding, final DependencySet ds)
+	{
+		this(rule, binding, ds, ds.max() + 1);
+	}
+
+	/**
+	 * @param branch a restore to any lower branch removes the binding, the {@link openllet.core.rules.rete.Token#getMaxBranch()} of the token it comes from
+	 */
+	public PartialBinding(final Rule rule, final VariableBinding binding, final DependencySet ds, final int branch)
 	{
 		_rule = rule;
 		_binding = binding;
 		_ds = ds;
+		_branch = branch;
 	}
 
 	public Rule getRule()
@@ -39,6 +49,6 @@ public class PartialBinding
 
 	public int getBranch()
 	{
-		return _ds.max();
+		return _branch;
 	}
 }
@@ -7,9 +7,13 @@
 package openllet.core.rules.rete;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import openllet.aterm.ATermAppl;
@@ -52,6 +56,11 @@ public class AlphaNetwork implements Iterable<AlphaNode>
 	private final AlphaNodeCreator _creator = new AlphaNodeCreator();
 	private final ABox _abox;
 
+	/**
+	 * For each branch, the beta memories holding tokens whose max branch is that one. A restore only visits the memories of the branches it drops.
+	 */
+	private final NavigableMap<Integer, Set<BetaMemoryNode>> _journal = new TreeMap<>();
+
 	public AlphaNetwork(final ABox abox)
 	{
 		_abox = abox;
@@ -117,24 +126,48 @@ public class AlphaNetwork implements Iterable<AlphaNode>
 
 	public void activateAll()
 	{
-		_abox.getIndIterator().forEachRemaining(this::activateIndividual);
+		// Not the individual iterator, it skips the pruned individuals
+		final List<ATermAppl> names = _abox.getNodeNames();
+		for (int i = 0, n = names.size(); i < n; i++)
+		{
+			final Node node = _abox.getNode(names.get(i));
+			if (node != null && node.isIndividual())
+				activateIndividual((Individual) node);
+		}
 	}
 
 	public boolean activateIndividual(final Individual ind)
 	{
-		// only named non-pruned individuals
+		// only named individuals
 		final boolean changed = false;
-		if (!ind.isRootNominal() || ind.isPruned())
+		if (!ind.isRootNominal())
 			return false;
 
-		for (final ATermAppl type : new ArrayList<>(ind.getTypes(Node.ATOM)))
+		// Only the facts some alpha node is interested in are copied, the activation may add facts to the individual
+		final List<ATermAppl> types = new ArrayList<>();
+		for (final ATermAppl type : ind.getTypes(Node.ATOM))
+			if (_map.containsKey(type))
+				types.add(type);
+
+		for (final ATermAppl type : types)
 			activateType(ind, type, ind.getDepends(type));
 
 		activateDifferents(ind);
 
-		for (final Edge edge : new ArrayList<>(ind.getOutEdges()))
-			if (edge.getTo().isRootNominal())
-				activateEdge(edge);
+		final List<Edge> edges = new ArrayList<>();
+		for (final Edge edge : ind.getOutEdges())
+			if (edge.getTo().isRootNominal() && getEdgeNodes(edge) != null)
+				edges.add(edge);
+
+		// An individual merged before the completion started, in a copy of a completed ABox, is activated as it was before the merge, since a restore may
+		// undo the merge. The merge removed its incoming edges from the out edges of their subjects.
+		if (ind.isPruned())
+			for (final Edge edge : ind.getInEdges())
+				if (edge.getFrom() != ind && edge.getFrom().isRootNominal() && getEdgeNodes(edge) != null)
+					edges.add(edge);
+
+		for (final Edge edge : edges)
+			activateEdge(edge);
 
 		return changed;
 	}
@@ -149,15 +182,20 @@ public class AlphaNetwork implements Iterable<AlphaNode>
 
 	public void activateEdge(final Edge edge)
 	{
-		Role r = edge.getRole();
-		if (r.isAnon())
-			r = r.getInverse();
-		final List<AlphaNode> alphas = _map.get(r.getName());
+		final List<AlphaNode> alphas = getEdgeNodes(edge);
 		if (alphas != null)
 			for (final AlphaNode alpha : alphas)
 				((AlphaEdgeNode) alpha).activate(edge);
 	}
 
+	private List<AlphaNode> getEdgeNodes(final Edge edge)
+	{
+		Role r = edge.getRole();
+		if (r.isAnon())
+			r = r.getInverse();
+		return _map.get(r.getName());
+	}
+
 	public void activateDifferents(final Individual ind)
 	{
 		final List<AlphaNode> alphas = _map.get("DIFFERENT");
@@ -178,6 +216,48 @@ public class AlphaNetwork implements Iterable<AlphaNode>
 				((AlphaDiffFromNode) alpha).activate(ind, diff, ds);
 	}
 
+	/**
+	 * Records that the memory holds the token, called when the token is added to the memory.
+	 *
+	 * @since 2.6.6
+	 */
+	void addToken(final BetaMemoryNode memory, final Token token)
+	{
+		_journal.computeIfAbsent(token.getMaxBranch(), b -> new HashSet<>()).add(memory);
+	}
+
+	/**
+	 * Removes the tokens that depend on a branch above the given one from the beta memories that hold some.
+	 *
+	 * @since 2.6.6
+	 */
+	public void restore(final int branch)
+	{
+		final NavigableMap<Integer, Set<BetaMemoryNode>> dropped = _journal.tailMap(branch, false);
+		if (dropped.isEmpty())
+			return;
+
+		final Set<BetaMemoryNode> memories = new HashSet<>();
+		for (final Set<BetaMemoryNode> nodes : dropped.values())
+			memories.addAll(nodes);
+		dropped.clear();
+
+		for (final BetaMemoryNode memory : memories)
+			memory.restoreMemory(branch);
+	}
+
+	/**
+	 * Removes all the tokens from the beta memories.
+	 *
+	 * @since 2.6.6
+	 */
+	public void reset()
+	{
+		for (final AlphaNode alpha : _alphaNodes)
+			alpha.reset();
+		_journal.clear();
+	}
+
 	public void setDoExplanation(final boolean doExplanation)
 	{
 		for (final AlphaNode alphaNode : _alphaNodes)
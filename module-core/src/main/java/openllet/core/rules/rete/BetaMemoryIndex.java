@@ -8,10 +8,15 @@ package openllet.core.rules.rete;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import openllet.core.boxes.abox.Node;
 import openllet.core.utils.iterator.IteratorUtils;
@@ -40,7 +45,16 @@ public abstract class BetaMemoryIndex
 
 	public static BetaMemoryIndex withJoin(final JoinCondition condition)
 	{
-		return condition == null ? new Unindexed() : new JoinIndexed(condition);
+		return condition == null ? new Unindexed() : new JoinIndexed(Collections.singletonList(condition));
+	}
+
+	/**
+	 * @param conditions the join conditions of a beta node.
+	 * @return an index keyed on the values of all the joined variables, so a new fact only meets the tokens that agree on each of them.
+	 */
+	public static BetaMemoryIndex withJoins(final List<JoinCondition> conditions)
+	{
+		return conditions.isEmpty() ? new Unindexed() : new JoinIndexed(conditions);
 	}
 
 	private static class Unindexed extends BetaMemoryIndex
@@ -48,6 +62,12 @@ public abstract class BetaMemoryIndex
 		private Token[] index = new Token[10];
 		private int size = 0;
 
+		/**
+		 * For each branch, the lowest position in the index of a token whose max branch is that one. A restore only compacts the index from the lowest position
+		 * of the branches it drops.
+		 */
+		private final NavigableMap<Integer, Integer> _journal = new TreeMap<>();
+
 		@Override
 		public boolean isJoined()
 		{
@@ -63,6 +83,7 @@ public abstract class BetaMemoryIndex
 				index = Arrays.copyOf(index, newSize);
 			}
 
+			_journal.putIfAbsent(token.getMaxBranch(), size);
 			index[size++] = token;
 		}
 
@@ -81,33 +102,36 @@ public abstract class BetaMemoryIndex
 		@Override
 		public void restore(final int branch)
 		{
-			int i = 0;
-			int removed = 0;
-			for (; i < size; i++)
+			final NavigableMap<Integer, Integer> dropped = _journal.tailMap(branch, false);
+			if (dropped.isEmpty())
+				return;
+
+			int start = size;
+			for (final int position : dropped.values())
+				start = Math.min(start, position);
+			dropped.clear();
+
+			int kept = start;
+			for (int i = start; i < size; i++)
 			{
 				final Token token = index[i];
-				if (token.dependsOn(branch))
-					removed++;
-				else
-					if (removed > 0)
-					{
-						System.arraycopy(index, i, index, i - removed, size - i);
-						size -= removed;
-						removed = 0;
-					}
+				if (!token.dependsOn(branch))
+					index[kept++] = token;
 			}
+			Arrays.fill(index, kept, size, null);
+			size = kept;
 
-			if (removed > 0)
-			{
-				System.arraycopy(index, i, index, i - removed, size - i);
-				size -= removed;
-			}
+			// The remaining tokens after start may have moved down
+			final int from = start;
+			_journal.replaceAll((b, position) -> Math.min(position, from));
 		}
 
 		@Override
 		public void clear()
 		{
+			Arrays.fill(index, 0, size, null);
 			size = 0;
+			_journal.clear();
 		}
 
 		@Override
@@ -193,13 +217,43 @@ public abstract class BetaMemoryIndex
 
 	private static class JoinIndexed extends BetaMemoryIndex
 	{
-		private final Map<Node, List<Token>> _index = new HashMap<>();
+		/**
+		 * Tokens by the node of the joined variable, or by the list of the nodes of the joined variables when there are more than one.
+		 */
+		private final Map<Object, List<Token>> _index = new HashMap<>();
 
-		private final JoinCondition _joinCondition;
+		/**
+		 * For each branch, the join keys whose tokens have that max branch. A restore only visits the lists of the branches it drops.
+		 */
+		private final NavigableMap<Integer, Set<Object>> _journal = new TreeMap<>();
+
+		private final JoinCondition[] _joinConditions;
 
-		private JoinIndexed(final JoinCondition joinCondition)
+		private JoinIndexed(final List<JoinCondition> joinConditions)
 		{
-			_joinCondition = joinCondition;
+			_joinConditions = joinConditions.toArray(new JoinCondition[joinConditions.size()]);
+		}
+
+		private Object getKey(final Token token)
+		{
+			if (_joinConditions.length == 1)
+				return _joinConditions[0].getToken().getNode(null, token);
+
+			final Node[] key = new Node[_joinConditions.length];
+			for (int i = 0; i < key.length; i++)
+				key[i] = _joinConditions[i].getToken().getNode(null, token);
+			return Arrays.asList(key);
+		}
+
+		private Object getKey(final WME wme)
+		{
+			if (_joinConditions.length == 1)
+				return _joinConditions[0].getWME().getNode(wme, null);
+
+			final Node[] key = new Node[_joinConditions.length];
+			for (int i = 0; i < key.length; i++)
+				key[i] = _joinConditions[i].getWME().getNode(wme, null);
+			return Arrays.asList(key);
 		}
 
 		@Override
@@ -211,23 +265,22 @@ public abstract class BetaMemoryIndex
 		@Override
 		public void add(final Token token)
 		{
-			final Node tokenArg = _joinCondition.getToken().getNode(null, token);
+			final Object key = getKey(token);
 
-			List<Token> tokens = _index.get(tokenArg);
+			List<Token> tokens = _index.get(key);
 			if (tokens == null)
 			{
 				tokens = new ArrayList<>();
-				_index.put(tokenArg, tokens);
+				_index.put(key, tokens);
 			}
 			tokens.add(token);
+			_journal.computeIfAbsent(token.getMaxBranch(), b -> new HashSet<>()).add(key);
 		}
 
 		@Override
 		public Iterator<Token> getTokens(final WME wme)
 		{
-			final Node wmeArg = _joinCondition.getWME().getNode(wme, null);
-
-			final List<Token> tokens = _index.get(wmeArg);
+			final List<Token> tokens = _index.get(getKey(wme));
 
 			return tokens == null ? IteratorUtils.<Token> emptyIterator() : new ListIterator<>(tokens);
 		}
@@ -235,24 +288,31 @@ public abstract class BetaMemoryIndex
 		@Override
 		public Iterator<WME> getWMEs(final Token token, final AlphaNode alpha)
 		{
-			final Node tokenArg = _joinCondition.getToken().getNode(null, token);
-			return alpha.getMatches(_joinCondition.getWME().getIndexArg(), tokenArg);
+			final JoinCondition joinCondition = _joinConditions[0];
+			final Node tokenArg = joinCondition.getToken().getNode(null, token);
+			return alpha.getMatches(joinCondition.getWME().getIndexArg(), tokenArg);
 		}
 
 		@Override
 		public void restore(final int branch)
 		{
-			for (final Iterator<List<Token>> i = _index.values().iterator(); i.hasNext();)
+			final NavigableMap<Integer, Set<Object>> dropped = _journal.tailMap(branch, false);
+			if (dropped.isEmpty())
+				return;
+
+			final Set<Object> keys = new HashSet<>();
+			for (final Set<Object> branchKeys : dropped.values())
+				keys.addAll(branchKeys);
+			dropped.clear();
+
+			for (final Object key : keys)
 			{
-				final List<Token> tokens = i.next();
-				for (final Iterator<Token> j = tokens.iterator(); j.hasNext();)
-				{
-					final Token token = j.next();
-					if (token.dependsOn(branch))
-						j.remove();
-				}
+				final List<Token> tokens = _index.get(key);
+				if (tokens == null)
+					continue;
+				tokens.removeIf(token -> token.dependsOn(branch));
 				if (tokens.isEmpty())
-					i.remove();
+					_index.remove(key);
 			}
 		}
 
@@ -260,6 +320,7 @@ public abstract class BetaMemoryIndex
 		public void clear()
 		{
 			_index.clear();
+			_journal.clear();
 		}
 
 		@Override
@@ -6,6 +6,7 @@
 
 package openllet.core.rules.rete;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -13,14 +14,22 @@ public class BetaMemoryNode extends BetaNode
 {
 	private final BetaMemoryIndex _memory;
 
+	private final AlphaNetwork _network;
+
 	private final AlphaNode _alpha;
 
 	private final List<FilterCondition> _conditions;
 
-	public BetaMemoryNode(final AlphaNode alpha, final List<FilterCondition> conditions)
+	/**
+	 * @param network the network that journals the tokens of this memory
+	 * @param alpha the alpha node joined with the tokens
+	 * @param conditions of the join
+	 */
+	public BetaMemoryNode(final AlphaNetwork network, final AlphaNode alpha, final List<FilterCondition> conditions)
 	{
 		if (conditions == null)
 			throw new NullPointerException();
+		_network = network;
 		_alpha = alpha;
 		_conditions = conditions;
 		_memory = createIndex(conditions);
@@ -28,10 +37,15 @@ public class BetaMemoryNode extends BetaNode
 
 	private static BetaMemoryIndex createIndex(final List<FilterCondition> conditions)
 	{
-		if (!conditions.isEmpty() && conditions.get(0) instanceof JoinCondition)
-			return BetaMemoryIndex.withJoin((JoinCondition) conditions.get(0));
-
-		return BetaMemoryIndex.withoutJoin();
+		// The join conditions come first, the builtin conditions follow them
+		final List<JoinCondition> joins = new ArrayList<>();
+		for (final FilterCondition condition : conditions)
+			if (condition instanceof JoinCondition)
+				joins.add((JoinCondition) condition);
+			else
+				break;
+
+		return joins.isEmpty() ? BetaMemoryIndex.withoutJoin() : BetaMemoryIndex.withJoins(joins);
 	}
 
 	public AlphaNode getAlphaNode()
@@ -65,6 +79,7 @@ public class BetaMemoryNode extends BetaNode
 		_logger.fine(() -> "Activate beta " + token);
 
 		_memory.add(token);
+		_network.addToken(this, token);
 
 		final Iterator<WME> matches = _memory.getWMEs(token, _alpha);
 		while (matches.hasNext())
@@ -101,6 +116,16 @@ public class BetaMemoryNode extends BetaNode
 		_memory.restore(branch);
 	}
 
+	/**
+	 * Removes the tokens of this memory that depend on a branch above the given one, without visiting the children.
+	 *
+	 * @since 2.6.6
+	 */
+	void restoreMemory(final int branch)
+	{
+		_memory.restore(branch);
+	}
+
 	@Override
 	public void print(final String indentLvl)
 	{
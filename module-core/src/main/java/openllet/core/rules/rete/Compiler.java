@@ -53,6 +53,7 @@ import openllet.core.rules.rete.NodeProvider.ConstantNodeProvider;
 import openllet.core.rules.rete.NodeProvider.TokenNodeProvider;
 import openllet.core.rules.rete.NodeProvider.WMENodeProvider;
 import openllet.core.utils.SetUtils;
+import openllet.core.utils.SizeEstimate;
 
 /**
  * <p>
@@ -70,6 +71,7 @@ public class Compiler
 	protected ContinuousRulesStrategy _strategy;
 	private final ABox _abox;
 	private final AlphaNetwork _alphaNet;
+	private final SizeEstimate _sizeEstimate;
 
 	private final SafetyChecker _safetyChecker = new SafetyChecker();
 
@@ -78,6 +80,7 @@ public class Compiler
 		_strategy = strategy;
 		_abox = strategy.getABox();
 		_alphaNet = new AlphaNetwork(_abox);
+		_sizeEstimate = _abox.getKB().getSizeEstimate();
 	}
 
 	public AlphaNetwork getAlphaNet()
@@ -85,29 +88,55 @@ public class Compiler
 		return _alphaNet;
 	}
 
+	/**
+	 * Picks the next atom to join : a safe atom sharing a variable with the atoms already joined, the one with the fewest estimated matches first. Without
+	 * estimates the atoms are taken in the order of the rule.
+	 *
+	 * @param atoms not joined yet
+	 * @param bound variables of the atoms already joined
+	 * @return the atom removed from the list
+	 */
 	private RuleAtom pickNextAtom(final List<RuleAtom> atoms, final Set<AtomVariable> bound)
 	{
 		int index = 0;
-		if (bound.isEmpty())
-			for (int i = 0; i < atoms.size(); i++)
-			{
-				final RuleAtom atom = atoms.get(i);
-				if (_safetyChecker.isSafe(atom))
-					return atoms.remove(i);
-			}
-		else
-			for (int i = 0; i < atoms.size(); i++)
+		int best = -1;
+		int bestSize = Integer.MAX_VALUE;
+		for (int i = 0; i < atoms.size(); i++)
+		{
+			final RuleAtom atom = atoms.get(i);
+			if (!bound.isEmpty() && !SetUtils.intersects(bound, atom.getAllArguments()))
+				continue;
+
+			if (_safetyChecker.isSafe(atom))
 			{
-				final RuleAtom atom = atoms.get(i);
-				if (SetUtils.intersects(bound, atom.getAllArguments()))
+				final int size = estimateSize(atom);
+				if (best == -1 || size < bestSize)
 				{
-					index = i;
-					if (_safetyChecker.isSafe(atom))
-						break;
+					best = i;
+					bestSize = size;
 				}
 			}
+			else
+				if (best == -1 && !bound.isEmpty())
+					index = i;
+		}
+
+		return atoms.remove(best == -1 ? index : best);
+	}
+
+	/**
+	 * The estimates are only read when they are already computed, computing them requires reasoning and the compiler runs within the completion.
+	 *
+	 * @param atom
+	 * @return the estimated number of facts matching the atom, Integer.MAX_VALUE if unknown
+	 */
+	private int estimateSize(final RuleAtom atom)
+	{
+		if (!(atom instanceof ClassAtom || atom instanceof IndividualPropertyAtom || atom instanceof DatavaluedPropertyAtom))
+			return Integer.MAX_VALUE;
 
-		return atoms.remove(index);
+		final ATermAppl predicate = (ATermAppl) atom.getPredicate();
+		return _sizeEstimate.isComputed(predicate) ? _sizeEstimate.size(predicate) : Integer.MAX_VALUE;
 	}
 
 	public void compile(final Rule rule, final Set<ATermAppl> explain)
@@ -198,7 +227,7 @@ public class Compiler
 
 			if (null == newBeta)
 			{
-				newBeta = node == null ? new BetaTopNode(alpha) : new BetaMemoryNode(alpha, conditions);
+				newBeta = node == null ? new BetaTopNode(alpha) : new BetaMemoryNode(_alphaNet, alpha, conditions);
 				canReuseBeta = false;
 			}
 
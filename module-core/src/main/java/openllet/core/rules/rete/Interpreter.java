@@ -31,22 +31,17 @@ public class Interpreter
 	 */
 	public void reset()
 	{
-		for (final AlphaNode alpha : _alphaNet)
-			alpha.reset();
+		_alphaNet.reset();
 	}
 
 	/**
-	 * Restore abox to the given branch
+	 * Restore abox to the given branch, only the beta memories journaled with a higher branch are visited.
 	 *
 	 * @param branch
 	 */
 	public void restore(final int branch)
 	{
-		for (final AlphaNode alpha : _alphaNet)
-			alpha.unmark();
-
-		for (final AlphaNode alpha : _alphaNet)
-			alpha.restore(branch);
+		_alphaNet.restore(branch);
 	}
 
 	public void run()
@@ -240,7 +240,7 @@ public abstract class ProductionNode extends BetaNode
 					binding.set((AtomDVariable) arg, (Literal) node);
 			}
 			_logger.fine(() -> "Produce binding " + _rule + " -> " + binding);
-			_strategy.addPartialBinding(new PartialBinding(_rule, binding, _ds));
+			_strategy.addPartialBinding(new PartialBinding(_rule, binding, _ds, token.getMaxBranch()));
 		}
 
 		@Override
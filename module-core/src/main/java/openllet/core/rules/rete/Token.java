@@ -21,18 +21,25 @@ public abstract class Token
 
 	public abstract boolean dependsOn(int branch);
 
+	/**
+	 * @return the highest {@link WME#getBranch()} of the facts of this token, a restore to any lower branch removes the token.
+	 */
+	public abstract int getMaxBranch();
+
 	@SuppressWarnings("unused")
 	private static class ListToken extends Token
 	{
 		private final ListToken _next;
 		private final WME _wme;
 		private final int _index;
+		private final int _maxBranch;
 
 		public ListToken(final WME wme, final ListToken tok)
 		{
 			_wme = wme;
 			_next = tok;
 			_index = tok == null ? 0 : tok._index + 1;
+			_maxBranch = tok == null ? wme.getBranch() : Math.max(tok._maxBranch, wme.getBranch());
 		}
 
 		/**
@@ -74,6 +81,12 @@ public abstract class Token
 			return false;
 		}
 
+		@Override
+		public int getMaxBranch()
+		{
+			return _maxBranch;
+		}
+
 		@Override
 		public String toString()
 		{
@@ -92,12 +105,14 @@ public abstract class Token
 	private static class ArrayToken extends Token
 	{
 		private final WME[] _wmes;
+		private final int _maxBranch;
 
 		public ArrayToken(final WME wme, final ArrayToken tok)
 		{
 			final int l = tok == null ? 0 : tok._wmes.length;
 			_wmes = tok == null ? new WME[1] : Arrays.copyOf(tok._wmes, l + 1);
 			_wmes[l] = wme;
+			_maxBranch = tok == null ? wme.getBranch() : Math.max(tok._maxBranch, wme.getBranch());
 		}
 
 		/**
@@ -137,6 +152,12 @@ public abstract class Token
 			return false;
 		}
 
+		@Override
+		public int getMaxBranch()
+		{
+			return _maxBranch;
+		}
+
 		@Override
 		public String toString()
 		{
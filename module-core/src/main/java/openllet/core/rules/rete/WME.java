@@ -10,6 +10,7 @@ import java.util.Arrays;
 
 import openllet.aterm.ATermAppl;
 import openllet.core.DependencySet;
+import openllet.core.OpenlletOptions;
 import openllet.core.boxes.abox.Edge;
 import openllet.core.boxes.abox.Individual;
 import openllet.core.boxes.abox.Literal;
@@ -30,9 +31,26 @@ public abstract class WME
 
 	public abstract DependencySet getDepends();
 
+	/**
+	 * @return the branch such that a restore to any lower branch removes the fact of this WME from the ABox. Edges and differences are removed by a restore
+	 *         below the branch they were added in, as the ABox does.
+	 */
+	public int getBranch()
+	{
+		return getDepends().getBranch();
+	}
+
 	public boolean dependsOn(final int branch)
 	{
-		return getDepends().max() > branch;
+		return getBranch() > branch;
+	}
+
+	/**
+	 * @return the bound the ABox uses to restore a type with the given dependencies.
+	 */
+	private static int getTypeBranch(final DependencySet ds)
+	{
+		return OpenlletOptions.USE_SMART_RESTORE ? ds.max() + 1 : ds.getBranch();
 	}
 
 	public abstract Kind getKind();
@@ -97,6 +115,12 @@ public abstract class WME
 			return Kind.TYPE;
 		}
 
+		@Override
+		public int getBranch()
+		{
+			return getTypeBranch(getDepends());
+		}
+
 		@Override
 		public Node getArg(final int index)
 		{
@@ -182,6 +206,13 @@ public abstract class WME
 			return Kind.BUILT_IN;
 		}
 
+		@Override
+		public int getBranch()
+		{
+			// Built-ins are about the literals, restored as types
+			return getTypeBranch(_depends);
+		}
+
 		@Override
 		public Node getArg(final int index)
 		{
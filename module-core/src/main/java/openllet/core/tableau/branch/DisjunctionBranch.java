@@ -47,7 +47,11 @@ import openllet.core.utils.ATermUtils;
 
 public class DisjunctionBranch extends Branch
 {
-	protected final Node _node;
+	private final ATermAppl _name;
+
+	/** null in a copy until the _node is looked up in the ABox of the copy, so a lazy copy of the ABox does not copy it before it is needed */
+	private volatile Node _node;
+
 	protected final ATermAppl _disjunction;
 	private volatile ATermAppl[] _allDisjonctions;
 	protected volatile DependencySet[] _prevDS;
@@ -58,6 +62,7 @@ public class DisjunctionBranch extends Branch
 	{
 		super(abox, completion, ds, disj.length);
 
+		_name = node.getName();
 		_node = node;
 		_disjunction = disjunction;
 		setDisj(disj);
@@ -71,7 +76,8 @@ public class DisjunctionBranch extends Branch
 	{
 		super(abox, dr._allDisjonctions.length, dr);
 
-		_node = abox.getNode(dr._node.getName());
+		_name = dr._name;
+		_node = null;
 		_disjunction = dr._disjunction;
 		_allDisjonctions = dr._allDisjonctions;
 
@@ -85,12 +91,14 @@ public class DisjunctionBranch extends Branch
 	@Override
 	public Node getNode()
 	{
+		if (_node == null)
+			_node = _abox.getNode(_name);
 		return _node;
 	}
 
 	protected String getDebugMsg()
 	{
-		return "DISJ: Branch (" + getBranchIndexInABox() + ") try (" + (getTryNext() + 1) + "/" + getTryCount() + ") " + _node + " " + ATermUtils.toString(_allDisjonctions[getTryNext()]) + " " + ATermUtils.toString(_disjunction);
+		return "DISJ: Branch (" + getBranchIndexInABox() + ") try (" + (getTryNext() + 1) + "/" + getTryCount() + ") " + getNode() + " " + ATermUtils.toString(_allDisjonctions[getTryNext()]) + " " + ATermUtils.toString(_disjunction);
 	}
 
 	@Override
@@ -170,7 +178,7 @@ public class DisjunctionBranch extends Branch
 			}
 		}
 
-		final Node node = _node.getSame();
+		final Node node = getNode().getSame();
 
 		for (; getTryNext() < getTryCount(); _tryNext++)
 		{
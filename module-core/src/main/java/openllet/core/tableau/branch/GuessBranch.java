@@ -50,8 +50,6 @@ public class GuessBranch extends IndividualBranch
 		_r = gb._r;
 		_minGuess = gb._minGuess;
 		_qualification = gb._qualification;
-
-		_ind = abox.getIndividual(_ind.getName()); // FIXME : see MaxBranch
 	}
 
 	@Override
@@ -71,15 +69,15 @@ public class GuessBranch extends IndividualBranch
 			// start with max possibility and decrement at each try
 			final int n = _minGuess + getTryCount() - getTryNext() - 1;
 
-			_logger.fine(() -> "GUES: (" + (getTryNext() + 1) + "/" + getTryCount() + ") at _branch (" + getBranchIndexInABox() + ") to  " + _ind + " -> " + _r + " -> anon" + (n == 1 ? "" : _abox.getAnonCount() + 1 + " - anon") + (_abox.getAnonCount() + n));
+			_logger.fine(() -> "GUES: (" + (getTryNext() + 1) + "/" + getTryCount() + ") at _branch (" + getBranchIndexInABox() + ") to  " + getNode() + " -> " + _r + " -> anon" + (n == 1 ? "" : _abox.getAnonCount() + 1 + " - anon") + (_abox.getAnonCount() + n));
 
 			ds = ds.union(new DependencySet(getBranchIndexInABox()), _abox.doExplanation());
 
 			// add the min cardinality restriction just to make early clash detection easier
-			_strategy.addType(_ind, ATermUtils.makeMin(_r.getName(), n, _qualification), ds);
+			_strategy.addType(getNode(), ATermUtils.makeMin(_r.getName(), n, _qualification), ds);
 
 			// add the max cardinality for guess
-			_strategy.addType(_ind, ATermUtils.makeNormalizedMax(_r.getName(), n, _qualification), ds);
+			_strategy.addType(getNode(), ATermUtils.makeNormalizedMax(_r.getName(), n, _qualification), ds);
 
 			// create n distinct nominal successors
 			final Individual[] y = new Individual[n];
@@ -87,7 +85,7 @@ public class GuessBranch extends IndividualBranch
 			{
 				y[c1] = _strategy.createFreshIndividual(null, ds);
 
-				_strategy.addEdge(_ind, _r, y[c1], ds);
+				_strategy.addEdge(getNode(), _r, y[c1], ds);
 				y[c1] = y[c1].getSame();
 				_strategy.addType(y[c1], _qualification, ds);
 				y[c1] = y[c1].getSame();
@@ -127,7 +125,7 @@ public class GuessBranch extends IndividualBranch
 		if (!OpenlletOptions.USE_INCREMENTAL_DELETION)
 			ds.remove(getBranchIndexInABox());
 
-		_abox.setClash(Clash.unexplained(_ind, ds));
+		_abox.setClash(Clash.unexplained(getNode(), ds));
 
 		return;
 	}
@@ -136,9 +134,9 @@ public class GuessBranch extends IndividualBranch
 	public String toString()
 	{
 		if (getTryNext() < getTryCount())
-			return "Branch " + getBranchIndexInABox() + " guess rule on " + _ind + " for role  " + _r;
+			return "Branch " + getBranchIndexInABox() + " guess rule on " + getNode() + " for role  " + _r;
 
-		return "Branch " + getBranchIndexInABox() + " guess rule on " + _ind + " for role  " + _r + " exhausted merge possibilities";
+		return "Branch " + getBranchIndexInABox() + " guess rule on " + getNode() + " for role  " + _r + " exhausted merge possibilities";
 	}
 
 	/**
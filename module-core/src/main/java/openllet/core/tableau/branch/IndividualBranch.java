@@ -30,20 +30,24 @@
 
 package openllet.core.tableau.branch;
 
+import openllet.aterm.ATermAppl;
 import openllet.core.DependencySet;
 import openllet.core.boxes.abox.ABox;
 import openllet.core.boxes.abox.Individual;
-import openllet.core.boxes.abox.Node;
 import openllet.core.tableau.completion.CompletionStrategy;
 
 public abstract class IndividualBranch extends Branch
 {
-	protected Individual _ind;
+	private final ATermAppl _name;
+
+	/** null in a copy until the _individual is looked up in the ABox of the copy, so a lazy copy of the ABox does not copy it before it is needed */
+	private volatile Individual _ind;
 
 	protected IndividualBranch(final ABox abox, final CompletionStrategy strategy, final Individual x, final DependencySet ds, final int n)
 	{
 		super(abox, strategy, ds, n);
 
+		_name = x.getName();
 		_ind = x;
 	}
 
@@ -51,12 +55,15 @@ public abstract class IndividualBranch extends Branch
 	{
 		super(abox, tryCount, ib);
 
-		_ind = ib._ind;
+		_name = ib._name;
+		_ind = null;
 	}
 
 	@Override
-	public Node getNode()
+	public Individual getNode()
 	{
+		if (_ind == null)
+			_ind = _abox.getIndividual(_name);
 		return _ind;
 	}
 }
@@ -82,8 +82,6 @@ public class MaxBranch extends IndividualBranch
 		_prevDS = new DependencySet[mb._mergePairs.size()];
 
 		System.arraycopy(mb._prevDS, 0, _prevDS, 0, getTryNext());
-
-		_ind = abox.getIndividual(_ind.getName()); // XXX Strange, see if it is possible.
 	}
 
 	@Override
@@ -119,7 +117,7 @@ public class MaxBranch extends IndividualBranch
 
 		if (OpenlletOptions.USE_COMPLETION_QUEUE)
 		{
-			final QueueElement qElement = new QueueElement(_ind, maxCon);
+			final QueueElement qElement = new QueueElement(getNode(), maxCon);
 			_abox.getCompletionQueue().add(qElement, NodeSelector.MAX_NUMBER);
 			_abox.getCompletionQueue().add(qElement, NodeSelector.CHOOSE);
 		}
@@ -143,18 +141,18 @@ public class MaxBranch extends IndividualBranch
 			final Node z = _abox.getNode(nm.getTarget()).getSame();
 
 			if (_logger.isLoggable(Level.FINE))
-				_logger.fine("MAX : (" + (getTryNext() + 1) + "/" + _mergePairs.size() + ") at _branch (" + getBranchIndexInABox() + ") to  " + _ind + " for prop " + _r + " _qualification " + _qualification + " merge " + y + " -> " + z + " " + ds);
+				_logger.fine("MAX : (" + (getTryNext() + 1) + "/" + _mergePairs.size() + ") at _branch (" + getBranchIndexInABox() + ") to  " + getNode() + " for prop " + _r + " _qualification " + _qualification + " merge " + y + " -> " + z + " " + ds);
 
 			ds = ds.union(new DependencySet(getBranchIndexInABox()), _abox.doExplanation());
 
 			// max cardinality merge also depends on all the edges
 			// between the _individual that has the cardinality and
 			// _nodes that are going to be merged
-			final EdgeList rNeighbors = _ind.getRNeighborEdges(_r);
+			final EdgeList rNeighbors = getNode().getRNeighborEdges(_r);
 			boolean yEdge = false, zEdge = false;
 			for (final Edge edge : rNeighbors)
 			{
-				final Node neighbor = edge.getNeighbor(_ind);
+				final Node neighbor = edge.getNeighbor(getNode());
 
 				if (neighbor.equals(y))
 				{
@@ -193,7 +191,7 @@ public class MaxBranch extends IndividualBranch
 				if (branch instanceof MaxBranch)
 				{
 					final MaxBranch prevBranch = (MaxBranch) branch;
-					if (prevBranch._ind.equals(_ind) && prevBranch._r.equals(_r) && prevBranch._qualification.equals(_qualification))
+					if (prevBranch.getNode().equals(getNode()) && prevBranch._r.equals(_r) && prevBranch._qualification.equals(_qualification))
 						ds.add(prevBranch.getBranchIndexInABox());
 					else
 						break;
@@ -240,9 +238,9 @@ public class MaxBranch extends IndividualBranch
 			ds.remove(getBranchIndexInABox());
 
 		if (_abox.doExplanation())
-			_abox.setClash(Clash.maxCardinality(_ind, ds, _r.getName(), _n));
+			_abox.setClash(Clash.maxCardinality(getNode(), ds, _r.getName(), _n));
 		else
-			_abox.setClash(Clash.maxCardinality(_ind, ds));
+			_abox.setClash(Clash.maxCardinality(getNode(), ds));
 
 		return;
 	}
@@ -259,9 +257,9 @@ public class MaxBranch extends IndividualBranch
 	public String toString()
 	{
 		if (getTryNext() < _mergePairs.size())
-			return "Branch " + getBranchIndexInABox() + " max rule on " + _ind + " merged  " + _mergePairs.get(getTryNext());
+			return "Branch " + getBranchIndexInABox() + " max rule on " + getNode() + " merged  " + _mergePairs.get(getTryNext());
 
-		return "Branch " + getBranchIndexInABox() + " max rule on " + _ind + " exhausted merge possibilities";
+		return "Branch " + getBranchIndexInABox() + " max rule on " + getNode() + " exhausted merge possibilities";
 	}
 
 	/**
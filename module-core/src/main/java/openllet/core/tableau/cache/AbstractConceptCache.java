@@ -47,7 +47,7 @@ public abstract class AbstractConceptCache implements ConceptCache
 {
 	public final static Logger _logger = Log.getLogger(AbstractConceptCache.class);
 
-	private int _maxSize;
+	private volatile int _maxSize;
 
 	/**
 	 * Creates an empty _cache with at most <code>maxSize</code> elements which are neither named or negations of names.
@@ -64,6 +64,15 @@ public abstract class AbstractConceptCache implements ConceptCache
 		return size() == _maxSize;
 	}
 
+	/**
+	 * @return the cached node of the concept, read by the cache itself so not counted as a lookup in the statistics
+	 * @since 2.6.6
+	 */
+	protected CachedNode getCached(final ATermAppl c)
+	{
+		return get(c);
+	}
+
 	@Override
 	public Bool getSat(final ATermAppl c)
 	{
@@ -71,10 +80,13 @@ public abstract class AbstractConceptCache implements ConceptCache
 		return cached == null ? Bool.UNKNOWN : Bool.create(!cached.isBottom());
 	}
 
+	/**
+	 * Synchronized because the concurrent kernel may record the result of the same concept from several threads.
+	 */
 	@Override
-	public boolean putSat(final ATermAppl c, final boolean isSatisfiable)
+	public synchronized boolean putSat(final ATermAppl c, final boolean isSatisfiable)
 	{
-		final CachedNode cached = get(c);
+		final CachedNode cached = getCached(c);
 		if (cached != null)
 		{
 			if (isSatisfiable != !cached.isBottom())
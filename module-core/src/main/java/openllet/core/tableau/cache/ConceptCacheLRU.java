@@ -7,15 +7,16 @@
 package openllet.core.tableau.cache;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import openllet.aterm.ATermAppl;
 import openllet.core.KnowledgeBase;
+import openllet.core.boxes.abox.ABoxStats;
 import openllet.core.utils.ATermUtils;
 
 /**
@@ -24,6 +25,10 @@ import openllet.core.utils.ATermUtils;
  * complex concept will be removed from the cache if the max size is reached.
  * </p>
  * <p>
+ * The recency is approximated with a clock : the complex concepts are queued in insertion order and an entry that was read since the clock last passed on it
+ * is given a second chance. Reads only set a flag, so neither reads nor evictions take a lock.
+ * </p>
+ * <p>
  * Copyright: Copyright (c) 2007
  * </p>
  * <p>
@@ -34,10 +39,48 @@ import openllet.core.utils.ATermUtils;
  */
 public class ConceptCacheLRU extends AbstractConceptCache
 {
-	private Map<ATermAppl, CachedNode> _primitive;
-	private Map<ATermAppl, CachedNode> _nonPrimitive;
+	private static final class Entry implements Map.Entry<ATermAppl, CachedNode>
+	{
+		private final ATermAppl _key;
+		private final CachedNode _node;
+		private volatile boolean _referenced = false;
+
+		private Entry(final ATermAppl key, final CachedNode node)
+		{
+			_key = key;
+			_node = node;
+		}
+
+		@Override
+		public ATermAppl getKey()
+		{
+			return _key;
+		}
+
+		@Override
+		public CachedNode getValue()
+		{
+			return _node;
+		}
+
+		@Override
+		public CachedNode setValue(final CachedNode value)
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private final Map<ATermAppl, CachedNode> _primitive = new ConcurrentHashMap<>();
+	private final Map<ATermAppl, Entry> _nonPrimitive = new ConcurrentHashMap<>();
+
+	/**
+	 * The complex concepts in insertion order, only filled when the size is bounded. Entries that were replaced or removed stay until the clock reaches them.
+	 */
+	private final Queue<Entry> _clock = new ConcurrentLinkedQueue<>();
+
+	private final ABoxStats _stats;
 
-	private CacheSafety _cacheSafety;
+	private final CacheSafety _cacheSafety;
 
 	/**
 	 * Creates an empty ConceptCacheImpl with no size restrictions Using this constructor is equivalent to break the auto-flush LRU policy of this cache.
@@ -56,25 +99,21 @@ public class ConceptCacheLRU extends AbstractConceptCache
 	 * @param maxSize
 	 */
 	public ConceptCacheLRU(final KnowledgeBase kb, final int maxSize)
+	{
+		this(kb, maxSize, new ABoxStats());
+	}
+
+	/**
+	 * @param kb
+	 * @param maxSize
+	 * @param stats where the hits, misses and evictions of the cache are counted.
+	 */
+	public ConceptCacheLRU(final KnowledgeBase kb, final int maxSize, final ABoxStats stats)
 	{
 		super(maxSize);
 
 		_cacheSafety = CacheSafetyFactory.createCacheSafety(kb.getExpressivity());
-
-		_primitive = new ConcurrentHashMap<>();
-
-		_nonPrimitive = Integer.MAX_VALUE == maxSize ? //
-				new ConcurrentHashMap<>() : // as "size" is an integer and so size() can be greater than max-int, then the predicate removeEldestEntry will always be false. So we use a simpler data structure.
-				Collections.synchronizedMap(new LinkedHashMap<ATermAppl, CachedNode>(16, 0.75f, true)
-				{
-					private static final long serialVersionUID = 3701638684292370398L;
-
-					@Override
-					protected boolean removeEldestEntry(final Map.Entry<ATermAppl, CachedNode> eldest)
-					{
-						return _nonPrimitive.size() > getMaxSize();
-					}
-				});
+		_stats = stats;
 	}
 
 	@Override
@@ -83,11 +122,47 @@ public class ConceptCacheLRU extends AbstractConceptCache
 		return _cacheSafety;
 	}
 
+	/**
+	 * The new size applies at once, the least recently used complex concepts are removed if needed.
+	 */
+	@Override
+	public void setMaxSize(final int maxSize)
+	{
+		super.setMaxSize(maxSize);
+		evict();
+	}
+
+	private void evict()
+	{
+		while (_nonPrimitive.size() > getMaxSize())
+		{
+			final Entry entry = _clock.poll();
+			if (entry == null)
+			{
+				_clock.addAll(_nonPrimitive.values()); // The size was unbounded until now.
+				continue;
+			}
+
+			if (_nonPrimitive.get(entry._key) != entry)
+				continue; // Replaced or removed.
+
+			if (entry._referenced)
+			{
+				entry._referenced = false;
+				_clock.offer(entry);
+			}
+			else
+				if (_nonPrimitive.remove(entry._key, entry))
+					_stats._cacheEvictions.increment();
+		}
+	}
+
 	@Override
 	public void clear()
 	{
 		_primitive.clear();
 		_nonPrimitive.clear();
+		_clock.clear();
 	}
 
 	@Override
@@ -99,24 +174,47 @@ public class ConceptCacheLRU extends AbstractConceptCache
 	@Override
 	public boolean containsValue(final Object value)
 	{
-		return _primitive.containsValue(value) || _nonPrimitive.containsValue(value);
+		return _primitive.containsValue(value) || _nonPrimitive.values().stream().anyMatch(entry -> entry._node.equals(value));
 	}
 
 	@Override
-	public Set<java.util.Map.Entry<ATermAppl, CachedNode>> entrySet()
+	public Set<Map.Entry<ATermAppl, CachedNode>> entrySet()
 	{
-		final Set<java.util.Map.Entry<ATermAppl, CachedNode>> returnSet = new HashSet<>(_primitive.entrySet());
-		returnSet.addAll(_nonPrimitive.entrySet());
+		final Set<Map.Entry<ATermAppl, CachedNode>> returnSet = new HashSet<>(_primitive.entrySet());
+		returnSet.addAll(_nonPrimitive.values());
 		return returnSet;
 	}
 
 	@Override
 	public CachedNode get(final Object key)
+	{
+		final CachedNode node = lookup(key);
+		if (node == null)
+			_stats._cacheMisses.increment();
+		else
+			_stats._cacheHits.increment();
+
+		return node;
+	}
+
+	@Override
+	protected CachedNode getCached(final ATermAppl c)
+	{
+		return lookup(c);
+	}
+
+	private CachedNode lookup(final Object key)
 	{
 		final CachedNode node = _primitive.get(key);
 		if (node != null)
 			return node;
-		return _nonPrimitive.get(key);
+
+		final Entry entry = _nonPrimitive.get(key);
+		if (entry == null)
+			return null;
+
+		entry._referenced = true;
+		return entry._node;
 	}
 
 	@Override
@@ -140,29 +238,35 @@ public class ConceptCacheLRU extends AbstractConceptCache
 	public CachedNode put(final ATermAppl key, final CachedNode value)
 	{
 		if (ATermUtils.isPrimitiveOrNegated(key))
+			return _primitive.put(key, value);
+
+		final Entry entry = new Entry(key, value);
+		final Entry prev = _nonPrimitive.put(key, entry);
+		if (getMaxSize() != Integer.MAX_VALUE)
 		{
-			final CachedNode prev = _primitive.put(key, value);
-			if (isFull())
-				_nonPrimitive.entrySet();
-			return prev;
+			_clock.offer(entry);
+			evict();
 		}
 
-		return _nonPrimitive.put(key, value);
+		return prev == null ? null : prev._node;
 	}
 
 	@Override
 	public void putAll(final Map<? extends ATermAppl, ? extends CachedNode> t)
 	{
-		for (final java.util.Map.Entry<? extends ATermAppl, ? extends CachedNode> entry : t.entrySet())
+		for (final Map.Entry<? extends ATermAppl, ? extends CachedNode> entry : t.entrySet())
 			put(entry.getKey(), entry.getValue());
 	}
 
 	@Override
 	public CachedNode remove(final Object key)
 	{
-		if (_primitive.containsKey(key))
-			return _primitive.remove(key);
-		return _nonPrimitive.remove(key);
+		final CachedNode node = _primitive.remove(key);
+		if (node != null)
+			return node;
+
+		final Entry entry = _nonPrimitive.remove(key);
+		return entry == null ? null : entry._node;
 	}
 
 	@Override
@@ -175,7 +279,8 @@ public class ConceptCacheLRU extends AbstractConceptCache
 	public Collection<CachedNode> values()
 	{
 		final Set<CachedNode> valueSet = new HashSet<>(_primitive.values());
-		valueSet.addAll(_nonPrimitive.values());
+		for (final Entry entry : _nonPrimitive.values())
+			valueSet.add(entry._node);
 		return valueSet;
 	}
 
@@ -184,5 +289,4 @@ public class ConceptCacheLRU extends AbstractConceptCache
 	{
 		return "[Cache size: " + _primitive.size() + "," + _nonPrimitive.size() + "]";
 	}
-
 }
@@ -1086,10 +1086,14 @@ public abstract class CompletionStrategy
 		// it was created after the branch. To optimize removing elements from
 		// the ArrayList we compute the block to be deleted and then remove all
 		// at once to utilize the underlying System.arraycopy operation.
+		// When tracking _branch effects, the _nodes that existed when the _branch
+		// was created can't be removed and the changed ones are given by the
+		// tracker, so only the _nodes created after the _branch are visited here.
 
 		int nodeCount = nodeList.size(); // number of _nodes in the nodeList
 		int deleteBlock = 0; // number of nodes
-		for (int i = 0; i < nodeCount; i++)
+		final int first = OpenlletOptions.TRACK_BRANCH_EFFECTS ? Math.min(br.getNodeCount(), nodeCount) : 0;
+		for (int i = first; i < nodeCount; i++)
 		{
 			final ATermAppl a = nodeList.get(i); // get the node name
 			final Node node = _abox.getNode(a); // and the corresponding node
@@ -13,7 +13,6 @@ import openllet.core.boxes.abox.ABox;
 import openllet.core.boxes.abox.Individual;
 import openllet.core.boxes.abox.IndividualIterator;
 import openllet.core.boxes.abox.Node;
-import openllet.core.tableau.blocking.Blocking;
 import openllet.core.tableau.completion.CompletionStrategy;
 import openllet.core.tableau.completion.queue.NodeSelector;
 import openllet.core.tableau.completion.queue.QueueElement;
@@ -52,67 +51,40 @@ public abstract class AbstractTableauRule implements TableauRule
 	@Override
 	public boolean apply(final IndividualIterator i)
 	{
+		// The rules of one completion are applied sequentially : queries run concurrently (USE_THREADED_KERNEL) on their own copy of the ABox.
+		i.reset(_nodeSelector);
 
-		if (OpenlletOptions.USE_THREADED_KERNEL)
-		{
-			final Blocking blocking = _strategy.getBlocking();
-
-			return i.nodes()//
-					.filter(node ->
-					{
-						if (blocking.isBlocked(node))
-						{
-							if (OpenlletOptions.USE_COMPLETION_QUEUE)
-								addQueueElement(node);
-						}
-						else
-						{
-							apply(node);
-
-							if (_strategy.getABox().isClosed())
-								return true;
-						}
-						return false;
-
-					}).findAny()//
-					.isPresent();
-		}
-		else
-		{
-			i.reset(_nodeSelector);
+		final ABox abox = _strategy.getABox();
 
-			final ABox abox = _strategy.getABox();
+		if (OpenlletOptions.USE_COMPLETION_QUEUE)
+			while (i.hasNext())
+			{
+				final Individual node = i.next();
 
-			if (OpenlletOptions.USE_COMPLETION_QUEUE)
-				while (i.hasNext())
+				if (_strategy.getBlocking().isBlocked(node))
+					addQueueElement(node);
+				else
 				{
-					final Individual node = i.next();
-
-					if (_strategy.getBlocking().isBlocked(node))
-						addQueueElement(node);
-					else
-					{
-						apply(node);
-						if (abox.isClosed())
-							return true;
-					}
+					apply(node);
+					if (abox.isClosed())
+						return true;
 				}
-			else
-				while (i.hasNext())
-				{
-					final Individual node = i.next();
+			}
+		else
+			while (i.hasNext())
+			{
+				final Individual node = i.next();
 
-					if (!_strategy.getBlocking().isBlocked(node))
-					{
-						apply(node);
+				if (!_strategy.getBlocking().isBlocked(node))
+				{
+					apply(node);
 
-						if (abox.isClosed())
-							return true;
-					}
+					if (abox.isClosed())
+						return true;
 				}
+			}
 
-			return false;
-		}
+		return false;
 	}
 
 	protected boolean isBlocked(final Individual node)
@@ -20,6 +20,7 @@ import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +29,8 @@ import openllet.aterm.ATermList;
 import openllet.atom.OpenError;
 import openllet.core.KnowledgeBase;
 import openllet.core.OpenlletOptions;
+import openllet.core.boxes.abox.ABox;
+import openllet.core.boxes.abox.Edge;
 import openllet.core.boxes.abox.Individual;
 import openllet.core.boxes.rbox.Role;
 import openllet.core.boxes.tbox.TBox;
@@ -35,8 +38,10 @@ import openllet.core.boxes.tbox.impl.Unfolding;
 import openllet.core.exceptions.InternalReasonerException;
 import openllet.core.utils.ATermUtils;
 import openllet.core.utils.CollectionUtils;
+import openllet.core.utils.Pair;
 import openllet.core.utils.SetUtils;
 import openllet.core.utils.Timer;
+import openllet.core.utils.WorkerPool;
 import openllet.core.utils.progress.ProgressMonitor;
 import openllet.core.utils.progress.SilentProgressMonitor;
 import openllet.shared.tools.Log;
@@ -73,6 +78,11 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 
 	private static final Set<ConceptFlag> PHASE1_FLAGS = EnumSet.of(ConceptFlag.COMPLETELY_DEFINED, ConceptFlag.PRIMITIVE, ConceptFlag.OTHER);
 
+	/**
+	 * Number of concepts per worker thread in a window of the concurrent classification.
+	 */
+	private static final int PREFETCH_WINDOW_PER_THREAD = 4;
+
 	private final Map<ATermAppl, Set<ATermAppl>> _toldDisjoints = CollectionUtils.makeIdentityMap();
 
 	private final Map<ATermAppl, ATermList> _unionClasses = CollectionUtils.makeIdentityMap();
@@ -81,6 +91,11 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 
 	private final List<TaxonomyNode<ATermAppl>> _markedNodes = CollectionUtils.makeList();
 
+	/**
+	 * Subsumption results (sub, sup) computed by the workers of the concurrent classification for the current window.
+	 */
+	private final Map<Pair<ATermAppl, ATermAppl>, Boolean> _prefetchedSubsumptions = new ConcurrentHashMap<>();
+
 	private volatile Optional<DefinitionOrder> _definitionOrder = Optional.empty();
 
 	private volatile boolean _useCD = false;
@@ -118,6 +133,20 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 		return _taxonomyImpl;
 	}
 
+	/**
+	 * Use a taxonomy computed by an earlier classification of the same KB instead of classifying it again. The told information is still computed.
+	 *
+	 * @param taxonomy of the classes of the KB, the instances of its nodes are used if the KB is realized
+	 * @since 2.6.6
+	 */
+	public synchronized void setTaxonomy(final Taxonomy<ATermAppl> taxonomy)
+	{
+		if (!_prepared)
+			_kb.getTimers().execute("taxBuilder.prepare", t -> prepare());
+
+		_taxonomyImpl = taxonomy;
+	}
+
 	@Override
 	public Taxonomy<ATermAppl> getToldTaxonomy()
 	{
@@ -247,35 +276,174 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 
 	protected boolean classify(final List<ATermAppl> phase, final boolean requireTopSearch)
 	{
-		final boolean useThreads = false;
-
-		if (useThreads)
-			phase.parallelStream()//
-					.forEach(c -> //
-					{//
-						System.out.println(Thread.currentThread().getName() + " Classify on " + c + " [begin]");
-						classify(c, requireTopSearch);
-						_monitor.incrementProgress();
-						_kb.getTimers().getTimer("classify").ifPresent(Timer::check);
-						System.out.println(Thread.currentThread().getName() + " Classify on " + c + " [ end ]");
-					});
-		else
-			for (final ATermAppl c : phase)
-			{
-				_logger.fine(() -> "Classify (" + _taxonomyImpl.getNodes().size() + ") " + format(c) + "...");
+		if (OpenlletOptions.CLASSIFICATION_THREADS > 1 && phase.size() > 1)
+			return classifyConcurrently(phase, requireTopSearch);
 
-				classify(c, requireTopSearch);
-				_monitor.incrementProgress();
+		for (final ATermAppl c : phase)
+			if (!classifyNext(c, requireTopSearch))
+				return false;
 
-				_kb.getTimers().getTimer("classify").ifPresent(Timer::check);
+		return true;
+	}
 
-				if (_monitor.isCanceled())
-					return false;
+	private boolean classifyNext(final ATermAppl c, final boolean requireTopSearch)
+	{
+		_logger.fine(() -> "Classify (" + _taxonomyImpl.getNodes().size() + ") " + format(c) + "...");
+
+		classify(c, requireTopSearch);
+		_monitor.incrementProgress();
+
+		_kb.getTimers().getTimer("classify").ifPresent(Timer::check);
+
+		return !_monitor.isCanceled();
+	}
+
+	/**
+	 * The phase is cut in windows of concepts taken in definition _order. For each window the workers compute, against the current taxonomy that is not
+	 * modified meanwhile, the satisfiability and the subsumption tests the insertion of each concept is likely to require. Then the concepts of the window are
+	 * inserted sequentially using the prefetched results, so the taxonomy is exactly the one the sequential classification would have built.
+	 */
+	private boolean classifyConcurrently(final List<ATermAppl> phase, final boolean requireTopSearch)
+	{
+		final int threads = OpenlletOptions.CLASSIFICATION_THREADS;
+		final int windowSize = threads * PREFETCH_WINDOW_PER_THREAD;
+
+		_logger.fine(() -> "Concurrent classification with " + threads + " threads");
+
+		final ABox abox = _kb.getABox();
+		final ThreadLocal<ABox> workerABox = ThreadLocal.withInitial(abox::copy);
+		try (final WorkerPool pool = new WorkerPool(threads))
+		{
+			for (int from = 0; from < phase.size(); from += windowSize)
+			{
+				final List<ATermAppl> window = phase.subList(from, Math.min(from + windowSize, phase.size()));
+
+				pool.invoke(() -> window.parallelStream().forEach(c -> prefetch(workerABox.get(), c, requireTopSearch)));
+
+				try
+				{
+					for (final ATermAppl c : window)
+						if (!classifyNext(c, requireTopSearch))
+							return false;
+				}
+				finally
+				{
+					_prefetchedSubsumptions.clear();
+				}
 			}
+		}
 
 		return true;
 	}
 
+	/**
+	 * Speculative version of {@link #classify(ATermAppl, boolean)} run by the workers. The taxonomy is only read and the marks are kept in a local map instead
+	 * of the nodes, the subsumption results are recorded to be replayed during the sequential insertion.
+	 *
+	 * @param abox the ABox private to the calling worker.
+	 * @param c the concept that will be classified.
+	 * @param requireTopSearch as in {@link #classify(List, boolean)}
+	 */
+	private void prefetch(final ABox abox, final ATermAppl c, final boolean requireTopSearch)
+	{
+		if (_taxonomyImpl.contains(c))
+			return;
+
+		// The satisfiability results are kept in the concept cache shared by all the copies of the ABox.
+		if (!abox.isSatisfiable(c, true) || OpenlletOptions.USE_CACHING && !abox.isSatisfiable(ATermUtils.makeNot(c), true))
+			return;
+
+		final ConceptFlag flag = _conceptFlags.getOrDefault(c, ConceptFlag.OTHER);
+
+		if (!requireTopSearch && _useCD && flag == ConceptFlag.COMPLETELY_DEFINED)
+			return; // Super concepts are read from the told taxonomy, no test is needed.
+
+		final Map<TaxonomyNode<ATermAppl>, Boolean> marks = new HashMap<>();
+		marks.put(_taxonomyImpl.getBottomNode(), false);
+		if (_toldTaxonomy.contains(c))
+			for (final ATermAppl sup : _toldTaxonomy.getFlattenedSupers(c, /* direct = */false))
+			{
+				final TaxonomyNode<ATermAppl> node = _taxonomyImpl.getNode(sup);
+				if (node != null)
+					marks.put(node, true);
+			}
+
+		final List<TaxonomyNode<ATermAppl>> supers = prefetchSearch(abox, c, Collections.singleton(_taxonomyImpl.getTop()), marks, true);
+
+		if (_useCD && (flag == ConceptFlag.PRIMITIVE || flag == ConceptFlag.COMPLETELY_DEFINED))
+			return; // No bottom search.
+
+		if (supers.size() == 1 && prefetchSubsumes(abox, c, supers.get(0).getName()))
+			return; // c is equivalent to its only super concept.
+
+		final Set<TaxonomyNode<ATermAppl>> leafs = new HashSet<>();
+		for (final TaxonomyNode<ATermAppl> sup : supers)
+			collectLeafs(sup, leafs);
+
+		marks.clear();
+		marks.put(_taxonomyImpl.getTop(), false);
+		marks.put(_taxonomyImpl.getBottomNode(), true);
+		for (final TaxonomyNode<ATermAppl> sup : supers)
+			marks.put(sup, false);
+
+		final List<TaxonomyNode<ATermAppl>> subsumed = new ArrayList<>();
+		for (final TaxonomyNode<ATermAppl> leaf : leafs)
+			if (prefetchMark(abox, c, leaf, marks, false))
+				subsumed.add(leaf);
+
+		prefetchSearch(abox, c, subsumed, marks, false);
+	}
+
+	private List<TaxonomyNode<ATermAppl>> prefetchSearch(final ABox abox, final ATermAppl c, final Collection<TaxonomyNode<ATermAppl>> from, final Map<TaxonomyNode<ATermAppl>, Boolean> marks, final boolean topSearch)
+	{
+		final List<TaxonomyNode<ATermAppl>> result = new ArrayList<>();
+		final Set<TaxonomyNode<ATermAppl>> visited = new HashSet<>();
+		final List<TaxonomyNode<ATermAppl>> toVisit = new ArrayList<>(from);
+
+		while (!toVisit.isEmpty())
+		{
+			final TaxonomyNode<ATermAppl> x = toVisit.remove(toVisit.size() - 1);
+			if (!visited.add(x))
+				continue;
+
+			boolean hasSucc = false;
+			for (final TaxonomyNode<ATermAppl> next : topSearch ? x.getSubs() : x.getSupers())
+				if (prefetchMark(abox, c, next, marks, topSearch))
+				{
+					hasSucc = true;
+					toVisit.add(next);
+				}
+
+			if (!hasSucc)
+				result.add(x);
+		}
+
+		return result;
+	}
+
+	private boolean prefetchMark(final ABox abox, final ATermAppl c, final TaxonomyNode<ATermAppl> node, final Map<TaxonomyNode<ATermAppl>, Boolean> marks, final boolean topDown)
+	{
+		final Boolean mark = marks.get(node);
+		if (mark != null)
+			return mark;
+
+		final boolean calcdMark = topDown ? prefetchSubsumes(abox, node.getName(), c) : prefetchSubsumes(abox, c, node.getName());
+		marks.put(node, calcdMark);
+		return calcdMark;
+	}
+
+	private boolean prefetchSubsumes(final ABox abox, final ATermAppl sup, final ATermAppl sub)
+	{
+		final Pair<ATermAppl, ATermAppl> key = Pair.create(sub, sup);
+		final Boolean prefetched = _prefetchedSubsumptions.get(key);
+		if (prefetched != null)
+			return prefetched;
+
+		final boolean isSubClassOf = abox.isSubClassOf(sub, sup); // Not done in computeIfAbsent to avoid locking the map during the test.
+		_prefetchedSubsumptions.put(key, isSubClassOf);
+		return isSubClassOf;
+	}
+
 	private void prepare()
 	{
 		reset();
@@ -1161,6 +1329,13 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 
 	private boolean subsumes(final ATermAppl sup, final ATermAppl sub) // CPU hot spot.
 	{
+		if (!_prefetchedSubsumptions.isEmpty())
+		{
+			final Boolean prefetched = _prefetchedSubsumptions.get(Pair.create(sub, sup));
+			if (prefetched != null)
+				return prefetched;
+		}
+
 		return _kb.getABox().isSubClassOf(sub, sup);
 	}
 
@@ -1179,6 +1354,14 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 	{
 		_monitor.setProgressTitle("Realizing");
 
+		if (OpenlletOptions.REALIZATION_THREADS > 1)
+		{
+			// A single partition can't be split, a worker would only copy the ABox for nothing
+			final List<List<ATermAppl>> partitions = partitionIndividuals(_kb.getABox());
+			if (partitions.size() > 1)
+				return realizeConcurrently(partitions);
+		}
+
 		return OpenlletOptions.REALIZE_INDIVIDUAL_AT_A_TIME ? realizeByIndividuals() : realizeByConcepts();
 	}
 
@@ -1217,12 +1400,26 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 
 	private void realize(final Individual x)
 	{
-		final Map<ATermAppl, Boolean> marked = new ConcurrentHashMap<>();
+		for (final TaxonomyNode<ATermAppl> node : realize(_kb.getABox(), x.getName(), _kb::isType))
+			addInstance(node, x.getName());
+	}
+
+	/**
+	 * Find the most specific types of an individual. The taxonomy is only read so this can be called concurrently by different workers.
+	 *
+	 * @param abox used for the obvious types and the logging, it must not be shared with another thread.
+	 * @param n the name of the individual.
+	 * @param isType the instance check, the first argument is the individual and the second the class.
+	 * @return the nodes of the most specific classes of the individual.
+	 */
+	private List<TaxonomyNode<ATermAppl>> realize(final ABox abox, final ATermAppl n, final BiPredicate<ATermAppl, ATermAppl> isType)
+	{
+		final Map<ATermAppl, Boolean> marked = new HashMap<>();
 
 		final List<ATermAppl> obviousTypes = new ArrayList<>();
 		final List<ATermAppl> obviousNonTypes = new ArrayList<>();
 
-		_kb.getABox().getObviousTypes(x.getName(), obviousTypes, obviousNonTypes);
+		abox.getObviousTypes(n, obviousTypes, obviousNonTypes);
 
 		for (final ATermAppl c : obviousTypes)
 		{
@@ -1245,10 +1442,13 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 			mark(_taxonomyImpl.getFlattenedSubs(c, /* direct = */true), marked, false);
 		}
 
-		realize(x.getName(), ATermUtils.TOP, marked);
+		final List<TaxonomyNode<ATermAppl>> mostSpecific = new ArrayList<>();
+		realize(abox, n, ATermUtils.TOP, marked, isType, mostSpecific);
+
+		return mostSpecific;
 	}
 
-	private boolean realize(final ATermAppl n, final ATermAppl c, final Map<ATermAppl, Boolean> marked)
+	private boolean realize(final ABox abox, final ATermAppl n, final ATermAppl c, final Map<ATermAppl, Boolean> marked, final BiPredicate<ATermAppl, ATermAppl> isTypeCheck, final List<TaxonomyNode<ATermAppl>> mostSpecific)
 	{
 		boolean realized = false;
 
@@ -1264,16 +1464,16 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 			if (_logger.isLoggable(Level.FINER))
 			{
 				time = System.currentTimeMillis();
-				count = _kb.getABox().getStats()._consistencyCount;
+				count = abox.getStats()._consistencyCount;
 				_logger.finer("Type checking for [" + format(n) + ", " + format(c) + "]...");
 			}
 
-			isType = _kb.getTimers().execute("classifyType", () -> _kb.isType(n, c));
+			isType = _kb.getTimers().execute("classifyType", () -> isTypeCheck.test(n, c));
 			marked.put(c, isType);
 
 			if (_logger.isLoggable(Level.FINER))
 			{
-				final String sign = _kb.getABox().getStats()._consistencyCount > count ? "+" : "-";
+				final String sign = abox.getStats()._consistencyCount > count ? "+" : "-";
 				time = System.currentTimeMillis() - time;
 				_logger.finer("done (" + (isType ? "+" : "-") + ") (" + sign + time + "ms)");
 			}
@@ -1286,21 +1486,14 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 			for (final TaxonomyNode<ATermAppl> sub : node.getSubs())
 			{
 				final ATermAppl d = sub.getName();
-				realized = realize(n, d, marked) || realized;
+				realized = realize(abox, n, d, marked, isTypeCheck, mostSpecific) || realized;
 			}
 
 			// this concept is the most specific concept x belongs to
 			// so add it here and return true
 			if (!realized)
 			{
-				@SuppressWarnings("unchecked")
-				Set<ATermAppl> instances = (Set<ATermAppl>) node.getDatum(TaxonomyUtils.TaxonomyKey.INSTANCES_KEY);
-				if (instances == null)
-				{
-					instances = new HashSet<>();
-					node.putDatum(TaxonomyUtils.TaxonomyKey.INSTANCES_KEY, instances);
-				}
-				instances.add(n);
+				mostSpecific.add(node);
 				realized = true;
 			}
 		}
@@ -1308,6 +1501,135 @@ public class CDOptimizedTaxonomyBuilder implements TaxonomyBuilder
 		return realized;
 	}
 
+	private static void addInstance(final TaxonomyNode<ATermAppl> node, final ATermAppl n)
+	{
+		@SuppressWarnings("unchecked")
+		Set<ATermAppl> instances = (Set<ATermAppl>) node.getDatum(TaxonomyUtils.TaxonomyKey.INSTANCES_KEY);
+		if (instances == null)
+		{
+			instances = new HashSet<>();
+			node.putDatum(TaxonomyUtils.TaxonomyKey.INSTANCES_KEY, instances);
+		}
+		instances.add(n);
+	}
+
+	/**
+	 * The individuals are partitioned by connected component of the ABox graph and the partitions are realized concurrently, each worker using its own copy
+	 * of the ABox. The most specific types found by the workers are merged in the taxonomy once all the partitions are done.
+	 *
+	 * @param partitions the partitions of the individuals, no more workers than partitions are used
+	 */
+	private boolean realizeConcurrently(final List<List<ATermAppl>> partitions)
+	{
+		final int threads = Math.min(OpenlletOptions.REALIZATION_THREADS, partitions.size());
+		final ABox abox = _kb.getABox();
+
+		_logger.fine(() -> "Concurrent realization of " + partitions.size() + " partitions with " + threads + " threads");
+
+		_monitor.setProgressLength(_kb.getIndividuals().size());
+		_monitor.taskStarted();
+
+		try
+		{
+			final Map<ATermAppl, List<TaxonomyNode<ATermAppl>>> types = new ConcurrentHashMap<>();
+			final ThreadLocal<ABox> workerABox = ThreadLocal.withInitial(abox::copy);
+			try (final WorkerPool pool = new WorkerPool(threads))
+			{
+				pool.invoke(() -> partitions.parallelStream().forEach(partition ->
+				{
+					final ABox copy = workerABox.get();
+					for (final ATermAppl n : partition)
+					{
+						if (_monitor.isCanceled())
+							return;
+
+						_kb.getTimers().getTimer("realize").ifPresent(Timer::check);
+
+						types.put(n, realize(copy, n, copy::isType));
+
+						synchronized (_monitor)
+						{
+							_monitor.incrementProgress();
+						}
+					}
+				}));
+			}
+
+			if (_monitor.isCanceled())
+				return false;
+
+			for (final Entry<ATermAppl, List<TaxonomyNode<ATermAppl>>> entry : types.entrySet())
+				for (final TaxonomyNode<ATermAppl> node : entry.getValue())
+					addInstance(node, entry.getKey());
+
+			return true;
+		}
+		finally
+		{
+			_monitor.taskFinished();
+		}
+	}
+
+	/**
+	 * @return the individuals grouped by connected component of the ABox graph (including the same as links), the largest components first.
+	 */
+	private List<List<ATermAppl>> partitionIndividuals(final ABox abox)
+	{
+		final Map<ATermAppl, ATermAppl> parents = new HashMap<>();
+		for (final ATermAppl n : _kb.getIndividuals())
+			parents.put(n, n);
+
+		for (final ATermAppl n : parents.keySet())
+		{
+			final Individual x = abox.getIndividual(n);
+			if (x == null)
+				continue;
+
+			final ATermAppl same = x.getSame().getName();
+			if (parents.containsKey(same))
+				union(parents, n, same);
+
+			for (final Edge edge : x.getOutEdges())
+				if (parents.containsKey(edge.getToName()))
+					union(parents, n, edge.getToName());
+		}
+
+		final Map<ATermAppl, List<ATermAppl>> components = new HashMap<>();
+		for (final ATermAppl n : parents.keySet())
+			components.computeIfAbsent(find(parents, n), root -> new ArrayList<>()).add(n);
+
+		final List<List<ATermAppl>> partitions = new ArrayList<>(components.values());
+		partitions.sort((p1, p2) -> p2.size() - p1.size());
+
+		return partitions;
+	}
+
+	private static ATermAppl find(final Map<ATermAppl, ATermAppl> parents, final ATermAppl n)
+	{
+		ATermAppl root = n;
+		while (!parents.get(root).equals(root))
+			root = parents.get(root);
+
+		// Path compression
+		ATermAppl x = n;
+		while (!x.equals(root))
+		{
+			final ATermAppl next = parents.get(x);
+			parents.put(x, root);
+			x = next;
+		}
+
+		return root;
+	}
+
+	private static void union(final Map<ATermAppl, ATermAppl> parents, final ATermAppl n1, final ATermAppl n2)
+	{
+		final ATermAppl root1 = find(parents, n1);
+		final ATermAppl root2 = find(parents, n2);
+		if (!root1.equals(root2))
+			parents.put(root1, root2);
+	}
+
 	private boolean realizeByConcepts()
 	{
 		if (null == _classes) // This occur only on concurrent environment that involve read / write / classification at same time; a correct handling require to create a state-less KnowledgeBase.
@@ -0,0 +1,137 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.core.tracker;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import openllet.aterm.ATermAppl;
+
+/**
+ * <p>
+ * Title: Trail Branch Effect Tracker
+ * </p>
+ * <p>
+ * Description: BranchEffectTracker implemented as an undo trail. Each change is appended with the _branch it depends on and with a level, the highest
+ * _branch recorded up to it, so the levels never decrease from bottom to top : a change that depends on an earlier _branch than the top of the trail is
+ * popped with the later _branch, which only makes the restore visit the _node sooner (the _node is recorded again when it is restored). Backtracking to a
+ * _branch pops the top of the trail, so its cost is the number of changes done since the _branch was created and not the size of the ABox. Removing a
+ * _branch, as the incremental consistency does, only drops the changes that depend on that _branch. Copying the tracker is an array copy.
+ * </p>
+ */
+public class TrailBranchEffectTracker implements BranchEffectTracker
+{
+	private static final int INITIAL_CAPACITY = 64;
+
+	private ATermAppl[] _names;
+	private int[] _branches;
+	private int[] _levels;
+	private int _size;
+
+	public TrailBranchEffectTracker()
+	{
+		_names = new ATermAppl[INITIAL_CAPACITY];
+		_branches = new int[INITIAL_CAPACITY];
+		_levels = new int[INITIAL_CAPACITY];
+		_size = 0;
+	}
+
+	private TrailBranchEffectTracker(final TrailBranchEffectTracker other)
+	{
+		_names = Arrays.copyOf(other._names, Math.max(other._size, INITIAL_CAPACITY));
+		_branches = Arrays.copyOf(other._branches, _names.length);
+		_levels = Arrays.copyOf(other._levels, _names.length);
+		_size = other._size;
+	}
+
+	@Override
+	public boolean add(final int branch, final ATermAppl a)
+	{
+		if (branch <= 0)
+			return false;
+
+		// Consecutive changes of the same _node are recorded once.
+		if (_size > 0 && _branches[_size - 1] == branch && _names[_size - 1] == a)
+			return false;
+
+		if (_size == _names.length)
+		{
+			_names = Arrays.copyOf(_names, _size * 2);
+			_branches = Arrays.copyOf(_branches, _size * 2);
+			_levels = Arrays.copyOf(_levels, _size * 2);
+		}
+
+		_names[_size] = a;
+		_branches[_size] = branch;
+		_levels[_size] = _size == 0 ? branch : Math.max(branch, _levels[_size - 1]);
+		_size++;
+
+		return true;
+	}
+
+	@Override
+	public TrailBranchEffectTracker copy()
+	{
+		return new TrailBranchEffectTracker(this);
+	}
+
+	@Override
+	public Set<ATermAppl> getAll(final int branch)
+	{
+		if (branch < 1)
+			throw new IllegalArgumentException();
+
+		final Set<ATermAppl> ret = new HashSet<>();
+		for (int i = _size - 1; i >= 0 && _levels[i] >= branch; i--)
+			ret.add(_names[i]);
+
+		return ret;
+	}
+
+	@Override
+	public Set<ATermAppl> remove(final int branch)
+	{
+		if (branch < 1)
+			throw new IllegalArgumentException();
+
+		final Set<ATermAppl> ret = new HashSet<>();
+		int j = 0;
+		for (int i = 0; i < _size; i++)
+			if (_branches[i] == branch)
+				ret.add(_names[i]);
+			else
+			{
+				_names[j] = _names[i];
+				_branches[j] = _branches[i] > branch ? _branches[i] - 1 : _branches[i];
+				_levels[j] = j == 0 ? _branches[j] : Math.max(_branches[j], _levels[j - 1]);
+				j++;
+			}
+		Arrays.fill(_names, j, _size, null);
+		_size = j;
+
+		return ret.isEmpty() ? Collections.emptySet() : ret;
+	}
+
+	@Override
+	public Set<ATermAppl> removeAll(final int branch)
+	{
+		if (branch < 1)
+			throw new IllegalArgumentException();
+
+		final Set<ATermAppl> ret = new HashSet<>();
+		while (_size > 0 && _levels[_size - 1] >= branch)
+		{
+			_size--;
+			ret.add(_names[_size]);
+			_names[_size] = null;
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,197 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.core.utils;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import openllet.aterm.ATermAppl;
+
+/**
+ * Results of a transformation of terms, such as {@link ATermUtils#normalize(ATermAppl)}. The terms are shared and immutable so a result stays valid as long as
+ * the term exists. The terms are weakly referenced, an entry is removed once its term is garbage collected. The results are softly referenced : the result
+ * of a transformation is often the term of another memo, e.g. the nnf of a normalized term, so strong results would keep both entries alive forever. A
+ * term that is its own result is recorded without a reference to it.
+ *
+ * @since 2.6.6
+ */
+public class ATermMemo
+{
+	private static final Object SELF = new Object();
+
+	private final String _name;
+
+	private final Map<Key, Object> _results = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<ATermAppl> _collected = new ReferenceQueue<>();
+
+	private final LongAdder _hits = new LongAdder();
+
+	private final LongAdder _misses = new LongAdder();
+
+	/**
+	 * @param name of the transformation, used by {@link #toString()}
+	 */
+	public ATermMemo(final String name)
+	{
+		_name = name;
+	}
+
+	/**
+	 * @param term
+	 * @return the result recorded for the term or <code>null</code>
+	 */
+	public ATermAppl get(final ATermAppl term)
+	{
+		final Lookup lookup = new Lookup(term);
+		final Object result = _results.get(lookup);
+
+		final ATermAppl value;
+		if (result == SELF)
+			value = term;
+		else
+			if (result == null)
+				value = null;
+			else
+			{
+				@SuppressWarnings("unchecked")
+				final Reference<ATermAppl> ref = (Reference<ATermAppl>) result;
+				value = ref.get();
+				if (value == null)
+					_results.remove(lookup, result); // The result was collected.
+			}
+
+		if (value == null)
+			_misses.increment();
+		else
+			_hits.increment();
+
+		return value;
+	}
+
+	/**
+	 * @param term
+	 * @param result of the transformation of the term
+	 */
+	public void put(final ATermAppl term, final ATermAppl result)
+	{
+		for (Reference<? extends ATermAppl> ref = _collected.poll(); ref != null; ref = _collected.poll())
+			_results.remove(ref);
+
+		_results.put(new Key(term, _collected), result == term ? SELF : new SoftReference<>(result));
+	}
+
+	public void clear()
+	{
+		_results.clear();
+	}
+
+	public int size()
+	{
+		return _results.size();
+	}
+
+	public long getHits()
+	{
+		return _hits.sum();
+	}
+
+	public long getMisses()
+	{
+		return _misses.sum();
+	}
+
+	/**
+	 * @return the ratio of the lookups that found a result, 0 if there was no lookup
+	 */
+	public double getHitRate()
+	{
+		final long hits = getHits();
+		final long total = hits + getMisses();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	public void resetStats()
+	{
+		_hits.reset();
+		_misses.reset();
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%s %d entries, %d hits, %d misses (%.1f%%)", _name, size(), getHits(), getMisses(), 100 * getHitRate());
+	}
+
+	/**
+	 * The terms are hash-consed, so they are compared by identity.
+	 */
+	private static final class Key extends WeakReference<ATermAppl>
+	{
+		private final int _hash;
+
+		public Key(final ATermAppl term, final ReferenceQueue<ATermAppl> queue)
+		{
+			super(term, queue);
+			_hash = System.identityHashCode(term);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj)
+		{
+			if (this == obj)
+				return true;
+			if (obj instanceof Key)
+			{
+				final ATermAppl term = get();
+				return term != null && term == ((Key) obj).get();
+			}
+			if (obj instanceof Lookup)
+			{
+				final ATermAppl term = get();
+				return term != null && term == ((Lookup) obj)._term;
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Strongly referenced key used for the lookups, so they don't create weak references.
+	 */
+	private static final class Lookup
+	{
+		private final ATermAppl _term;
+
+		public Lookup(final ATermAppl term)
+		{
+			_term = term;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(_term);
+		}
+
+		@Override
+		public boolean equals(final Object obj)
+		{
+			return obj instanceof Key ? _term == ((Key) obj).get() : obj instanceof Lookup && _term == ((Lookup) obj)._term;
+		}
+	}
+}
@@ -47,6 +47,7 @@ import openllet.aterm.ATermInt;
 import openllet.aterm.ATermList;
 import openllet.aterm.pure.PureFactory;
 import openllet.atom.OpenError;
+import openllet.core.OpenlletOptions;
 import openllet.core.boxes.rbox.Role;
 import openllet.core.exceptions.InternalReasonerException;
 import openllet.core.output.ATermManchesterSyntaxRenderer;
@@ -139,6 +140,10 @@ public class ATermUtils
 
 	public static final AFun DATATYPEDEFFUN = factory.datatypeDefinition();
 
+	public static final ATermMemo NORMALIZE_MEMO = new ATermMemo("normalize");
+	public static final ATermMemo NNF_MEMO = new ATermMemo("nnf");
+	public static final ATermMemo SIMPLIFY_MEMO = new ATermMemo("simplify");
+
 	public static final AFun RESTRDATATYPEFUN = factory.restrictedDatatype();
 
 	public static final AFun FACET = factory.facet();
@@ -1195,6 +1200,28 @@ public class ATermUtils
 		return null;
 	}
 
+	/**
+	 * @return the number of entries, hits and misses of the memo tables of {@link #normalize(ATermAppl)}, {@link #nnf(ATermAppl)} and
+	 *         {@link #simplify(ATermAppl)}
+	 * @since 2.6.6
+	 */
+	public static String getMemoStatistics()
+	{
+		return NORMALIZE_MEMO + ", " + NNF_MEMO + ", " + SIMPLIFY_MEMO;
+	}
+
+	/**
+	 * Empties the memo tables, that are shared by all the knowledge bases. Called when a reasoner is disposed.
+	 *
+	 * @since 2.6.6
+	 */
+	public static void clearMemos()
+	{
+		NORMALIZE_MEMO.clear();
+		NNF_MEMO.clear();
+		SIMPLIFY_MEMO.clear();
+	}
+
 	public static ATermList nnf(final ATermList list)
 	{
 		ATermList newList = factory.makeList();
@@ -1210,6 +1237,20 @@ public class ATermUtils
 	 * concepts
 	 */
 	public static ATermAppl nnf(final ATermAppl term)
+	{
+		if (term.getArity() == 0 || !OpenlletOptions.USE_TERM_MEMO)
+			return computeNNF(term);
+
+		ATermAppl nnf = NNF_MEMO.get(term);
+		if (nnf == null)
+		{
+			nnf = computeNNF(term);
+			NNF_MEMO.put(term, nnf);
+		}
+		return nnf;
+	}
+
+	private static ATermAppl computeNNF(final ATermAppl term)
 	{
 		ATermAppl newterm = null;
 
@@ -1327,6 +1368,20 @@ public class ATermUtils
 	 * @return the term normalized
 	 */
 	public static ATermAppl normalize(final ATermAppl term)
+	{
+		if (term.getArity() == 0 || !OpenlletOptions.USE_TERM_MEMO)
+			return computeNormalize(term);
+
+		ATermAppl norm = NORMALIZE_MEMO.get(term);
+		if (norm == null)
+		{
+			norm = computeNormalize(term);
+			NORMALIZE_MEMO.put(term, norm);
+		}
+		return norm;
+	}
+
+	private static ATermAppl computeNormalize(final ATermAppl term)
 	{
 		ATermAppl norm = term;
 		final AFun fun = term.getAFun();
@@ -1395,6 +1450,20 @@ public class ATermUtils
 	 * @return the term simplified
 	 */
 	public static ATermAppl simplify(final ATermAppl term)
+	{
+		if (term.getArity() == 0 || !OpenlletOptions.USE_TERM_MEMO)
+			return computeSimplify(term);
+
+		ATermAppl simp = SIMPLIFY_MEMO.get(term);
+		if (simp == null)
+		{
+			simp = computeSimplify(term);
+			SIMPLIFY_MEMO.put(term, simp);
+		}
+		return simp;
+	}
+
+	private static ATermAppl computeSimplify(final ATermAppl term)
 	{
 		ATermAppl simp = term;
 		final AFun fun = term.getAFun();
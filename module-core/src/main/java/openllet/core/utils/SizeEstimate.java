@@ -20,6 +20,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -63,7 +65,7 @@ public class SizeEstimate
 
 	private final KnowledgeBase _kb;
 
-	private boolean computed = false;
+	private volatile boolean computed = false;
 
 	private int pCount;
 
@@ -167,6 +169,9 @@ public class SizeEstimate
 
 	private double avgDirectInstances;
 
+	// incremented each time the estimates change
+	private final AtomicInteger _version = new AtomicInteger();
+
 	public SizeEstimate(final KnowledgeBase kb)
 	{
 		_kb = kb;
@@ -179,6 +184,14 @@ public class SizeEstimate
 		return computed;
 	}
 
+	/**
+	 * @return a number that changes each time the costs of the knowledge base are computed, so that what was chosen from the previous estimates can be discarded
+	 */
+	public int getVersion()
+	{
+		return _version.get();
+	}
+
 	private void init()
 	{
 		cCount = _kb.getClasses().size();
@@ -192,29 +205,30 @@ public class SizeEstimate
 		tpCount = _kb.getTransitiveProperties().size();
 		spCount = _kb.getSymmetricProperties().size();
 
-		instancesPC = new HashMap<>();
-		directInstancesPC = new HashMap<>();
-		classesPI = new HashMap<>();
-		directClassesPI = new HashMap<>();
-		pairsPP = new HashMap<>();
-		avgObjectsPP = new HashMap<>();
-		sames = new HashMap<>();
-		differents = new HashMap<>();
-
-		subClasses = new HashMap<>();
-		directSubClasses = new HashMap<>();
-		superClasses = new HashMap<>();
-		directSuperClasses = new HashMap<>();
-		equivClasses = new HashMap<>();
-		disjoints = new HashMap<>();
-		complements = new HashMap<>();
-		inverses = new HashMap<>();
-
-		subProperties = new HashMap<>();
-		directSubProperties = new HashMap<>();
-		superProperties = new HashMap<>();
-		directSuperProperties = new HashMap<>();
-		equivProperties = new HashMap<>();
+		// The estimates are read by concurrent queries while a compute() may complete them.
+		instancesPC = new ConcurrentHashMap<>();
+		directInstancesPC = new ConcurrentHashMap<>();
+		classesPI = new ConcurrentHashMap<>();
+		directClassesPI = new ConcurrentHashMap<>();
+		pairsPP = new ConcurrentHashMap<>();
+		avgObjectsPP = new ConcurrentHashMap<>();
+		sames = new ConcurrentHashMap<>();
+		differents = new ConcurrentHashMap<>();
+
+		subClasses = new ConcurrentHashMap<>();
+		directSubClasses = new ConcurrentHashMap<>();
+		superClasses = new ConcurrentHashMap<>();
+		directSuperClasses = new ConcurrentHashMap<>();
+		equivClasses = new ConcurrentHashMap<>();
+		disjoints = new ConcurrentHashMap<>();
+		complements = new ConcurrentHashMap<>();
+		inverses = new ConcurrentHashMap<>();
+
+		subProperties = new ConcurrentHashMap<>();
+		directSubProperties = new ConcurrentHashMap<>();
+		superProperties = new ConcurrentHashMap<>();
+		directSuperProperties = new ConcurrentHashMap<>();
+		equivProperties = new ConcurrentHashMap<>();
 
 		instancesPC.put(ATermUtils.TOP, iCount);
 		instancesPC.put(ATermUtils.BOTTOM, 0);
@@ -277,9 +291,11 @@ public class SizeEstimate
 		// NOTE: the behavior to realize the KB at every type retrieval query
 		// is subject to change and would require a change here too
 		classRetrievalCost = _kb.isRealized() ? noSatCost : realizationCost;
+
+		_version.incrementAndGet();
 	}
 
-	public void computeAll() // Call from the jena's SparqlDLExecution
+	public synchronized void computeAll() // Call from the jena's SparqlDLExecution
 	{
 		if (!computed)
 		{
@@ -75,15 +75,16 @@ public class Timer
 	public final static long NO_TIMEOUT = 0;
 
 	private final String _name; // _name to identify what we are timing
-	private long _totalTime; // total time that has elapsed when the timer was running
-	private long _startTime; // last time timer was started
-	private long _count; // number of times the timer was started and stopped
-	private long _startCount; // if we are timing recursive functions timer may be started
+	private volatile long _totalTime; // total time that has elapsed when the timer was running
+	private volatile long _startTime; // last time timer was started
+	private volatile long _count; // number of times the timer was started and stopped
+	private volatile long _startCount; // if we are timing recursive functions timer may be started
 	// multiple times. we only want to measure time spent in the
 	// upper most function call so we need to discard other starts
-	private long _timeout; // Point at which a call to check throws an exception
-	private long _lastTime; // time that has elapsed between last start()-_stop() period
-	private boolean interrupted; // Tells whether this timer has been interrupted
+	// The same counter is shared by the threads of the concurrent kernel : the timer then measures the time during which at least one thread runs.
+	private volatile long _timeout; // Point at which a call to check throws an exception
+	private volatile long _lastTime; // time that has elapsed between last start()-_stop() period
+	private volatile boolean interrupted; // Tells whether this timer has been interrupted
 
 	private final Timer _parent; // the _parent timer
 
@@ -125,7 +126,7 @@ public class Timer
 	 *
 	 * @param timer
 	 */
-	public void add(final Timer timer)
+	public synchronized void add(final Timer timer)
 	{
 		_totalTime += timer._totalTime;
 		_count += timer._count;
@@ -135,7 +136,7 @@ public class Timer
 	 * Start time timer by recording the time this function is called. If timer is running when this function is called time is not recorded and only an
 	 * internal counter is updated.
 	 */
-	public void start()
+	public synchronized void start()
 	{
 		if (_startCount == 0)
 			_startTime = System.currentTimeMillis();
@@ -149,7 +150,7 @@ public class Timer
 	 *
 	 * @return Return the total time spent after last start(), -1 if timer is still running, -Long.MAX_VALUE on error
 	 */
-	public long stop()
+	public synchronized long stop()
 	{
 		if (!isStarted())
 		{
@@ -175,7 +176,7 @@ public class Timer
 	/**
 	 * Reset all the internal counts associated with this timer. After this function call it will be like timer has never been used.
 	 */
-	public void reset()
+	public synchronized void reset()
 	{
 		_totalTime = 0;
 		_startTime = NOT_STARTED;
@@ -187,7 +188,7 @@ public class Timer
 	/**
 	 * If started _stop the timer and then start it again.
 	 */
-	public void restart()
+	public synchronized void restart()
 	{
 		if (isStarted())
 			stop();
@@ -247,7 +248,8 @@ public class Timer
 	 */
 	public long getElapsed()
 	{
-		return isStarted() ? System.currentTimeMillis() - _startTime : 0;
+		final long startTime = _startTime; // Read once, the timer may be stopped by another thread.
+		return startTime == NOT_STARTED ? 0 : System.currentTimeMillis() - startTime;
 	}
 
 	/**
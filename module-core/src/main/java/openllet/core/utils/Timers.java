@@ -47,7 +47,6 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import openllet.core.OpenlletOptions;
 import openllet.core.output.TableData;
 
 /**
@@ -62,7 +61,7 @@ import openllet.core.output.TableData;
  */
 public class Timers
 {
-	private final Map<String, Timer> _timers = new LinkedHashMap<>();
+	private final Map<String, Timer> _timers = Collections.synchronizedMap(new LinkedHashMap<>()); // Timers may be created by the workers of the concurrent classification or of the concurrent kernel.
 
 	public final Timer _mainTimer;
 
@@ -99,22 +98,13 @@ public class Timers
 
 	public Optional<Timer> startTimer(final String name)
 	{
-		if (OpenlletOptions.USE_THREADED_KERNEL)
-			return Optional.empty();
-
-		final Timer t = getTimer(name).orElseGet(() -> createTimer(name));
+		final Timer t = _timers.computeIfAbsent(name, n -> new Timer(n, _mainTimer)); // Atomic, the concurrent kernel may start the same timer from many threads.
 		t.start();
 		return Optional.of(t);
 	}
 
 	public void execute(final String name, final Consumer<Timers> consumer)
 	{
-		if (OpenlletOptions.USE_THREADED_KERNEL)
-		{
-			consumer.accept(this);
-			return;
-		}
-
 		final Optional<Timer> timer = startTimer(name);
 		consumer.accept(this);
 		timer.ifPresent(Timer::stop);
@@ -122,9 +112,6 @@ public class Timers
 
 	public <RESULT> RESULT execute(final String name, final Supplier<RESULT> producer)
 	{
-		if (OpenlletOptions.USE_THREADED_KERNEL)
-			return producer.get();
-
 		final Optional<Timer> timer = startTimer(name);
 		try
 		{
@@ -167,8 +154,11 @@ public class Timers
 
 	public void resetAll()
 	{
-		for (final Timer timer : _timers.values())
-			timer.reset();
+		synchronized (_timers)
+		{
+			for (final Timer timer : _timers.values())
+				timer.reset();
+		}
 		_mainTimer.start();
 	}
 
@@ -219,7 +209,11 @@ public class Timers
 
 		final boolean[] alignment = shortForm ? new boolean[] { false, true } : new boolean[] { false, true, true, true };
 
-		final List<Timer> list = new ArrayList<>(_timers.values());
+		final List<Timer> list;
+		synchronized (_timers)
+		{
+			list = new ArrayList<>(_timers.values());
+		}
 		if (sortBy != null)
 			Collections.sort(list, (o1, o2) ->
 			{
@@ -0,0 +1,89 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.core.utils;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import openllet.core.exceptions.InternalReasonerException;
+
+/**
+ * Pool of worker threads of the reasoner. A task run in the pool also runs its parallel streams in the pool, and the exceptions and errors of the workers are
+ * thrown back to the thread that waits for them.
+ *
+ * @since 2.6.6
+ */
+public class WorkerPool implements AutoCloseable
+{
+	private final ForkJoinPool _pool;
+
+	/**
+	 * @param threads number of worker threads
+	 */
+	public WorkerPool(final int threads)
+	{
+		_pool = new ForkJoinPool(threads);
+	}
+
+	public <T> Future<T> submit(final Callable<T> task)
+	{
+		return _pool.submit(task);
+	}
+
+	/**
+	 * Runs the task in the pool and waits for it.
+	 */
+	public void invoke(final Runnable task)
+	{
+		get(_pool.submit(task));
+	}
+
+	/**
+	 * Stops accepting tasks, the tasks already submitted still run.
+	 */
+	public void shutdown()
+	{
+		_pool.shutdown();
+	}
+
+	/**
+	 * Stops accepting tasks and interrupts the running ones.
+	 */
+	@Override
+	public void close()
+	{
+		_pool.shutdownNow();
+	}
+
+	/**
+	 * @return the result of the task, once done
+	 * @throws InternalReasonerException if interrupted, or if the task threw a checked exception. The unchecked exceptions and the errors of the task are
+	 *         rethrown as they are.
+	 */
+	public static <T> T get(final Future<T> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new InternalReasonerException(e);
+		}
+		catch (final ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			if (e.getCause() instanceof Error)
+				throw (Error) e.getCause();
+			throw new InternalReasonerException(e.getCause());
+		}
+	}
+}
@@ -149,6 +149,52 @@ public class ATermTests
 		assertEquals(ATermUtils.normalize(c1), ATermUtils.normalize(c2));
 	}
 
+	@Test
+	public void testMemo()
+	{
+		final ATermAppl[] terms = { some(_p, not(_c)), max(_p, 1, not(some(_p, not(not(_c))))), not(and(_d1, _d2, _d3)), or(_a, and(_b, not(_a))), min(_p, 1, ATermUtils.BOTTOM) };
+
+		final boolean memo = OpenlletOptions.USE_TERM_MEMO;
+		try
+		{
+			OpenlletOptions.USE_TERM_MEMO = false;
+			final List<ATermAppl> expected = new ArrayList<>();
+			for (final ATermAppl term : terms)
+			{
+				expected.add(ATermUtils.normalize(term));
+				expected.add(ATermUtils.nnf(term));
+				expected.add(ATermUtils.simplify(ATermUtils.normalize(term)));
+			}
+
+			OpenlletOptions.USE_TERM_MEMO = true;
+			for (int pass = 0; pass < 2; pass++)
+			{
+				final long hits = ATermUtils.NORMALIZE_MEMO.getHits() + ATermUtils.NNF_MEMO.getHits() + ATermUtils.SIMPLIFY_MEMO.getHits();
+				final long misses = ATermUtils.NORMALIZE_MEMO.getMisses() + ATermUtils.NNF_MEMO.getMisses() + ATermUtils.SIMPLIFY_MEMO.getMisses();
+
+				final List<ATermAppl> results = new ArrayList<>();
+				for (final ATermAppl term : terms)
+				{
+					results.add(ATermUtils.normalize(term));
+					results.add(ATermUtils.nnf(term));
+					results.add(ATermUtils.simplify(ATermUtils.normalize(term)));
+				}
+				assertEquals(expected, results);
+
+				// the second pass finds every result in the memo tables
+				if (pass == 1)
+				{
+					assertEquals(misses, ATermUtils.NORMALIZE_MEMO.getMisses() + ATermUtils.NNF_MEMO.getMisses() + ATermUtils.SIMPLIFY_MEMO.getMisses());
+					assertTrue(ATermUtils.NORMALIZE_MEMO.getHits() + ATermUtils.NNF_MEMO.getHits() + ATermUtils.SIMPLIFY_MEMO.getHits() >= hits + 2 * terms.length);
+				}
+			}
+		}
+		finally
+		{
+			OpenlletOptions.USE_TERM_MEMO = memo;
+		}
+	}
+
 	@Test
 	public void testDNF()
 	{
@@ -82,6 +82,11 @@ public class GlassBoxExplanation extends SingleExplanationGeneratorImpl
 
 	private final AxiomConverter _axiomConverter;
 
+	/**
+	 * Justifications of the first explanations, kept across the calls until a change of the ontology can affect them.
+	 */
+	private final JustificationCache _justificationCache = new JustificationCache();
+
 	public GlassBoxExplanation(final OWLOntology ontology, final OpenlletReasonerFactory factory)
 	{
 		this(factory, factory.createReasoner(ontology));
@@ -97,6 +102,17 @@ public class GlassBoxExplanation extends SingleExplanationGeneratorImpl
 		super(reasoner.getRootOntology(), factory, reasoner);
 
 		_axiomConverter = new AxiomConverter(reasoner);
+
+		reasoner.addAxiomChangeListener(_justificationCache);
+	}
+
+	/**
+	 * @return the justifications kept across the calls
+	 * @since 2.6.6
+	 */
+	public JustificationCache getJustificationCache()
+	{
+		return _justificationCache;
 	}
 
 	private void setAltReasonerEnabled(final boolean enabled)
@@ -197,10 +213,21 @@ public class GlassBoxExplanation extends SingleExplanationGeneratorImpl
 		{
 			_altReasoner = null;
 
-			result = getCachedExplanation(unsatClass);
+			result = _justificationCache.get(unsatClass);
 
 			if (result == null)
-				result = getReasonerExplanation(unsatClass);
+			{
+				final long version = _justificationCache.getVersion();
+
+				result = getCachedExplanation(unsatClass);
+
+				if (result == null)
+					result = getReasonerExplanation(unsatClass);
+
+				_justificationCache.put(unsatClass, result, version);
+			}
+			else
+				_logger.fine(() -> "Justification from the cache " + unsatClass);
 		}
 		else
 		{
@@ -367,6 +394,20 @@ public class GlassBoxExplanation extends SingleExplanationGeneratorImpl
 		}
 	}
 
+	@Override
+	public void beginTransaction()
+	{
+		super.beginTransaction();
+		_justificationCache.beginTransaction();
+	}
+
+	@Override
+	public void endTransaction()
+	{
+		super.endTransaction();
+		_justificationCache.endTransaction();
+	}
+
 	@Override
 	public OpenlletReasoner getReasoner()
 	{
@@ -383,6 +424,7 @@ public class GlassBoxExplanation extends SingleExplanationGeneratorImpl
 	public void dispose()
 	{
 		getOntologyManager().removeOntologyChangeListener(getDefinitionTracker());
+		((OpenlletReasoner) super.getReasoner()).removeAxiomChangeListener(_justificationCache);
 		if (_altReasoner != null)
 			_altReasoner.dispose();
 	}
@@ -0,0 +1,156 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.owlapi.explanation;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.HasSignature;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLEntity;
+
+import openllet.owlapi.AxiomChangeListener;
+
+/**
+ * Justifications computed by a {@link GlassBoxExplanation}, by the unsatisfiable class expression that encodes the entailment. The cache follows the axioms
+ * applied to the reasoner : a justification is dropped when one of its axioms is removed, or when an added axiom shares an entity with it or with the
+ * entailment, and so could lead to a shorter justification. The other justifications stay valid across the changes.
+ *
+ * @since 2.6.6
+ */
+public class JustificationCache implements AxiomChangeListener
+{
+	private final Map<OWLClassExpression, Set<OWLAxiom>> _justifications = new HashMap<>();
+
+	/**
+	 * Version of the ontology, incremented by every change. A justification computed while the ontology changed is not cached.
+	 */
+	private long _version = 0;
+
+	/**
+	 * Net number of additions of each axiom changed during a transaction, null outside of a transaction. The hitting set tree restores every axiom it removes
+	 * so only the changes that are not undone when the transaction ends invalidate the justifications.
+	 */
+	private Map<OWLAxiom, Integer> _transactionChanges = null;
+
+	private long _hits = 0;
+
+	private long _misses = 0;
+
+	public synchronized long getVersion()
+	{
+		return _version;
+	}
+
+	/**
+	 * @return a copy of the cached justification of the class, or null if there is none
+	 */
+	public synchronized Set<OWLAxiom> get(final OWLClassExpression unsatClass)
+	{
+		final Set<OWLAxiom> justification = _justifications.get(unsatClass);
+		if (justification == null)
+		{
+			_misses++;
+			return null;
+		}
+
+		_hits++;
+		return new HashSet<>(justification);
+	}
+
+	public synchronized long getHits()
+	{
+		return _hits;
+	}
+
+	public synchronized long getMisses()
+	{
+		return _misses;
+	}
+
+	/**
+	 * @param unsatClass the unsatisfiable class expression
+	 * @param justification its justification, nothing is cached if empty
+	 * @param version the version of the ontology, as returned by {@link #getVersion()}, before the justification was computed
+	 */
+	public synchronized void put(final OWLClassExpression unsatClass, final Set<OWLAxiom> justification, final long version)
+	{
+		if (version == _version && !justification.isEmpty())
+			_justifications.put(unsatClass, new HashSet<>(justification));
+	}
+
+	public synchronized void beginTransaction()
+	{
+		_transactionChanges = new HashMap<>();
+	}
+
+	public synchronized void endTransaction()
+	{
+		final Map<OWLAxiom, Integer> changes = _transactionChanges;
+		_transactionChanges = null;
+
+		if (changes == null)
+			return;
+
+		for (final Entry<OWLAxiom, Integer> entry : changes.entrySet())
+			if (entry.getValue() > 0)
+				added(entry.getKey());
+			else
+				if (entry.getValue() < 0)
+					removed(entry.getKey());
+	}
+
+	@Override
+	public synchronized void axiomsChanged(final Set<OWLAxiom> added, final Set<OWLAxiom> removed)
+	{
+		_version++;
+		if (_transactionChanges != null)
+		{
+			for (final OWLAxiom axiom : added)
+				_transactionChanges.merge(axiom, 1, Integer::sum);
+			for (final OWLAxiom axiom : removed)
+				_transactionChanges.merge(axiom, -1, Integer::sum);
+		}
+		else
+		{
+			added.forEach(this::added);
+			removed.forEach(this::removed);
+		}
+	}
+
+	@Override
+	public synchronized void reloaded()
+	{
+		_version++;
+		_justifications.clear();
+	}
+
+	private void added(final OWLAxiom axiom)
+	{
+		// The justifications remain entailed, but an axiom without logical content can't shorten them
+		if (!axiom.isLogicalAxiom())
+			return;
+
+		final Set<OWLEntity> signature = axiom.signature().collect(Collectors.toSet());
+
+		_justifications.entrySet().removeIf(entry -> entry.getKey().isOWLThing() // Any axiom can lead to another inconsistency
+				|| Stream.<HasSignature> concat(Stream.of(entry.getKey()), entry.getValue().stream()).flatMap(HasSignature::signature).anyMatch(signature::contains));
+	}
+
+	private void removed(final OWLAxiom axiom)
+	{
+		// The justifications are converted from the reasoner, so their axioms have no annotation
+		final OWLAxiom logicalAxiom = axiom.getAxiomWithoutAnnotations();
+		_justifications.values().removeIf(justification -> justification.contains(logicalAxiom));
+	}
+}
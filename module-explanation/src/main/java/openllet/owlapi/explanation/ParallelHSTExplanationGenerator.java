@@ -0,0 +1,309 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.owlapi.explanation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import com.clarkparsia.owlapi.explanation.BlackBoxExplanation;
+import com.clarkparsia.owlapi.explanation.TransactionAwareSingleExpGen;
+
+import openllet.core.utils.WorkerPool;
+import openllet.owlapi.OWL;
+import openllet.owlapi.OpenlletReasoner;
+import openllet.owlapi.OpenlletReasonerFactory;
+import openllet.shared.tools.Log;
+
+/**
+ * Hitting set tree search of all the explanations of an unsatisfiable class expression, where the branches of the tree are expanded concurrently. Each worker
+ * explains the nodes on its own copy of the ontology with its own reasoner, so the axioms removed along a path are never seen by the other workers. The
+ * explanations found and the paths closed by a satisfiable class are shared by all the workers. The workers are created by each search and released at its
+ * end, so nothing is held between two searches.
+ *
+ * @since 2.6.6
+ */
+public class ParallelHSTExplanationGenerator
+{
+	public static final Logger _logger = Log.getLogger(ParallelHSTExplanationGenerator.class);
+
+	private final OpenlletReasoner _reasoner;
+
+	private final TransactionAwareSingleExpGen _singleExpGen;
+
+	private final boolean _useGlassBox;
+
+	private final int _threads;
+
+	/**
+	 * @param reasoner the reasoner of the ontology to explain
+	 * @param singleExpGen the generator of the first explanation, that runs on the given reasoner
+	 * @param useGlassBox if the workers use glass box or black box explanations
+	 * @param threads number of worker threads
+	 */
+	public ParallelHSTExplanationGenerator(final OpenlletReasoner reasoner, final TransactionAwareSingleExpGen singleExpGen, final boolean useGlassBox, final int threads)
+	{
+		_reasoner = reasoner;
+		_singleExpGen = singleExpGen;
+		_useGlassBox = useGlassBox;
+		_threads = threads;
+	}
+
+	public Set<OWLAxiom> getExplanation(final OWLClassExpression unsatClass)
+	{
+		return _singleExpGen.getExplanation(unsatClass);
+	}
+
+	public Set<Set<OWLAxiom>> getExplanations(final OWLClassExpression unsatClass)
+	{
+		return getExplanations(unsatClass, 0);
+	}
+
+	/**
+	 * @param unsatClass The class that is unsatisfiable for which explanations will be generated.
+	 * @param maxExplanations Maximum number of explanations requested, or 0 to get all the explanations
+	 * @return the explanations in the order they were found, or an empty set if the class is satisfiable
+	 */
+	public Set<Set<OWLAxiom>> getExplanations(final OWLClassExpression unsatClass, final int maxExplanations)
+	{
+		if (maxExplanations < 0)
+			throw new IllegalArgumentException("Negative number of explanations " + maxExplanations);
+
+		final Set<OWLAxiom> firstExplanation = getExplanation(unsatClass);
+		if (firstExplanation.isEmpty())
+			return Collections.emptySet();
+
+		final Search search = new Search(unsatClass, maxExplanations);
+		search.found(firstExplanation);
+
+		try (final WorkerPool pool = new WorkerPool(_threads))
+		{
+			pool.invoke(() -> search.expand(Collections.emptySet(), firstExplanation));
+		}
+		finally
+		{
+			search.releaseWorkers();
+		}
+
+		return search._explanations;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ParallelHST(" + _singleExpGen + ")";
+	}
+
+	/**
+	 * State of one search, shared by all the branches.
+	 */
+	private class Search
+	{
+		private final OWLClassExpression _unsatClass;
+		private final int _maxExplanations;
+
+		private final Set<Set<OWLAxiom>> _explanations = new LinkedHashSet<>();
+		private final Set<Set<OWLAxiom>> _closedPaths = ConcurrentHashMap.newKeySet();
+		private final Set<Set<OWLAxiom>> _visitedPaths = ConcurrentHashMap.newKeySet();
+		private final AtomicBoolean _done = new AtomicBoolean();
+
+		/**
+		 * Idle workers of the search, null once the search is over.
+		 */
+		private Deque<Worker> _workers = new ArrayDeque<>();
+
+		private Search(final OWLClassExpression unsatClass, final int maxExplanations)
+		{
+			_unsatClass = unsatClass;
+			_maxExplanations = maxExplanations;
+		}
+
+		private Worker acquireWorker()
+		{
+			synchronized (this)
+			{
+				if (_workers != null && !_workers.isEmpty())
+					return _workers.poll();
+			}
+
+			_logger.fine("Create explanation worker");
+			return new Worker();
+		}
+
+		private void releaseWorker(final Worker worker)
+		{
+			synchronized (this)
+			{
+				if (_workers != null)
+				{
+					_workers.add(worker);
+					return;
+				}
+			}
+
+			// A branch still running after the search failed
+			worker.dispose();
+		}
+
+		/**
+		 * Disposes the idle workers, the ones still in use are disposed when released.
+		 */
+		private void releaseWorkers()
+		{
+			final Deque<Worker> workers;
+			synchronized (this)
+			{
+				workers = _workers;
+				_workers = null;
+			}
+
+			workers.forEach(Worker::dispose);
+		}
+
+		private void found(final Set<OWLAxiom> explanation)
+		{
+			synchronized (_explanations)
+			{
+				if (_done.get())
+					return;
+
+				_explanations.add(explanation);
+
+				if (_maxExplanations > 0 && _explanations.size() >= _maxExplanations)
+					_done.set(true);
+			}
+		}
+
+		/**
+		 * @return an explanation already found that does not use any axiom of the path, if any
+		 */
+		private Set<OWLAxiom> reuse(final Set<OWLAxiom> path)
+		{
+			synchronized (_explanations)
+			{
+				for (final Set<OWLAxiom> explanation : _explanations)
+					if (Collections.disjoint(explanation, path))
+						return explanation;
+			}
+
+			return null;
+		}
+
+		private boolean isClosed(final Set<OWLAxiom> path)
+		{
+			// Removing more axioms than along a path where the class is satisfiable keeps it satisfiable
+			for (final Set<OWLAxiom> closedPath : _closedPaths)
+				if (path.containsAll(closedPath))
+					return true;
+
+			return false;
+		}
+
+		private void expand(final Set<OWLAxiom> path, final Set<OWLAxiom> explanation)
+		{
+			explanation.parallelStream().forEach(axiom ->
+			{
+				if (_done.get())
+					return;
+
+				final Set<OWLAxiom> childPath = new HashSet<>(path);
+				childPath.add(axiom);
+
+				// The same axioms removed in another order lead to the same subtree
+				if (!_visitedPaths.add(childPath) || isClosed(childPath))
+					return;
+
+				Set<OWLAxiom> childExplanation = reuse(childPath);
+				if (childExplanation == null)
+				{
+					final Worker worker = acquireWorker();
+					try
+					{
+						childExplanation = worker.explain(_unsatClass, childPath);
+					}
+					finally
+					{
+						releaseWorker(worker);
+					}
+
+					if (childExplanation.isEmpty())
+					{
+						_closedPaths.add(childPath);
+						return;
+					}
+
+					found(childExplanation);
+				}
+
+				expand(childPath, childExplanation);
+			});
+		}
+	}
+
+	/**
+	 * A copy of the ontology with its own reasoner and single explanation generator.
+	 */
+	private class Worker
+	{
+		private final OWLOntology _ontology;
+		private final OpenlletReasoner _copyReasoner;
+		private final TransactionAwareSingleExpGen _expGen;
+
+		private Worker()
+		{
+			_ontology = OWL.Ontology(OWLManager.createConcurrentOWLOntologyManager(), _reasoner.getRootOntology().importsClosure().flatMap(OWLOntology::axioms));
+
+			final OpenlletReasonerFactory factory = new OpenlletReasonerFactory();
+			_copyReasoner = factory.createNonBufferingReasoner(_ontology);
+			_expGen = _useGlassBox ? new GlassBoxExplanation(factory, _copyReasoner) : new BlackBoxExplanation(_ontology, factory, _copyReasoner);
+		}
+
+		/**
+		 * @return an explanation of the class once the axioms of the path are removed, or an empty set if it is satisfiable without them
+		 */
+		private Set<OWLAxiom> explain(final OWLClassExpression unsatClass, final Set<OWLAxiom> path)
+		{
+			final List<OWLAxiom> removed = new ArrayList<>();
+			for (final OWLAxiom axiom : path)
+				if (_ontology.containsAxiom(axiom))
+				{
+					_ontology.remove(axiom);
+					removed.add(axiom);
+				}
+
+			try
+			{
+				return _expGen.getExplanation(unsatClass);
+			}
+			finally
+			{
+				for (final OWLAxiom axiom : removed)
+					_ontology.add(axiom);
+			}
+		}
+
+		private void dispose()
+		{
+			_expGen.dispose();
+			_copyReasoner.dispose();
+			_ontology.getOWLOntologyManager().removeOntology(_ontology);
+		}
+	}
+}
@@ -21,6 +21,7 @@ import com.clarkparsia.owlapi.explanation.HSTExplanationGenerator;
 import com.clarkparsia.owlapi.explanation.SatisfiabilityConverter;
 import com.clarkparsia.owlapi.explanation.TransactionAwareSingleExpGen;
 
+import openllet.core.OpenlletOptions;
 import openllet.owlapi.OpenlletReasoner;
 import openllet.owlapi.OpenlletReasonerFactory;
 
@@ -47,6 +48,11 @@ public class PelletExplanation
 
 	private final HSTExplanationGenerator _expGen;
 
+	/**
+	 * Generator of all the explanations when {@link OpenlletOptions#EXPLANATION_THREADS} is greater than one, null otherwise.
+	 */
+	private final ParallelHSTExplanationGenerator _parallelExpGen;
+
 	private final SatisfiabilityConverter _converter;
 
 	public PelletExplanation(final OWLOntology ontology)
@@ -74,6 +80,7 @@ public class PelletExplanation
 
 		// Create multiple explanation generator
 		_expGen = new HSTExplanationGenerator(singleExp);
+		_parallelExpGen = OpenlletOptions.EXPLANATION_THREADS > 1 ? new ParallelHSTExplanationGenerator(reasoner, singleExp, useGlassBox, OpenlletOptions.EXPLANATION_THREADS) : null;
 
 		// Create the converter that will translate axioms into class expressions
 		_converter = new SatisfiabilityConverter(_factory);
@@ -167,7 +174,7 @@ public class PelletExplanation
 	 */
 	public Set<Set<OWLAxiom>> getUnsatisfiableExplanations(final OWLClassExpression unsatClass)
 	{
-		return _expGen.getExplanations(unsatClass);
+		return _parallelExpGen != null ? _parallelExpGen.getExplanations(unsatClass) : _expGen.getExplanations(unsatClass);
 	}
 
 	/**
@@ -180,6 +187,6 @@ public class PelletExplanation
 	 */
 	public Set<Set<OWLAxiom>> getUnsatisfiableExplanations(final OWLClassExpression unsatClass, final int maxExplanations)
 	{
-		return _expGen.getExplanations(unsatClass, maxExplanations);
+		return _parallelExpGen != null ? _parallelExpGen.getExplanations(unsatClass, maxExplanations) : _expGen.getExplanations(unsatClass, maxExplanations);
 	}
 }
@@ -8,7 +8,7 @@ package openllet.jena;
 
 import static openllet.jena.JenaUtils.makeGraphNode;
 
-import java.util.ArrayList;
+import java.io.OutputStream;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
@@ -20,6 +20,10 @@ import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.riot.system.StreamRDFWriter;
 import org.apache.jena.vocabulary.OWL;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
@@ -34,6 +38,9 @@ import openllet.jena.vocabulary.OWL2;
 /**
  * Extract a Jena model that contains the information Pellet inferred. Models can be generated about classes, properties or individuals. Note that _individual
  * models do not contain any information about property assertions, it just contains type assertions about individuals.
+ * <p>
+ * The statements can also be sent to a {@link StreamRDF} as they are computed, one entity at a time, so that large KBs can be exported without holding all
+ * their inferences in memory.
  *
  * @author Evren Sirin
  */
@@ -252,18 +259,18 @@ public class ModelExtractor
 	}
 
 	/**
-	 * Creates and adds the triple to the given list if the triple passes the _filter.
+	 * Creates and sends the triple to the given stream if the triple passes the _filter.
 	 *
-	 * @param triples List to be added
+	 * @param stream receiving the triple
 	 * @param s subject of the triple
 	 * @param p predicate of the triple
 	 * @param o object of the triple
 	 */
-	private void addTriple(final List<Triple> triples, final Node s, final Node p, final Node o)
+	private void addTriple(final StreamRDF stream, final Node s, final Node p, final Node o)
 	{
 		final Triple triple = Triple.create(s, p, o);
 		if (!_filter.test(triple))
-			triples.add(triple);
+			stream.triple(triple);
 	}
 
 	public Model extractClassModel()
@@ -272,6 +279,18 @@ public class ModelExtractor
 	}
 
 	public Model extractClassModel(final Model model)
+	{
+		extractClassStatements(StreamRDFLib.graph(model.getGraph()));
+		return model;
+	}
+
+	/**
+	 * Send the statements about classes to the stream, class by class. The stream is neither started nor finished.
+	 *
+	 * @param triples receiving the statements
+	 * @since 2.6.6
+	 */
+	public void extractClassStatements(final StreamRDF triples)
 	{
 		final boolean allSubs = _selector.contains(StatementType.ALL_SUBCLASS);
 		final boolean jenaDirectSubs = _selector.contains(StatementType.JENA_DIRECT_SUBCLASS);
@@ -283,14 +302,10 @@ public class ModelExtractor
 		if (subs || equivs || disjs || comps)
 			_kb.classify();
 
-		final List<Triple> triples = new ArrayList<>();
-
 		final Set<ATermAppl> classes = _kb.getAllClasses();
 
 		for (final ATermAppl c : classes)
 		{
-			triples.clear();
-
 			final Optional<Node> sOpt = makeGraphNode(c);
 			if (!sOpt.isPresent())
 				continue;
@@ -362,11 +377,7 @@ public class ModelExtractor
 							makeGraphNode(a).ifPresent(o -> addTriple(triples, s, pX, o));
 				}
 			}
-			for (final Triple t : triples)
-				model.getGraph().add(t);
 		}
-
-		return model;
 	}
 
 	/**
@@ -387,7 +398,18 @@ public class ModelExtractor
 	 */
 	public Model extractIndividualModel(final Model model)
 	{
+		extractIndividualStatements(StreamRDFLib.graph(model.getGraph()));
+		return model;
+	}
 
+	/**
+	 * Send the statements about individuals to the stream, individual by individual. The stream is neither started nor finished.
+	 *
+	 * @param triples receiving the statements
+	 * @since 2.6.6
+	 */
+	public void extractIndividualStatements(final StreamRDF triples)
+	{
 		/*
 		 * Initialize booleans that reflect the _selector parameter - this avoids
 		 * doing set contains evaluations for each pass of the loop.
@@ -403,13 +425,7 @@ public class ModelExtractor
 		if (classes)
 			_kb.realize();
 
-		final List<Triple> triples = new ArrayList<>();
-
 		for (final ATermAppl ind : _kb.getIndividuals())
-		{
-
-			triples.clear();
-
 			makeGraphNode(ind).ifPresent(s ->
 			{
 				if (classes)
@@ -487,12 +503,7 @@ public class ModelExtractor
 								makeGraphNode(value).ifPresent(node -> addTriple(triples, s, p, node));
 						});
 					}
-				for (final Triple t : triples)
-					model.getGraph().add(t);
 			});
-		}
-
-		return model;
 	}
 
 	public Model extractModel()
@@ -510,6 +521,33 @@ public class ModelExtractor
 
 	}
 
+	/**
+	 * Send all the selected statements to the stream, that is started and finished.
+	 *
+	 * @param triples receiving the statements
+	 * @since 2.6.6
+	 */
+	public void extractStatements(final StreamRDF triples)
+	{
+		triples.start();
+		extractClassStatements(triples);
+		extractPropertyStatements(triples);
+		extractIndividualStatements(triples);
+		triples.finish();
+	}
+
+	/**
+	 * Write all the selected statements as they are computed.
+	 *
+	 * @param out receiving the statements
+	 * @param format a streaming format, such as {@link RDFFormat#NTRIPLES} or {@link RDFFormat#TURTLE_BLOCKS}
+	 * @since 2.6.6
+	 */
+	public void extractStatements(final OutputStream out, final RDFFormat format)
+	{
+		extractStatements(StreamRDFWriter.getWriterStream(out, format));
+	}
+
 	public Model extractPropertyModel()
 	{
 		return extractPropertyModel(ModelFactory.createDefaultModel());
@@ -517,7 +555,18 @@ public class ModelExtractor
 
 	public Model extractPropertyModel(final Model model)
 	{
+		extractPropertyStatements(StreamRDFLib.graph(model.getGraph()));
+		return model;
+	}
 
+	/**
+	 * Send the statements about properties to the stream, property by property. The stream is neither started nor finished.
+	 *
+	 * @param triples receiving the statements
+	 * @since 2.6.6
+	 */
+	public void extractPropertyStatements(final StreamRDF triples)
+	{
 		final boolean allSubs = _selector.contains(StatementType.ALL_SUBPROPERTY);
 		final boolean jenaDirectSubs = _selector.contains(StatementType.JENA_DIRECT_SUBPROPERTY);
 		final boolean subs = allSubs || jenaDirectSubs || _selector.contains(StatementType.DIRECT_SUBPROPERTY);
@@ -527,12 +576,8 @@ public class ModelExtractor
 
 		_kb.prepare();
 
-		final List<Triple> triples = new ArrayList<>();
-
 		for (final Role role : _kb.getRBox().getRoles().values())
 		{
-			triples.clear();
-
 			if (role.isAnon())
 				continue;
 
@@ -635,12 +680,7 @@ public class ModelExtractor
 			// FIXME: Add domain statements
 
 			// FIXME: Add range statements
-
-			for (final Triple t : triples)
-				model.getGraph().add(t);
 		}
-
-		return model;
 	}
 
 	/**
@@ -611,6 +611,7 @@ public class PelletInfGraph extends BaseInfGraph
 		clear();
 		_graphListener.dispose();
 		_kb.clear();
+		ATermUtils.clearMemos();
 	}
 
 	/**
@@ -40,7 +40,9 @@ import static openllet.jena.graph.loader.SimpleProperty.DISJOINT;
 import static openllet.jena.graph.loader.SimpleProperty.IRREFLEXIVE;
 import static openllet.jena.graph.loader.SimpleProperty.SELF;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -49,6 +51,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -93,6 +96,7 @@ import openllet.core.utils.Bool;
 import openllet.core.utils.QNameProvider;
 import openllet.core.utils.SetUtils;
 import openllet.core.utils.Timer;
+import openllet.core.utils.WorkerPool;
 import openllet.core.utils.progress.ProgressMonitor;
 import openllet.core.utils.progress.SilentProgressMonitor;
 import openllet.core.vocabulary.BuiltinNamespace;
@@ -1444,7 +1448,12 @@ public class DefaultGraphLoader implements GraphLoader
 	{
 		_logger.fine("processTriples");
 		if (isLoadABox())
-			processTriples(Node.ANY);
+		{
+			if (OpenlletOptions.LOADER_THREADS > 1)
+				processTriplesConcurrently(OpenlletOptions.LOADER_THREADS);
+			else
+				processTriples(Node.ANY);
+		}
 		else
 			for (final Node predicate : TBOX_PREDICATES)
 				processTriples(predicate);
@@ -1466,6 +1475,189 @@ public class DefaultGraphLoader implements GraphLoader
 		i.close();
 	}
 
+	/**
+	 * Process all the triples in the raw _graph, translating the assertions about named individuals with the given number of threads. The triples are read in
+	 * chunks of {@link OpenlletOptions#LOADER_BATCH_SIZE}, each chunk is translated by a worker, then the calling thread, that is the only one to change the
+	 * KB, processes the chunks and their triples in the order of the graph. So the terms are defined, and the unsupported features reported, as by
+	 * {@link #processTriples(Node)}.
+	 *
+	 * @param threads the number of threads translating the triples
+	 */
+	protected void processTriplesConcurrently(final int threads)
+	{
+		final int batchSize = Math.max(1, OpenlletOptions.LOADER_BATCH_SIZE);
+		final Deque<Future<List<TranslatedTriple>>> batches = new ArrayDeque<>();
+		try (final WorkerPool pool = new WorkerPool(threads))
+		{
+			final ClosableIterator<Triple> i = _graph.find(null, Node.ANY, null);
+			try
+			{
+				List<Triple> chunk = new ArrayList<>(batchSize);
+				while (i.hasNext())
+				{
+					chunk.add(i.next());
+					if (chunk.size() >= batchSize)
+					{
+						final List<Triple> triples = chunk;
+						batches.add(pool.submit(() -> translate(triples)));
+						chunk = new ArrayList<>(batchSize);
+
+						// Keep every thread busy without holding the translation of the whole graph.
+						while (batches.size() > 2 * threads)
+							addTriples(batches.poll());
+					}
+				}
+
+				if (!chunk.isEmpty())
+				{
+					final List<Triple> triples = chunk;
+					batches.add(pool.submit(() -> translate(triples)));
+				}
+			}
+			finally
+			{
+				i.close();
+			}
+
+			while (!batches.isEmpty())
+				addTriples(batches.poll());
+		}
+	}
+
+	/**
+	 * @param triple
+	 * @return <code>true</code> if the triple is a type assertion or a property assertion about a named individual, whose object is a named individual, a class
+	 *         name or a literal. Such triples are translated without looking at the rest of the graph.
+	 */
+	protected boolean isIndividualAssertion(final Triple triple)
+	{
+		final Node s = triple.getSubject();
+		final Node o = triple.getObject();
+		if (!s.isURI() || BuiltinTerm.find(s) != null)
+			return false;
+		if (!o.isLiteral() && (!o.isURI() || BuiltinTerm.find(o) != null))
+			return false;
+
+		final BuiltinTerm builtinTerm = BuiltinTerm.find(triple.getPredicate());
+		return builtinTerm == null || builtinTerm.equals(BuiltinTerm.RDF_type) && o.isURI();
+	}
+
+	private List<TranslatedTriple> translate(final List<Triple> triples)
+	{
+		final List<TranslatedTriple> translated = new ArrayList<>(triples.size());
+		for (final Triple triple : triples)
+			if (isIndividualAssertion(triple))
+			{
+				final ATermAppl pt = triple.getPredicate().equals(RDF.type.asNode()) ? null : JenaUtils.makeATerm(triple.getPredicate());
+				translated.add(new TranslatedTriple(triple, JenaUtils.makeATerm(triple.getSubject()), pt, JenaUtils.makeATerm(triple.getObject())));
+			}
+			else
+				translated.add(new TranslatedTriple(triple, null, null, null));
+		return translated;
+	}
+
+	private void addTriples(final Future<List<TranslatedTriple>> batch)
+	{
+		// The subjects of consecutive triples are often the same : each term is defined once until another kind of triple is processed.
+		final Definitions defined = new Definitions();
+		for (final TranslatedTriple translated : WorkerPool.get(batch))
+		{
+			final Triple triple = translated._triple;
+			if (translated._s == null)
+			{
+				processTriple(triple);
+				defined.clear(); // The triple may have changed what the terms are.
+				continue;
+			}
+
+			final ATermAppl st = translatedTerm(triple.getSubject(), translated._s);
+			final ATermAppl ot = translatedTerm(triple.getObject(), translated._o);
+			if (translated._p == null)
+			{
+				if (!AnnotationClasses.contains(ot))
+				{
+					if (defined._classes.add(ot))
+						defineClass(ot);
+					defineIndividual(st, defined);
+					_kb.addType(st, ot);
+				}
+			}
+			else
+			{
+				_monitor.incrementProgress();
+				processPropertyValue(triple, st, translatedTerm(triple.getPredicate(), translated._p), ot, defined);
+			}
+		}
+	}
+
+	/**
+	 * @param c
+	 * @param defined the terms already defined by the individual assertions processed since the last other triple, or null
+	 * @return the result of {@link #defineIndividual(ATermAppl)}, that is only called once for a term while these assertions are processed
+	 */
+	private boolean defineIndividual(final ATermAppl c, final Definitions defined)
+	{
+		if (defined == null)
+			return defineIndividual(c);
+
+		if (defined._individuals.contains(c))
+			return true;
+		if (!defineIndividual(c))
+			return false;
+
+		defined._individuals.add(c);
+		return true;
+	}
+
+	private boolean defineObjectProperty(final ATermAppl p, final Definitions defined)
+	{
+		if (defined == null)
+			return defineObjectProperty(p);
+
+		if (defined._objectProperties.contains(p))
+			return true;
+		if (!defineObjectProperty(p))
+			return false;
+
+		defined._objectProperties.add(p);
+		return true;
+	}
+
+	private boolean defineDatatypeProperty(final ATermAppl p, final Definitions defined)
+	{
+		if (defined == null)
+			return defineDatatypeProperty(p);
+
+		if (defined._datatypeProperties.contains(p))
+			return true;
+		if (!defineDatatypeProperty(p))
+			return false;
+
+		defined._datatypeProperties.add(p);
+		return true;
+	}
+
+	/**
+	 * @param node
+	 * @param term the translation of the node by {@link JenaUtils#makeATerm(Node)}
+	 * @return the term of the node, as {@link #node2term(Node)} would return it
+	 */
+	private ATermAppl translatedTerm(final Node node, final ATermAppl term)
+	{
+		if (node.isLiteral())
+			return term;
+
+		final ATermAppl cached = _terms.get(node);
+		if (cached != null)
+			return cached;
+
+		if (isRestriction(node))
+			return node2term(node);
+
+		_terms.put(node, term);
+		return term;
+	}
+
 	/**
 	 * Process a single triple that corresponds to an axiom (or a fact). This means triples that are part of OWL syntax, e.g. a triple with
 	 * <code>owl:onProperty</code> predicate, will not be processed since they are handled by the {@link #node2term(Node)} function. Also, if
@@ -1497,13 +1689,7 @@ public class DefaultGraphLoader implements GraphLoader
 						final ATermAppl ot = node2term(o);
 
 						if (!AnnotationClasses.contains(ot))
-						{
-							defineClass(ot);
-
-							final ATermAppl st = node2term(s);
-							defineIndividual(st);
-							_kb.addType(st, ot);
-						}
+							addIndividualType(node2term(s), ot);
 					}
 				}
 				else
@@ -1521,70 +1707,7 @@ public class DefaultGraphLoader implements GraphLoader
 
 		if (builtinTerm == null)
 		{
-			final ATermAppl pt = node2term(p);
-			final Role role = _kb.getProperty(pt);
-			final PropertyType type = role == null ? PropertyType.UNTYPED : role.getType();
-
-			if (type == PropertyType.ANNOTATION)
-			{
-				// Skip ontology annotations
-				if (_graph.contains(s, RDF.type.asNode(), OWL.Ontology.asNode()))
-					return;
-
-				if (defineAnnotationProperty(pt))
-					_kb.addAnnotation(st, pt, ot);
-
-				return;
-			}
-
-			if (OpenlletOptions.FREEZE_BUILTIN_NAMESPACES)
-			{
-				final String nameSpace = p.getNameSpace();
-				if (nameSpace != null)
-				{
-					final BuiltinNamespace builtin = BuiltinNamespace.find(nameSpace);
-					if (builtin != null)
-					{
-						addUnsupportedFeature("Ignoring triple with unknown property from " + builtin + " namespace: " + triple);
-						return;
-					}
-				}
-			}
-
-			if (o.isLiteral())
-			{
-				if (defineDatatypeProperty(pt))
-				{
-					final String datatypeURI = ((ATermAppl) ot.getArgument(2)).getName();
-
-					if (defineIndividual(st))
-					{
-						defineDatatypeProperty(pt);
-						if (!"".equals(datatypeURI))
-							defineDatatype(ATermUtils.makeTermAppl(datatypeURI));
-
-						_kb.addPropertyValue(pt, st, ot);
-					}
-					else
-						if (type == PropertyType.UNTYPED)
-							defineAnnotationProperty(pt);
-						else
-							addUnsupportedFeature("Ignoring ObjectProperty used with a class expression: " + triple);
-				}
-				else
-					addUnsupportedFeature("Ignoring literal value used with ObjectProperty : " + triple);
-			}
-			else
-				if (!defineObjectProperty(pt))
-					addUnsupportedFeature("Ignoring object value used with DatatypeProperty: " + triple);
-				else
-					if (!defineIndividual(st))
-						addUnsupportedFeature("Ignoring class expression used in subject position: " + triple);
-					else
-						if (!defineIndividual(ot))
-							addUnsupportedFeature("Ignoring class expression used in object position: " + triple);
-						else
-							_kb.addPropertyValue(pt, st, ot);
+			processPropertyValue(triple, st, node2term(p), ot);
 			return;
 		}
 
@@ -1964,6 +2087,96 @@ public class DefaultGraphLoader implements GraphLoader
 		}
 	}
 
+	private void addIndividualType(final ATermAppl st, final ATermAppl ot)
+	{
+		defineClass(ot);
+		defineIndividual(st);
+		_kb.addType(st, ot);
+	}
+
+	/**
+	 * Process a triple whose predicate is not a builtin term, i.e. an annotation or a property assertion.
+	 *
+	 * @param triple Triple to be processed
+	 * @param st the term of the subject
+	 * @param pt the term of the predicate
+	 * @param ot the term of the object
+	 */
+	protected void processPropertyValue(final Triple triple, final ATermAppl st, final ATermAppl pt, final ATermAppl ot)
+	{
+		processPropertyValue(triple, st, pt, ot, null);
+	}
+
+	private void processPropertyValue(final Triple triple, final ATermAppl st, final ATermAppl pt, final ATermAppl ot, final Definitions defined)
+	{
+		final Node s = triple.getSubject();
+		final Node p = triple.getPredicate();
+		final Node o = triple.getObject();
+
+		final Role role = _kb.getProperty(pt);
+		final PropertyType type = role == null ? PropertyType.UNTYPED : role.getType();
+
+		if (type == PropertyType.ANNOTATION)
+		{
+			// Skip ontology annotations
+			if (_graph.contains(s, RDF.type.asNode(), OWL.Ontology.asNode()))
+				return;
+
+			if (defineAnnotationProperty(pt))
+				_kb.addAnnotation(st, pt, ot);
+
+			return;
+		}
+
+		if (OpenlletOptions.FREEZE_BUILTIN_NAMESPACES)
+		{
+			final String nameSpace = p.getNameSpace();
+			if (nameSpace != null)
+			{
+				final BuiltinNamespace builtin = BuiltinNamespace.find(nameSpace);
+				if (builtin != null)
+				{
+					addUnsupportedFeature("Ignoring triple with unknown property from " + builtin + " namespace: " + triple);
+					return;
+				}
+			}
+		}
+
+		if (o.isLiteral())
+		{
+			if (defineDatatypeProperty(pt, defined))
+			{
+				final String datatypeURI = ((ATermAppl) ot.getArgument(2)).getName();
+
+				if (defineIndividual(st, defined))
+				{
+					if (!"".equals(datatypeURI))
+						defineDatatype(ATermUtils.makeTermAppl(datatypeURI));
+
+					_kb.addPropertyValue(pt, st, ot);
+				}
+				else
+					if (type == PropertyType.UNTYPED)
+						defineAnnotationProperty(pt);
+					else
+						addUnsupportedFeature("Ignoring ObjectProperty used with a class expression: " + triple);
+			}
+			else
+				addUnsupportedFeature("Ignoring literal value used with ObjectProperty : " + triple);
+		}
+		else
+			if (!defineObjectProperty(pt, defined))
+				addUnsupportedFeature("Ignoring object value used with DatatypeProperty: " + triple);
+			else
+				if (!defineIndividual(st, defined))
+					addUnsupportedFeature("Ignoring class expression used in subject position: " + triple);
+				else
+					if (!defineIndividual(ot, defined))
+						addUnsupportedFeature("Ignoring class expression used in object position: " + triple);
+					else
+						_kb.addPropertyValue(pt, st, ot);
+	}
+
 	protected void processUntypedResources()
 	{
 		_logger.fine("processUntypedResource");
@@ -2130,4 +2343,43 @@ public class DefaultGraphLoader implements GraphLoader
 	{
 		_preprocessTypeTriples = preprocessTypeTriples;
 	}
+
+	/**
+	 * The terms defined while consecutive individual assertions are added to the KB.
+	 */
+	private static final class Definitions
+	{
+		private final Set<ATermAppl> _individuals = new HashSet<>();
+		private final Set<ATermAppl> _classes = new HashSet<>();
+		private final Set<ATermAppl> _objectProperties = new HashSet<>();
+		private final Set<ATermAppl> _datatypeProperties = new HashSet<>();
+
+		private void clear()
+		{
+			_individuals.clear();
+			_classes.clear();
+			_objectProperties.clear();
+			_datatypeProperties.clear();
+		}
+	}
+
+	/**
+	 * A triple translated by another thread, without predicate for a type assertion. Only the triples of {@link #isIndividualAssertion(Triple)} are translated,
+	 * the terms of the others are null.
+	 */
+	private static final class TranslatedTriple
+	{
+		private final Triple _triple;
+		private final ATermAppl _s;
+		private final ATermAppl _p;
+		private final ATermAppl _o;
+
+		public TranslatedTriple(final Triple triple, final ATermAppl s, final ATermAppl p, final ATermAppl o)
+		{
+			_triple = triple;
+			_s = s;
+			_p = p;
+			_o = o;
+		}
+	}
 }
@@ -45,7 +45,14 @@ public class SlicedResultSet implements ResultSet
 	@Override
 	public boolean hasNext()
 	{
-		return _row < _limit && _results.hasNext();
+		if (_row < _limit)
+			return _results.hasNext();
+
+		// no need to compute the bindings after the limit
+		if (_results instanceof SparqlDLResultSet)
+			((SparqlDLResultSet) _results).close();
+
+		return false;
 	}
 
 	/**
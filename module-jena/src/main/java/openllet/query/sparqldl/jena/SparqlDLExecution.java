@@ -50,6 +50,7 @@ import openllet.core.exceptions.UnsupportedQueryException;
 import openllet.jena.PelletInfGraph;
 import openllet.query.sparqldl.model.QueryParameters;
 import openllet.query.sparqldl.model.QueryParametersBuilder;
+import openllet.query.sparqldl.model.QueryResult;
 import openllet.query.sparqldl.parser.ARQParser;
 import openllet.shared.tools.Log;
 
@@ -77,6 +78,7 @@ class SparqlDLExecution implements QueryExecution
 	private volatile QuerySolution _initialBinding;
 	private boolean _purePelletQueryExec = false;
 	private boolean _handleVariableSPO = true;
+	private volatile QueryResult _queryResult;
 
 	public SparqlDLExecution(final String query, final Model source)
 	{
@@ -190,7 +192,11 @@ class SparqlDLExecution implements QueryExecution
 		final ResultSet results = exec();
 
 		if (null != results)
-			return results.hasNext();
+		{
+			final boolean hasNext = results.hasNext();
+			close();
+			return hasNext;
+		}
 		else
 			try (final var query = QueryExecutionFactory.create(_query, _source, _initialBinding))
 			{
@@ -242,7 +248,10 @@ class SparqlDLExecution implements QueryExecution
 			// bindings manually)
 			q.setQueryParameters(queryParameters);
 
-			ResultSet results = new SparqlDLResultSet(openllet.query.sparqldl.engine.QueryEngine.exec(q), _source.getDefaultModel(), queryParameters);
+			// a streamed result computes the bindings as they are read so a LIMIT stops the search
+			_queryResult = OpenlletOptions.STREAM_QUERY_RESULTS ? openllet.query.sparqldl.engine.QueryEngine.execStreaming(q) : openllet.query.sparqldl.engine.QueryEngine.exec(q);
+
+			ResultSet results = new SparqlDLResultSet(_queryResult, _source.getDefaultModel(), queryParameters);
 
 			final List<SortCondition> sortConditions = _query.getOrderBy();
 			if (sortConditions != null && !sortConditions.isEmpty())
@@ -284,6 +293,10 @@ class SparqlDLExecution implements QueryExecution
 	public void close()
 	{
 		_logger.fine("Closing PelletQueryExecution '" + hashCode() + "'.");
+
+		final QueryResult queryResult = _queryResult;
+		if (queryResult != null)
+			queryResult.close();
 	}
 
 	@Override
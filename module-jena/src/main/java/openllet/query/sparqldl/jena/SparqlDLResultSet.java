@@ -213,6 +213,14 @@ public class SparqlDLResultSet implements ResultSetRewindable
 		return _queryResult.toString();
 	}
 
+	/**
+	 * Stops the computation of the bindings not read yet, the bindings already read can still be iterated after a {@link #reset()}.
+	 */
+	public void close()
+	{
+		_queryResult.close();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -7,14 +7,20 @@
 package openllet.modularity;
 
 import java.io.PrintWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -60,6 +66,10 @@ import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNode;
 import org.semanticweb.owlapi.reasoner.impl.OWLNamedIndividualNodeSet;
 import org.semanticweb.owlapi.util.Version;
 
+import com.clarkparsia.owlapi.modularity.locality.LocalityClass;
+import com.clarkparsia.owlapi.modularity.locality.LocalityEvaluator;
+import com.clarkparsia.owlapi.modularity.locality.SyntacticLocalityEvaluator;
+
 import openllet.aterm.ATermAppl;
 import openllet.atom.OpenError;
 import openllet.core.exceptions.PelletRuntimeException;
@@ -78,6 +88,7 @@ import openllet.core.utils.PartialOrderComparator;
 import openllet.core.utils.PartialOrderRelation;
 import openllet.core.utils.Timer;
 import openllet.core.utils.Timers;
+import openllet.core.utils.WorkerPool;
 import openllet.owlapi.OWL;
 import openllet.owlapi.OpenlletReasoner;
 import openllet.owlapi.OpenlletReasonerFactory;
@@ -119,6 +130,11 @@ public class IncrementalClassifier implements OWLReasoner, OWLOntologyChangeList
 	 * memory requirements because both processes need additional memory during running which will be freed at the _end of the process.
 	 */
 	private volatile boolean _multiThreaded = true;
+
+	/**
+	 * Number of threads classifying the parts of the affected modules that share no entity during an incremental classification.
+	 */
+	private volatile int _reclassificationThreads = 1;
 	public volatile Timers _timers = _extractor.getTimers();
 	private final Random RND = new Random();
 	private volatile boolean _realized = false;
@@ -341,21 +357,27 @@ public class IncrementalClassifier implements OWLReasoner, OWLOntologyChangeList
 
 		_logger.fine(() -> "Module axioms " + owlModule.logicalAxioms().map(OWLAxiom::toString).collect(Collectors.joining(" ")));
 
-		// load the extracted module to a new _reasoner
-		final OpenlletReasoner moduleReasoner = OpenlletReasonerFactory.getInstance().createReasoner(owlModule);
+		final Taxonomy<OWLClass> moduleTaxonomy;
+		if (_reclassificationThreads > 1 && !hasGlobalAxiom(owlModule))
+			moduleTaxonomy = classifyModuleConcurrently(owlModule);
+		else
+		{
+			// load the extracted module to a new _reasoner
+			final OpenlletReasoner moduleReasoner = OpenlletReasonerFactory.getInstance().createReasoner(owlModule);
+
+			// classify the module
+			moduleReasoner.getKB().classify();
 
-		// classify the module
-		moduleReasoner.getKB().classify();
+			if (_logger.isLoggable(Level.FINE))
+			{
+				_logger.fine("Classified module:");
 
-		if (_logger.isLoggable(Level.FINE))
-		{
-			_logger.fine("Classified module:");
+				new ClassTreePrinter().print(moduleReasoner.getKB().getTaxonomy(), new PrintWriter(System.err));
+			}
 
-			new ClassTreePrinter().print(moduleReasoner.getKB().getTaxonomy(), new PrintWriter(System.err));
+			moduleTaxonomy = buildClassHierarchy(moduleReasoner);
 		}
 
-		final Taxonomy<OWLClass> moduleTaxonomy = buildClassHierarchy(moduleReasoner);
-
 		final Set<OWLClass> affectedCls = new HashSet<>();
 		for (final OWLEntity entity : effects)
 			if (entity instanceof OWLClass)
@@ -372,6 +394,179 @@ public class IncrementalClassifier implements OWLReasoner, OWLOntologyChangeList
 		owlModule.getOWLOntologyManager().removeOntology(owlModule);
 	}
 
+	/**
+	 * Splits the axioms of the module, that has no global axiom, into parts that share no entity, and classifies each part with its own reasoner in a pool of
+	 * {@link #getReclassificationThreads()} threads. Parts that share no entity have no subsumption between their classes, so the taxonomies of the parts are
+	 * simply put together, in order, by the calling thread.
+	 *
+	 * @param owlModule the module of all the affected entities
+	 * @return the taxonomy of the module
+	 */
+	private Taxonomy<OWLClass> classifyModuleConcurrently(final OWLOntology owlModule)
+	{
+		final int threads = _reclassificationThreads;
+		final List<Set<OWLAxiom>> parts = partitionAxioms(owlModule, threads);
+
+		_logger.fine(() -> "Classify the module in " + parts.size() + " parts");
+
+		Taxonomy<OWLClass> moduleTaxonomy = new TaxonomyImpl<>(null, OWL.Thing, OWL.Nothing);
+		final Deque<ModulePart> pending = new ArrayDeque<>();
+		try (final WorkerPool pool = new WorkerPool(threads))
+		{
+			for (final Set<OWLAxiom> axioms : parts)
+			{
+				// The ontology manager is not shared with the workers, which only classify the part.
+				final OWLOntology ontology = OWL.Ontology(owlModule.getOWLOntologyManager(), axioms);
+				final OpenlletReasoner reasoner = OpenlletReasonerFactory.getInstance().createReasoner(ontology);
+				pending.add(new ModulePart(ontology, reasoner, pool.submit(() ->
+				{
+					reasoner.getKB().classify();
+					return buildClassHierarchy(reasoner);
+				})));
+
+				// Keep every thread busy without holding the reasoners of all the parts.
+				while (pending.size() > 2 * threads)
+					moduleTaxonomy = pending.poll().addTo(moduleTaxonomy);
+			}
+
+			while (!pending.isEmpty())
+				moduleTaxonomy = pending.poll().addTo(moduleTaxonomy);
+		}
+		finally
+		{
+			for (final ModulePart part : pending)
+				part.dispose();
+		}
+
+		return moduleTaxonomy;
+	}
+
+	/**
+	 * @return true if an axiom of the module can make the classes of a part that shares no entity with it unsatisfiable, so that the parts can't be classified
+	 *         separately : assertions and nominals, that can make the whole module inconsistent, axioms about the top and bottom properties, and the axioms
+	 *         that are not local for the empty signature, such as a subclass axiom whose left side is owl:Thing or equivalent to it.
+	 */
+	private static boolean hasGlobalAxiom(final OWLOntology module)
+	{
+		final LocalityEvaluator evaluator = new SyntacticLocalityEvaluator(LocalityClass.BOTTOM_BOTTOM);
+
+		return module.logicalAxioms().anyMatch(axiom ->
+		{
+			final boolean global = axiom.individualsInSignature().findAny().isPresent() //
+					|| axiom.anonymousIndividuals().findAny().isPresent() //
+					|| axiom.signature().anyMatch(entity -> entity.isOWLTopObjectProperty() || entity.isOWLBottomObjectProperty() //
+							|| entity.isOWLTopDataProperty() || entity.isOWLBottomDataProperty()) //
+					|| !evaluator.isLocal(axiom, Collections.<OWLEntity> emptySet());
+
+			if (global)
+				_logger.fine(() -> "Classify the module with a single reasoner because of the global axiom " + axiom);
+
+			return global;
+		});
+	}
+
+	/**
+	 * Groups the axioms of the ontology in connected components, two axioms being connected when they mention the same entity. Built-in entities and
+	 * annotation properties do not connect axioms, and the axioms that only mention such entities are part of every group. Small components are put together
+	 * so that there are about four groups per thread.
+	 */
+	private static List<Set<OWLAxiom>> partitionAxioms(final OWLOntology ontology, final int threads)
+	{
+		final Map<OWLEntity, OWLEntity> parents = new HashMap<>();
+		final Map<OWLAxiom, OWLEntity> representatives = new LinkedHashMap<>();
+		final Set<OWLAxiom> shared = new HashSet<>();
+
+		ontology.axioms().forEach(axiom ->
+		{
+			final List<OWLEntity> entities = axiom.signature()//
+					.filter(entity -> !entity.isBuiltIn() && !entity.isOWLAnnotationProperty())//
+					.collect(Collectors.toList());
+			if (entities.isEmpty())
+			{
+				shared.add(axiom);
+				return;
+			}
+
+			final OWLEntity root = find(parents, entities.get(0));
+			for (final OWLEntity entity : entities)
+				parents.put(find(parents, entity), root);
+			representatives.put(axiom, root);
+		});
+
+		final Map<OWLEntity, Set<OWLAxiom>> components = new LinkedHashMap<>();
+		for (final Map.Entry<OWLAxiom, OWLEntity> entry : representatives.entrySet())
+			components.computeIfAbsent(find(parents, entry.getValue()), root -> new HashSet<>()).add(entry.getKey());
+
+		final int groupSize = Math.max(1, representatives.size() / (4 * threads));
+		final List<Set<OWLAxiom>> groups = new ArrayList<>();
+		Set<OWLAxiom> group = null;
+		for (final Set<OWLAxiom> component : components.values())
+		{
+			if (group == null || group.size() >= groupSize)
+			{
+				group = new HashSet<>(shared);
+				groups.add(group);
+			}
+			group.addAll(component);
+		}
+
+		if (groups.isEmpty())
+			groups.add(shared);
+
+		return groups;
+	}
+
+	private static OWLEntity find(final Map<OWLEntity, OWLEntity> parents, final OWLEntity entity)
+	{
+		OWLEntity root = entity;
+		for (OWLEntity parent = parents.get(root); parent != null && !parent.equals(root); parent = parents.get(root))
+			root = parent;
+
+		parents.put(entity, root);
+		return root;
+	}
+
+	/**
+	 * A part of a module, classified by its own reasoner.
+	 */
+	private static final class ModulePart
+	{
+		private final OWLOntology _ontology;
+		private final OpenlletReasoner _reasoner;
+		private final Future<Taxonomy<OWLClass>> _taxonomy;
+
+		private ModulePart(final OWLOntology ontology, final OpenlletReasoner reasoner, final Future<Taxonomy<OWLClass>> taxonomy)
+		{
+			_ontology = ontology;
+			_reasoner = reasoner;
+			_taxonomy = taxonomy;
+		}
+
+		/**
+		 * Waits for the classification of the part and adds its classes to the taxonomy of the other parts.
+		 */
+		private Taxonomy<OWLClass> addTo(final Taxonomy<OWLClass> moduleTaxonomy)
+		{
+			try
+			{
+				final Taxonomy<OWLClass> taxonomy = WorkerPool.get(_taxonomy);
+				final Set<OWLClass> classes = _ontology.classesInSignature().collect(Collectors.toSet());
+				return updateClassHierarchy(moduleTaxonomy, taxonomy, classes);
+			}
+			finally
+			{
+				dispose();
+			}
+		}
+
+		private void dispose()
+		{
+			_taxonomy.cancel(true);
+			_reasoner.dispose();
+			_ontology.getOWLOntologyManager().removeOntology(_ontology);
+		}
+	}
+
 	private void incrementalClassify()
 	{
 		_timers.execute("incrementalClassify", x -> incClassifyAllModStrategy());
@@ -696,6 +891,34 @@ public class IncrementalClassifier implements OWLReasoner, OWLOntologyChangeList
 		_multiThreaded = multiThreaded;
 	}
 
+	/**
+	 * Returns the number of threads reclassifying the affected modules.
+	 *
+	 * @see IncrementalClassifier#setReclassificationThreads(int)
+	 * @return the number of threads reclassifying the affected modules
+	 */
+	public int getReclassificationThreads()
+	{
+		return _reclassificationThreads;
+	}
+
+	/**
+	 * Sets the number of threads reclassifying the affected modules after a change. With more than one thread, the axioms of the affected modules are split
+	 * in parts that share no entity, each part is classified by its own reasoner in a pool of the given size, and the results are merged in the class
+	 * hierarchy. This reduces the update time of changes that affect many unrelated modules, but every running reasoner needs its own memory. The affected
+	 * modules are still classified by a single reasoner when one of their axioms is global, like an assertion or a subclass axiom of owl:Thing. With one thread,
+	 * the default, all the affected modules are classified at once by a single reasoner.
+	 *
+	 * @param threads the number of threads, at least 1
+	 */
+	public void setReclassificationThreads(final int threads)
+	{
+		if (threads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+
+		_reclassificationThreads = threads;
+	}
+
 	/**
 	 * A class that has access to all the internal parts of the IncrementalClassifier that has to be persisted when saving the state to the stream. This class
 	 * enables the separation between the I/O code and the reasoning code. This class should not be used any other parts of code than the I/O code. This class
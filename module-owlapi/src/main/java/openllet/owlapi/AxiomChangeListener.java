@@ -0,0 +1,24 @@
+package openllet.owlapi;
+
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+
+/**
+ * Listener of the axioms applied to an {@link OpenlletReasoner}, notified once the changes of the ontology are processed by the reasoner.
+ *
+ * @since 2.6.6
+ */
+public interface AxiomChangeListener
+{
+	/**
+	 * @param added the axioms added by a batch of changes, without the ones the same batch removes again
+	 * @param removed the axioms removed by a batch of changes, without the ones the same batch adds back
+	 */
+	void axiomsChanged(Set<OWLAxiom> added, Set<OWLAxiom> removed);
+
+	/**
+	 * Called when the reasoner reloads the whole ontology, after a change that cannot be applied incrementally.
+	 */
+	void reloaded();
+}
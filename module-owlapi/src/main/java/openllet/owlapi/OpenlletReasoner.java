@@ -42,6 +42,14 @@ public interface OpenlletReasoner extends OWLReasoner, OWLOntologyChangeListener
 
 	void refresh();
 
+	/**
+	 * @param listener notified of the axioms added and removed by the changes processed from now on
+	 * @since 2.6.6
+	 */
+	void addAxiomChangeListener(final AxiomChangeListener listener);
+
+	void removeAxiomChangeListener(final AxiomChangeListener listener);
+
 	ATermAppl term(final OWLObject d);
 
 	Set<OWLLiteral> getAnnotationPropertyValues(final OWLNamedIndividual ind, final OWLAnnotationProperty pe) throws InconsistentOntologyException, FreshEntitiesException, ReasonerInterruptedException, TimeOutException;
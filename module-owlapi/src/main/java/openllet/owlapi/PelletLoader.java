@@ -30,8 +30,11 @@
 
 package openllet.owlapi;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -39,12 +42,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.semanticweb.owlapi.model.AddAxiom;
 import org.semanticweb.owlapi.model.AddImport;
 import org.semanticweb.owlapi.model.AddOntologyAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLObject;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -58,9 +63,11 @@ import org.semanticweb.owlapi.model.SetOntologyID;
 
 import openllet.aterm.ATermAppl;
 import openllet.core.KnowledgeBase;
+import openllet.core.OpenlletOptions;
 import openllet.core.exceptions.InternalReasonerException;
 import openllet.core.utils.SetUtils;
 import openllet.core.utils.Timer;
+import openllet.core.utils.WorkerPool;
 import openllet.owlapi.facet.FacetManagerOWL;
 import openllet.shared.tools.Log;
 
@@ -159,11 +166,24 @@ public class PelletLoader implements FacetManagerOWL
 		@Override
 		public void visit(final RemoveAxiom change)
 		{
+			// The KB holds an annotation once, whatever the number of axioms that assert it
+			if (change.getAxiom() instanceof OWLAnnotationAssertionAxiom && isAsserted((OWLAnnotationAssertionAxiom) change.getAxiom()))
+				return;
+
 			_visitor.setAddAxiom(false);
 			change.getAxiom().accept(_visitor);
 			_reloadRequired = _visitor.isReloadRequired();
 		}
 
+		/**
+		 * @return true if a loaded ontology still has an axiom asserting the same annotation, e.g. with other axiom annotations
+		 */
+		private boolean isAsserted(final OWLAnnotationAssertionAxiom axiom)
+		{
+			return _ontologies.stream().anyMatch(ontology -> ontology.annotationAssertionAxioms(axiom.getSubject())//
+					.anyMatch(other -> other.getProperty().equals(axiom.getProperty()) && other.getValue().equals(axiom.getValue())));
+		}
+
 		@Override
 		public void visit(final AddImport change)
 		{
@@ -290,14 +310,63 @@ public class PelletLoader implements FacetManagerOWL
 		_visitor.reset();
 		_visitor.setAddAxiom(true);
 
+		final int threads = OpenlletOptions.LOADER_THREADS;
 		for (final OWLOntology ontology : toBeLoaded)
-			ontology.accept(_visitor);
+			if (threads > 1)
+				loadConcurrently(ontology, threads);
+			else
+				ontology.accept(_visitor);
 
 		_visitor.verify();
 
 		timer.ifPresent(Timer::stop);
 	}
 
+	/**
+	 * Loads the ontology as {@link PelletVisitor#visit(OWLOntology)} does, but the assertions about named individuals are translated by the given number of
+	 * threads, each with its own visitor, in batches of {@link OpenlletOptions#LOADER_BATCH_SIZE} axioms. The signature and all the other axioms are loaded in
+	 * order by the calling thread, which is the only one to change the KB and adds the translated batches in the order they were submitted.
+	 */
+	private void loadConcurrently(final OWLOntology ontology, final int threads)
+	{
+		ontology.signature().forEach(entity -> entity.accept(_visitor));
+
+		final int batchSize = Math.max(1, OpenlletOptions.LOADER_BATCH_SIZE);
+		final ThreadLocal<PelletVisitor> translators = ThreadLocal.withInitial(() -> new PelletVisitor(_kb));
+		final Deque<Future<List<ATermAppl[]>>> batches = new ArrayDeque<>();
+		try (final WorkerPool pool = new WorkerPool(threads))
+		{
+			final List<OWLAxiom> assertions = new ArrayList<>(batchSize);
+			ontology.axioms().forEach(axiom ->
+			{
+				if (!PelletVisitor.isIndependentAssertion(axiom))
+				{
+					_logger.fine(() -> "Load " + axiom);
+					axiom.accept(_visitor);
+					return;
+				}
+
+				assertions.add(axiom);
+				if (assertions.size() >= batchSize)
+				{
+					final List<OWLAxiom> batch = new ArrayList<>(assertions);
+					assertions.clear();
+					batches.add(pool.submit(() -> translators.get().translateAssertions(batch)));
+
+					// Keep every thread busy without holding the translation of the whole ontology.
+					while (batches.size() > 2 * threads)
+						_visitor.addAssertions(WorkerPool.get(batches.poll()));
+				}
+			});
+
+			if (!assertions.isEmpty())
+				batches.add(pool.submit(() -> translators.get().translateAssertions(assertions)));
+
+			while (!batches.isEmpty())
+				_visitor.addAssertions(WorkerPool.get(batches.poll()));
+		}
+	}
+
 	private int load(final OWLOntology ontology, final boolean imported, final Collection<OWLOntology> toBeLoaded)
 	{
 		// if not imported add it to notImported set
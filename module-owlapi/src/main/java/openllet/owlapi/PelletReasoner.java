@@ -4,9 +4,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -101,6 +105,8 @@ public class PelletReasoner implements OpenlletReasoner
 
 	private final ChangeVisitor _changeVisitor = new ChangeVisitor();
 
+	private final List<AxiomChangeListener> _axiomChangeListeners = new CopyOnWriteArrayList<>();
+
 	private final EntityMapper<OWLNamedIndividual> IND_MAPPER = new NamedIndividualMapper();
 
 	private final EntityMapper<OWLLiteral> LIT_MAPPER = new LiteralMapper();
@@ -146,6 +152,11 @@ public class PelletReasoner implements OpenlletReasoner
 
 		private boolean reloadRequired;
 
+		/**
+		 * Net number of additions of the axioms changed by the batch of changes being processed.
+		 */
+		private final Map<OWLAxiom, Integer> _changedAxioms = new HashMap<>();
+
 		public boolean isReloadRequired()
 		{
 			return reloadRequired;
@@ -179,6 +190,9 @@ public class PelletReasoner implements OpenlletReasoner
 				change.getAxiom().accept(_visitor);
 				reloadRequired = _visitor.isReloadRequired();
 			}
+
+			if (!reloadRequired)
+				_changedAxioms.merge(change.getAxiom(), 1, Integer::sum);
 		}
 
 		@Override
@@ -190,6 +204,9 @@ public class PelletReasoner implements OpenlletReasoner
 				change.getAxiom().accept(_visitor);
 				reloadRequired = _visitor.isReloadRequired();
 			}
+
+			if (!reloadRequired)
+				_changedAxioms.merge(change.getAxiom(), -1, Integer::sum);
 		}
 
 		@Override
@@ -436,6 +453,8 @@ public class PelletReasoner implements OpenlletReasoner
 		_monitor = null;
 
 		_individualNodeSetPolicy = null;
+
+		ATermUtils.clearMemos();
 	}
 
 	/**
@@ -1150,6 +1169,8 @@ public class PelletReasoner implements OpenlletReasoner
 			}
 		}
 
+		fireAxiomsChanged();
+
 		return !_shouldRefresh;
 	}
 
@@ -1181,6 +1202,49 @@ public class PelletReasoner implements OpenlletReasoner
 
 			_shouldRefresh = false;
 		}
+
+		fireReloaded();
+	}
+
+	private void fireAxiomsChanged()
+	{
+		final Set<OWLAxiom> added = new HashSet<>();
+		final Set<OWLAxiom> removed = new HashSet<>();
+		synchronized (_visitor)
+		{
+			for (final Entry<OWLAxiom, Integer> entry : _changeVisitor._changedAxioms.entrySet())
+				if (entry.getValue() > 0)
+					added.add(entry.getKey());
+				else
+					if (entry.getValue() < 0)
+						removed.add(entry.getKey());
+			_changeVisitor._changedAxioms.clear();
+		}
+
+		if (_shouldRefresh)
+			fireReloaded();
+		else
+			if (!added.isEmpty() || !removed.isEmpty())
+				for (final AxiomChangeListener listener : _axiomChangeListeners)
+					listener.axiomsChanged(added, removed);
+	}
+
+	private void fireReloaded()
+	{
+		for (final AxiomChangeListener listener : _axiomChangeListeners)
+			listener.reloaded();
+	}
+
+	@Override
+	public void addAxiomChangeListener(final AxiomChangeListener listener)
+	{
+		_axiomChangeListeners.add(listener);
+	}
+
+	@Override
+	public void removeAxiomChangeListener(final AxiomChangeListener listener)
+	{
+		_axiomChangeListeners.remove(listener);
 	}
 
 	/**
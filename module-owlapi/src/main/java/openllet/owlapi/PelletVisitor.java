@@ -189,6 +189,12 @@ public class PelletVisitor implements OWLObjectVisitor
 
 	private final Set<OWLObjectProperty> _simpleProperties = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+	/**
+	 * When not <code>null</code> the visited assertions are translated into this list instead of being added to the KB, see
+	 * {@link #translateAssertions(List)}.
+	 */
+	private volatile List<ATermAppl[]> _translatedAssertions;
+
 	public PelletVisitor(final KnowledgeBase kb)
 	{
 		_kb = kb;
@@ -280,6 +286,72 @@ public class PelletVisitor implements OWLObjectVisitor
 		return _term;
 	}
 
+	/**
+	 * @param axiom
+	 * @return <code>true</code> if the axiom is an assertion about named individuals with a named class, or a property assertion whose object is a named
+	 *         individual or a literal. Once the signature of the ontology is loaded such assertions are translated without changing the KB, see
+	 *         {@link #translateAssertions(List)}.
+	 */
+	public static boolean isIndependentAssertion(final OWLAxiom axiom)
+	{
+		if (axiom instanceof OWLClassAssertionAxiom)
+		{
+			final OWLClassAssertionAxiom assertion = (OWLClassAssertionAxiom) axiom;
+			return assertion.getIndividual().isNamed() && !assertion.getClassExpression().isAnonymous();
+		}
+
+		if (axiom instanceof OWLObjectPropertyAssertionAxiom)
+		{
+			final OWLObjectPropertyAssertionAxiom assertion = (OWLObjectPropertyAssertionAxiom) axiom;
+			return assertion.getSubject().isNamed() && assertion.getObject().isNamed() && !assertion.getProperty().isAnonymous();
+		}
+
+		if (axiom instanceof OWLDataPropertyAssertionAxiom)
+			return ((OWLDataPropertyAssertionAxiom) axiom).getSubject().isNamed();
+
+		return false;
+	}
+
+	/**
+	 * Translates assertions without changing the KB, the entities they use being declared with the signature of their ontology. Visitors of the same KB can
+	 * translate assertions concurrently, the results being added to the KB by {@link #addAssertions(List)}.
+	 *
+	 * @param axioms assertions accepted by {@link #isIndependentAssertion(OWLAxiom)}
+	 * @return the subject, predicate and object of each assertion, the predicate being <code>null</code> for a class assertion whose object is the class
+	 */
+	public List<ATermAppl[]> translateAssertions(final List<OWLAxiom> axioms)
+	{
+		final List<ATermAppl[]> assertions = new ArrayList<>(axioms.size());
+		_translatedAssertions = assertions;
+		try
+		{
+			for (final OWLAxiom axiom : axioms)
+			{
+				reset();
+				axiom.accept(this);
+			}
+		}
+		finally
+		{
+			_translatedAssertions = null;
+		}
+		return assertions;
+	}
+
+	/**
+	 * Adds to the KB the assertions translated by {@link #translateAssertions(List)}.
+	 *
+	 * @param assertions
+	 */
+	public void addAssertions(final List<ATermAppl[]> assertions)
+	{
+		for (final ATermAppl[] assertion : assertions)
+			if (assertion[1] == null)
+				_kb.addType(assertion[0], assertion[2]);
+			else
+				_kb.addPropertyValue(assertion[1], assertion[0], assertion[2]);
+	}
+
 	/**
 	 * Reset the visitor state about created terms. Should be called before every visit so terms created earlier will not affect the future results.
 	 */
@@ -407,7 +479,8 @@ public class PelletVisitor implements OWLObjectVisitor
 	{
 		_term = ATermUtils.makeTermAppl(ocdt.getIRI().toString());
 
-		_kb.addDatatype(_term);
+		if (_translatedAssertions == null) // Otherwise declared with the signature.
+			_kb.addDatatype(_term);
 	}
 
 	@Override
@@ -1189,10 +1262,13 @@ public class PelletVisitor implements OWLObjectVisitor
 			obj = _term;
 		}
 
-		if (_addAxioms)
-			_kb.addPropertyValue(pred, subj, obj);
+		if (_translatedAssertions != null)
+			_translatedAssertions.add(new ATermAppl[] { subj, pred, obj });
 		else
-			_kb.removePropertyValue(pred, subj, obj);
+			if (_addAxioms)
+				_kb.addPropertyValue(pred, subj, obj);
+			else
+				_kb.removePropertyValue(pred, subj, obj);
 	}
 
 	@Override
@@ -1291,10 +1367,13 @@ public class PelletVisitor implements OWLObjectVisitor
 		axiom.getIndividual().accept(this);
 		final ATermAppl ind = _term;
 
-		if (_addAxioms)
-			_kb.addType(ind, c);
+		if (_translatedAssertions != null)
+			_translatedAssertions.add(new ATermAppl[] { ind, null, c });
 		else
-			_kb.removeType(ind, c);
+			if (_addAxioms)
+				_kb.addType(ind, c);
+			else
+				_kb.removeType(ind, c);
 	}
 
 	@Override
@@ -1313,10 +1392,13 @@ public class PelletVisitor implements OWLObjectVisitor
 			obj = _term;
 		}
 
-		if (_addAxioms)
-			_kb.addPropertyValue(pred, subj, obj);
+		if (_translatedAssertions != null)
+			_translatedAssertions.add(new ATermAppl[] { subj, pred, obj });
 		else
-			_kb.removePropertyValue(pred, subj, obj);
+			if (_addAxioms)
+				_kb.addPropertyValue(pred, subj, obj);
+			else
+				_kb.removePropertyValue(pred, subj, obj);
 	}
 
 	@Override
@@ -1464,12 +1546,6 @@ public class PelletVisitor implements OWLObjectVisitor
 	@Override
 	public void visit(final OWLAnnotationAssertionAxiom axiom)
 	{
-		if (!_addAxioms)
-		{
-			_reloadRequired = OpenlletOptions.USE_ANNOTATION_SUPPORT;
-			return;
-		}
-
 		if (OpenlletOptions.USE_ANNOTATION_SUPPORT)
 		{
 			final ATermAppl s;
@@ -1485,7 +1561,11 @@ public class PelletVisitor implements OWLObjectVisitor
 				o = _term;
 			}
 
-			_kb.addAnnotation(s, p, o);
+			// Annotations do not take part in reasoning, so they are removed without reload.
+			if (_addAxioms)
+				_kb.addAnnotation(s, p, o);
+			else
+				_kb.removeAnnotation(s, p, o);
 		}
 	}
 
@@ -22,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -49,6 +51,7 @@ import openllet.query.sparqldl.model.QueryResult;
 import openllet.query.sparqldl.model.QueryResultImpl;
 import openllet.query.sparqldl.model.ResultBinding;
 import openllet.query.sparqldl.model.ResultBindingImpl;
+import openllet.query.sparqldl.model.StreamingQueryResult;
 import openllet.query.sparqldl.model.UnionQueryAtom;
 import openllet.shared.tools.Log;
 
@@ -82,7 +85,11 @@ public class CombinedQueryEngine implements QueryExec
 
 	protected Query _query;
 
-	private QueryResult _result;
+	// receives the bindings found, returns false for a binding already found
+	private Predicate<ResultBinding> _sink;
+
+	// number of distinct bindings found so far
+	private int _count;
 
 	private Set<ATermAppl> _downMonotonic;
 
@@ -95,8 +102,6 @@ public class CombinedQueryEngine implements QueryExec
 		if (_kb == null)
 			throw new OpenError("No input data set is given for query!");
 
-		_result = new QueryResultImpl(query);
-
 		_oldQuery = query;
 		_query = setupCores(query);
 
@@ -246,13 +251,44 @@ public class CombinedQueryEngine implements QueryExec
 		final Timer timer = new Timer("CombinedQueryEngine");
 		timer.start();
 		prepare(query);
-		branches = 0;
-		exec(new ResultBindingImpl());
+		final QueryResult result = new QueryResultImpl(query);
+		search(binding ->
+		{
+			final int size = result.size();
+			result.add(binding);
+			return result.size() > size;
+		});
 		timer.stop();
 
 		_logger.fine(() -> "#B=" + branches + ", time=" + timer.getLast() + " ms.");
 
-		return _result;
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc} The search runs while the result is read.
+	 */
+	@Override
+	public QueryResult execStreaming(final Query query)
+	{
+		_logger.fine(() -> "Executing query " + query);
+
+		prepare(query);
+		return new StreamingQueryResult(query, this::search, OpenlletOptions.STREAM_QUERY_CHUNK_SIZE);
+	}
+
+	private void search(final Predicate<ResultBinding> sink)
+	{
+		_sink = sink;
+		_count = 0;
+		branches = 0;
+		exec(new ResultBindingImpl());
+	}
+
+	private void add(final ResultBinding binding)
+	{
+		if (_sink.test(binding))
+			_count++;
 	}
 
 	private long branches;
@@ -267,15 +303,15 @@ public class CombinedQueryEngine implements QueryExec
 		if (!_plan.hasNext())
 		{
 			// TODO if _result vars are not same as dist vars.
-			if (!binding.isEmpty() || _result.isEmpty())
+			if (!binding.isEmpty() || _count == 0)
 			{
 				if (_logger.isLoggable(Level.FINE))
 					_logger.fine("Found binding: " + binding);
 
-				if (!_result.getResultVars().containsAll(binding.getAllVariables()))
+				if (!_oldQuery.getResultVars().containsAll(binding.getAllVariables()))
 				{
 					final ResultBinding newBinding = new ResultBindingImpl();
-					for (final ATermAppl var : _result.getResultVars())
+					for (final ATermAppl var : _oldQuery.getResultVars())
 					{
 						final ATermAppl value = binding.getValue(var);
 
@@ -284,7 +320,7 @@ public class CombinedQueryEngine implements QueryExec
 					binding = newBinding;
 				}
 
-				_result.add(binding);
+				add(binding);
 			}
 
 			if (_logger.isLoggable(Level.FINE))
@@ -630,7 +666,7 @@ public class CombinedQueryEngine implements QueryExec
 					final boolean rhsDM = isDownMonotonic(scRHS);
 
 					if (lhsDM || rhsDM)
-						downMonotonic(_kb.getTaxonomy(), _kb.getClasses(), lhsDM, scLHS, scRHS, binding, direct, strict);
+						downMonotonic(_kb::readTaxonomy, _kb.getClasses(), lhsDM, scLHS, scRHS, binding, direct, strict);
 					else
 					{
 						final Set<ATermAppl> lhsCandidates;
@@ -709,11 +745,11 @@ public class CombinedQueryEngine implements QueryExec
 
 					for (final ATermAppl dependent : dependents)
 					{
-						final int size = _result.size();
+						final int size = _count;
 
 						runSymetricCheck(current, eqcLHS, known, eqcRHS, dependent, binding);
 
-						if (_result.size() == size)
+						if (_count == size)
 							// no binding found, so that there is no need to
 							// explore other equivalent classes - they fail
 							// as
@@ -771,7 +807,7 @@ public class CombinedQueryEngine implements QueryExec
 					final boolean rhsDM = isDownMonotonic(spRHS);
 
 					if (lhsDM || rhsDM)
-						downMonotonic(_kb.getRoleTaxonomy(true), _kb.getProperties(), lhsDM, spLHS, spRHS, binding, direct, strict);
+						downMonotonic(roleTaxonomy(), _kb.getProperties(), lhsDM, spLHS, spRHS, binding, direct, strict);
 					else
 					{
 						final Set<ATermAppl> spLhsCandidates;
@@ -839,9 +875,9 @@ public class CombinedQueryEngine implements QueryExec
 
 					for (final ATermAppl dependent : dependents)
 					{
-						final int size = _result.size();
+						final int size = _count;
 						runSymetricCheck(current, eqpLHS, known, eqpRHS, dependent, binding);
-						if (_result.size() == size)
+						if (_count == size)
 							// no binding found, so that there is no need to
 							// explore other equivalent classes - they fail
 							// as
@@ -990,7 +1026,7 @@ public class CombinedQueryEngine implements QueryExec
 					if (constants.isEmpty())
 					{
 						if (QueryEngine.execBooleanABoxQuery(core.getQuery()))
-							_result.add(binding);
+							add(binding);
 						// throw new OpenError("The query contains neither dist vars, nor constants, yet evaluated by the CombinedQueryEngine !!! ");
 					}
 					else
@@ -1197,7 +1233,7 @@ public class CombinedQueryEngine implements QueryExec
 		if (_logger.isLoggable(Level.FINER))
 			_logger.finer(var + " rolled to " + c);
 
-		final CandidateSet<ATermAppl> set = _kb.getABox().getObviousInstances(c);
+		final CandidateSet<ATermAppl> set = _kb.getObviousInstances(c);
 
 		final Map<ATermAppl, Boolean> map = new HashMap<>();
 
@@ -1237,7 +1273,7 @@ public class CombinedQueryEngine implements QueryExec
 		}
 	}
 
-	private void downMonotonic(final Taxonomy<ATermAppl> taxonomy, final Collection<ATermAppl> all, final boolean lhsDM, final ATermAppl lhs, final ATermAppl rhs, final ResultBinding binding, final boolean direct, final boolean strict)
+	private void downMonotonic(final TaxonomyReader taxonomy, final Collection<ATermAppl> all, final boolean lhsDM, final ATermAppl lhs, final ATermAppl rhs, final ResultBinding binding, final boolean direct, final boolean strict)
 	{
 		final ATermAppl downMonotonic = lhsDM ? lhs : rhs;
 		final ATermAppl theOther = lhsDM ? rhs : lhs;
@@ -1249,7 +1285,7 @@ public class CombinedQueryEngine implements QueryExec
 		// variables are down-monotonic
 		else
 		{
-			final ATermAppl top = lhsDM ? rhs : taxonomy.getTop().getName();
+			final ATermAppl top = lhsDM ? rhs : taxonomy.read(t -> t.getTop().getName());
 
 			if (ATermUtils.isComplexClass(top))
 			{
@@ -1274,10 +1310,10 @@ public class CombinedQueryEngine implements QueryExec
 			// taxonomy.getFlattenedSupers(ATermUtils.normalize(candidate),
 			// direct);
 
-			final Set<ATermAppl> toDo = lhsDM ? flatten(taxonomy.getSubs(candidate, direct)) : flatten(taxonomy.getSupers(candidate, direct));
+			final Set<ATermAppl> toDo = taxonomy.read(t -> lhsDM ? flatten(t.getSubs(candidate, direct)) : flatten(t.getSupers(candidate, direct)));
 
 			if (strict)
-				toDo.removeAll(taxonomy.getEquivalents(candidate));
+				toDo.removeAll(taxonomy.read(t -> t.getEquivalents(candidate)));
 			else
 				toDo.add(candidate);
 
@@ -1334,9 +1370,9 @@ public class CombinedQueryEngine implements QueryExec
 		return candidates;
 	}
 
-	private void runRecursively(final Taxonomy<ATermAppl> t, final ATermAppl downMonotonic, final ATermAppl rootCandidate, final ResultBinding binding, final Set<ATermAppl> toDo, final boolean direct, final boolean strict)
+	private void runRecursively(final TaxonomyReader taxonomy, final ATermAppl downMonotonic, final ATermAppl rootCandidate, final ResultBinding binding, final Set<ATermAppl> toDo, final boolean direct, final boolean strict)
 	{
-		final int size = _result.size();
+		final int size = _count;
 
 		_logger.fine(() -> "Trying : " + rootCandidate + ", done=" + toDo);
 
@@ -1346,24 +1382,24 @@ public class CombinedQueryEngine implements QueryExec
 			runNext(binding, Collections.singletonList(downMonotonic), rootCandidate);
 		}
 
-		if (strict || _result.size() > size)
+		if (strict || _count > size)
 		{
 			// final Set<ATermAppl> subs = t.getSFlattenedSubs(rootCandidate,
 			// direct);
-			final Set<ATermAppl> subs = flatten(t.getSubs(rootCandidate, direct));
+			final Set<ATermAppl> subs = taxonomy.read(t -> flatten(t.getSubs(rootCandidate, direct)));
 
 			for (final ATermAppl subject : subs)
 			{
 				if (!toDo.contains(subject))
 					continue;
-				runRecursively(t, downMonotonic, subject, binding, toDo, false, false);
+				runRecursively(taxonomy, downMonotonic, subject, binding, toDo, false, false);
 			}
 		}
 		else
 		{
 			_logger.fine(() -> "Skipping subs of " + rootCandidate);
 			// toDo.removeAll(t.getFlattenedSubs(rootCandidate, false));
-			toDo.removeAll(flatten(t.getSubs(rootCandidate, false)));
+			toDo.removeAll(taxonomy.read(t -> flatten(t.getSubs(rootCandidate, false))));
 		}
 	}
 
@@ -1394,7 +1430,7 @@ public class CombinedQueryEngine implements QueryExec
 				final ATermAppl top = topNode.getName();
 
 				if (candidates.contains(top))
-					runRecursively(_kb.getRoleTaxonomy(true), var, topNode.getName(), binding, new HashSet<>(candidates), false, false);
+					runRecursively(roleTaxonomy(), var, topNode.getName(), binding, new HashSet<>(candidates), false, false);
 			}
 		else
 			for (final ATermAppl candidate : candidates)
@@ -1407,6 +1443,31 @@ public class CombinedQueryEngine implements QueryExec
 			}
 	}
 
+	/**
+	 * Reads of a taxonomy while a query atom is evaluated. The class taxonomy is read with {@link KnowledgeBase#readTaxonomy(Function)}, as the other query
+	 * components running at the same time can realize the KB.
+	 */
+	private interface TaxonomyReader
+	{
+		<T> T read(Function<Taxonomy<ATermAppl>, T> read);
+	}
+
+	/**
+	 * @return the reads of the object property taxonomy, it is built once the KB is prepared and then doesn't change
+	 */
+	private TaxonomyReader roleTaxonomy()
+	{
+		final Taxonomy<ATermAppl> taxonomy = _kb.getRoleTaxonomy(true);
+		return new TaxonomyReader()
+		{
+			@Override
+			public <T> T read(final Function<Taxonomy<ATermAppl>, T> read)
+			{
+				return read.apply(taxonomy);
+			}
+		};
+	}
+
 	private static Set<ATermAppl> flatten(final Set<Set<ATermAppl>> set)
 	{
 		final Set<ATermAppl> result = new HashSet<>();
@@ -77,6 +77,29 @@ public class CostBasedQueryPlanNew extends QueryPlan
 			}
 	}
 
+	/**
+	 * Creates a plan with an ordering chosen before, see {@link QueryPlanCache}.
+	 *
+	 * @param query the query
+	 * @param sortedAtoms the atoms of the query in the order to evaluate them
+	 */
+	public CostBasedQueryPlanNew(final Query query, final List<QueryAtom> sortedAtoms)
+	{
+		super(query);
+
+		_index = 0;
+		_size = sortedAtoms.size();
+		_sortedAtoms = sortedAtoms;
+	}
+
+	/**
+	 * @return the atoms of the query in the order they are evaluated
+	 */
+	public List<QueryAtom> getSortedAtoms()
+	{
+		return _sortedAtoms;
+	}
+
 	/**
 	 * Recursive function that will inspect all possible orderings for a list of query atoms and returns the _cost for the best ordering (min _cost) found. Best
 	 * ordering is saved in the _sortedAtoms field. The ordering of atoms is created recursively where each step adds one more atom to the _current ordering.
@@ -0,0 +1,92 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.query.sparqldl.engine;
+
+import java.util.Map.Entry;
+
+import openllet.aterm.ATermAppl;
+import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.model.Query.VarType;
+import openllet.query.sparqldl.model.QueryAtom;
+import openllet.query.sparqldl.model.QueryImpl;
+import openllet.query.sparqldl.model.QueryParameters;
+import openllet.query.sparqldl.model.QueryResult;
+import openllet.query.sparqldl.model.ResultBinding;
+import openllet.query.sparqldl.model.ResultBindingImpl;
+
+/**
+ * A query executed many times with different values for some of its variables. The executions with values of the same kind have the same shape, so the
+ * preprocessing, splitting and atom ordering of the first one are reused by the next ones through the {@link QueryPlanCache}.
+ *
+ * @since 2.6.6
+ */
+public class PreparedQuery
+{
+	private final Query _query;
+
+	/**
+	 * @param query the query whose variables are bound by the parameters of each execution
+	 */
+	public PreparedQuery(final Query query)
+	{
+		_query = query;
+	}
+
+	public Query getQuery()
+	{
+		return _query;
+	}
+
+	/**
+	 * Binds the variables given by the parameters. As with the parameters of a SPARQL query, the variables stay in the projection and their values are added
+	 * to the bindings of the result.
+	 *
+	 * @param parameters the values of the variables
+	 * @return the query where the variables are replaced by their values
+	 */
+	public Query bind(final QueryParameters parameters)
+	{
+		final ResultBinding binding = new ResultBindingImpl();
+		for (final Entry<ATermAppl, ATermAppl> entry : parameters.entrySet())
+			binding.setValue(entry.getKey(), entry.getValue());
+
+		final Query query = new QueryImpl(_query);
+
+		for (final ATermAppl var : _query.getResultVars())
+			query.addResultVar(var);
+
+		for (final VarType type : VarType.values())
+			for (final ATermAppl var : _query.getDistVarsForType(type))
+				if (!binding.isBound(var))
+					query.addDistVar(var, type);
+
+		for (final QueryAtom atom : _query.getAtoms())
+			query.add(atom.apply(binding));
+
+		query.setQueryParameters(parameters);
+
+		return query;
+	}
+
+	/**
+	 * @param parameters the values of the variables
+	 * @return the result of the query for the given values
+	 */
+	public QueryResult exec(final QueryParameters parameters)
+	{
+		return QueryEngine.exec(bind(parameters));
+	}
+
+	/**
+	 * @param parameters the values of the variables
+	 * @return the result of the query for the given values, see {@link QueryEngine#execStreaming(Query)}
+	 */
+	public QueryResult execStreaming(final QueryParameters parameters)
+	{
+		return QueryEngine.execStreaming(bind(parameters));
+	}
+}
@@ -9,7 +9,6 @@
 package openllet.query.sparqldl.engine;
 
 import static java.lang.String.format;
-import static openllet.core.utils.TermFactory.TOP_OBJECT_PROPERTY;
 import static openllet.core.utils.TermFactory.hasValue;
 import static openllet.core.utils.TermFactory.not;
 
@@ -21,15 +20,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import openllet.aterm.ATermAppl;
-import openllet.core.DependencySet;
 import openllet.core.KnowledgeBase;
+import openllet.core.KnowledgeBaseImplFullSync;
 import openllet.core.OpenlletOptions;
-import openllet.core.boxes.abox.ABox;
-import openllet.core.boxes.rbox.Role;
 import openllet.core.datatypes.DatatypeReasoner;
 import openllet.core.datatypes.exceptions.DatatypeReasonerException;
 import openllet.core.exceptions.InternalReasonerException;
@@ -37,6 +35,8 @@ import openllet.core.utils.ATermUtils;
 import openllet.core.utils.Bool;
 import openllet.core.utils.DisjointSet;
 import openllet.core.utils.SetUtils;
+import openllet.core.utils.WorkerPool;
+import openllet.query.sparqldl.model.FutureQueryResult;
 import openllet.query.sparqldl.model.MultiQueryResults;
 import openllet.query.sparqldl.model.NotKnownQueryAtom;
 import openllet.query.sparqldl.model.Query;
@@ -49,6 +49,7 @@ import openllet.query.sparqldl.model.QueryResult;
 import openllet.query.sparqldl.model.QueryResultImpl;
 import openllet.query.sparqldl.model.ResultBinding;
 import openllet.query.sparqldl.model.ResultBindingImpl;
+import openllet.query.sparqldl.model.StreamingQueryResult;
 import openllet.query.sparqldl.model.UnionQueryAtom;
 import openllet.shared.tools.Log;
 
@@ -71,6 +72,11 @@ public class QueryEngine
 
 	public static CoreStrategy STRATEGY = CoreStrategy.ALLFAST;
 
+	/**
+	 * The pools running the components of the queries, by number of threads. Their idle workers end by themselves.
+	 */
+	private static final Map<Integer, WorkerPool> _pools = new ConcurrentHashMap<>();
+
 	public static QueryExec getQueryExec()
 	{
 		return new CombinedQueryEngine();
@@ -91,6 +97,23 @@ public class QueryEngine
 	}
 
 	public static QueryResult exec(final Query query)
+	{
+		return exec(query, false);
+	}
+
+	/**
+	 * Executes the query with a result whose bindings are computed while it is read, see {@link StreamingQueryResult}. The result should be closed if it is
+	 * not read until the end.
+	 *
+	 * @param query to execute
+	 * @return the result of the query
+	 */
+	public static QueryResult execStreaming(final Query query)
+	{
+		return exec(query, true);
+	}
+
+	private static QueryResult exec(final Query query, final boolean streaming)
 	{
 		if (query.getAtoms().isEmpty())
 		{
@@ -100,34 +123,58 @@ public class QueryEngine
 		}
 		query.getKB().ensureConsistency();
 
-		// PREPROCESSING
-		_logger.fine(() -> "Preprocessing:\n" + query);
-		final Query preprocessed = preprocess(query);
+		// the shape is taken before the preprocessing that modifies the query
+		final QueryPlanCache cache = QueryPlanCache.get(query.getKB());
+		final QueryPlanCache.Shape shape = cache == null ? null : QueryPlanCache.Shape.of(query);
+		List<Query> queries = shape == null ? null : cache.getComponents(shape, query);
 
-		// SIMPLIFICATION
-		if (OpenlletOptions.SIMPLIFY_QUERY)
+		if (queries == null)
 		{
-			_logger.fine(() -> "Simplifying:\n" + preprocessed);
+			// PREPROCESSING
+			_logger.fine(() -> "Preprocessing:\n" + query);
+			final Query preprocessed = preprocess(query);
 
-			simplify(preprocessed);
-		}
+			// SIMPLIFICATION
+			if (OpenlletOptions.SIMPLIFY_QUERY)
+			{
+				_logger.fine(() -> "Simplifying:\n" + preprocessed);
 
-		// SPLITTING
-		_logger.fine(() -> "Splitting:\n" + preprocessed);
+				simplify(preprocessed);
+			}
 
-		final List<Query> queries = split(preprocessed);
+			// SPLITTING
+			_logger.fine(() -> "Splitting:\n" + preprocessed);
+
+			queries = split(preprocessed);
+
+			if (shape != null)
+				cache.putComponents(shape, queries);
+		}
 
 		QueryResult r = null;
 		if (queries.isEmpty())
 			throw new InternalReasonerException("Splitting query returned no results!");
 		else
 			if (queries.size() == 1)
-				r = execSingleQuery(queries.get(0));
+				r = execSingleQuery(queries.get(0), streaming);
 			else
 			{
+				final int threads = Math.min(queries.size(), getParallelism(query));
+
 				final List<QueryResult> results = new ArrayList<>(queries.size());
-				for (final Query q : queries)
-					results.add(execSingleQuery(q));
+				if (streaming || threads <= 1 || !(query.getKB() instanceof KnowledgeBaseImplFullSync))
+					// the combined results iterate again all the components but the last one, a streamed result is read only once
+					for (final Query q : queries)
+						results.add(execSingleQuery(q, streaming && results.size() == queries.size() - 1));
+				else
+				{
+					_logger.fine("Concurrent execution of " + queries.size() + " components with " + threads + " threads");
+
+					// the components are joined as their results are read, the ones not needed anymore are cancelled by the result
+					final WorkerPool pool = _pools.computeIfAbsent(threads, WorkerPool::new);
+					for (final Query q : queries)
+						results.add(new FutureQueryResult(q, pool.submit(() -> execSingleQuery(q, false))));
+				}
 
 				r = new MultiQueryResults(query.getResultVars(), results);
 			}
@@ -306,12 +353,17 @@ public class QueryEngine
 		return hasUndefinedTerm(query.getAtoms(), query.getKB());
 	}
 
-	private static QueryResult execSingleQuery(final Query query)
+	private static int getParallelism(final Query query)
+	{
+		return query.getQueryParameters() == null ? OpenlletOptions.QUERY_COMPONENT_THREADS : query.getQueryParameters().getParallelism();
+	}
+
+	private static QueryResult execSingleQuery(final Query query, final boolean streaming)
 	{
 		if (hasUndefinedTerm(query))
 			return new QueryResultImpl(query);
 
-		return getQueryExec().exec(query);
+		return streaming ? getQueryExec().execStreaming(query) : getQueryExec().exec(query);
 	}
 
 	/**
@@ -556,7 +608,7 @@ public class QueryEngine
 						else
 							if (kb.isClassified())
 							{
-								final Set<ATermAppl> subs = kb.getTaxonomy().getFlattenedSubs(clazz, false);
+								final Set<ATermAppl> subs = kb.readTaxonomy(taxonomy -> taxonomy.getFlattenedSubs(clazz, false));
 								final Set<ATermAppl> eqs = kb.getAllEquivalentClasses(clazz);
 								if (SetUtils.intersects(inferred, subs) || SetUtils.intersects(inferred, eqs))
 									query.remove(atom);
@@ -651,17 +703,7 @@ public class QueryEngine
 				final ATermAppl testVar = query.getUndistVars().iterator().next();
 				final ATermAppl testClass = query.rollUpTo(testVar, Collections.<ATermAppl> emptySet(), false);
 
-				final ATermAppl newUC = ATermUtils.normalize(ATermUtils.makeNot(testClass));
-
-				final Role topObjectRole = kb.getRole(TOP_OBJECT_PROPERTY);
-				final boolean added = topObjectRole.addDomain(newUC, DependencySet.INDEPENDENT);
-
-				final ABox copy = kb.getABox().copy();
-				copy.setInitialized(false);
-				querySatisfied = !copy.isConsistent();
-
-				if (added)
-					topObjectRole.removeDomain(newUC, DependencySet.INDEPENDENT);
+				querySatisfied = kb.entailsInstance(testClass);
 			}
 
 		return querySatisfied;
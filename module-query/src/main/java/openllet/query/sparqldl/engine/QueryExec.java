@@ -30,5 +30,14 @@ public interface QueryExec
 
 	QueryResult exec(Query plan);
 
+	/**
+	 * @param plan the query to execute
+	 * @return a result whose bindings may be computed while it is read
+	 */
+	default QueryResult execStreaming(final Query plan)
+	{
+		return exec(plan);
+	}
+
 	boolean supports(Query q);
 }
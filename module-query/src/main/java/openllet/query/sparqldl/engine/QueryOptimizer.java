@@ -6,10 +6,12 @@
 
 package openllet.query.sparqldl.engine;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import openllet.core.OpenlletOptions;
 import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.model.QueryAtom;
 import openllet.shared.tools.Log;
 
 /**
@@ -43,8 +45,24 @@ public class QueryOptimizer
 		else
 		{
 			_logger.fine("Using full query plan.");
-			return new CostBasedQueryPlanNew(query);
+			return getCostBasedPlan(query);
 		}
 
 	}
+
+	private static QueryPlan getCostBasedPlan(final Query query)
+	{
+		final QueryPlanCache cache = query.getAtoms().size() > 1 ? QueryPlanCache.get(query.getKB()) : null;
+		final QueryPlanCache.Shape shape = cache == null ? null : QueryPlanCache.Shape.of(query);
+		if (shape == null)
+			return new CostBasedQueryPlanNew(query);
+
+		final List<QueryAtom> ordering = cache.getOrdering(shape);
+		if (ordering != null)
+			return new CostBasedQueryPlanNew(query, ordering);
+
+		final CostBasedQueryPlanNew plan = new CostBasedQueryPlanNew(query);
+		cache.putOrdering(shape, plan.getSortedAtoms());
+		return plan;
+	}
 }
@@ -0,0 +1,410 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.query.sparqldl.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.OpenlletOptions;
+import openllet.core.utils.ATermUtils;
+import openllet.core.utils.SizeEstimate;
+import openllet.query.sparqldl.model.NotKnownQueryAtom;
+import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.model.Query.VarType;
+import openllet.query.sparqldl.model.QueryAtom;
+import openllet.query.sparqldl.model.QueryAtomImpl;
+import openllet.query.sparqldl.model.QueryImpl;
+import openllet.query.sparqldl.model.UnionQueryAtom;
+
+/**
+ * Keeps the work the query engine does before the search, the split components of a query and the atom ordering of the cost based plan, for the queries of
+ * the same {@link Shape}. There is one cache per {@link SizeEstimate} of a knowledge base: a change of the knowledge base replaces its size estimate, so the
+ * cache is dropped with it, and the cache is cleared when the estimates are recomputed.
+ *
+ * @since 2.6.6
+ */
+public class QueryPlanCache
+{
+	private static final String PARAMETER = "tag:openllet:query:parameter#";
+
+	private static final Map<SizeEstimate, QueryPlanCache> _caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private static final LongAdder _hits = new LongAdder();
+
+	private static final LongAdder _misses = new LongAdder();
+
+	private final Map<Shape, List<Component>> _components = lru();
+
+	private final Map<Shape, List<QueryAtom>> _orderings = lru();
+
+	private int _version;
+
+	// the components depend on the simplification of the queries
+	private boolean _simplify = OpenlletOptions.SIMPLIFY_QUERY;
+
+	private QueryPlanCache(final int version)
+	{
+		_version = version;
+	}
+
+	/**
+	 * @param kb a knowledge base
+	 * @return the cache of the knowledge base or <code>null</code> if the cache is disabled or the knowledge base has no size estimate yet
+	 */
+	public static QueryPlanCache get(final KnowledgeBase kb)
+	{
+		if (OpenlletOptions.QUERY_PLAN_CACHE_SIZE <= 0 || kb == null)
+			return null;
+
+		final SizeEstimate estimate = kb.getSizeEstimate();
+		if (estimate == null)
+			return null;
+
+		final QueryPlanCache cache = _caches.computeIfAbsent(estimate, e -> new QueryPlanCache(e.getVersion()));
+		cache.validate(estimate.getVersion());
+		return cache;
+	}
+
+	/**
+	 * @return the number of lookups that found a cached entry, for all the knowledge bases
+	 */
+	public static long getHits()
+	{
+		return _hits.sum();
+	}
+
+	/**
+	 * @return the number of lookups that found no cached entry, for all the knowledge bases
+	 */
+	public static long getMisses()
+	{
+		return _misses.sum();
+	}
+
+	/**
+	 * @return the ratio of the lookups that found a cached entry, 0 if there was no lookup
+	 */
+	public static double getHitRate()
+	{
+		final long hits = getHits();
+		final long total = hits + getMisses();
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	public static void resetStats()
+	{
+		_hits.reset();
+		_misses.reset();
+	}
+
+	private static <K, V> Map<K, V> lru()
+	{
+		return new LinkedHashMap<>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<K, V> eldest)
+			{
+				return size() > OpenlletOptions.QUERY_PLAN_CACHE_SIZE;
+			}
+		};
+	}
+
+	private synchronized void validate(final int version)
+	{
+		if (_version != version)
+		{
+			_components.clear();
+			_orderings.clear();
+			_version = version;
+		}
+
+		if (_simplify != OpenlletOptions.SIMPLIFY_QUERY)
+		{
+			_components.clear();
+			_simplify = OpenlletOptions.SIMPLIFY_QUERY;
+		}
+	}
+
+	/**
+	 * @param shape the shape of the query
+	 * @param query the query, not modified
+	 * @return the split components of the preprocessed query or <code>null</code> if there are none cached for the shape
+	 */
+	public List<Query> getComponents(final Shape shape, final Query query)
+	{
+		final List<Component> components;
+		synchronized (this)
+		{
+			components = _components.get(shape);
+		}
+
+		if (components == null)
+		{
+			_misses.increment();
+			return null;
+		}
+		_hits.increment();
+
+		final List<Query> queries = new ArrayList<>(components.size());
+		for (final Component component : components)
+			queries.add(component.instantiate(query, shape._values));
+		return queries;
+	}
+
+	/**
+	 * @param shape the shape of the query before preprocessing
+	 * @param queries the split components of the preprocessed query
+	 */
+	public void putComponents(final Shape shape, final List<Query> queries)
+	{
+		if (queries.isEmpty())
+			return;
+
+		final List<Component> components = new ArrayList<>(queries.size());
+		for (final Query query : queries)
+		{
+			final Component component = Component.of(query, shape._parameters);
+			if (component == null)
+				return;
+			components.add(component);
+		}
+
+		synchronized (this)
+		{
+			_components.put(shape, components);
+		}
+	}
+
+	/**
+	 * @param shape the shape of a query
+	 * @return the atoms of the query in the order chosen for a query of the same shape or <code>null</code> if there is none cached
+	 */
+	public List<QueryAtom> getOrdering(final Shape shape)
+	{
+		final List<QueryAtom> ordering;
+		synchronized (this)
+		{
+			ordering = _orderings.get(shape);
+		}
+
+		if (ordering == null)
+		{
+			_misses.increment();
+			return null;
+		}
+		_hits.increment();
+
+		return map(ordering, arg -> shape._values.getOrDefault(arg, arg));
+	}
+
+	/**
+	 * @param shape the shape of a query
+	 * @param atoms the atoms of the query in the order chosen for it
+	 */
+	public void putOrdering(final Shape shape, final List<QueryAtom> atoms)
+	{
+		final List<QueryAtom> ordering = map(atoms, arg -> shape._parameters.getOrDefault(arg, arg));
+		if (ordering == null)
+			return;
+
+		synchronized (this)
+		{
+			_orderings.put(shape, ordering);
+		}
+	}
+
+	private static List<QueryAtom> map(final List<QueryAtom> atoms, final Function<ATermAppl, ATermAppl> f)
+	{
+		final List<QueryAtom> result = new ArrayList<>(atoms.size());
+		for (final QueryAtom atom : atoms)
+		{
+			final QueryAtom mapped = map(atom, f);
+			if (mapped == null)
+				return null;
+			result.add(mapped);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the atom with each argument replaced by the function or <code>null</code> if the type of atom is not supported, e.g. the cores of
+	 *         undistinguished variables
+	 */
+	private static QueryAtom map(final QueryAtom atom, final Function<ATermAppl, ATermAppl> f)
+	{
+		if (atom instanceof UnionQueryAtom)
+		{
+			final List<List<QueryAtom>> union = new ArrayList<>();
+			for (final List<QueryAtom> atoms : ((UnionQueryAtom) atom).getUnion())
+			{
+				final List<QueryAtom> mapped = map(atoms, f);
+				if (mapped == null)
+					return null;
+				union.add(mapped);
+			}
+			return new UnionQueryAtom(union);
+		}
+
+		if (atom instanceof NotKnownQueryAtom)
+		{
+			final List<QueryAtom> mapped = map(((NotKnownQueryAtom) atom).getAtoms(), f);
+			return mapped == null ? null : new NotKnownQueryAtom(mapped);
+		}
+
+		if (atom.getClass() != QueryAtomImpl.class)
+			return null;
+
+		final List<ATermAppl> args = new ArrayList<>(atom.getArguments().size());
+		for (final ATermAppl arg : atom.getArguments())
+			args.add(f.apply(arg));
+		return new QueryAtomImpl(atom.getPredicate(), args);
+	}
+
+	private static Map<VarType, Set<ATermAppl>> distVars(final Query query)
+	{
+		final Map<VarType, Set<ATermAppl>> distVars = new EnumMap<>(VarType.class);
+		for (final VarType type : VarType.values())
+			distVars.put(type, new HashSet<>(query.getDistVarsForType(type)));
+		return distVars;
+	}
+
+	/**
+	 * A query where the individuals and literals are replaced by parameters numbered in the order they appear. The queries that only differ by their
+	 * individuals and literals, e.g. the executions of a parameterized query, have the same shape as long as the same values appear at the same positions.
+	 */
+	public static class Shape
+	{
+		private final List<QueryAtom> _atoms;
+
+		private final List<ATermAppl> _resultVars;
+
+		private final Map<VarType, Set<ATermAppl>> _distVars;
+
+		private final boolean _distinct;
+
+		// the values of the query, not part of the shape
+		private final Map<ATermAppl, ATermAppl> _parameters;
+
+		private final Map<ATermAppl, ATermAppl> _values = new HashMap<>();
+
+		private Shape(final Query query, final List<QueryAtom> atoms, final Map<ATermAppl, ATermAppl> parameters)
+		{
+			_atoms = atoms;
+			_resultVars = new ArrayList<>(query.getResultVars());
+			_distVars = distVars(query);
+			_distinct = query.isDistinct();
+			_parameters = parameters;
+			for (final Map.Entry<ATermAppl, ATermAppl> entry : parameters.entrySet())
+				_values.put(entry.getValue(), entry.getKey());
+		}
+
+		/**
+		 * @param query a query
+		 * @return the shape of the query or <code>null</code> if the query can not be cached
+		 */
+		public static Shape of(final Query query)
+		{
+			if (query.getFilter() != null)
+				return null;
+
+			final KnowledgeBase kb = query.getKB();
+			final Map<ATermAppl, ATermAppl> parameters = new HashMap<>();
+			for (final QueryAtom atom : query.getAtoms())
+				for (final ATermAppl arg : atom.getArguments())
+					if (!ATermUtils.isVar(arg) && !parameters.containsKey(arg) && (ATermUtils.isLiteral(arg) || kb.isIndividual(arg)))
+						parameters.put(arg, ATermUtils.makeTermAppl(PARAMETER + parameters.size()));
+
+			final List<QueryAtom> atoms = map(query.getAtoms(), arg -> parameters.getOrDefault(arg, arg));
+			return atoms == null ? null : new Shape(query, atoms, parameters);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * (31 * _atoms.hashCode() + _resultVars.hashCode()) + (_distinct ? 1 : 0);
+		}
+
+		@Override
+		public boolean equals(final Object obj)
+		{
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Shape))
+				return false;
+			final Shape other = (Shape) obj;
+			return _distinct == other._distinct && _atoms.equals(other._atoms) && _resultVars.equals(other._resultVars) && _distVars.equals(other._distVars);
+		}
+
+		@Override
+		public String toString()
+		{
+			return _atoms.toString();
+		}
+	}
+
+	/**
+	 * A split component of a query, with the parameters of the shape of the query.
+	 */
+	private static class Component
+	{
+		private final List<QueryAtom> _atoms;
+
+		private final List<ATermAppl> _resultVars;
+
+		private final Map<VarType, Set<ATermAppl>> _distVars;
+
+		private Component(final List<QueryAtom> atoms, final Query query)
+		{
+			_atoms = atoms;
+			_resultVars = new ArrayList<>(query.getResultVars());
+			_distVars = distVars(query);
+		}
+
+		/**
+		 * @return the component with its values replaced by parameters or <code>null</code> if it has a value that is not a parameter
+		 */
+		public static Component of(final Query query, final Map<ATermAppl, ATermAppl> parameters)
+		{
+			if (query.getFilter() != null || !parameters.keySet().containsAll(query.getConstants()))
+				return null;
+
+			final List<QueryAtom> atoms = map(query.getAtoms(), arg -> parameters.getOrDefault(arg, arg));
+			return atoms == null ? null : new Component(atoms, query);
+		}
+
+		public Query instantiate(final Query query, final Map<ATermAppl, ATermAppl> values)
+		{
+			final Query component = new QueryImpl(query);
+
+			for (final ATermAppl var : _resultVars)
+				component.addResultVar(var);
+
+			for (final Map.Entry<VarType, Set<ATermAppl>> entry : _distVars.entrySet())
+				for (final ATermAppl var : entry.getValue())
+					component.addDistVar(var, entry.getKey());
+
+			for (final QueryAtom atom : map(_atoms, arg -> values.getOrDefault(arg, arg)))
+				component.add(atom);
+
+			return component;
+		}
+	}
+}
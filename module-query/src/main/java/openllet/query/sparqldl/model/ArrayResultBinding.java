@@ -0,0 +1,182 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.query.sparqldl.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import openllet.aterm.ATermAppl;
+
+/**
+ * Result binding storing its values in an array indexed by the position of the variable in a list shared by all the bindings of a result, instead of a hash
+ * map per binding. A <code>null</code> value means the variable is not bound.
+ *
+ * @since 2.6.6
+ */
+public class ArrayResultBinding implements ResultBinding
+{
+	private List<ATermAppl> _vars;
+
+	private ATermAppl[] _values;
+
+	/**
+	 * @param vars the variables of the binding, not copied so it can be shared between bindings
+	 */
+	public ArrayResultBinding(final List<ATermAppl> vars)
+	{
+		_vars = vars;
+		_values = new ATermAppl[vars.size()];
+	}
+
+	/**
+	 * @param vars the variables of the binding, not copied so it can be shared between bindings
+	 * @param binding the values to copy
+	 */
+	public ArrayResultBinding(final List<ATermAppl> vars, final ResultBinding binding)
+	{
+		this(vars);
+		setValues(binding);
+	}
+
+	private ArrayResultBinding(final ArrayResultBinding binding)
+	{
+		_vars = binding._vars;
+		_values = binding._values.clone();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setValue(final ATermAppl var, final ATermAppl binding)
+	{
+		int index = _vars.indexOf(var);
+		if (index < 0)
+		{
+			if (binding == null)
+				return;
+
+			// the shared variable list is never modified, this binding gets its own
+			_vars = new ArrayList<>(_vars);
+			_vars.add(var);
+			_values = Arrays.copyOf(_values, _vars.size());
+			index = _values.length - 1;
+		}
+		_values[index] = binding;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setValues(final ResultBinding binding)
+	{
+		for (final ATermAppl var : binding.getAllVariables())
+			setValue(var, binding.getValue(var));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ATermAppl getValue(final ATermAppl var)
+	{
+		final int index = _vars.indexOf(var);
+		return index < 0 ? null : _values[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isBound(final ATermAppl var)
+	{
+		return getValue(var) != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<ATermAppl> getAllVariables()
+	{
+		final Set<ATermAppl> vars = new LinkedHashSet<>();
+		for (int i = 0; i < _values.length; i++)
+			if (_values[i] != null)
+				vars.add(_vars.get(i));
+		return vars;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ResultBinding duplicate()
+	{
+		return new ArrayResultBinding(this);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		for (final ATermAppl value : _values)
+			if (value != null)
+				return false;
+		return true;
+	}
+
+	@Override
+	public String toString()
+	{
+		final StringBuilder sb = new StringBuilder("{");
+		for (int i = 0; i < _values.length; i++)
+			if (_values[i] != null)
+			{
+				if (sb.length() > 1)
+					sb.append(", ");
+				sb.append(_vars.get(i)).append('=').append(_values[i]);
+			}
+		return sb.append('}').toString();
+	}
+
+	@Override
+	public int hashCode()
+	{
+		int result = 1;
+		for (int i = 0; i < _values.length; i++)
+			if (_values[i] != null)
+				result += _vars.get(i).hashCode() ^ _values[i].hashCode();
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj)
+	{
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		final ArrayResultBinding other = (ArrayResultBinding) obj;
+		if (_vars == other._vars)
+			return Arrays.equals(_values, other._values);
+		for (int i = 0; i < _values.length; i++)
+			if (_values[i] != null && !_values[i].equals(other.getValue(_vars.get(i))))
+				return false;
+		for (int i = 0; i < other._values.length; i++)
+			if (other._values[i] != null && !other._values[i].equals(getValue(other._vars.get(i))))
+				return false;
+		return true;
+	}
+}
@@ -0,0 +1,145 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.query.sparqldl.model;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.utils.WorkerPool;
+
+/**
+ * Result of a query executed by another thread. The methods reading bindings wait for the execution to complete and rethrow its errors.
+ *
+ * @since 2.6.6
+ */
+public class FutureQueryResult implements QueryResult
+{
+	private final Query _query;
+
+	private final Future<QueryResult> _future;
+
+	/**
+	 * @param query the executed query
+	 * @param future the execution of the query
+	 */
+	public FutureQueryResult(final Query query, final Future<QueryResult> future)
+	{
+		_query = query;
+		_future = future;
+	}
+
+	/**
+	 * @return true if the execution is completed, the bindings can then be read without waiting
+	 */
+	public boolean isDone()
+	{
+		return _future.isDone();
+	}
+
+	private QueryResult get()
+	{
+		return WorkerPool.get(_future);
+	}
+
+	/**
+	 * Cancels the execution if it is not completed yet, the bindings can't be read anymore.
+	 */
+	public void cancel()
+	{
+		_future.cancel(true);
+	}
+
+	/**
+	 * @throws UnsupportedOperationException the bindings are only given by the execution
+	 */
+	@Override
+	public void add(final ResultBinding binding)
+	{
+		throw new UnsupportedOperationException("FutureQueryResult do not support addition!");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ATermAppl> getResultVars()
+	{
+		return _query.getResultVars();
+	}
+
+	@Override
+	public boolean isDistinct()
+	{
+		return _query.isDistinct();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return get().isEmpty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Iterator<ResultBinding> iterator()
+	{
+		return get().iterator();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int size()
+	{
+		return get().size();
+	}
+
+	/**
+	 * {@inheritDoc} The execution is cancelled if it is not completed yet.
+	 */
+	@Override
+	public void close()
+	{
+		if (_future.cancel(false))
+			return;
+
+		final QueryResult result;
+		try
+		{
+			result = _future.get();
+		}
+		catch (final InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return;
+		}
+		catch (final ExecutionException | CancellationException e)
+		{
+			return; // nothing to close
+		}
+		result.close();
+	}
+
+	@Override
+	public String toString()
+	{
+		if (_future.isCancelled())
+			return "<cancelled>";
+
+		return isDone() ? get().toString() : "<pending>";
+	}
+}
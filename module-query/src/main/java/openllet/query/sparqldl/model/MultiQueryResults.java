@@ -37,16 +37,16 @@ public class MultiQueryResults implements QueryResult
 
 	private final List<QueryResult> _queryResults;
 
-	private int _size;
+	private int _size = -1;
 
+	/**
+	 * @param resultVars the result variables of the query
+	 * @param queryResults the results of the independent components of the query, e.g. {@link FutureQueryResult} of components executed concurrently
+	 */
 	public MultiQueryResults(final List<ATermAppl> resultVars, final List<QueryResult> queryResults)
 	{
 		_resultVars = resultVars;
 		_queryResults = queryResults;
-
-		_size = 1;
-		for (final QueryResult result : queryResults)
-			_size *= result.size();
 	}
 
 	/**
@@ -81,12 +81,42 @@ public class MultiQueryResults implements QueryResult
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc} The results already computed are checked first, so an empty one is found without waiting for the results still computed by other threads.
+	 * These are then cancelled.
 	 */
 	@Override
 	public boolean isEmpty()
 	{
-		return _size == 0;
+		if (_size == 0)
+			return true;
+
+		for (final QueryResult result : _queryResults)
+			if (!isPending(result) && result.isEmpty())
+				return empty();
+
+		for (final QueryResult result : _queryResults)
+			if (isPending(result) && result.isEmpty())
+				return empty();
+
+		return false;
+	}
+
+	/**
+	 * The query has no answer, the results still computed are not needed.
+	 */
+	private boolean empty()
+	{
+		_size = 0;
+		for (final QueryResult result : _queryResults)
+			if (isPending(result))
+				((FutureQueryResult) result).cancel();
+
+		return true;
+	}
+
+	private static boolean isPending(final QueryResult result)
+	{
+		return result instanceof FutureQueryResult && !((FutureQueryResult) result).isDone();
 	}
 
 	/**
@@ -105,6 +135,9 @@ public class MultiQueryResults implements QueryResult
 
 			private boolean init()
 			{
+				if (MultiQueryResults.this.isEmpty())
+					return false;
+
 				for (final QueryResult result : _queryResults)
 				{
 					final Iterator<ResultBinding> iterator = result.iterator();
@@ -181,6 +214,25 @@ public class MultiQueryResults implements QueryResult
 	@Override
 	public int size()
 	{
+		// computed on demand as it reads all the bindings of streamed results
+		if (_size < 0)
+		{
+			int size = 1;
+			for (final QueryResult result : _queryResults)
+				size *= result.size();
+			_size = size;
+		}
+
 		return _size;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close()
+	{
+		for (final QueryResult result : _queryResults)
+			result.close();
+	}
 }
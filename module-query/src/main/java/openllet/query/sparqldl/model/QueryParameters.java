@@ -11,6 +11,7 @@ import java.util.Map;
 import java.util.Set;
 
 import openllet.aterm.ATermAppl;
+import openllet.core.OpenlletOptions;
 
 /**
  * <p>
@@ -33,6 +34,8 @@ public class QueryParameters
 
 	private final Map<ATermAppl, ATermAppl> _parameters;
 
+	private int _parallelism = 0;
+
 	public QueryParameters()
 	{
 		_parameters = new HashMap<>();
@@ -58,6 +61,22 @@ public class QueryParameters
 		return _parameters.get(key);
 	}
 
+	/**
+	 * @param parallelism the number of threads running the independent components of the query, 0 to use {@link OpenlletOptions#QUERY_COMPONENT_THREADS}
+	 */
+	public void setParallelism(final int parallelism)
+	{
+		_parallelism = parallelism;
+	}
+
+	/**
+	 * @return the number of threads running the independent components of the query
+	 */
+	public int getParallelism()
+	{
+		return _parallelism > 0 ? _parallelism : OpenlletOptions.QUERY_COMPONENT_THREADS;
+	}
+
 	@Override
 	public String toString()
 	{
@@ -23,7 +23,7 @@ import openllet.aterm.ATermAppl;
  *
  * @author Petr Kremen
  */
-public interface QueryResult extends Iterable<ResultBinding>
+public interface QueryResult extends Iterable<ResultBinding>, AutoCloseable
 {
 
 	/**
@@ -55,4 +55,13 @@ public interface QueryResult extends Iterable<ResultBinding>
 	 * @return number of bindings
 	 */
 	int size();
+
+	/**
+	 * Releases the resources held to compute the bindings that were not read yet. The bindings already read are still available.
+	 */
+	@Override
+	default void close()
+	{
+		// nothing to release by default
+	}
 }
@@ -36,12 +36,10 @@ public class QueryResultImpl implements QueryResult
 
 	private final List<ATermAppl> _resultVars;
 	private final Query _query;
-	private final QueryParameters _parameters;
 
 	public QueryResultImpl(final Query query)
 	{
 		_query = query;
-		_parameters = query.getQueryParameters();
 		_resultVars = new ArrayList<>(query.getResultVars());
 
 		if (query.isDistinct())
@@ -56,7 +54,7 @@ public class QueryResultImpl implements QueryResult
 	@Override
 	public void add(final ResultBinding binding)
 	{
-		_bindings.add(process(binding));
+		_bindings.add(process(_query, binding));
 	}
 
 	@Override
@@ -146,21 +144,29 @@ public class QueryResultImpl implements QueryResult
 		return _bindings.toString();
 	}
 
-	private ResultBinding process(final ResultBinding binding)
+	/**
+	 * Adds the values of the query parameters to the binding for the parameter variables in the query projection.
+	 *
+	 * @param query the query of the binding
+	 * @param binding a binding found for the query
+	 * @return the given binding
+	 */
+	static ResultBinding process(final Query query, final ResultBinding binding)
 	{
-		if (_parameters == null)
+		final QueryParameters parameters = query.getQueryParameters();
+		if (parameters == null)
 			return binding;
 
-		final int numOfVars = _query.getResultVars().size();
+		final int numOfVars = query.getResultVars().size();
 
 		// Add the _query _parameters to the binding if the variable is in the
 		// _query projection
-		for (final Entry<ATermAppl, ATermAppl> entry : _parameters.entrySet())
+		for (final Entry<ATermAppl, ATermAppl> entry : parameters.entrySet())
 		{
 			final ATermAppl var = entry.getKey();
 			final ATermAppl value = entry.getValue();
 
-			if (numOfVars == 0 || _query.getResultVars().contains(var))
+			if (numOfVars == 0 || query.getResultVars().contains(var))
 				binding.setValue(var, value);
 		}
 
@@ -0,0 +1,366 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.query.sparqldl.model;
+
+import java.lang.ref.Cleaner;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.exceptions.InternalReasonerException;
+
+/**
+ * Query result whose bindings are computed while they are read. The producer, typically the recursive search of the query engine, runs in its own thread but
+ * only while the reader waits for bindings, so the knowledge base is never accessed by both at the same time. Each request lets the producer compute a chunk
+ * of bindings, starting with one and doubling up to a maximum, then the producer waits until the reader has consumed the chunk. The producer is a daemon
+ * thread, it is stopped when the result is closed, e.g. at the end of a <code>try</code>-with-resources block, or when the result is garbage collected
+ * without being closed, so a reader that stops (e.g. because of a <code>LIMIT</code>) never keeps it running. The result is read once : the iterators share
+ * the position of the reader and a binding is dropped once it is read. A distinct result still keeps one entry per binding given, to skip the duplicates.
+ * <p>
+ * The knowledge base must not be changed while the result is read, the search would see a knowledge base that is not prepared. Once it is changed, reading
+ * the result throws a {@link ConcurrentModificationException}.
+ * </p>
+ *
+ * @since 2.6.6
+ */
+public class StreamingQueryResult implements QueryResult
+{
+	private static final Cleaner _cleaner = Cleaner.create();
+
+	private final Query _query;
+
+	private final List<ATermAppl> _resultVars;
+
+	private final Channel _channel;
+
+	private final Cleaner.Cleanable _cleanable;
+
+	private final KnowledgeBase _kb;
+
+	private final boolean _consistencyDone;
+
+	// the bindings computed but not read yet
+	private final Deque<ResultBinding> _bindings = new ArrayDeque<>();
+
+	private int _read = 0;
+
+	private boolean _exhausted = false;
+
+	/**
+	 * @param query the query whose bindings are produced
+	 * @param producer computes the bindings and gives each to the sink, the sink returns <code>false</code> for a binding that was already given
+	 * @param maxChunkSize the maximum number of bindings computed ahead of the reader
+	 */
+	public StreamingQueryResult(final Query query, final Consumer<Predicate<ResultBinding>> producer, final int maxChunkSize)
+	{
+		_query = query;
+		_resultVars = new ArrayList<>(query.getResultVars());
+		_kb = query.getKB();
+		_consistencyDone = _kb != null && _kb.isConsistencyDone();
+
+		final List<ATermAppl> vars = new ArrayList<>(_resultVars);
+		if (vars.isEmpty() && query.getQueryParameters() != null)
+			for (final Entry<ATermAppl, ATermAppl> entry : query.getQueryParameters().entrySet())
+				vars.add(entry.getKey());
+
+		// the channel must not refer to this result, otherwise the waiting producer keeps it reachable
+		_channel = new Channel(query, Collections.unmodifiableList(vars), producer, Math.max(1, maxChunkSize));
+		_cleanable = _cleaner.register(this, _channel);
+	}
+
+	/**
+	 * @throws UnsupportedOperationException the bindings are only given by the producer
+	 */
+	@Override
+	public void add(final ResultBinding binding)
+	{
+		throw new UnsupportedOperationException("StreamingQueryResult do not support addition!");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<ATermAppl> getResultVars()
+	{
+		return Collections.unmodifiableList(_resultVars);
+	}
+
+	@Override
+	public boolean isDistinct()
+	{
+		return _query.isDistinct();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isEmpty()
+	{
+		return _read == 0 && !available(1);
+	}
+
+	/**
+	 * {@inheritDoc} The returned iterators continue from the last binding read by any of them.
+	 */
+	@Override
+	public Iterator<ResultBinding> iterator()
+	{
+		return new Iterator<>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return available(1);
+			}
+
+			@Override
+			public ResultBinding next()
+			{
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				_read++;
+				return _bindings.poll();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc} All the remaining bindings are computed, they are kept until they are read.
+	 */
+	@Override
+	public int size()
+	{
+		available(Integer.MAX_VALUE);
+		return _read + _bindings.size();
+	}
+
+	/**
+	 * {@inheritDoc} The producer is stopped the next time it gives a binding.
+	 */
+	@Override
+	public void close()
+	{
+		_cleanable.clean();
+	}
+
+	/**
+	 * @return the number of bindings computed so far
+	 */
+	public int getReadCount()
+	{
+		return _read + _bindings.size();
+	}
+
+	/**
+	 * {@inheritDoc} Only the bindings not read yet are shown, all of them are computed.
+	 */
+	@Override
+	public String toString()
+	{
+		size();
+		return _bindings.toString();
+	}
+
+	/**
+	 * @param count a number of bindings
+	 * @return true if that many bindings are computed and not read yet, the missing ones are computed if possible
+	 * @throws ConcurrentModificationException if the knowledge base was changed after the execution of the query
+	 */
+	private boolean available(final int count)
+	{
+		if (_consistencyDone && !_kb.isConsistencyDone())
+		{
+			close();
+			throw new ConcurrentModificationException("The knowledge base was changed while the result of the query is read");
+		}
+
+		while (count > _bindings.size() && !_exhausted)
+		{
+			final List<ResultBinding> chunk = _channel.take();
+			if (chunk == null)
+				_exhausted = true;
+			else
+				_bindings.addAll(chunk);
+		}
+
+		return count <= _bindings.size();
+	}
+
+	/**
+	 * State shared by the reader and the producer thread. The producer only runs between a call to {@link #take()} and the moment it has filled the chunk or
+	 * is done, the reader waits in the meantime.
+	 */
+	private static class Channel implements Runnable
+	{
+		private final Query _query;
+
+		private final List<ATermAppl> _vars;
+
+		private final Consumer<Predicate<ResultBinding>> _producer;
+
+		private final int _maxChunkSize;
+
+		private final Set<ResultBinding> _seen;
+
+		private List<ResultBinding> _chunk = new ArrayList<>();
+
+		private int _chunkSize = 1;
+
+		private boolean _demand = false;
+
+		private boolean _done = false;
+
+		private boolean _cancelled = false;
+
+		private Throwable _error = null;
+
+		private Thread _thread = null;
+
+		public Channel(final Query query, final List<ATermAppl> vars, final Consumer<Predicate<ResultBinding>> producer, final int maxChunkSize)
+		{
+			_query = query;
+			_vars = vars;
+			_producer = producer;
+			_maxChunkSize = maxChunkSize;
+			_seen = query.isDistinct() ? new HashSet<>() : null;
+		}
+
+		/**
+		 * @return the next chunk of bindings or <code>null</code> if there is no more
+		 */
+		public synchronized List<ResultBinding> take()
+		{
+			if (_thread == null && !_cancelled)
+			{
+				_thread = new Thread(this::produce, "StreamingQueryResult");
+				_thread.setDaemon(true);
+				_thread.start();
+			}
+
+			_demand = true;
+			notifyAll();
+			try
+			{
+				while (_demand && !_done)
+					wait();
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				run();
+				throw new InternalReasonerException(e);
+			}
+
+			if (_error instanceof RuntimeException)
+				throw (RuntimeException) _error;
+			else
+				if (_error instanceof Error)
+					throw (Error) _error;
+				else
+					if (_error != null)
+						throw new InternalReasonerException(_error);
+
+			if (_chunk.isEmpty())
+				return _done ? null : Collections.emptyList();
+
+			final List<ResultBinding> chunk = _chunk;
+			_chunk = new ArrayList<>();
+			return chunk;
+		}
+
+		/**
+		 * Cancels the producer, called by the cleaner.
+		 */
+		@Override
+		public synchronized void run()
+		{
+			_cancelled = true;
+			if (_thread == null)
+				_done = true;
+			notifyAll();
+		}
+
+		private void produce()
+		{
+			try
+			{
+				_producer.accept(this::offer);
+			}
+			catch (final CancellationException e)
+			{
+				// the reader is gone
+			}
+			catch (final Throwable e)
+			{
+				synchronized (this)
+				{
+					_error = e;
+				}
+			}
+			finally
+			{
+				synchronized (this)
+				{
+					_done = true;
+					_demand = false;
+					notifyAll();
+				}
+			}
+		}
+
+		private boolean offer(final ResultBinding binding)
+		{
+			final ResultBinding compact = QueryResultImpl.process(_query, new ArrayResultBinding(_vars, binding));
+			if (_seen != null && !_seen.add(compact))
+				return false;
+
+			synchronized (this)
+			{
+				if (_cancelled)
+					throw new CancellationException();
+
+				_chunk.add(compact);
+				if (_chunk.size() >= _chunkSize)
+				{
+					_chunkSize = Math.min(_chunkSize * 2, _maxChunkSize);
+					_demand = false;
+					notifyAll();
+					try
+					{
+						while (!_demand && !_cancelled)
+							wait();
+					}
+					catch (final InterruptedException e)
+					{
+						_cancelled = true;
+					}
+
+					if (_cancelled)
+						throw new CancellationException();
+				}
+			}
+
+			return true;
+		}
+	}
+}
@@ -103,6 +103,7 @@ import openllet.aterm.pure.owl.FunType;
 import openllet.aterm.pure.owl.FunValue;
 import openllet.aterm.pure.owl.FunVar;
 import openllet.atom.OpenError;
+import openllet.shared.hash.ConcurrentSharedObjectFactory;
 import openllet.shared.hash.SharedObject;
 import openllet.shared.hash.SharedObjectFactory;
 
@@ -113,8 +114,15 @@ public class PureFactory extends SharedObjectFactory implements ATermFactory
 	 */
 	public final static int FIX_POINT = 240146486;
 
+	/**
+	 * System property that selects the {@link ConcurrentSharedObjectFactory} for the factories built with the default constructor.
+	 */
+	public final static String CONCURRENT_FACTORY_PROPERTY = "openllet.aterm.concurrentFactory";
+
 	private final ATermList _empty;
 
+	private final SharedObjectFactory _table;
+
 	private static boolean isBase64(final int c)
 	{
 		return Character.isLetterOrDigit(c) || c == '+' || c == '/';
@@ -137,8 +145,24 @@ public class PureFactory extends SharedObjectFactory implements ATermFactory
 		return size;
 	}
 
+	/**
+	 * The terms are kept by a {@link ConcurrentSharedObjectFactory} when the system property {@value #CONCURRENT_FACTORY_PROPERTY} is true, by a
+	 * {@link SharedObjectFactory} otherwise.
+	 */
 	public PureFactory()
 	{
+		this(Boolean.getBoolean(CONCURRENT_FACTORY_PROPERTY) ? new ConcurrentSharedObjectFactory() : new SharedObjectFactory());
+	}
+
+	/**
+	 * @param table the factory that keeps the unique instance of each term, for example a {@link ConcurrentSharedObjectFactory} when terms are built from
+	 *            many threads.
+	 */
+	public PureFactory(final SharedObjectFactory table)
+	{
+		super(false);
+		_table = table;
+
 		final ATermListImpl protoList = new ATermListImpl(this);
 
 		protoList.init(FIX_POINT, null, null);
@@ -146,6 +170,30 @@ public class PureFactory extends SharedObjectFactory implements ATermFactory
 		((ATermListImpl) _empty).init(FIX_POINT, null, null);
 	}
 
+	@Override
+	public <T extends SharedObject> T build(final T prototype)
+	{
+		return _table.build(prototype);
+	}
+
+	@Override
+	public boolean contains(final SharedObject object)
+	{
+		return _table.contains(object);
+	}
+
+	@Override
+	public void cleanup()
+	{
+		_table.cleanup();
+	}
+
+	@Override
+	public String toString()
+	{
+		return _table.toString();
+	}
+
 	@Override
 	public ATermList makeList()
 	{
@@ -12,7 +12,7 @@ public class FunInverseProperty extends AFunOwl
 	@Override
 	public int getArity()
 	{
-		return 1;
+		return 2;
 	}
 
 	@Override
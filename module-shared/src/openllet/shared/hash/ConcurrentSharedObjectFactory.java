@@ -0,0 +1,347 @@
+package openllet.shared.hash;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import openllet.atom.OpenError;
+
+/**
+ * Alternative to the {@link SharedObjectFactory} for the applications that build objects from many threads. The lookups never take a lock : a lock is only
+ * taken, on a single segment, when the object is not found and must be added. The entries whose object has been garbage collected are enqueued by the garbage
+ * collector in a {@link ReferenceQueue} and removed by the next insertion in their segment, so there is neither finalizer nor full scan of the segments. The
+ * number of segments grows with the number of processors and the size of the heap.
+ */
+public class ConcurrentSharedObjectFactory extends SharedObjectFactory
+{
+	private final static int MIN_NR_OF_SEGMENTS_BITSIZE = 5;
+	private final static int MAX_NR_OF_SEGMENTS_BITSIZE = 10;
+	private final static long HEAP_PER_SEGMENT = 32L << 20;
+
+	private final int _segmentsBitSize;
+	private final Segment[] _segments;
+
+	/**
+	 * Creates a factory whose number of segments depends on the number of available processors and on the maximum heap size.
+	 */
+	public ConcurrentSharedObjectFactory()
+	{
+		this(defaultSegmentsBitSize());
+	}
+
+	/**
+	 * @param segmentsBitSize the factory has 2^segmentsBitSize segments.
+	 */
+	public ConcurrentSharedObjectFactory(final int segmentsBitSize)
+	{
+		super(false);
+
+		if (segmentsBitSize < 0 || segmentsBitSize > MAX_NR_OF_SEGMENTS_BITSIZE)
+			throw new IllegalArgumentException("The number of segments must be between 1 and 2^" + MAX_NR_OF_SEGMENTS_BITSIZE + ".");
+
+		_segmentsBitSize = segmentsBitSize;
+		_segments = new Segment[1 << segmentsBitSize];
+		for (int i = _segments.length - 1; i >= 0; i--)
+			_segments[i] = new Segment(i, 32 - segmentsBitSize);
+	}
+
+	private static int defaultSegmentsBitSize()
+	{
+		final long bySize = Runtime.getRuntime().maxMemory() / HEAP_PER_SEGMENT;
+		final long byThreads = Runtime.getRuntime().availableProcessors() * 8L;
+		final int bits = 64 - Long.numberOfLeadingZeros(Math.max(bySize, byThreads) - 1);
+
+		return Math.max(MIN_NR_OF_SEGMENTS_BITSIZE, Math.min(MAX_NR_OF_SEGMENTS_BITSIZE, bits));
+	}
+
+	private Segment segment(final int hash)
+	{
+		return _segmentsBitSize == 0 ? _segments[0] : _segments[hash >>> 32 - _segmentsBitSize];
+	}
+
+	/**
+	 * Removes the entries whose object has been garbage collected.
+	 */
+	@Override
+	public void cleanup()
+	{
+		for (final Segment segment : _segments)
+			synchronized (segment)
+			{
+				segment.expunge();
+			}
+	}
+
+	/**
+	 * Returns statistics.
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString()
+	{
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < _segments.length; i++)
+		{
+			sb.append("Segment ");
+			sb.append(i);
+			sb.append(" | ");
+			sb.append(_segments[i].toString());
+			sb.append("\n");
+		}
+		return sb.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends SharedObject> T build(final T prototype)
+	{
+		final int hash = prototype.hashCode();
+		return (T) segment(hash).get(prototype, hash);
+	}
+
+	@Override
+	public boolean contains(final SharedObject object)
+	{
+		final int hash = object.hashCode();
+		return segment(hash).contains(object, hash);
+	}
+
+	/**
+	 * A segment is a hashtable that represents a certain part of the 'hashset'. Its buckets are only modified while holding the lock of the segment, and the
+	 * modifications are published by the volatile write of the table (or of the next field of an entry), so the readers can walk a bucket without lock. A reader
+	 * that walks a bucket during a rehash may miss an entry, that is why a miss is checked again with the lock.
+	 */
+	private final static class Segment
+	{
+		private final static int DEFAULT_SEGMENT_BITSIZE = 5;
+		private final static float DEFAULT_LOAD_FACTOR = 2f;
+
+		private final ReferenceQueue<SharedObject> _queue = new ReferenceQueue<>();
+
+		private volatile Entry[] _entries;
+
+		private final int _maxBitSize;
+		private int _bitSize;
+		private int _threshold;
+		private int _load;
+
+		private final int _segmentID;
+
+		private int[] _freeIDs;
+		private int _freeIDsIndex;
+		private int _nextFreeID;
+		private final int _maxFreeIDPlusOne;
+
+		public Segment(final int segmentID, final int maxBitSize)
+		{
+			_segmentID = segmentID;
+			_maxBitSize = maxBitSize;
+
+			_bitSize = Math.min(DEFAULT_SEGMENT_BITSIZE, maxBitSize);
+			_entries = new Entry[1 << _bitSize];
+			_threshold = (int) (_entries.length * DEFAULT_LOAD_FACTOR);
+			_load = 0;
+
+			_freeIDs = new int[32];
+			_freeIDsIndex = 0;
+			_nextFreeID = maxBitSize == 32 ? 0 : segmentID << maxBitSize;
+			_maxFreeIDPlusOne = maxBitSize == 32 ? -1 : segmentID + 1 << maxBitSize;
+		}
+
+		/**
+		 * Removes from the buckets the entries enqueued by the garbage collector. Must be called with the lock of the segment.
+		 */
+		public void expunge()
+		{
+			Reference<? extends SharedObject> ref;
+			while ((ref = _queue.poll()) != null)
+				remove((Entry) ref);
+		}
+
+		private void remove(final Entry entry)
+		{
+			final Entry[] table = _entries;
+			final int position = entry._hash & table.length - 1;
+
+			Entry previous = null;
+			for (Entry e = table[position]; e != null; e = e._next)
+			{
+				if (e == entry)
+				{
+					if (previous == null)
+						table[position] = e._next;
+					else
+						previous._next = e._next;
+
+					_load--;
+					if (e instanceof EntryWithID)
+						releaseID(((EntryWithID) e)._id);
+
+					_entries = table; // Volatile write, publish the change of the bucket.
+					return;
+				}
+				previous = e;
+			}
+			// Not found : the entry has already been dropped by a rehash.
+		}
+
+		/**
+		 * Doubles the number of buckets. The cleared entries are dropped (and their id released), they will not be found when they are dequeued.
+		 */
+		private void rehash()
+		{
+			final int nrOfEntries = 1 << ++_bitSize;
+			final int newHashMask = nrOfEntries - 1;
+
+			final Entry[] oldEntries = _entries;
+			final Entry[] newEntries = new Entry[nrOfEntries];
+
+			// The entries are copied, so the readers that walk the old table still see complete buckets.
+			for (int i = oldEntries.length - 1; i >= 0; i--)
+				for (Entry e = oldEntries[i]; e != null; e = e._next)
+				{
+					final SharedObject object = e.get();
+					if (object == null)
+					{
+						_load--;
+						if (e instanceof EntryWithID)
+							releaseID(((EntryWithID) e)._id);
+						continue;
+					}
+
+					final int position = e._hash & newHashMask;
+					newEntries[position] = e instanceof EntryWithID ? //
+							new EntryWithID(newEntries[position], (SharedObjectWithID) object, e._hash, ((EntryWithID) e)._id, _queue) : //
+							new Entry(newEntries[position], object, e._hash, _queue);
+					e.clear(); // The old entry must not be enqueued : it would release the id of the copy.
+				}
+
+			_threshold <<= 1;
+			_entries = newEntries; // Volatile write. Creates happens-before edge with the above changes.
+		}
+
+		private static SharedObject find(final Entry[] table, final SharedObject prototype, final int hash)
+		{
+			for (Entry e = table[hash & table.length - 1]; e != null; e = e._next)
+				if (hash == e._hash)
+				{
+					final SharedObject object = e.get();
+					if (object != null && prototype.equivalent(object))
+						return object;
+				}
+			return null;
+		}
+
+		private static boolean containsReference(final Entry[] table, final SharedObject object, final int hash)
+		{
+			for (Entry e = table[hash & table.length - 1]; e != null; e = e._next)
+				if (e.get() == object)
+					return true;
+			return false;
+		}
+
+		public boolean contains(final SharedObject object, final int hash)
+		{
+			if (containsReference(_entries, object, hash))
+				return true;
+
+			synchronized (this)
+			{
+				return containsReference(_entries, object, hash);
+			}
+		}
+
+		public SharedObject get(final SharedObject prototype, final int hash)
+		{
+			final SharedObject found = find(_entries, prototype, hash);
+			if (found != null)
+				return found;
+
+			synchronized (this)
+			{
+				expunge();
+
+				final SharedObject object = find(_entries, prototype, hash);
+				if (object != null)
+					return object;
+
+				if (_load > _threshold && _bitSize < _maxBitSize)
+					rehash();
+
+				final SharedObject result = prototype.duplicate();
+
+				final Entry[] table = _entries;
+				final int position = hash & table.length - 1;
+				if (result instanceof SharedObjectWithID)
+				{
+					final SharedObjectWithID sharedObjectWithID = (SharedObjectWithID) result;
+					final int id = generateID();
+					sharedObjectWithID.setUniqueIdentifier(id);
+					table[position] = new EntryWithID(table[position], sharedObjectWithID, hash, id, _queue);
+				}
+				else
+					table[position] = new Entry(table[position], result, hash, _queue);
+				_load++;
+
+				_entries = table; // Create a happens-before edge for the added entry, to ensure visibility.
+				return result;
+			}
+		}
+
+		private int generateID()
+		{
+			if (_freeIDsIndex > 0)
+				return _freeIDs[--_freeIDsIndex];
+
+			if (_nextFreeID != _maxFreeIDPlusOne)
+				return _nextFreeID++;
+
+			throw new OpenError("No more unique identifiers available for segment(" + _segmentID + ").");
+		}
+
+		private void releaseID(final int id)
+		{
+			if (_freeIDsIndex == _freeIDs.length)
+			{
+				final int[] newFreeIds = new int[_freeIDs.length << 1];
+				System.arraycopy(_freeIDs, 0, newFreeIds, 0, _freeIDs.length);
+				_freeIDs = newFreeIds;
+			}
+
+			_freeIDs[_freeIDsIndex++] = id;
+		}
+
+		@Override
+		public synchronized String toString()
+		{
+			return "Table size: " + _entries.length + ", Number of entries: " + _load + ", Threshold: " + _threshold + ", Free ids: " + _freeIDsIndex;
+		}
+
+		private static class Entry extends WeakReference<SharedObject>
+		{
+			public final int _hash;
+			public volatile Entry _next;
+
+			public Entry(final Entry next, final SharedObject sharedObject, final int hash, final ReferenceQueue<SharedObject> queue)
+			{
+				super(sharedObject, queue);
+
+				_next = next;
+				_hash = hash;
+			}
+		}
+
+		private static class EntryWithID extends Entry
+		{
+			public final int _id;
+
+			public EntryWithID(final Entry next, final SharedObjectWithID sharedObjectWithID, final int hash, final int id, final ReferenceQueue<SharedObject> queue)
+			{
+				super(next, sharedObjectWithID, hash, queue);
+
+				_id = id;
+			}
+		}
+	}
+}
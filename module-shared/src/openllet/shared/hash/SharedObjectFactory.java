@@ -44,7 +44,15 @@ public class SharedObjectFactory
 	 */
 	public SharedObjectFactory()
 	{
-		_segments = new Segment[1 << DEFAULT_NR_OF_SEGMENTS_BITSIZE];
+		this(true);
+	}
+
+	/**
+	 * @param allocateSegments false for the subclasses that override {@link #build(SharedObject)} and {@link #contains(SharedObject)} with their own table.
+	 */
+	protected SharedObjectFactory(final boolean allocateSegments)
+	{
+		_segments = new Segment[allocateSegments ? 1 << DEFAULT_NR_OF_SEGMENTS_BITSIZE : 0];
 		for (int i = _segments.length - 1; i >= 0; i--)
 			_segments[i] = new Segment(i);
 	}
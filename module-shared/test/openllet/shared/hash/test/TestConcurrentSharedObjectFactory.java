@@ -0,0 +1,100 @@
+package openllet.shared.hash.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import openllet.aterm.ATerm;
+import openllet.aterm.ATermAppl;
+import openllet.aterm.pure.PureFactory;
+import openllet.shared.hash.ConcurrentSharedObjectFactory;
+import openllet.shared.hash.SharedObject;
+
+public class TestConcurrentSharedObjectFactory
+{
+	private PureFactory _factory;
+
+	@Before
+	public void setUp()
+	{
+		_factory = new PureFactory(new ConcurrentSharedObjectFactory(2));
+	}
+
+	private ATermAppl make(final int i)
+	{
+		return _factory.makeAppl(_factory.makeAFun("f", 1, false), _factory.makeAppl(_factory.makeAFun("a" + i, 0, false)));
+	}
+
+	@Test
+	public void testSharing()
+	{
+		final ATerm term = _factory.parse("line(box(rect(2), square(4, 3)), circle(6))");
+
+		assertSame(term, _factory.parse("line(box(rect(2), square(4, 3)), circle(6))"));
+		assertNotSame(term, _factory.parse("line(box(rect(2), square(4, 3)), circle(7))"));
+		assertTrue(_factory.contains((SharedObject) term));
+		assertTrue(!_factory.contains((SharedObject) new PureFactory().parse("line(box(rect(2), square(4, 3)), circle(6))")));
+	}
+
+	@Test
+	public void testUniqueIdentifiers()
+	{
+		final List<ATermAppl> terms = new ArrayList<>();
+		final Set<Integer> ids = new HashSet<>();
+		for (int i = 0; i < 10000; i++) // Enough to rehash the segments several times.
+		{
+			final ATermAppl term = make(i);
+			terms.add(term);
+			ids.add(term.getUniqueIdentifier());
+		}
+
+		assertEquals(terms.size(), ids.size());
+		for (int i = 0; i < terms.size(); i++)
+			assertSame(terms.get(i), make(i));
+	}
+
+	@Test
+	public void testConcurrentBuild() throws Exception
+	{
+		final int threads = 8;
+		final int size = 5000;
+
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try
+		{
+			final List<Future<ATermAppl[]>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++)
+				futures.add(executor.submit(() ->
+				{
+					final ATermAppl[] terms = new ATermAppl[size];
+					for (int i = 0; i < size; i++)
+						terms[i] = make(i);
+					return terms;
+				}));
+
+			final ATermAppl[] expected = futures.get(0).get();
+			for (final Future<ATermAppl[]> future : futures)
+			{
+				final ATermAppl[] terms = future.get();
+				for (int i = 0; i < size; i++)
+					assertSame(expected[i], terms[i]);
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+	}
+}
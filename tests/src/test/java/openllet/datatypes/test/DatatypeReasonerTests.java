@@ -33,6 +33,7 @@ import static openllet.core.utils.TermFactory.or;
 import static openllet.core.utils.TermFactory.restrict;
 import static openllet.core.utils.TermFactory.term;
 import static openllet.core.utils.TermFactory.value;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -51,6 +52,8 @@ import org.junit.Test;
 import openllet.aterm.ATermAppl;
 import openllet.core.DependencySet;
 import openllet.core.KnowledgeBaseImpl;
+import openllet.core.OpenlletOptions;
+import openllet.core.OpenlletOptions.UndefinedDatatypeHandling;
 import openllet.core.boxes.abox.ABoxImpl;
 import openllet.core.boxes.abox.Literal;
 import openllet.core.datatypes.DatatypeReasoner;
@@ -770,4 +773,81 @@ public class DatatypeReasonerTests
 		assertTrue(reasoner.isSatisfiable(Collections.singleton(d), reasoner.getValue(literal("1956-06-25T04:00:00-05:00", DATE_TIME))));
 		assertFalse(reasoner.isSatisfiable(Collections.singleton(d), reasoner.getValue(literal("1956-06-25T10:00:00+01:00", DATE_TIME))));
 	}
+
+	@Test
+	public void cachedSatisfiability() throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
+		final DatatypeReasonerImpl impl = (DatatypeReasonerImpl) reasoner;
+		final ATermAppl low = restrict(INTEGER, minInclusive(literal(1)), maxInclusive(literal(3)));
+		final ATermAppl high = restrict(INTEGER, minInclusive(literal(4)), maxInclusive(literal(6)));
+		final ATermAppl middle = restrict(INTEGER, minInclusive(literal(3)), maxInclusive(literal(5)));
+
+		assertFalse(reasoner.isSatisfiable(Arrays.asList(low, high)));
+		assertTrue(reasoner.isSatisfiable(Arrays.asList(low, middle)));
+
+		final long hits = impl.getCacheHits();
+		assertFalse(reasoner.isSatisfiable(Arrays.asList(low, high)));
+		assertTrue(reasoner.isSatisfiable(Arrays.asList(low, middle)));
+		assertEquals(hits + 2, impl.getCacheHits());
+
+		// the parsed data ranges are shared by other conjunctions
+		final long misses = impl.getCacheMisses();
+		assertTrue(reasoner.isSatisfiable(Arrays.asList(high, middle)));
+		assertTrue(impl.getCacheHits() > hits + 2);
+		assertTrue(impl.getCacheMisses() > misses);
+	}
+
+	@Test
+	public void uncachedSatisfiability() throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
+		final int size = OpenlletOptions.DATATYPE_CACHE_SIZE;
+		OpenlletOptions.DATATYPE_CACHE_SIZE = 0;
+		try
+		{
+			final DatatypeReasonerImpl impl = (DatatypeReasonerImpl) reasoner;
+			final ATermAppl low = restrict(INTEGER, minInclusive(literal(1)), maxInclusive(literal(3)));
+			final ATermAppl high = restrict(INTEGER, minInclusive(literal(4)), maxInclusive(literal(6)));
+
+			assertFalse(reasoner.isSatisfiable(Arrays.asList(low, high)));
+			assertFalse(reasoner.isSatisfiable(Arrays.asList(low, high)));
+			assertEquals(0, impl.getCacheHits());
+		}
+		finally
+		{
+			OpenlletOptions.DATATYPE_CACHE_SIZE = size;
+		}
+	}
+
+	@Test
+	public void definitionInvalidatesCache() throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
+		final ATermAppl name = term("fiveToSix");
+		final Collection<ATermAppl> ranges = Arrays.asList(name, restrict(INTEGER, minInclusive(literal(5)), maxInclusive(literal(8))));
+
+		// an undefined datatype is a string datatype, disjoint from the integers
+		assertFalse(reasoner.isSatisfiable(ranges));
+
+		assertTrue(reasoner.define(name, restrict(INTEGER, minInclusive(literal(5)), maxInclusive(literal(6)))));
+		assertTrue(reasoner.isSatisfiable(ranges));
+	}
+
+	@Test
+	public void undefinedDatatypeHandlingInvalidatesCache() throws InvalidConstrainingFacetException, InvalidLiteralException, UnrecognizedDatatypeException
+	{
+		final UndefinedDatatypeHandling handling = OpenlletOptions.UNDEFINED_DATATYPE_HANDLING;
+		try
+		{
+			final Collection<ATermAppl> ranges = Collections.singleton(term("undefined"));
+
+			OpenlletOptions.UNDEFINED_DATATYPE_HANDLING = UndefinedDatatypeHandling.INFINITE_STRING;
+			assertTrue(reasoner.isSatisfiable(ranges));
+
+			OpenlletOptions.UNDEFINED_DATATYPE_HANDLING = UndefinedDatatypeHandling.EMPTY;
+			assertFalse(reasoner.isSatisfiable(ranges));
+		}
+		finally
+		{
+			OpenlletOptions.UNDEFINED_DATATYPE_HANDLING = handling;
+		}
+	}
 }
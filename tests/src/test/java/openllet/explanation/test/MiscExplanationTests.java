@@ -14,6 +14,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
@@ -34,12 +35,16 @@ import org.semanticweb.owlapi.model.OWLIndividual;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 import org.semanticweb.owlapi.model.OWLOntology;
 
+import com.clarkparsia.owlapi.explanation.HSTExplanationGenerator;
+
 import openllet.core.OpenlletOptions;
 import openllet.core.utils.SetUtils;
 import openllet.jena.PelletInfGraph;
 import openllet.owlapi.OWL;
 import openllet.owlapi.OpenlletReasoner;
 import openllet.owlapi.OpenlletReasonerFactory;
+import openllet.owlapi.explanation.GlassBoxExplanation;
+import openllet.owlapi.explanation.JustificationCache;
 import openllet.owlapi.explanation.PelletExplanation;
 
 /**
@@ -112,6 +117,112 @@ public class MiscExplanationTests
 		assertEquals(expected, actual);
 	}
 
+	@Test
+	public void testParallelExplanations()
+	{
+		final OWLClass A = OWL.Class("A");
+		final OWLClass B = OWL.Class("B");
+		final OWLClass C = OWL.Class("C");
+		final OWLClass D = OWL.Class("D");
+
+		final OWLAxiom[] axioms = { //
+				OWL.subClassOf(A, B), //
+				OWL.subClassOf(A, C), //
+				OWL.subClassOf(A, D), //
+				OWL.disjointClasses(B, C), //
+				OWL.disjointClasses(C, D), //
+				OWL.disjointClasses(B, D) //
+		};
+
+		final Set<Set<OWLAxiom>> expected = SetUtils.create( //
+				SetUtils.create(axioms[0], axioms[1], axioms[3]), //
+				SetUtils.create(axioms[1], axioms[2], axioms[4]), //
+				SetUtils.create(axioms[0], axioms[2], axioms[5]));
+
+		final int oldThreads = OpenlletOptions.EXPLANATION_THREADS;
+		try
+		{
+			OpenlletOptions.EXPLANATION_THREADS = 4;
+
+			final OWLOntology ontology = OWL.Ontology(axioms);
+			final OpenlletReasoner reasoner = OpenlletReasonerFactory.getInstance().createReasoner(ontology);
+			final PelletExplanation explain = new PelletExplanation(reasoner);
+
+			assertEquals(expected, explain.getUnsatisfiableExplanations(A));
+
+			final Set<Set<OWLAxiom>> actual = explain.getUnsatisfiableExplanations(A, 2);
+			assertEquals(2, actual.size());
+			assertTrue(expected.containsAll(actual));
+		}
+		finally
+		{
+			OpenlletOptions.EXPLANATION_THREADS = oldThreads;
+		}
+	}
+
+	@Test
+	public void testCachedExplanationAfterChange()
+	{
+		final OWLClass A = OWL.Class("A");
+		final OWLClass B = OWL.Class("B");
+		final OWLClass C = OWL.Class("C");
+		final OWLClass D = OWL.Class("D");
+		final OWLClass E = OWL.Class("E");
+
+		final OWLAxiom[] axioms = { //
+				OWL.subClassOf(A, B), //
+				OWL.subClassOf(B, C), //
+				OWL.subClassOf(C, D), //
+				OWL.disjointClasses(A, D) //
+		};
+
+		final OWLOntology ontology = OWL.Ontology(axioms);
+		final OpenlletReasoner reasoner = OpenlletReasonerFactory.getInstance().createReasoner(ontology);
+		final GlassBoxExplanation glassBox = new GlassBoxExplanation(reasoner);
+		final HSTExplanationGenerator explain = new HSTExplanationGenerator(glassBox);
+		final JustificationCache cache = glassBox.getJustificationCache();
+
+		final Set<OWLAxiom> expected = SetUtils.create(axioms);
+		assertEquals(expected, explain.getExplanation(A));
+		assertEquals(0, cache.getHits());
+
+		// An unrelated change keeps the justification
+		ontology.add(OWL.subClassOf(E, OWL.Thing));
+		reasoner.flush();
+		assertEquals(expected, explain.getExplanation(A));
+		assertEquals(1, cache.getHits());
+
+		// The removal of one of its axioms drops it
+		final OWLAxiom shortcut = OWL.subClassOf(A, C);
+		ontology.add(shortcut);
+		ontology.remove(axioms[1]);
+		reasoner.flush();
+		assertEquals(SetUtils.create(shortcut, axioms[2], axioms[3]), explain.getExplanation(A));
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void testCachedExplanationAfterAnnotatedRemoval()
+	{
+		final OWLClass A = OWL.Class("A");
+		final OWLClass B = OWL.Class("B");
+		final OWLClass C = OWL.Class("C");
+
+		final OWLAxiom annotated = OWL.subClassOf(B, C).getAnnotatedAxiom(Collections.singleton(OWL._factory.getRDFSComment("B is a C")));
+		final OWLOntology ontology = OWL.Ontology(OWL.subClassOf(A, B), annotated, OWL.disjointClasses(A, C));
+		final OpenlletReasoner reasoner = OpenlletReasonerFactory.getInstance().createReasoner(ontology);
+		final GlassBoxExplanation glassBox = new GlassBoxExplanation(reasoner);
+		final HSTExplanationGenerator explain = new HSTExplanationGenerator(glassBox);
+
+		// The justification holds the axiom without its annotation
+		assertEquals(SetUtils.create(OWL.subClassOf(A, B), OWL.subClassOf(B, C), OWL.disjointClasses(A, C)), explain.getExplanation(A));
+
+		ontology.remove(annotated);
+		reasoner.flush();
+		assertTrue(explain.getExplanation(A).isEmpty());
+		assertEquals(0, glassBox.getJustificationCache().getHits());
+	}
+
 	@Test
 	public void testPunning1() throws Exception
 	{
@@ -16,6 +16,7 @@ import static openllet.owlapi.OWL.domain;
 import static openllet.owlapi.OWL.equivalentClasses;
 import static openllet.owlapi.OWL.label;
 import static openllet.owlapi.OWL.not;
+import static openllet.owlapi.OWL.oneOf;
 import static openllet.owlapi.OWL.or;
 import static openllet.owlapi.OWL.propertyAssertion;
 import static openllet.owlapi.OWL.range;
@@ -56,6 +57,12 @@ public abstract class AbstractIncrementalClassifierTest extends AbstractModulari
 		TestUtils.runUpdateTest(_ontology, createModuleExtractor(), Arrays.asList(additions), Arrays.asList(deletions));
 	}
 
+	private void concurrentUpdateTest(final OWLAxiom[] axioms, final OWLAxiom[] additions, final OWLAxiom[] deletions)
+	{
+		createOntology(axioms);
+		TestUtils.runConcurrentUpdateTest(_ontology, createModuleExtractor(), Arrays.asList(additions), Arrays.asList(deletions), 2);
+	}
+
 	private void disjointnessTest(final OWLAxiom[] axioms)
 	{
 		createOntology(axioms);
@@ -120,6 +127,37 @@ public abstract class AbstractIncrementalClassifierTest extends AbstractModulari
 		updateTest(axioms, additions, deletions);
 	}
 
+	@Test
+	public void concurrentUnrelatedModulesTest()
+	{
+		final OWLAxiom[] axioms = { subClassOf(_A, _B), subClassOf(_C, _D), subClassOf(_E, Thing), subClassOf(_G, some(_q, _H)) };
+		final OWLAxiom[] additions = { subClassOf(_B, _E), subClassOf(_D, not(_C)), subClassOf(_F, some(_p, _C)), subClassOf(_H, _G) };
+		final OWLAxiom[] deletions = { subClassOf(_A, _B) };
+
+		concurrentUpdateTest(axioms, additions, deletions);
+	}
+
+	@Test
+	public void concurrentGlobalAxiomTest()
+	{
+		// every individual is a, so E can't be both disjoint from F and related to an F, although the parts share no entity
+		final OWLAxiom[] axioms = { subClassOf(Thing, oneOf(_a)), subClassOf(_A, _B), disjointClasses(_E, _F) };
+		final OWLAxiom[] additions = { subClassOf(_E, some(_p, _F)), subClassOf(_C, _D) };
+		final OWLAxiom[] deletions = { subClassOf(_A, _B) };
+
+		concurrentUpdateTest(axioms, additions, deletions);
+	}
+
+	@Test
+	public void concurrentSharedModuleTest()
+	{
+		final OWLAxiom[] axioms = { subClassOf(_A, Thing), equivalentClasses(_A, some(_p, _C)), equivalentClasses(_B, some(_p, _D)), subClassOf(_C, Thing), subClassOf(_D, _C), subClassOf(_E, Thing), subClassOf(_F, _E) };
+		final OWLAxiom[] additions = { subClassOf(_G, _F), disjointClasses(_E, _H) };
+		final OWLAxiom[] deletions = { subClassOf(_D, _C) };
+
+		concurrentUpdateTest(axioms, additions, deletions);
+	}
+
 	@Test
 	public void leafAddTest()
 	{
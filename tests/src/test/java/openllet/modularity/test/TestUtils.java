@@ -301,7 +301,7 @@ public class TestUtils
 
 	public static void runDisjointnessUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions)
 	{
-		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertDisjointnessEquals);
+		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertDisjointnessEquals, 1);
 	}
 
 	public static void runInstancesTest(final OWLOntology ontology, final ModuleExtractor modExtractor)
@@ -311,7 +311,7 @@ public class TestUtils
 
 	public static void runInstancesUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions)
 	{
-		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertInstancesEquals);
+		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertInstancesEquals, 1);
 	}
 
 	public static void runTypesTest(final OWLOntology ontology, final ModuleExtractor modExtractor)
@@ -321,12 +321,17 @@ public class TestUtils
 
 	public static void runTypesUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions)
 	{
-		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertTypesEquals);
+		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertTypesEquals, 1);
 	}
 
 	public static void runUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions)
 	{
-		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertClassificationEquals);
+		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertClassificationEquals, 1);
+	}
+
+	public static void runConcurrentUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions, final int threads)
+	{
+		runComparisonUpdateTest(ontology, modExtractor, additions, deletions, TestUtils::assertClassificationEquals, threads);
 	}
 
 	private static void runComparisonTest(final OWLOntology ontology, final ModuleExtractor modExtractor, final ReasonerComparisonMethod comparisonMethod)
@@ -344,10 +349,11 @@ public class TestUtils
 	}
 
 	private static void runComparisonUpdateTest(final OWLOntology ontology, final ModuleExtractor modExtractor, //
-			final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions, final ReasonerComparisonMethod comparisonMethod)
+			final Collection<OWLAxiom> additions, final Collection<OWLAxiom> deletions, final ReasonerComparisonMethod comparisonMethod, final int threads)
 	{
 		final OpenlletReasoner unified = OpenlletReasonerFactory.getInstance().createNonBufferingReasoner(ontology);
 		final IncrementalClassifier modular = PelletIncremantalReasonerFactory.getInstance().createReasoner(ontology, modExtractor);
+		modular.setReclassificationThreads(threads);
 
 		OpenlletOptions.USE_CLASSIFICATION_MONITOR = OpenlletOptions.MonitorType.CONSOLE;
 		modular.classify();
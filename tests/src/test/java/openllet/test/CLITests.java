@@ -4,6 +4,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
 import java.util.Arrays;
 
 import org.junit.Test;
@@ -186,6 +187,29 @@ public class CLITests
 		}, fileIRI("test/data/misc/family.owl"));
 	}
 
+	@Test
+	public void extractToFile() throws IOException
+	{
+		final File file = File.createTempFile("inferences", ".ttl");
+		try
+		{
+			runAppSimple(new CLIMaker()
+			{
+				@Override
+				protected OpenlletCmdApp create()
+				{
+					return new OpenlletExtractInferences();
+				}
+			}, "-o", "Turtle", "--output-file", file.getPath(), fileIRI("test/data/misc/family.owl"));
+
+			assertTrue(file.length() > 0);
+		}
+		finally
+		{
+			file.delete();
+		}
+	}
+
 	@Test
 	public void info()
 	{
@@ -0,0 +1,193 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test;
+
+import static openllet.core.utils.TermFactory.all;
+import static openllet.core.utils.TermFactory.literal;
+import static openllet.core.utils.TermFactory.or;
+import static openllet.core.utils.TermFactory.some;
+import static openllet.core.utils.TermFactory.term;
+import static openllet.core.utils.TermFactory.value;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import junit.framework.JUnit4TestAdapter;
+import openllet.aterm.ATermAppl;
+import openllet.core.OpenlletOptions;
+import openllet.core.OpenlletOptions.InstanceRetrievalMethod;
+import openllet.core.rules.model.AtomIVariable;
+import openllet.core.rules.model.ClassAtom;
+import openllet.core.rules.model.DifferentIndividualsAtom;
+import openllet.core.rules.model.IndividualPropertyAtom;
+import openllet.core.rules.model.Rule;
+
+public class InstanceRetrievalTests extends AbstractKBTests
+{
+	public static junit.framework.Test suite()
+	{
+		return new JUnit4TestAdapter(InstanceRetrievalTests.class);
+	}
+
+	private InstanceRetrievalMethod _instanceRetrieval;
+	private int _batchSize;
+	private int _threads;
+
+	@Before
+	public void saveOptions()
+	{
+		_instanceRetrieval = OpenlletOptions.INSTANCE_RETRIEVAL;
+		_batchSize = OpenlletOptions.INSTANCE_RETRIEVAL_BATCH_SIZE;
+		_threads = OpenlletOptions.INSTANCE_RETRIEVAL_THREADS;
+	}
+
+	@After
+	public void restoreOptions()
+	{
+		OpenlletOptions.INSTANCE_RETRIEVAL = _instanceRetrieval;
+		OpenlletOptions.INSTANCE_RETRIEVAL_BATCH_SIZE = _batchSize;
+		OpenlletOptions.INSTANCE_RETRIEVAL_THREADS = _threads;
+	}
+
+	private ATermAppl[] chain(final int n)
+	{
+		final ATermAppl[] inds = new ATermAppl[n];
+		for (int i = 0; i < n; i++)
+		{
+			inds[i] = term("x" + i);
+			_kb.addIndividual(inds[i]);
+			if (i > 0)
+				_kb.addPropertyValue(_p, inds[i - 1], inds[i]);
+		}
+		return inds;
+	}
+
+	@Test
+	public void modelDiscardsOtherCandidates()
+	{
+		classes(_A, _B);
+		objectProperties(_p);
+
+		final ATermAppl[] inds = chain(10);
+
+		_kb.addDisjointClass(_A, _B);
+		_kb.addSubClass(_A, all(_p, _A));
+		_kb.addSubClass(_B, all(_p, _B));
+		for (final ATermAppl ind : inds)
+			_kb.addType(ind, or(_A, _B));
+
+		OpenlletOptions.INSTANCE_RETRIEVAL = InstanceRetrievalMethod.BATCHED;
+		OpenlletOptions.INSTANCE_RETRIEVAL_BATCH_SIZE = 1;
+
+		assertTrue(_kb.isConsistent());
+		final long saved = _kb.getABox().getStats()._instanceChecksSaved;
+
+		assertEquals(Collections.emptySet(), _kb.getInstances(_A));
+		assertEquals(Collections.emptySet(), _kb.getInstances(_B));
+		// A single check of one candidate builds a model where none of the chain is in the class that was not chosen in the pseudo model.
+		assertEquals(inds.length - 1, _kb.getABox().getStats()._instanceChecksSaved - saved);
+
+		assertEquals(new HashSet<>(Arrays.asList(inds)), _kb.getInstances(or(_A, _B)));
+	}
+
+	@Test
+	public void disjunctionOfInstances()
+	{
+		classes(_A, _B);
+		objectProperties(_p);
+
+		final ATermAppl[] inds = new ATermAppl[16];
+		for (int i = 0; i < inds.length; i++)
+		{
+			inds[i] = term("x" + i);
+			_kb.addIndividual(inds[i]);
+		}
+		_kb.addPropertyValue(_p, inds[0], inds[1]);
+		_kb.addPropertyValue(_p, inds[2], inds[0]);
+		_kb.addPropertyValue(_p, inds[3], inds[0]);
+		_kb.addDifferent(inds[1], inds[3]);
+		_kb.addType(inds[2], _B);
+
+		final AtomIVariable x = new AtomIVariable("x");
+		final AtomIVariable y = new AtomIVariable("y");
+		_kb.addRule(new Rule(Arrays.asList(new ClassAtom(_A, x)), Arrays.asList(new IndividualPropertyAtom(_p, x, y), new DifferentIndividualsAtom(x, y))));
+		_kb.addRule(new Rule(Arrays.asList(new ClassAtom(_B, x)), Arrays.asList(new ClassAtom(_A, x))));
+
+		OpenlletOptions.INSTANCE_RETRIEVAL = InstanceRetrievalMethod.BATCHED;
+
+		assertTrue(_kb.isConsistent());
+
+		// x0 is not in A when it is the same as x1, a check of several candidates at once only shows that one of them is an instance, not which one.
+		final Set<ATermAppl> instances = _kb.getInstances(_B);
+		assertFalse(instances.contains(inds[0]));
+		for (final ATermAppl ind : instances)
+			assertTrue(ind.toString(), _kb.isType(ind, _B));
+	}
+
+	@Test
+	public void sameAnswersAsBinary()
+	{
+		classes(_A, _B, _C, _D);
+		objectProperties(_p, _q);
+		dataProperties(_r);
+
+		final ATermAppl[] inds = chain(12);
+
+		_kb.addSubClass(_A, or(_B, _C));
+		_kb.addSubClass(_B, _D);
+		_kb.addSubClass(_C, some(_q, _D));
+		_kb.addSubClass(some(_q, _D), _D);
+		_kb.addDomain(_r, _B);
+		for (int i = 0; i < inds.length; i++)
+		{
+			if (i % 2 == 0)
+				_kb.addType(inds[i], _A);
+			if (i % 3 == 0)
+				_kb.addType(inds[i], or(_B, value(_a)));
+			if (i % 4 == 0)
+				_kb.addPropertyValue(_r, inds[i], literal("v"));
+			if (i % 5 == 0)
+				_kb.addPropertyValue(_q, inds[i], inds[(i + 1) % inds.length]);
+		}
+		_kb.addIndividual(_a);
+		_kb.addType(_a, _C);
+
+		final ATermAppl[] classes = { _A, _B, _C, _D, some(_p, _D), value(_a), some(_q, _D) };
+
+		OpenlletOptions.INSTANCE_RETRIEVAL = InstanceRetrievalMethod.BINARY;
+		assertTrue(_kb.isConsistent());
+		final Set<?>[] expected = new Set<?>[classes.length + inds.length];
+		for (int i = 0; i < classes.length; i++)
+			expected[i] = _kb.getInstances(classes[i]);
+		for (int i = 0; i < inds.length; i++)
+			expected[classes.length + i] = _kb.getObjectPropertyValuesSet(_p, inds[i]);
+		final Set<ATermAppl> withValue = new HashSet<>(_kb.getIndividualsWithDataProperty(_r, literal("v")));
+
+		OpenlletOptions.INSTANCE_RETRIEVAL = InstanceRetrievalMethod.BATCHED;
+		for (final int batchSize : new int[] { 1, 3, 64 })
+			for (final int threads : new int[] { 1, 2 })
+			{
+				OpenlletOptions.INSTANCE_RETRIEVAL_BATCH_SIZE = batchSize;
+				OpenlletOptions.INSTANCE_RETRIEVAL_THREADS = threads;
+
+				for (int i = 0; i < classes.length; i++)
+					assertEquals(classes[i] + " " + batchSize + " " + threads, expected[i], _kb.getInstances(classes[i]));
+				for (int i = 0; i < inds.length; i++)
+					assertEquals(expected[classes.length + i], _kb.getObjectPropertyValuesSet(_p, inds[i]));
+				assertEquals(withValue, new HashSet<>(_kb.getIndividualsWithDataProperty(_r, literal("v"))));
+			}
+	}
+}
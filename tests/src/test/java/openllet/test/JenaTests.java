@@ -17,16 +17,20 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 import java.util.logging.Filter;
 import java.util.logging.Logger;
 
 import org.apache.jena.datatypes.TypeMapper;
+import org.apache.jena.graph.Graph;
 import org.apache.jena.graph.compose.Union;
 import org.apache.jena.ontology.AnnotationProperty;
 import org.apache.jena.ontology.DatatypeProperty;
@@ -51,6 +55,11 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.rdf.model.impl.StatementImpl;
 import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.sparql.graph.GraphFactory;
 import org.apache.jena.vocabulary.OWL;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
@@ -69,6 +78,7 @@ import openllet.core.datatypes.types.real.XSDDecimal;
 import openllet.core.utils.ATermUtils;
 import openllet.core.utils.PropertiesBuilder;
 import openllet.jena.ModelExtractor;
+import openllet.jena.ModelExtractor.StatementType;
 import openllet.jena.PelletInfGraph;
 import openllet.jena.PelletReasoner;
 import openllet.jena.PelletReasonerFactory;
@@ -3145,6 +3155,47 @@ public class JenaTests
 		assertTrue(inferences.contains(a, RDF.type, D));
 	}
 
+	@Test
+	public void testStreamingExtractor()
+	{
+		final String ns = "urn:test:";
+
+		final Model rawModel = ModelFactory.createDefaultModel();
+
+		final Resource C = rawModel.createResource(ns + "C");
+		final Resource D = rawModel.createResource(ns + "D");
+		final Resource a = rawModel.createResource(ns + "a");
+		final Property p = rawModel.createProperty(ns + "p");
+
+		rawModel.add(C, RDF.type, OWL.Class);
+		rawModel.add(D, RDF.type, OWL.Class);
+		rawModel.add(p, RDF.type, OWL.ObjectProperty);
+		rawModel.add(a, RDF.type, C);
+		rawModel.add(a, p, a);
+		rawModel.add(C, RDFS.subClassOf, D);
+
+		final OntModel model = ModelFactory.createOntologyModel(PelletReasonerFactory.THE_SPEC, rawModel);
+
+		final ModelExtractor extractor = new ModelExtractor(model);
+		extractor.setSelector(StatementType.ALL_STATEMENTS);
+		final Model expected = extractor.extractModel();
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		extractor.extractStatements(out, RDFFormat.NTRIPLES);
+
+		final Model streamed = ModelFactory.createDefaultModel();
+		RDFDataMgr.read(streamed, new ByteArrayInputStream(out.toByteArray()), Lang.NTRIPLES);
+
+		assertTrue(streamed.contains(a, RDF.type, D));
+		assertTrue(streamed.contains(a, p, a));
+		assertTrue(streamed.isIsomorphicWith(expected));
+
+		final Graph graph = GraphFactory.createDefaultGraph();
+		extractor.extractIndividualStatements(StreamRDFLib.graph(graph));
+		assertTrue(graph.contains(a.asNode(), RDF.type.asNode(), D.asNode()));
+		assertFalse(graph.contains(C.asNode(), RDFS.subClassOf.asNode(), D.asNode()));
+	}
+
 	@Test
 	public void testSubmodelUpdate1()
 	{
@@ -3399,4 +3450,79 @@ public class JenaTests
 		assertTrue(graph.isClassified());
 	}
 
+
+	private static OntModel loadConcurrently(final Model m, final int threads)
+	{
+		final Properties newOptions = new PropertiesBuilder().set("LOADER_THREADS", String.valueOf(threads)).set("LOADER_BATCH_SIZE", "3").build();
+		final Properties oldOptions = OpenlletOptions.setOptions(newOptions);
+		try
+		{
+			final OntModel model = ModelFactory.createOntologyModel(PelletReasonerFactory.THE_SPEC, m);
+			model.prepare();
+			assertTrue(((PelletInfGraph) model.getGraph()).getKB().isConsistent());
+			return model;
+		}
+		finally
+		{
+			OpenlletOptions.setOptions(oldOptions);
+		}
+	}
+
+	@Test
+	public void testConcurrentLoading()
+	{
+		final String ns = "urn:test:";
+
+		final Resource A = ResourceFactory.createResource(ns + "A");
+		final Resource B = ResourceFactory.createResource(ns + "B");
+		final Property p = ResourceFactory.createProperty(ns + "p");
+		final Property q = ResourceFactory.createProperty(ns + "q");
+		final Property d = ResourceFactory.createProperty(ns + "d");
+
+		final Model m = ModelFactory.createDefaultModel();
+		m.add(A, RDFS.subClassOf, B);
+		m.add(p, RDF.type, OWL.ObjectProperty);
+		m.add(q, RDFS.subPropertyOf, p);
+		m.add(p, RDFS.domain, A);
+		m.add(d, RDF.type, OWL.DatatypeProperty);
+		m.add(RDFS.label, RDF.type, OWL.AnnotationProperty);
+		for (int i = 0; i < 20; i++)
+		{
+			final Resource ind = ResourceFactory.createResource(ns + "i" + i);
+			final Resource next = ResourceFactory.createResource(ns + "i" + (i + 1));
+			m.add(ind, i % 2 == 0 ? p : q, next);
+			m.add(ind, d, m.createTypedLiteral(i));
+			m.add(ind, RDFS.label, "individual " + i);
+			if (i % 3 == 0)
+				m.add(ind, RDF.type, B);
+		}
+
+		final Set<Statement> expected = loadConcurrently(m, 1).listStatements().toSet();
+		assertTrue(expected.contains(m.createStatement(ResourceFactory.createResource(ns + "i1"), RDF.type, A)));
+		assertEquals(expected, loadConcurrently(m, 4).listStatements().toSet());
+	}
+
+	@Test
+	public void testConcurrentLoadingWarnings()
+	{
+		final String ns = "urn:test:";
+
+		final Property p = ResourceFactory.createProperty(ns + "p");
+		final Property r = ResourceFactory.createProperty(ns + "r");
+
+		// The first of the assertions of r and its inverseOf axiom in the graph defines what r is, the other one is ignored.
+		final Model m = ModelFactory.createDefaultModel();
+		m.add(p, RDF.type, OWL.ObjectProperty);
+		m.add(r, OWL.inverseOf, p);
+		for (int i = 0; i < 20; i++)
+		{
+			final Resource ind = ResourceFactory.createResource(ns + "i" + i);
+			m.add(ind, r, m.createTypedLiteral(i));
+			m.add(ind, p, ResourceFactory.createResource(ns + "i" + (i + 1)));
+		}
+
+		final Set<String> expected = ((PelletInfGraph) loadConcurrently(m, 1).getGraph()).getLoader().getUnpportedFeatures();
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, ((PelletInfGraph) loadConcurrently(m, 4).getGraph()).getLoader().getUnpportedFeatures());
+	}
 }
@@ -0,0 +1,179 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test;
+
+import static openllet.core.utils.TermFactory.TOP;
+import static openllet.core.utils.TermFactory.all;
+import static openllet.core.utils.TermFactory.and;
+import static openllet.core.utils.TermFactory.inv;
+import static openllet.core.utils.TermFactory.max;
+import static openllet.core.utils.TermFactory.not;
+import static openllet.core.utils.TermFactory.oneOf;
+import static openllet.core.utils.TermFactory.or;
+import static openllet.core.utils.TermFactory.some;
+import static openllet.core.utils.TermFactory.value;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import junit.framework.JUnit4TestAdapter;
+import openllet.aterm.ATermAppl;
+import openllet.core.OpenlletOptions;
+import openllet.core.boxes.abox.ABox;
+
+public class LazyABoxCopyTests extends AbstractKBTests
+{
+	public static junit.framework.Test suite()
+	{
+		return new JUnit4TestAdapter(LazyABoxCopyTests.class);
+	}
+
+	private boolean _lazyABoxCopy;
+	private boolean _trackBranchEffects;
+
+	@Override
+	@Before
+	public void initializeKB()
+	{
+		_lazyABoxCopy = OpenlletOptions.LAZY_ABOX_COPY;
+		_trackBranchEffects = OpenlletOptions.TRACK_BRANCH_EFFECTS;
+		OpenlletOptions.LAZY_ABOX_COPY = true;
+		// The ABox of the knowledge base creates its branch effect tracker from this option
+		OpenlletOptions.TRACK_BRANCH_EFFECTS = true;
+		super.initializeKB();
+	}
+
+	@After
+	public void restoreOptions()
+	{
+		OpenlletOptions.LAZY_ABOX_COPY = _lazyABoxCopy;
+		OpenlletOptions.TRACK_BRANCH_EFFECTS = _trackBranchEffects;
+	}
+
+	@Test
+	public void typeCheckCopiesOnlyTheComponent()
+	{
+		classes(_A, _B, _C);
+		objectProperties(_p);
+		individuals(_a, _b, _c, _d);
+
+		_kb.addSubClass(_A, all(_p, _B));
+		_kb.addType(_a, _A);
+		_kb.addPropertyValue(_p, _a, _b);
+		_kb.addType(_c, or(_A, _C));
+		_kb.addPropertyValue(_p, _c, _d);
+
+		assertTrue(_kb.isConsistent());
+
+		final ABox abox = _kb.getABox();
+		abox.setKeepLastCompletion(true);
+		abox.setLastCompletion(null);
+
+		assertFalse(abox.isType(_d, _B));
+		final ABox copy = abox.getLastCompletion();
+		assertNotNull(copy.getCopiedNode(_c));
+		assertNotNull(copy.getCopiedNode(_d));
+		assertNull(copy.getCopiedNode(_a));
+		assertNull(copy.getCopiedNode(_b));
+		assertEquals(abox.size(), copy.size());
+
+		assertTrue(abox.isType(_b, some(inv(_p), _A)));
+		assertTrue(abox.isType(_d, or(_B, some(inv(_p), _C))));
+	}
+
+	@Test
+	public void removedNodeIsNotCopiedWithItsNeighbours()
+	{
+		classes(_A, _B, _C);
+		objectProperties(_p);
+		individuals(_a, _b, _c, _d);
+
+		_kb.addSubClass(_A, all(_p, _B));
+		_kb.addType(_a, _A);
+		_kb.addPropertyValue(_p, _a, _b);
+		_kb.addType(_c, or(_A, _C));
+		_kb.addPropertyValue(_p, _c, _d);
+
+		assertTrue(_kb.isConsistent());
+
+		final ABox abox = _kb.getABox();
+		abox.setKeepLastCompletion(true);
+		abox.setLastCompletion(null);
+
+		assertFalse(abox.isType(_d, _B));
+		final ABox copy = abox.getLastCompletion();
+		assertNull(copy.getCopiedNode(_b));
+
+		copy.removeNode(_b);
+		assertNotNull(copy.getNode(_a));
+		assertNull(copy.getCopiedNode(_b));
+		assertNull(copy.getNode(_b));
+	}
+
+	@Test
+	public void nominalReachesOtherComponent()
+	{
+		classes(_A, _B, _C);
+		objectProperties(_p);
+		individuals(_a, _b, _c, _d);
+
+		_kb.addSubClass(_A, some(_p, oneOf(_c)));
+		_kb.addSubClass(_C, all(_p, _B));
+		_kb.addType(_a, _A);
+		_kb.addType(_c, _C);
+		_kb.addPropertyValue(_p, _c, _d);
+
+		assertTrue(_kb.isConsistent());
+
+		assertTrue(_kb.isType(_d, _B));
+		assertTrue(_kb.isType(_a, some(_p, _C)));
+		assertTrue(_kb.isType(_a, some(_p, some(_p, _B))));
+		assertFalse(_kb.isType(_b, _B));
+	}
+
+	@Test
+	public void sameAnswersAsFullCopy()
+	{
+		classes(_A, _B, _C, _D, _E);
+		objectProperties(_p, _q);
+		individuals(_a, _b, _c, _d, _e);
+
+		_kb.addFunctionalProperty(_q);
+		_kb.addSubClass(_A, or(_B, _C));
+		_kb.addSubClass(_B, all(_p, _D));
+		_kb.addSubClass(_C, some(_q, _E));
+		_kb.addSubClass(_D, max(_p, 1, TOP));
+		_kb.addSubClass(_E, value(_e));
+		_kb.addType(_a, _A);
+		_kb.addType(_c, and(_A, not(_B)));
+		_kb.addPropertyValue(_p, _a, _b);
+		_kb.addPropertyValue(_q, _c, _d);
+		_kb.addSame(_b, _d);
+		_kb.addDifferent(_a, _e);
+
+		final ATermAppl[] inds = { _a, _b, _c, _d, _e };
+		final ATermAppl[] classes = { _A, _B, _C, _D, _E, some(_q, _E), all(_p, _D), or(_B, some(_q, TOP)) };
+
+		OpenlletOptions.LAZY_ABOX_COPY = false;
+		assertTrue(_kb.isConsistent());
+		final boolean[] expected = new boolean[inds.length * classes.length];
+		for (int i = 0; i < inds.length; i++)
+			for (int j = 0; j < classes.length; j++)
+				expected[i * classes.length + j] = _kb.getABox().isType(inds[i], classes[j]);
+
+		OpenlletOptions.LAZY_ABOX_COPY = true;
+		for (int i = 0; i < inds.length; i++)
+			for (int j = 0; j < classes.length; j++)
+				assertEquals(inds[i] + " " + classes[j], expected[i * classes.length + j], _kb.getABox().isType(inds[i], classes[j]));
+	}
+}
@@ -37,6 +37,8 @@ import openllet.test.transtree.TransTreeTestSuite;
 		TracingTests.class, //
 		MiscTests.class, //
 		MergeTests.class, //
+		LazyABoxCopyTests.class, //
+		InstanceRetrievalTests.class, //
 		RBoxTestSuite.class, //
 		BlockingTests.class, //
 		CacheSafetyTests.class, //
@@ -54,6 +56,7 @@ import openllet.test.transtree.TransTreeTestSuite;
 		ExplanationTestSuite.class, //
 		TestIsClass.class, //
 		TestKnowledgeBase.class, //
+		TestKnowledgeBaseSnapshot.class, //
 		AnnotationsTestSuite.class, //
 		TransTreeTestSuite.class, //
 		LiebigTestSuite.class, //
@@ -6,10 +6,12 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.jena.ontology.OntModel;
 import org.apache.jena.query.Query;
@@ -331,6 +333,34 @@ public class TestAnnotations
 		assertEquals(expected, actual);
 	}
 
+	@Test
+	public void removeAnnotation()
+	{
+		final KnowledgeBase kb = new KnowledgeBaseImpl();
+
+		final ATermAppl s1 = ATermUtils.makeTermAppl("s1");
+		final ATermAppl s2 = ATermUtils.makeTermAppl("s2");
+		final ATermAppl p = ATermUtils.makeTermAppl("p");
+		final ATermAppl o = ATermUtils.makePlainLiteral("o");
+
+		kb.addIndividual(s1);
+		kb.addIndividual(s2);
+		kb.addAnnotationProperty(p);
+
+		assertTrue(kb.addAnnotation(s1, p, o));
+		assertTrue(kb.addAnnotation(s2, p, o));
+		assertEquals(new HashSet<>(Arrays.asList(s1, s2)), kb.individualsWithAnnotation(p, o).collect(Collectors.toSet()));
+
+		assertTrue(kb.removeAnnotation(s1, p, o));
+		assertFalse(kb.removeAnnotation(s1, p, o));
+		assertFalse(kb.isAnnotation(s1, p, o));
+		assertEquals(Collections.singleton(s2), kb.getIndividualsWithAnnotation(p, o));
+
+		assertTrue(kb.removeAnnotation(s2, p, o));
+		assertEquals(Collections.emptySet(), kb.getIndividualsWithAnnotation(p, o));
+		assertTrue(kb.getAnnotationSubjects().isEmpty());
+	}
+
 	@Test
 	public void testJenaLoader1()
 	{
@@ -7,14 +7,22 @@
 package openllet.test;
 
 import static openllet.core.utils.TermFactory.and;
+import static openllet.core.utils.TermFactory.not;
 import static openllet.core.utils.TermFactory.or;
 import static openllet.core.utils.TermFactory.some;
 import static openllet.core.utils.TermFactory.term;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -22,7 +30,9 @@ import org.junit.Test;
 
 import junit.framework.JUnit4TestAdapter;
 import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
 import openllet.core.KnowledgeBaseImpl;
+import openllet.core.KnowledgeBaseImplFullSync;
 import openllet.core.OpenlletOptions;
 import openllet.core.utils.TermFactory;
 import openllet.core.utils.progress.AbstractProgressMonitor;
@@ -383,6 +393,66 @@ public class TestKnowledgeBase
 		assertFalse(progressMonitor.isProgressLengthExceeded());
 	}
 
+	@Test
+	public void testThreadedKernel() throws Exception
+	{
+		final boolean useThreadedKernel = OpenlletOptions.USE_THREADED_KERNEL;
+		OpenlletOptions.USE_THREADED_KERNEL = true;
+		try
+		{
+			final KnowledgeBase kb = new KnowledgeBaseImplFullSync();
+
+			final ATermAppl A = term("A");
+			final ATermAppl B = term("B");
+			final ATermAppl C = term("C");
+			final ATermAppl D = term("D");
+			final ATermAppl p = term("p");
+
+			kb.addClass(A);
+			kb.addClass(B);
+			kb.addClass(C);
+			kb.addClass(D);
+			kb.addObjectProperty(p);
+
+			kb.addSubClass(B, A);
+			kb.addEquivalentClass(C, some(p, B));
+			kb.addDisjointClass(A, D);
+
+			final ATermAppl i = term("i");
+			final ATermAppl j = term("j");
+
+			kb.addIndividual(i);
+			kb.addIndividual(j);
+			kb.addType(j, B);
+			kb.addPropertyValue(p, i, j);
+
+			final List<Callable<Boolean>> queries = new ArrayList<>();
+			for (int k = 0; k < 50; k++)
+			{
+				queries.add(() -> kb.isSubClassOf(C, some(p, A)));
+				queries.add(() -> !kb.isSatisfiable(and(B, D)));
+				queries.add(() -> kb.isSatisfiable(and(C, not(D))));
+				queries.add(() -> kb.isType(i, C));
+				queries.add(() -> !kb.isType(j, C));
+			}
+
+			final ExecutorService executor = Executors.newFixedThreadPool(4);
+			try
+			{
+				for (final Future<Boolean> result : executor.invokeAll(queries))
+					assertTrue(result.get());
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+		}
+		finally
+		{
+			OpenlletOptions.USE_THREADED_KERNEL = useThreadedKernel;
+		}
+	}
+
 	private static class TestProgressMonitor extends AbstractProgressMonitor
 	{
 		private boolean _progressLengthExceeded;
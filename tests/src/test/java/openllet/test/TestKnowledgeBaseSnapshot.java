@@ -0,0 +1,300 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test;
+
+import static openllet.core.utils.TermFactory.and;
+import static openllet.core.utils.TermFactory.inv;
+import static openllet.core.utils.TermFactory.literal;
+import static openllet.core.utils.TermFactory.min;
+import static openllet.core.utils.TermFactory.not;
+import static openllet.core.utils.TermFactory.or;
+import static openllet.core.utils.TermFactory.some;
+import static openllet.core.utils.TermFactory.term;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBase;
+import openllet.core.KnowledgeBaseImpl;
+import openllet.core.KnowledgeBaseSnapshot;
+import openllet.core.OpenlletOptions;
+import openllet.core.utils.ATermUtils;
+import openllet.core.utils.PropertiesBuilder;
+
+public class TestKnowledgeBaseSnapshot extends AbstractKBTests
+{
+	private File _file;
+
+	@Before
+	public void createFile() throws IOException
+	{
+		_file = File.createTempFile("snapshot", ".kb");
+	}
+
+	@After
+	public void deleteFile()
+	{
+		_file.delete();
+	}
+
+	private void family()
+	{
+		classes(_A, _B, _C, _D, _E);
+		objectProperties(_p, _q, _r);
+		dataProperties(_f);
+		annotationProperties(_s);
+		individuals(_a, _b, _c, _d);
+
+		_kb.addSubClass(_B, _A);
+		_kb.addEquivalentClass(_C, some(_p, _B));
+		_kb.addSubClass(_D, and(_A, not(_E)));
+		_kb.addDisjointClass(_B, _E);
+		_kb.addSubClass(_E, or(_B, _C));
+
+		_kb.addSubProperty(_q, _p);
+		_kb.addInverseProperty(_r, _p);
+		_kb.addTransitiveProperty(_p);
+		_kb.addDomain(_p, _A);
+		_kb.addFunctionalProperty(_f);
+
+		_kb.addType(_a, _C);
+		_kb.addType(_b, _B);
+		_kb.addType(_d, min(_q, 1, _B));
+		_kb.addPropertyValue(_q, _a, _b);
+		_kb.addPropertyValue(_r, _c, _a);
+		_kb.addPropertyValue(_f, _a, literal(42));
+		_kb.addDifferent(_a, _b);
+		_kb.addAnnotation(_a, _s, literal("a"));
+	}
+
+	private static void assertSameEntailments(final KnowledgeBase expected, final KnowledgeBase kb)
+	{
+		assertEquals(expected.getClasses(), kb.getClasses());
+		assertEquals(expected.getIndividuals(), kb.getIndividuals());
+		for (final ATermAppl c : expected.getAllClasses())
+		{
+			assertEquals(c.toString(), expected.getSuperClasses(c, true), kb.getSuperClasses(c, true));
+			assertEquals(c.toString(), expected.getEquivalentClasses(c), kb.getEquivalentClasses(c));
+			assertEquals(c.toString(), expected.getInstances(c), kb.getInstances(c));
+		}
+		for (final ATermAppl p : expected.getObjectProperties())
+			assertEquals(p.toString(), expected.getSuperProperties(p), kb.getSuperProperties(p));
+		for (final ATermAppl i : expected.getIndividuals())
+			assertEquals(i.toString(), expected.getTypes(i, true), kb.getTypes(i, true));
+	}
+
+	@Test
+	public void classified() throws IOException
+	{
+		family();
+		_kb.classify();
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		assertTrue(kb.isClassified());
+		assertFalse(kb.isRealized());
+		assertTrue(kb.isConsistent());
+		assertSameEntailments(_kb, kb);
+		assertTrue(kb.isSubClassOf(_D, _A));
+		assertTrue(kb.hasPropertyValue(_a, _p, _b));
+		assertTrue(kb.hasPropertyValue(_a, _p, _c));
+		assertEquals(_kb.isType(_c, some(_p, _C)), kb.isType(_c, some(_p, _C)));
+		assertTrue(kb.isDifferentFrom(_a, _b));
+		assertEquals(_kb.getAnnotations(), kb.getAnnotations());
+	}
+
+	@Test
+	public void realized() throws IOException
+	{
+		family();
+		_kb.realize();
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		assertTrue(kb.isRealized());
+		assertSameEntailments(_kb, kb);
+		assertEquals(_kb.getTypes(_d, true), kb.getTypes(_d, true));
+		assertTrue(kb.isType(_a, _A));
+		assertTrue(kb.isType(_c, ATermUtils.TOP));
+	}
+
+	@Test
+	public void deterministicCompletion() throws IOException
+	{
+		family();
+		assertTrue(_kb.isConsistent());
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		// The completion is restored, the consistency is not checked again
+		assertTrue(kb.isConsistencyDone());
+		assertTrue(kb.getABox().isComplete());
+		assertEquals(new HashSet<>(_kb.getABox().getNodeNames()), new HashSet<>(kb.getABox().getNodeNames()));
+		assertSameEntailments(_kb, kb);
+	}
+
+	@Test
+	public void nonDeterministicCompletion() throws IOException
+	{
+		family();
+		_kb.addType(_c, or(_D, _E));
+		assertTrue(_kb.isConsistent());
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		assertFalse(kb.isConsistencyDone());
+		assertTrue(kb.isConsistent());
+		assertSameEntailments(_kb, kb);
+	}
+
+	@Test
+	public void absorbedTBox() throws IOException
+	{
+		final boolean legacyTBox = OpenlletOptions.USE_LEGACY_TBOX;
+		OpenlletOptions.USE_LEGACY_TBOX = false;
+		try
+		{
+			_kb = new KnowledgeBaseImpl();
+			family();
+			_kb.realize();
+
+			KnowledgeBaseSnapshot.save(_kb, _file);
+			final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+			assertTrue(kb.isRealized());
+			assertTrue(kb.isConsistencyDone());
+			assertSameEntailments(_kb, kb);
+			assertEquals(_kb.getTBox().getAxioms(), kb.getTBox().getAxioms());
+		}
+		finally
+		{
+			OpenlletOptions.USE_LEGACY_TBOX = legacyTBox;
+		}
+	}
+
+	@Test
+	public void otherTBox() throws IOException
+	{
+		family();
+		_kb.classify();
+		KnowledgeBaseSnapshot.save(_kb, _file);
+
+		final boolean legacyTBox = OpenlletOptions.USE_LEGACY_TBOX;
+		OpenlletOptions.USE_LEGACY_TBOX = false;
+		try
+		{
+			// The told axioms are absorbed again by the other kind of TBox
+			final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+			assertTrue(kb.isClassified());
+			assertSameEntailments(_kb, kb);
+		}
+		finally
+		{
+			OpenlletOptions.USE_LEGACY_TBOX = legacyTBox;
+		}
+	}
+
+	@Test
+	public void notClassified() throws IOException
+	{
+		family();
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		assertFalse(kb.isClassified());
+		assertSameEntailments(_kb, kb);
+		assertTrue(kb.getRBox().getRole(inv(_p)).isSuperRoleOf(kb.getRBox().getRole(_r)));
+	}
+
+	@Test
+	public void removedAxioms() throws IOException
+	{
+		final Properties savedOptions = OpenlletOptions.setOptions(PropertiesBuilder.singleton("USE_TRACING", "true"));
+		try
+		{
+			_kb = new KnowledgeBaseImpl();
+			family();
+			_kb.classify();
+
+			final ATermAppl domain = ATermUtils.makeDomain(_p, _A);
+			final ATermAppl sub = ATermUtils.makeSub(_B, _A);
+			assertTrue(_kb.removeAxiom(domain));
+			assertTrue(_kb.removeAxiom(sub));
+			assertFalse(_kb.getRBox().getAssertedAxioms().contains(domain));
+			_kb.classify();
+
+			KnowledgeBaseSnapshot.save(_kb, _file);
+			final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+			assertFalse(kb.getRBox().getAssertedAxioms().contains(domain));
+			assertFalse(kb.getTBox().getAssertedAxioms().contains(sub));
+			assertFalse(kb.getDomains(_p).contains(_A));
+			assertFalse(kb.isSubClassOf(_B, _A));
+			assertSameEntailments(_kb, kb);
+		}
+		finally
+		{
+			OpenlletOptions.setOptions(savedOptions);
+		}
+	}
+
+	@Test
+	public void manyBlocks() throws IOException
+	{
+		classes(_A);
+		for (int i = 0; i < 10000; i++)
+		{
+			final ATermAppl ind = term("individual" + i);
+			_kb.addIndividual(ind);
+			_kb.addType(ind, _A);
+		}
+
+		KnowledgeBaseSnapshot.save(_kb, _file);
+		assertTrue(_file.length() > 65536);
+		final KnowledgeBase kb = KnowledgeBaseSnapshot.load(_file);
+
+		assertEquals(_kb.getIndividuals(), kb.getIndividuals());
+		assertEquals(_kb.getInstances(_A), kb.getInstances(_A));
+	}
+
+	@Test
+	public void otherVersion() throws IOException
+	{
+		try (final FileOutputStream out = new FileOutputStream(_file))
+		{
+			out.write(new byte[] { 'O', 'K', 'B', 'S', 0, 0, 0, 0 });
+		}
+
+		try
+		{
+			KnowledgeBaseSnapshot.load(_file);
+			fail("A snapshot of another version is loaded");
+		}
+		catch (final IOException e)
+		{
+			assertTrue(e.getMessage().contains("version"));
+		}
+	}
+}
@@ -2,6 +2,7 @@ package openllet.test.annotations;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -22,6 +23,7 @@ import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAnnotationValue;
 import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyChangeException;
@@ -161,6 +163,28 @@ public class TestReasoningWithAnnotationAxioms
 		assertEquals(reasoner.getAnnotationPropertyValues(oi, op1), reasoner.getAnnotationPropertyValues(oi, op3));
 	}
 
+	@Test
+	public void testOWLAPIRemoveDuplicateAnnotation() throws OWLOntologyCreationException, OWLOntologyChangeException
+	{
+		final OWLDataFactory factory = manager.getOWLDataFactory();
+		final OWLAxiom axiom = factory.getOWLAnnotationAssertionAxiom(op1, oi.getIRI(), oo1);
+		final OWLAxiom annotatedAxiom = factory.getOWLAnnotationAssertionAxiom(op1, oi.getIRI(), oo1, Collections.singleton(factory.getRDFSComment("comment")));
+
+		final Set<OWLAxiom> axioms = new HashSet<>();
+		axioms.add(axiom);
+		axioms.add(annotatedAxiom);
+
+		final OWLOntology ontology = manager.createOntology(axioms);
+		final OpenlletReasoner reasoner = OpenlletReasonerFactory.getInstance().createNonBufferingReasoner(ontology);
+		assertEquals(Collections.singleton(oo1), reasoner.getAnnotationPropertyValues(oi, op1));
+
+		ontology.remove(axiom);
+		assertEquals(Collections.singleton(oo1), reasoner.getAnnotationPropertyValues(oi, op1));
+
+		ontology.remove(annotatedAxiom);
+		assertEquals(Collections.emptySet(), reasoner.getAnnotationPropertyValues(oi, op1));
+	}
+
 	@Test
 	public void testJenaLoader1()
 	{
@@ -7,14 +7,19 @@
 package openllet.test.classification;
 
 import static openllet.core.utils.TermFactory.all;
+import static openllet.core.utils.TermFactory.and;
 import static openllet.core.utils.TermFactory.inv;
 import static openllet.core.utils.TermFactory.list;
+import static openllet.core.utils.TermFactory.or;
 import static openllet.core.utils.TermFactory.some;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
 import junit.framework.JUnit4TestAdapter;
+import openllet.core.OpenlletOptions;
+import openllet.core.utils.SetUtils;
 import openllet.test.AbstractKBTests;
 
 /**
@@ -94,4 +99,74 @@ public class SimpleClassificationTests extends AbstractKBTests
 
 		assertTrue(_kb.isSubClassOf(_C, _E));
 	}
+
+	@Test
+	public void concurrentClassification()
+	{
+		final int oldThreads = OpenlletOptions.CLASSIFICATION_THREADS;
+		try
+		{
+			OpenlletOptions.CLASSIFICATION_THREADS = 4;
+
+			classes(_A, _B, _C, _D, _E, _F);
+			objectProperties(_p);
+
+			_kb.addSubClass(_B, _A);
+			_kb.addSubClass(_C, _A);
+			_kb.addEquivalentClass(_D, and(_B, some(_p, _C)));
+			_kb.addSubClass(_E, and(_B, some(_p, _C)));
+			_kb.addSubClass(_F, or(_D, _E));
+
+			assertTrue(_kb.isConsistent());
+
+			_kb.classify();
+
+			assertEquals(singletonSets(_D), _kb.getSuperClasses(_E, true));
+			assertEquals(singletonSets(_D), _kb.getSuperClasses(_F, true));
+			assertEquals(singletonSets(_B), _kb.getSuperClasses(_D, true));
+			assertEquals(singletonSets(_B, _C), _kb.getSubClasses(_A, true));
+		}
+		finally
+		{
+			OpenlletOptions.CLASSIFICATION_THREADS = oldThreads;
+		}
+	}
+
+	@Test
+	public void concurrentRealization()
+	{
+		final int oldThreads = OpenlletOptions.REALIZATION_THREADS;
+		try
+		{
+			OpenlletOptions.REALIZATION_THREADS = 4;
+
+			classes(_A, _B, _C, _D, _E);
+			objectProperties(_p);
+			individuals(_a, _b, _c, _d, _e);
+
+			_kb.addEquivalentClass(_D, and(_B, some(_p, _C)));
+			_kb.addSubClass(_E, and(_B, some(_p, _C)));
+
+			_kb.addType(_a, _B);
+			_kb.addPropertyValue(_p, _a, _b);
+			_kb.addType(_b, _C);
+			_kb.addType(_c, _E);
+			_kb.addSame(_d, _b);
+			_kb.addType(_e, _A);
+
+			_kb.realize();
+
+			assertTrue(_kb.isRealized());
+			assertEquals(singletonSets(_D), _kb.getTypes(_a, true));
+			assertEquals(singletonSets(_C), _kb.getTypes(_d, true));
+			assertEquals(singletonSets(_E), _kb.getTypes(_c, true));
+			assertEquals(singletonSets(_A), _kb.getTypes(_e, true));
+			assertEquals(SetUtils.create(_a, _c), _kb.getInstances(_D));
+			assertEquals(SetUtils.create(_b, _d), _kb.getInstances(_C, true));
+		}
+		finally
+		{
+			OpenlletOptions.REALIZATION_THREADS = oldThreads;
+		}
+	}
 }
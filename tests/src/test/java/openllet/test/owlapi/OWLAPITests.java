@@ -47,13 +47,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.Ignore;
@@ -1651,4 +1656,48 @@ public class OWLAPITests extends AbstractOWLAPITests
 		ont.removeAxiom(OWL.subClassOf(OWL.Class(ns + "a_INDIVIDUAL"), OWL.not(OWL.Class(ns + "a_SETORCOLLECTION"))));
 		assertFalse(reasoner.isConsistent());
 	}
+
+	private Map<OWLNamedIndividual, Set<Object>> loadConcurrently(final List<OWLAxiom> axioms, final int threads)
+	{
+		final Properties newOptions = new PropertiesBuilder().set("LOADER_THREADS", String.valueOf(threads)).set("LOADER_BATCH_SIZE", "3").build();
+		final Properties savedOptions = OpenlletOptions.setOptions(newOptions);
+		try
+		{
+			createReasoner(axioms.toArray(new OWLAxiom[axioms.size()]));
+
+			final Map<OWLNamedIndividual, Set<Object>> facts = new HashMap<>();
+			_ontology.individualsInSignature().forEach(ind ->
+			{
+				final Set<Object> values = _reasoner.getTypes(ind, false).entities().collect(Collectors.toSet());
+				values.addAll(_reasoner.getObjectPropertyValues(ind, _p).entities().collect(Collectors.toSet()));
+				values.addAll(_reasoner.getDataPropertyValues(ind, _dp));
+				facts.put(ind, values);
+			});
+			return facts;
+		}
+		finally
+		{
+			OpenlletOptions.setOptions(savedOptions);
+		}
+	}
+
+	@Test
+	public void testConcurrentLoading()
+	{
+		final List<OWLAxiom> axioms = new ArrayList<>();
+		axioms.add(OWL.subClassOf(_A, _B));
+		axioms.add(OWL.domain(_p, _C));
+		axioms.add(OWL.subPropertyOf(_q, _p));
+		for (int i = 0; i < 20; i++)
+		{
+			final OWLNamedIndividual ind = Individual("i" + i);
+			axioms.add(propertyAssertion(ind, i % 2 == 0 ? _p : _q, Individual("i" + (i + 1))));
+			axioms.add(propertyAssertion(ind, _dp, OWL.constant(i)));
+			axioms.add(classAssertion(ind, i % 3 == 0 ? _A : some(_p, _D)));
+		}
+
+		final Map<OWLNamedIndividual, Set<Object>> expected = loadConcurrently(axioms, 1);
+		assertTrue(expected.get(Individual("i1")).contains(_C));
+		assertEquals(expected, loadConcurrently(axioms, 4));
+	}
 }
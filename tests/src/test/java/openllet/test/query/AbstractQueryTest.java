@@ -11,6 +11,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +75,23 @@ public abstract class AbstractQueryTest extends AbstractKBTests
 		return q;
 	}
 
+	/**
+	 * @return the values of the result variables of each binding, sorted
+	 */
+	protected static List<String> answers(final QueryResult result)
+	{
+		final List<String> answers = new ArrayList<>();
+		for (final ResultBinding binding : result)
+		{
+			final List<ATermAppl> values = new ArrayList<>();
+			for (final ATermAppl var : result.getResultVars())
+				values.add(binding.getValue(var));
+			answers.add(values.toString());
+		}
+		Collections.sort(answers);
+		return answers;
+	}
+
 	protected void testQuery(final Query query, final boolean expected)
 	{
 		final QueryResult result = QueryEngine.exec(query);
@@ -33,6 +33,9 @@ import openllet.sparqlowl.parser.test.ParserTest;
 		TestNegatedQueries.class, //
 		TestUnionQueries.class, //
 		TestMiscQueries.class, //
+		TestStreamingQueries.class, //
+		TestQueryPlanCache.class, //
+		TestParallelQueryComponents.class, //
 		TestMiscSPARQL.class, //
 		SparqlDawgTestSuite.class, //
 		TestQuerySubsumption.class//
@@ -0,0 +1,142 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test.query;
+
+import static openllet.core.utils.TermFactory.some;
+import static openllet.core.utils.TermFactory.term;
+import static openllet.query.sparqldl.model.QueryAtomFactory.PropertyValueAtom;
+import static openllet.query.sparqldl.model.QueryAtomFactory.TypeAtom;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.KnowledgeBaseImplFullSync;
+import openllet.core.OpenlletOptions;
+import openllet.query.sparqldl.engine.QueryEngine;
+import openllet.query.sparqldl.model.FutureQueryResult;
+import openllet.query.sparqldl.model.MultiQueryResults;
+import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.model.QueryParameters;
+import openllet.query.sparqldl.model.QueryResult;
+import openllet.query.sparqldl.model.QueryResultImpl;
+
+public class TestParallelQueryComponents extends AbstractQueryTest
+{
+	private int _threads;
+
+	private boolean _threadedKernel;
+
+	@Before
+	public void useThreadSafeKB()
+	{
+		_kb = new KnowledgeBaseImplFullSync();
+		_threads = OpenlletOptions.QUERY_COMPONENT_THREADS;
+		_threadedKernel = OpenlletOptions.USE_THREADED_KERNEL;
+		OpenlletOptions.USE_THREADED_KERNEL = true;
+	}
+
+	@After
+	public void restoreOptions()
+	{
+		OpenlletOptions.QUERY_COMPONENT_THREADS = _threads;
+		OpenlletOptions.USE_THREADED_KERNEL = _threadedKernel;
+	}
+
+	private void chain()
+	{
+		classes(_A, _B, _C);
+		objectProperties(_p);
+
+		final ATermAppl[] inds = new ATermAppl[12];
+		for (int i = 0; i < inds.length; i++)
+		{
+			inds[i] = term("i" + i);
+			_kb.addIndividual(inds[i]);
+			if (i > 0)
+				_kb.addPropertyValue(_p, inds[i - 1], inds[i]);
+			_kb.addType(inds[i], i % 3 == 0 ? _A : _B);
+		}
+		_kb.addEquivalentClass(_C, some(_p, _A));
+	}
+
+	private static Query parallelism(final Query query, final int threads)
+	{
+		final QueryParameters parameters = new QueryParameters();
+		parameters.setParallelism(threads);
+		query.setQueryParameters(parameters);
+		return query;
+	}
+
+	private static void assertSameAnswers(final Supplier<Query> query)
+	{
+		final QueryResult expected = QueryEngine.exec(parallelism(query.get(), 1));
+		final QueryResult result = QueryEngine.exec(parallelism(query.get(), 3));
+
+		assertEquals(answers(expected), answers(result));
+		assertEquals(expected.size(), result.size());
+		assertEquals(expected.isEmpty(), result.isEmpty());
+	}
+
+	@Test
+	public void sameAnswersAsSequential()
+	{
+		chain();
+
+		assertSameAnswers(() -> query(select(x, y), where(TypeAtom(x, _A), TypeAtom(y, _C))));
+		assertSameAnswers(() -> query(select(x, y, z), where(TypeAtom(x, _A), PropertyValueAtom(y, _p, z), TypeAtom(z, _A))));
+		assertSameAnswers(() -> query(select(x), where(TypeAtom(x, _C), TypeAtom(y, _B))));
+	}
+
+	@Test
+	public void emptyComponent()
+	{
+		chain();
+
+		final QueryResult result = QueryEngine.exec(parallelism(query(select(x, y), where(TypeAtom(x, _A), PropertyValueAtom(y, _p, y))), 2));
+		assertTrue(result.isEmpty());
+		assertFalse(result.iterator().hasNext());
+		assertEquals(0, result.size());
+	}
+
+	@Test
+	public void emptyComponentCancelsPendingOnes()
+	{
+		classes(_A);
+		final Query query = query(select(x), where(TypeAtom(x, _A)));
+		final CompletableFuture<QueryResult> pending = new CompletableFuture<>();
+
+		final QueryResult result = new MultiQueryResults(query.getResultVars(), Arrays.asList(new FutureQueryResult(query, pending), new QueryResultImpl(query)));
+		assertTrue(result.isEmpty());
+		assertTrue(pending.isCancelled());
+		assertEquals(0, result.size());
+		assertFalse(result.iterator().hasNext());
+		result.close();
+	}
+
+	@Test
+	public void defaultParallelism()
+	{
+		chain();
+
+		OpenlletOptions.QUERY_COMPONENT_THREADS = 1;
+		final List<String> expected = answers(QueryEngine.exec(query(select(x, y), where(TypeAtom(x, _C), TypeAtom(y, _B)))));
+
+		OpenlletOptions.QUERY_COMPONENT_THREADS = 2;
+		assertEquals(2, new QueryParameters().getParallelism());
+		assertEquals(expected, answers(QueryEngine.exec(query(select(x, y), where(TypeAtom(x, _C), TypeAtom(y, _B))))));
+	}
+}
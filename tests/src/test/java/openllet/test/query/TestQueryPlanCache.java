@@ -0,0 +1,127 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test.query;
+
+import static openllet.core.utils.TermFactory.term;
+import static openllet.query.sparqldl.model.QueryAtomFactory.PropertyValueAtom;
+import static openllet.query.sparqldl.model.QueryAtomFactory.TypeAtom;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import openllet.aterm.ATermAppl;
+import openllet.core.OpenlletOptions;
+import openllet.query.sparqldl.engine.PreparedQuery;
+import openllet.query.sparqldl.engine.QueryEngine;
+import openllet.query.sparqldl.engine.QueryPlanCache;
+import openllet.query.sparqldl.model.QueryParameters;
+
+public class TestQueryPlanCache extends AbstractQueryTest
+{
+	private int _cacheSize;
+
+	private ATermAppl[] _inds;
+
+	@Before
+	public void setUpCache()
+	{
+		_cacheSize = OpenlletOptions.QUERY_PLAN_CACHE_SIZE;
+		QueryPlanCache.resetStats();
+	}
+
+	@After
+	public void restoreCache()
+	{
+		OpenlletOptions.QUERY_PLAN_CACHE_SIZE = _cacheSize;
+	}
+
+	private void chain()
+	{
+		classes(_A, _B);
+		objectProperties(_p);
+
+		_inds = new ATermAppl[10];
+		for (int i = 0; i < _inds.length; i++)
+		{
+			_inds[i] = term("i" + i);
+			_kb.addIndividual(_inds[i]);
+			if (i > 0)
+				_kb.addPropertyValue(_p, _inds[i - 1], _inds[i]);
+			_kb.addType(_inds[i], i % 2 == 0 ? _A : _B);
+		}
+	}
+
+	private static QueryParameters parameter(final ATermAppl var, final ATermAppl value)
+	{
+		final QueryParameters parameters = new QueryParameters();
+		parameters.add(var, value);
+		return parameters;
+	}
+
+	@Test
+	public void sameAnswersWithAndWithoutCache()
+	{
+		chain();
+
+		final PreparedQuery prepared = new PreparedQuery(query(select(x, y, z), where(PropertyValueAtom(x, _p, y), PropertyValueAtom(y, _p, z), TypeAtom(z, _A))));
+
+		for (final ATermAppl ind : _inds)
+		{
+			OpenlletOptions.QUERY_PLAN_CACHE_SIZE = 0;
+			final List<String> expected = answers(prepared.exec(parameter(x, ind)));
+
+			OpenlletOptions.QUERY_PLAN_CACHE_SIZE = 16;
+			assertEquals(expected, answers(prepared.exec(parameter(x, ind))));
+			assertEquals(expected, answers(prepared.execStreaming(parameter(x, ind))));
+		}
+	}
+
+	@Test
+	public void repeatedShapesHit()
+	{
+		chain();
+
+		final PreparedQuery prepared = new PreparedQuery(query(select(x, y), where(PropertyValueAtom(x, _p, y), TypeAtom(y, _B))));
+
+		prepared.exec(parameter(x, _inds[0])).size();
+		final long misses = QueryPlanCache.getMisses();
+		assertTrue(misses > 0);
+
+		for (int i = 1; i < _inds.length; i++)
+			prepared.exec(parameter(x, _inds[i])).size();
+
+		assertEquals(misses, QueryPlanCache.getMisses());
+		assertTrue(QueryPlanCache.getHits() >= _inds.length - 1);
+
+		// the values are part of the answers, not of the cached plan
+		assertEquals(Collections.singletonList("[" + _inds[1] + "]"), answers(QueryEngine.exec(query(select(y), where(PropertyValueAtom(_inds[0], _p, y), TypeAtom(y, _B))))));
+		assertEquals(Collections.emptyList(), answers(QueryEngine.exec(query(select(y), where(PropertyValueAtom(_inds[1], _p, y), TypeAtom(y, _B))))));
+	}
+
+	@Test
+	public void changesInvalidate()
+	{
+		chain();
+
+		final PreparedQuery prepared = new PreparedQuery(query(select(x, y), where(PropertyValueAtom(x, _p, y), TypeAtom(y, _B))));
+
+		assertEquals(0, prepared.exec(parameter(x, _inds[1])).size());
+		assertNotNull(QueryPlanCache.get(_kb));
+
+		_kb.addType(_inds[2], _B);
+
+		assertEquals(1, prepared.exec(parameter(x, _inds[1])).size());
+		assertEquals(1, prepared.exec(parameter(x, _inds[0])).size());
+	}
+}
@@ -0,0 +1,248 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test.query;
+
+import static openllet.core.utils.TermFactory.all;
+import static openllet.core.utils.TermFactory.term;
+import static openllet.query.sparqldl.model.QueryAtomFactory.PropertyValueAtom;
+import static openllet.query.sparqldl.model.QueryAtomFactory.TypeAtom;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import openllet.aterm.ATermAppl;
+import openllet.query.sparqldl.engine.QueryEngine;
+import openllet.query.sparqldl.model.Query;
+import openllet.query.sparqldl.model.QueryResult;
+import openllet.query.sparqldl.model.ResultBinding;
+import openllet.query.sparqldl.model.ResultBindingImpl;
+import openllet.query.sparqldl.model.StreamingQueryResult;
+
+public class TestStreamingQueries extends AbstractQueryTest
+{
+	private static void assertSameAnswers(final Supplier<Query> query)
+	{
+		final QueryResult expected = QueryEngine.exec(query.get());
+		final QueryResult result = QueryEngine.execStreaming(query.get());
+
+		assertEquals(answers(expected), answers(result));
+		assertEquals(expected.size(), result.size());
+		assertEquals(expected.isEmpty(), result.isEmpty());
+	}
+
+	@Test
+	public void sameAnswersAsMaterialized()
+	{
+		classes(_A, _B);
+		objectProperties(_p);
+
+		final ATermAppl[] inds = new ATermAppl[20];
+		for (int i = 0; i < inds.length; i++)
+		{
+			inds[i] = term("i" + i);
+			_kb.addIndividual(inds[i]);
+			if (i > 0)
+				_kb.addPropertyValue(_p, inds[i - 1], inds[i]);
+			if (i % 2 == 1)
+				_kb.addType(inds[i], _A);
+		}
+		_kb.addSubClass(_A, all(_p, _B));
+
+		assertSameAnswers(() -> query(select(x, y), where(PropertyValueAtom(x, _p, y), TypeAtom(y, _B))));
+		assertSameAnswers(() -> query(select(x), where(TypeAtom(x, _B))));
+		assertSameAnswers(() -> query(select(x, y), where(TypeAtom(x, _A), TypeAtom(y, _B))));
+		assertSameAnswers(() -> ask(TypeAtom(inds[2], _B)));
+		assertSameAnswers(() -> ask(TypeAtom(inds[3], _B)));
+	}
+
+	@Test
+	public void readsOnlyWhatIsAsked() throws InterruptedException
+	{
+		final AtomicInteger produced = new AtomicInteger();
+		final CountDownLatch stopped = new CountDownLatch(1);
+
+		final StreamingQueryResult result = new StreamingQueryResult(query(select(x), where(TypeAtom(x, _A))), sink ->
+		{
+			try
+			{
+				for (int i = 0; i < 100; i++)
+				{
+					final ResultBinding binding = new ResultBindingImpl();
+					binding.setValue(x, term("i" + i));
+					produced.incrementAndGet();
+					sink.test(binding);
+				}
+			}
+			finally
+			{
+				stopped.countDown();
+			}
+		}, 4);
+
+		assertEquals(0, produced.get());
+
+		final Iterator<ResultBinding> it = result.iterator();
+		for (int i = 0; i < 3; i++)
+			assertEquals(term("i" + i), it.next().getValue(x));
+		assertEquals(3, produced.get());
+
+		result.close();
+		assertTrue(stopped.await(10, TimeUnit.SECONDS));
+		assertEquals(3, produced.get());
+		assertFalse(it.hasNext());
+		assertEquals(3, result.size());
+
+		// the bindings read are dropped
+		assertFalse(result.iterator().hasNext());
+	}
+
+	@Test
+	public void readOnce()
+	{
+		classes(_A);
+		individuals(_a, _b, _c);
+		_kb.addType(_a, _A);
+		_kb.addType(_b, _A);
+
+		final QueryResult result = QueryEngine.execStreaming(query(select(x), where(TypeAtom(x, _A))));
+		final Iterator<ResultBinding> it = result.iterator();
+		it.next();
+
+		// another iterator continues from the same position
+		final Iterator<ResultBinding> other = result.iterator();
+		other.next();
+		assertFalse(it.hasNext());
+		assertFalse(other.hasNext());
+		assertEquals(2, result.size());
+		assertFalse(result.isEmpty());
+	}
+
+	@Test
+	public void changedKB()
+	{
+		classes(_A);
+		individuals(_a, _b);
+		_kb.addType(_a, _A);
+
+		final QueryResult result = QueryEngine.execStreaming(query(select(x), where(TypeAtom(x, _A))));
+		final Iterator<ResultBinding> it = result.iterator();
+		assertTrue(it.hasNext());
+
+		_kb.addType(_b, _A);
+		try
+		{
+			it.next();
+			fail("The result of a changed KB should not be read");
+		}
+		catch (final ConcurrentModificationException e)
+		{
+			// expected
+		}
+	}
+
+	private static StreamingQueryResult endlessResult(final Query query, final CountDownLatch stopped)
+	{
+		return new StreamingQueryResult(query, sink ->
+		{
+			try
+			{
+				for (int i = 0;; i++)
+				{
+					final ResultBinding binding = new ResultBindingImpl();
+					binding.setValue(x, term("i" + i));
+					sink.test(binding);
+				}
+			}
+			finally
+			{
+				stopped.countDown();
+			}
+		}, 4);
+	}
+
+	@Test
+	public void closedByTryWithResources() throws InterruptedException
+	{
+		final CountDownLatch stopped = new CountDownLatch(1);
+
+		try (final QueryResult result = endlessResult(query(select(x), where(TypeAtom(x, _A))), stopped))
+		{
+			assertEquals(term("i0"), result.iterator().next().getValue(x));
+		}
+
+		assertTrue(stopped.await(10, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Reads a single binding and drops the result without closing it.
+	 */
+	private void readFirst(final CountDownLatch stopped)
+	{
+		final QueryResult result = endlessResult(query(select(x), where(TypeAtom(x, _A))), stopped);
+		assertEquals(term("i0"), result.iterator().next().getValue(x));
+	}
+
+	@Test
+	public void abandonedResultStopsProducer() throws InterruptedException
+	{
+		final CountDownLatch stopped = new CountDownLatch(1);
+		readFirst(stopped);
+
+		for (int i = 0; i < 100 && !stopped.await(100, TimeUnit.MILLISECONDS); i++)
+			System.gc();
+
+		assertEquals(0, stopped.getCount());
+	}
+
+	@Test
+	public void removesDuplicates()
+	{
+		final QueryResult result = new StreamingQueryResult(query(select(x), where(TypeAtom(x, _A))), sink ->
+		{
+			final ResultBinding binding = new ResultBindingImpl();
+			binding.setValue(x, _a);
+			assertTrue(sink.test(binding));
+			assertFalse(sink.test(binding.duplicate()));
+		}, 4);
+
+		assertEquals(1, result.size());
+	}
+
+	@Test
+	public void producerErrorReachesReader()
+	{
+		final QueryResult result = new StreamingQueryResult(query(select(x), where(TypeAtom(x, _A))), sink ->
+		{
+			final ResultBinding binding = new ResultBindingImpl();
+			binding.setValue(x, _a);
+			sink.test(binding);
+			throw new IllegalStateException("failed");
+		}, 4);
+
+		final Iterator<ResultBinding> it = result.iterator();
+		assertEquals(_a, it.next().getValue(x));
+		try
+		{
+			it.hasNext();
+			fail("The error of the producer should be thrown");
+		}
+		catch (final IllegalStateException e)
+		{
+			assertEquals("failed", e.getMessage());
+		}
+	}
+}
@@ -1125,6 +1125,110 @@ public class MiscRuleTests extends AbstractKBTests
 		assertIteratorValues(_kb.getInstances(_C).iterator(), _b);
 	}
 
+	@Test
+	public void testChainedRulesWithBacktracking()
+	{
+		classes(_A, _B, _C, _D, _E, _F);
+		objectProperties(_p, _q);
+		individuals(_a, _b, _c);
+
+		_kb.addSubClass(_E, not(_B));
+		_kb.addType(_a, _D);
+		_kb.addType(_b, or(_E, _F));
+		_kb.addPropertyValue(_p, _a, _b);
+		_kb.addPropertyValue(_p, _b, _c);
+		_kb.addDifferent(_b, _c);
+
+		final AtomIVariable x = new AtomIVariable("x");
+		final AtomIVariable y = new AtomIVariable("y");
+
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_A, x)), Arrays.<RuleAtom> asList(new ClassAtom(_D, x))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_B, y)), Arrays.<RuleAtom> asList(new ClassAtom(_A, x), new IndividualPropertyAtom(_p, x, y))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, x, y)), Arrays.<RuleAtom> asList(new ClassAtom(_B, x), new IndividualPropertyAtom(_p, x, y))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_C, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, x, y), new DifferentIndividualsAtom(x, y))));
+
+		assertTrue(_kb.isConsistent());
+		assertTrue(_kb.isType(_b, _B));
+		assertTrue(_kb.isType(_b, _F));
+		assertFalse(_kb.isType(_c, _B));
+		assertTrue(_kb.hasPropertyValue(_b, _q, _c));
+		assertFalse(_kb.hasPropertyValue(_a, _q, _b));
+		assertIteratorValues(_kb.getInstances(_C).iterator(), _b);
+	}
+
+	@Test
+	public void testRuleAfterUndoneMerge()
+	{
+		classes(_B, _C);
+		objectProperties(_p);
+		individuals(_a, _b);
+
+		_kb.addPropertyValue(_p, _a, _b);
+		_kb.addType(_b, _C);
+
+		final AtomIVariable x = new AtomIVariable("x");
+		final AtomIVariable y = new AtomIVariable("y");
+
+		// either a = b or C(a), the consistency check merges a and b
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_C, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, y), new DifferentIndividualsAtom(x, y))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_B, y)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, y), new ClassAtom(_C, x))));
+
+		assertTrue(_kb.isConsistent());
+		// the check starts from the ABox where a and b are merged and has to undo the merge
+		assertTrue(_kb.isType(_b, _B));
+		assertTrue(_kb.isType(_a, _C));
+	}
+
+	@Test
+	public void testRestoreOfMergeBranch()
+	{
+		classes(_A, _B);
+		objectProperties(_p, _q, _r);
+		individuals(_a, _b, _c, _d, _e);
+
+		_kb.addPropertyValue(_p, _e, _b);
+		_kb.addPropertyValue(_q, _d, _b);
+		_kb.addPropertyValue(_r, _b, _b);
+
+		final AtomIVariable x = new AtomIVariable("x");
+		final AtomIVariable y = new AtomIVariable("y");
+
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_A, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, x, y), new DifferentIndividualsAtom(x, y))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new ClassAtom(_B, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, y), new DifferentIndividualsAtom(x, y))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_r, y, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, x, y), new ClassAtom(_A, x))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, y, x)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, y), new ClassAtom(_B, x))));
+
+		assertTrue(_kb.isConsistent());
+		// r(e, d) only holds when e = b, the tokens of the merge branch have to be dropped when it is restored
+		assertFalse(_kb.hasPropertyValue(_e, _r, _d));
+		// either d = b or A(d)
+		assertTrue(_kb.hasPropertyValue(_b, _r, _d));
+	}
+
+	@Test
+	public void testRestoreOfEdgeBranch()
+	{
+		classes(_A, _B, _C, _D);
+		objectProperties(_p, _q);
+		individuals(_a, _b);
+
+		_kb.addDisjointClass(_A, _C);
+		_kb.addType(_a, or(_A, _B));
+		_kb.addType(_a, or(_C, _D));
+
+		final AtomIVariable x = new AtomIVariable("x");
+		final AtomIVariable y = new AtomIVariable("y");
+
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, new AtomIConstant(_b))), Arrays.<RuleAtom> asList(new ClassAtom(_A, x))));
+		_kb.addRule(new Rule(Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_q, x, y)), Arrays.<RuleAtom> asList(new IndividualPropertyAtom(_p, x, y), new ClassAtom(_C, x))));
+
+		assertTrue(_kb.isConsistent());
+		// q(a, b) is only added in the branch where both A(a) and C(a) hold, it has to go with the edge p(a, b) of that branch
+		assertFalse(_kb.hasPropertyValue(_a, _q, _b));
+		assertFalse(_kb.hasPropertyValue(_a, _p, _b));
+		assertTrue(_kb.isType(_a, or(_B, _D)));
+	}
+
 	@Test
 	public void testNoSharedVar()
 	{
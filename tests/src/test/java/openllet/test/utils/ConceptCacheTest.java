@@ -9,6 +9,7 @@ package openllet.test.utils;
 import junit.framework.TestCase;
 import openllet.aterm.ATermAppl;
 import openllet.core.KnowledgeBaseImpl;
+import openllet.core.boxes.abox.ABoxStats;
 import openllet.core.tableau.cache.CachedNode;
 import openllet.core.tableau.cache.CachedNodeFactory;
 import openllet.core.tableau.cache.ConceptCache;
@@ -58,4 +59,77 @@ public class ConceptCacheTest extends TestCase
 		assertTrue(_cache.containsKey(_np4));
 
 	}
+
+	public void testStats()
+	{
+		final ABoxStats stats = new ABoxStats();
+		_cache = new ConceptCacheLRU(new KnowledgeBaseImpl(), 1, stats);
+
+		_cache.put(_p1, _DUMMY);
+		_cache.put(_np1, _DUMMY);
+		_cache.put(_np2, _DUMMY);
+
+		assertNotNull(_cache.get(_p1));
+		assertNull(_cache.get(_np1));
+		assertNotNull(_cache.get(_np2));
+
+		assertEquals(2, stats._cacheHits.sum());
+		assertEquals(1, stats._cacheMisses.sum());
+		assertEquals(1, stats._cacheEvictions.sum());
+
+		// The lookups of the cache itself are not counted
+		assertFalse(_cache.putSat(_p1, true));
+		assertTrue(_cache.putSat(_p2, true));
+		assertEquals(2, stats._cacheHits.sum());
+		assertEquals(1, stats._cacheMisses.sum());
+	}
+
+	public void testSetMaxSize()
+	{
+		_cache.put(_p1, _DUMMY);
+		_cache.put(_np1, _DUMMY);
+		_cache.put(_np2, _DUMMY);
+		_cache.put(_np3, _DUMMY);
+
+		_cache.get(_np2);
+		_cache.setMaxSize(1);
+
+		assertEquals(2, _cache.size());
+		assertTrue(_cache.containsKey(_p1));
+		assertTrue(_cache.containsKey(_np2));
+
+		_cache.setMaxSize(3);
+		_cache.put(_np1, _DUMMY);
+		_cache.put(_np3, _DUMMY);
+		assertEquals(4, _cache.size());
+	}
+
+	public void testConcurrentAccess() throws Exception
+	{
+		final ATermAppl[] concepts = new ATermAppl[100];
+		for (int i = 0; i < concepts.length; i++)
+			concepts[i] = ATermUtils.makeAnd(_p1, ATermUtils.makeTermAppl("c" + i));
+
+		final Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++)
+		{
+			final int offset = t;
+			threads[t] = new Thread(() ->
+			{
+				for (int i = 0; i < 10000; i++)
+				{
+					final ATermAppl c = concepts[(i * 7 + offset) % concepts.length];
+					if (_cache.get(c) == null)
+						_cache.put(c, _DUMMY);
+				}
+			});
+			threads[t].start();
+		}
+		for (final Thread thread : threads)
+			thread.join();
+
+		// Concurrent evictions may remove a little more than needed, never less.
+		assertTrue(_cache.size() <= 3);
+		assertEquals(_cache.size(), _cache.keySet().size());
+	}
 }
@@ -0,0 +1,86 @@
+// Copyright (c) 2006 - 2008, Clark & Parsia, LLC. <http://www.clarkparsia.com>
+// This source code is available under the terms of the Affero General Public License v3.
+//
+// Please see LICENSE.txt for full license terms, including the availability of proprietary exceptions.
+// Questions, comments, or requests for clarification: licensing@clarkparsia.com
+
+package openllet.test.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import junit.framework.TestCase;
+import openllet.aterm.ATermAppl;
+import openllet.core.tracker.BranchEffectTracker;
+import openllet.core.tracker.TrailBranchEffectTracker;
+import openllet.core.utils.ATermUtils;
+
+public class TrailBranchEffectTrackerTest extends TestCase
+{
+	private BranchEffectTracker _tracker;
+
+	private final ATermAppl _a = ATermUtils.makeTermAppl("a");
+	private final ATermAppl _b = ATermUtils.makeTermAppl("b");
+	private final ATermAppl _c = ATermUtils.makeTermAppl("c");
+
+	@Override
+	public void setUp()
+	{
+		_tracker = new TrailBranchEffectTracker();
+	}
+
+	public void testRemoveAll()
+	{
+		_tracker.add(1, _a);
+		_tracker.add(2, _b);
+		_tracker.add(3, _c);
+		_tracker.add(3, _a);
+
+		assertEquals(new HashSet<>(Arrays.asList(_a, _c)), _tracker.removeAll(3));
+		assertEquals(new HashSet<>(Arrays.asList(_a, _b)), _tracker.getAll(1));
+		assertEquals(Collections.singleton(_b), _tracker.removeAll(2));
+		assertEquals(Collections.emptySet(), _tracker.removeAll(2));
+	}
+
+	public void testEarlierBranchIsRestoredLater()
+	{
+		_tracker.add(3, _a);
+		_tracker.add(1, _b); // recorded with the branch 3 so the trail stays ordered.
+
+		assertEquals(new HashSet<>(Arrays.asList(_a, _b)), _tracker.removeAll(2));
+		assertEquals(Collections.emptySet(), _tracker.getAll(1));
+	}
+
+	public void testRemoveShiftsLaterBranches()
+	{
+		_tracker.add(1, _a);
+		_tracker.add(2, _b);
+		_tracker.add(3, _c);
+
+		assertEquals(Collections.singleton(_b), _tracker.remove(2));
+		assertEquals(Collections.singleton(_c), _tracker.getAll(2));
+		assertEquals(Collections.singleton(_c), _tracker.removeAll(2));
+	}
+
+	public void testRemoveKeepsEarlierBranchRecordedLater()
+	{
+		_tracker.add(2, _a);
+		_tracker.add(3, _b);
+		_tracker.add(2, _c); // popped with the branch 3, but depends on the branch 2
+
+		assertEquals(Collections.singleton(_b), _tracker.remove(3));
+		assertEquals(new HashSet<>(Arrays.asList(_a, _c)), _tracker.getAll(2));
+		assertEquals(new HashSet<>(Arrays.asList(_a, _c)), _tracker.removeAll(2));
+	}
+
+	public void testCopy()
+	{
+		_tracker.add(1, _a);
+		final BranchEffectTracker copy = _tracker.copy();
+		copy.add(2, _b);
+
+		assertEquals(Collections.singleton(_a), _tracker.getAll(1));
+		assertEquals(new HashSet<>(Arrays.asList(_a, _b)), copy.getAll(1));
+	}
+}
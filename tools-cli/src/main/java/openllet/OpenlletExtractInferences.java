@@ -10,12 +10,17 @@ package openllet;
 
 import static openllet.OpenlletCmdOptionArg.REQUIRED;
 
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFWriter;
 
 import openllet.core.utils.SetUtils;
 import openllet.jena.ModelExtractor;
@@ -33,10 +38,10 @@ import openllet.jena.ModelExtractor.StatementType;
  */
 public class OpenlletExtractInferences extends OpenlletCmdApp
 {
-	private static final transient boolean _debug = false;
-
 	private EnumSet<StatementType> selector;
 
+	private RDFFormat _outputFormat;
+
 	public OpenlletExtractInferences()
 	{
 	}
@@ -67,6 +72,22 @@ public class OpenlletExtractInferences extends OpenlletCmdApp
 		option.setArg(REQUIRED);
 		options.add(option);
 
+		final OpenlletCmdOption formatOption = new OpenlletCmdOption("output-format");
+		formatOption.setShortOption("o");
+		formatOption.setType("N-Triples | Turtle");
+		formatOption.setDescription("Format of the extracted statements, they are written as they are computed");
+		formatOption.setDefaultValue("N-Triples");
+		formatOption.setIsMandatory(false);
+		formatOption.setArg(REQUIRED);
+		options.add(formatOption);
+
+		final OpenlletCmdOption fileOption = new OpenlletCmdOption("output-file");
+		fileOption.setType("<file>");
+		fileOption.setDescription("Write the extracted statements to the file instead of the standard output");
+		fileOption.setIsMandatory(false);
+		fileOption.setArg(REQUIRED);
+		options.add(fileOption);
+
 		options.add(getLoaderOption());
 		options.add(getIgnoreImportsOption());
 		options.add(getInputFormatOption());
@@ -78,10 +99,27 @@ public class OpenlletExtractInferences extends OpenlletCmdApp
 	public void run()
 	{
 		mapStatementTypes();
-		extractInferences();
+		mapOutputFormat();
+
+		final String file = _options.getOption("output-file").getValueAsString();
+		if (file == null)
+			extractInferences(System.out);
+		else
+			try (final OutputStream out = new FileOutputStream(file))
+			{
+				extractInferences(out);
+			}
+			catch (final FileNotFoundException e)
+			{
+				throw new OpenlletCmdException("Cannot write to " + file + ": " + e.getMessage());
+			}
+			catch (final IOException e)
+			{
+				throw new OpenlletCmdException(e);
+			}
 	}
 
-	private void extractInferences()
+	private void extractInferences(final OutputStream out)
 	{
 		if (selector.size() == 0)
 			throw new OpenlletCmdException("Selector is empty, provide types to extract");
@@ -89,31 +127,45 @@ public class OpenlletExtractInferences extends OpenlletCmdApp
 		final ModelExtractor extractor = new ModelExtractor(getKB());
 		extractor.setSelector(selector);
 
-		final Model extracted = ModelFactory.createDefaultModel();
+		// The statements of each entity are written as soon as they are computed, none is kept in memory.
+		final StreamRDF extracted = StreamRDFWriter.getWriterStream(out, _outputFormat);
+		extracted.start();
 
 		if (SetUtils.intersects(selector, ModelExtractor.StatementType.ALL_CLASS_STATEMENTS))
 		{
 			startTask("Extracting class statements");
-			extractor.extractClassModel(extracted);
+			extractor.extractClassStatements(extracted);
 			finishTask("Extracting class statements");
 		}
 
 		if (SetUtils.intersects(selector, ModelExtractor.StatementType.ALL_PROPERTY_STATEMENTS))
 		{
 			startTask("Extracting property statements");
-			extractor.extractPropertyModel(extracted);
+			extractor.extractPropertyStatements(extracted);
 			finishTask("Extracting property statements");
 		}
 
 		if (SetUtils.intersects(selector, ModelExtractor.StatementType.ALL_INDIVIDUAL_STATEMENTS))
 		{
 			startTask("Extracting individual statements");
-			extractor.extractIndividualModel(extracted);
+			extractor.extractIndividualStatements(extracted);
 			finishTask("Extracting individual statements");
 		}
 
-		if (_debug)
-			output(extracted);
+		extracted.finish();
+	}
+
+	private void mapOutputFormat()
+	{
+		final String format = _options.getOption("output-format").getValueAsString();
+
+		if (format == null || format.equalsIgnoreCase("N-Triples") || format.equalsIgnoreCase("NTriples"))
+			_outputFormat = RDFFormat.NTRIPLES;
+		else
+			if (format.equalsIgnoreCase("Turtle"))
+				_outputFormat = RDFFormat.TURTLE_BLOCKS;
+			else
+				throw new OpenlletCmdException("Unknown output format: " + format);
 	}
 
 	private static String validStatementArguments()